@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.search.path;
+
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.javatuples.Pair;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Combines the messages of the {@link ShortestPathVertexProgram} by keeping the shortest path per source.
+ */
+public class ShortestPathMessageCombiner implements MessageCombiner<Map<Traverser.Admin<Vertex>, Pair<Path, Double>>> {
+
+    private static final Optional<ShortestPathMessageCombiner> INSTANCE = Optional.of(new ShortestPathMessageCombiner());
+
+    private ShortestPathMessageCombiner() {
+
+    }
+
+    @Override
+    public Map<Traverser.Admin<Vertex>, Pair<Path, Double>> combine(final Map<Traverser.Admin<Vertex>, Pair<Path, Double>> messageA,
+                                                                    final Map<Traverser.Admin<Vertex>, Pair<Path, Double>> messageB) {
+        final Map<Traverser.Admin<Vertex>, Pair<Path, Double>> combined = new HashMap<>(messageA);
+        messageB.forEach((source, shortestPath) -> combined.merge(source, shortestPath, (a, b) -> b.getValue1() < a.getValue1() ? b : a));
+        return combined;
+    }
+
+    public static Optional<ShortestPathMessageCombiner> instance() {
+        return INSTANCE;
+    }
+}
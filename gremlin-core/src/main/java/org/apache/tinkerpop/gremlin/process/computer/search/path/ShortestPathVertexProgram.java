@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.search.path;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.computer.Messenger;
+import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.util.AbstractVertexProgramBuilder;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ImmutablePath;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.process.traversal.util.PureTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceFactory;
+import org.javatuples.Pair;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Computes the shortest paths from a set of source vertices to a set of target vertices. The sources are the
+ * vertices holding the halted traversers of a previous {@link TraversalVertexProgram} (or the vertices that pass the
+ * source traversal) and the targets are the vertices that pass the target traversal (or all vertices). Each source
+ * floods its distance and path along the edges of the edge traversal and every vertex keeps the shortest one per
+ * source, so the program converges after as many iterations as the longest shortest path has edges. The paths are
+ * returned as halted traversers in the {@link TraversalVertexProgram#HALTED_TRAVERSERS} memory key and are the
+ * {@code GraphComputer} counterpart of {@link org.apache.tinkerpop.gremlin.process.traversal.step.map.ShortestPathStep}.
+ */
+public class ShortestPathVertexProgram implements VertexProgram<Map<Traverser.Admin<Vertex>, Pair<Path, Double>>> {
+
+    public static final String SHORTEST_PATHS = "gremlin.shortestPathVertexProgram.shortestPaths";
+    private static final String SOURCE_TRAVERSAL = "gremlin.shortestPathVertexProgram.sourceTraversal";
+    private static final String TARGET_TRAVERSAL = "gremlin.shortestPathVertexProgram.targetTraversal";
+    private static final String EDGE_TRAVERSAL = "gremlin.shortestPathVertexProgram.edgeTraversal";
+    private static final String DISTANCE_PROPERTY = "gremlin.shortestPathVertexProgram.distanceProperty";
+    private static final String VOTE_TO_HALT = "gremlin.shortestPathVertexProgram.voteToHalt";
+    private static final String COLLECT = "gremlin.shortestPathVertexProgram.collect";
+
+    private static final Set<VertexComputeKey> VERTEX_COMPUTE_KEYS = new HashSet<>(Arrays.asList(
+            VertexComputeKey.of(SHORTEST_PATHS, true),
+            VertexComputeKey.of(TraversalVertexProgram.HALTED_TRAVERSERS, false)));
+    private static final Set<MemoryComputeKey> MEMORY_COMPUTE_KEYS = new HashSet<>(Arrays.asList(
+            MemoryComputeKey.of(VOTE_TO_HALT, Operator.and, false, true),
+            MemoryComputeKey.of(COLLECT, Operator.or, true, true),
+            MemoryComputeKey.of(TraversalVertexProgram.HALTED_TRAVERSERS, Operator.addAll, false, false)));
+    private static final Set<MessageScope> MESSAGE_SCOPES = Collections.singleton(MessageScope.Global.instance());
+
+    private PureTraversal<Vertex, ?> sourceTraversal = null;
+    private PureTraversal<Vertex, ?> targetTraversal = null;
+    private PureTraversal<Vertex, Edge> edgeTraversal = new PureTraversal<>(__.<Vertex>bothE().asAdmin());
+    private String distanceProperty = null;
+
+    private ShortestPathVertexProgram() {
+
+    }
+
+    @Override
+    public void loadState(final Graph graph, final Configuration configuration) {
+        if (configuration.containsKey(SOURCE_TRAVERSAL))
+            this.sourceTraversal = PureTraversal.loadState(configuration, SOURCE_TRAVERSAL, graph);
+        if (configuration.containsKey(TARGET_TRAVERSAL))
+            this.targetTraversal = PureTraversal.loadState(configuration, TARGET_TRAVERSAL, graph);
+        if (configuration.containsKey(EDGE_TRAVERSAL))
+            this.edgeTraversal = PureTraversal.loadState(configuration, EDGE_TRAVERSAL, graph);
+        this.distanceProperty = configuration.getString(DISTANCE_PROPERTY, null);
+    }
+
+    @Override
+    public void storeState(final Configuration configuration) {
+        VertexProgram.super.storeState(configuration);
+        if (null != this.sourceTraversal)
+            this.sourceTraversal.storeState(configuration, SOURCE_TRAVERSAL);
+        if (null != this.targetTraversal)
+            this.targetTraversal.storeState(configuration, TARGET_TRAVERSAL);
+        this.edgeTraversal.storeState(configuration, EDGE_TRAVERSAL);
+        if (null != this.distanceProperty)
+            configuration.setProperty(DISTANCE_PROPERTY, this.distanceProperty);
+    }
+
+    @Override
+    public Set<VertexComputeKey> getVertexComputeKeys() {
+        return VERTEX_COMPUTE_KEYS;
+    }
+
+    @Override
+    public Set<MemoryComputeKey> getMemoryComputeKeys() {
+        return MEMORY_COMPUTE_KEYS;
+    }
+
+    @Override
+    public Set<MessageScope> getMessageScopes(final Memory memory) {
+        return MESSAGE_SCOPES;
+    }
+
+    @Override
+    public Optional<MessageCombiner<Map<Traverser.Admin<Vertex>, Pair<Path, Double>>>> getMessageCombiner() {
+        return (Optional) ShortestPathMessageCombiner.instance();
+    }
+
+    @Override
+    public GraphComputer.ResultGraph getPreferredResultGraph() {
+        return GraphComputer.ResultGraph.ORIGINAL;
+    }
+
+    @Override
+    public GraphComputer.Persist getPreferredPersist() {
+        return GraphComputer.Persist.NOTHING;
+    }
+
+    @Override
+    public ShortestPathVertexProgram clone() {
+        try {
+            final ShortestPathVertexProgram clone = (ShortestPathVertexProgram) super.clone();
+            if (null != this.sourceTraversal)
+                clone.sourceTraversal = this.sourceTraversal.clone();
+            if (null != this.targetTraversal)
+                clone.targetTraversal = this.targetTraversal.clone();
+            clone.edgeTraversal = this.edgeTraversal.clone();
+            return clone;
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void setup(final Memory memory) {
+        memory.set(VOTE_TO_HALT, true);
+        memory.set(COLLECT, false);
+        memory.set(TraversalVertexProgram.HALTED_TRAVERSERS, new TraverserSet<>());
+    }
+
+    @Override
+    public void execute(final Vertex vertex, final Messenger<Map<Traverser.Admin<Vertex>, Pair<Path, Double>>> messenger, final Memory memory) {
+        final VertexProperty<Map<Traverser.Admin<Vertex>, Pair<Path, Double>>> property = vertex.property(SHORTEST_PATHS);
+        final Map<Traverser.Admin<Vertex>, Pair<Path, Double>> shortestPaths = property.isPresent() ? property.value() : new HashMap<>();
+        if (memory.<Boolean>get(COLLECT)) {
+            if (!shortestPaths.isEmpty() && (null == this.targetTraversal || TraversalUtil.test(vertex, this.targetTraversal.get()))) {
+                final TraverserSet<Path> paths = new TraverserSet<>();
+                shortestPaths.forEach((source, shortestPath) -> paths.add(source.split(shortestPath.getValue0(), EmptyStep.instance())));
+                memory.add(TraversalVertexProgram.HALTED_TRAVERSERS, paths);
+            }
+            return;
+        }
+
+        final Map<Traverser.Admin<Vertex>, Pair<Path, Double>> updates = new HashMap<>();
+        if (memory.isInitialIteration()) {
+            final Path path = ImmutablePath.make().extend(ReferenceFactory.detach(vertex), Collections.emptySet());
+            final VertexProperty<TraverserSet<Vertex>> haltedTraversers = vertex.property(TraversalVertexProgram.HALTED_TRAVERSERS);
+            if (haltedTraversers.isPresent()) {
+                haltedTraversers.value().forEach(traverser -> updates.put(traverser, Pair.with(path, 0.0d)));
+                haltedTraversers.remove();
+            } else if (null != this.sourceTraversal && TraversalUtil.test(vertex, this.sourceTraversal.get()))
+                updates.put(new B_O_Traverser<>(ReferenceFactory.detach(vertex), 1L), Pair.with(path, 0.0d));
+        } else {
+            final Iterator<Map<Traverser.Admin<Vertex>, Pair<Path, Double>>> messages = messenger.receiveMessages();
+            while (messages.hasNext()) {
+                for (final Map.Entry<Traverser.Admin<Vertex>, Pair<Path, Double>> entry : messages.next().entrySet()) {
+                    final Pair<Path, Double> current = shortestPaths.containsKey(entry.getKey()) ? shortestPaths.get(entry.getKey()) : updates.get(entry.getKey());
+                    if (null == current || entry.getValue().getValue1() < current.getValue1())
+                        updates.put(entry.getKey(), entry.getValue());
+                }
+            }
+            updates.replaceAll((source, shortestPath) ->
+                    Pair.with(shortestPath.getValue0().extend(ReferenceFactory.detach(vertex), Collections.emptySet()), shortestPath.getValue1()));
+        }
+        if (updates.isEmpty())
+            return;
+
+        shortestPaths.putAll(updates);
+        vertex.property(VertexProperty.Cardinality.single, SHORTEST_PATHS, shortestPaths);
+        final Iterator<Edge> edges = TraversalUtil.applyAll(vertex, this.edgeTraversal.get());
+        while (edges.hasNext()) {
+            final Edge edge = edges.next();
+            final Vertex adjacent = edge.outVertex().id().equals(vertex.id()) ? edge.inVertex() : edge.outVertex();
+            if (adjacent.id().equals(vertex.id()))
+                continue;
+            final double distance = this.distance(edge);
+            final Map<Traverser.Admin<Vertex>, Pair<Path, Double>> message = new HashMap<>();
+            updates.forEach((source, shortestPath) -> message.put(source, Pair.with(shortestPath.getValue0(), shortestPath.getValue1() + distance)));
+            messenger.sendMessage(MessageScope.Global.of(adjacent), message);
+        }
+        memory.add(VOTE_TO_HALT, false);
+    }
+
+    private double distance(final Edge edge) {
+        if (null == this.distanceProperty)
+            return 1.0d;
+        final Property<Number> property = edge.property(this.distanceProperty);
+        if (!property.isPresent())
+            return 1.0d;
+        final double distance = property.value().doubleValue();
+        if (distance < 0.0d)
+            throw new IllegalStateException("The shortest path can not be determined over a negative distance: " + edge + "[" + this.distanceProperty + "=" + distance + "]");
+        return distance;
+    }
+
+    @Override
+    public boolean terminate(final Memory memory) {
+        if (memory.<Boolean>get(COLLECT))
+            return true;
+        if (memory.<Boolean>get(VOTE_TO_HALT))
+            memory.set(COLLECT, true);
+        memory.set(VOTE_TO_HALT, true);
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.vertexProgramString(this, "distanceProperty=" + this.distanceProperty);
+    }
+
+    //////////////////////////////
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public static final class Builder extends AbstractVertexProgramBuilder<Builder> {
+
+        private Builder() {
+            super(ShortestPathVertexProgram.class);
+        }
+
+        /**
+         * The vertices to find the shortest paths from if the program does not follow a {@link TraversalVertexProgram}.
+         */
+        public Builder source(final Traversal.Admin<Vertex, ?> sourceTraversal) {
+            PureTraversal.storeState(this.configuration, SOURCE_TRAVERSAL, sourceTraversal);
+            return this;
+        }
+
+        /**
+         * The vertices to find the shortest paths to, which are all vertices by default.
+         */
+        public Builder target(final Traversal.Admin<Vertex, ?> targetTraversal) {
+            PureTraversal.storeState(this.configuration, TARGET_TRAVERSAL, targetTraversal);
+            return this;
+        }
+
+        /**
+         * The incident edges to traverse, which are {@code bothE()} by default.
+         */
+        public Builder edges(final Traversal.Admin<Vertex, Edge> edgeTraversal) {
+            PureTraversal.storeState(this.configuration, EDGE_TRAVERSAL, edgeTraversal);
+            return this;
+        }
+
+        /**
+         * The edge property that holds the distance of an edge. Without it, and for the edges that do not have the
+         * property, each edge has a distance of {@code 1}.
+         */
+        public Builder distanceProperty(final String distanceProperty) {
+            this.configuration.setProperty(DISTANCE_PROPERTY, distanceProperty);
+            return this;
+        }
+    }
+
+    ////////////////////////////
+
+    @Override
+    public Features getFeatures() {
+        return new Features() {
+            @Override
+            public boolean requiresGlobalMessageScopes() {
+                return true;
+            }
+
+            @Override
+            public boolean requiresVertexPropertyAddition() {
+                return true;
+            }
+        };
+    }
+}
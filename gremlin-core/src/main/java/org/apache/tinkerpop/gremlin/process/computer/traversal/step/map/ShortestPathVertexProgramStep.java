@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
+import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.search.path.ShortestPathVertexProgram;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ShortestPathStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.PureTraversal;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The {@code GraphComputer} form of a {@link ShortestPathStep} which
+ * {@link org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.decoration.VertexProgramStrategy} puts in
+ * its place.
+ */
+public final class ShortestPathVertexProgramStep extends VertexProgramStep implements TraversalParent {
+
+    private PureTraversal<Vertex, ?> targetTraversal;
+    private PureTraversal<Vertex, Edge> edgeTraversal;
+    private final String distanceKey;
+
+    public ShortestPathVertexProgramStep(final Traversal.Admin traversal, final ShortestPathStep<?> shortestPathStep) {
+        super(traversal);
+        if (null != shortestPathStep.getTargetTraversal()) {
+            this.targetTraversal = new PureTraversal<>(shortestPathStep.getTargetTraversal().clone());
+            this.integrateChild(this.targetTraversal.get());
+        }
+        this.edgeTraversal = new PureTraversal<>(shortestPathStep.getEdgeTraversal().clone());
+        this.integrateChild(this.edgeTraversal.get());
+        this.distanceKey = shortestPathStep.getDistanceKey();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode() ^ this.edgeTraversal.hashCode();
+        if (null != this.targetTraversal)
+            result ^= this.targetTraversal.hashCode();
+        if (null != this.distanceKey)
+            result ^= this.distanceKey.hashCode();
+        return result;
+    }
+
+    @Override
+    public List<Traversal.Admin<?, ?>> getLocalChildren() {
+        final List<Traversal.Admin<?, ?>> children = new ArrayList<>();
+        if (null != this.targetTraversal)
+            children.add(this.targetTraversal.get());
+        children.add(this.edgeTraversal.get());
+        return children;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, null == this.targetTraversal ? null : this.targetTraversal.get(), this.edgeTraversal.get(), this.distanceKey, new GraphFilter(this.computer));
+    }
+
+    @Override
+    public ShortestPathVertexProgram generateProgram(final Graph graph, final Memory memory) {
+        final ShortestPathVertexProgram.Builder builder = ShortestPathVertexProgram.build()
+                .edges(this.detach(this.edgeTraversal, graph));
+        if (null != this.targetTraversal)
+            builder.target(this.detach(this.targetTraversal, graph));
+        if (null != this.distanceKey)
+            builder.distanceProperty(this.distanceKey);
+        return builder.create(graph);
+    }
+
+    private <S, E> Traversal.Admin<S, E> detach(final PureTraversal<S, E> traversal, final Graph graph) {
+        final Traversal.Admin<S, E> detachedTraversal = traversal.getPure();
+        detachedTraversal.setStrategies(TraversalStrategies.GlobalCache.getStrategies(graph.getClass()));
+        return detachedTraversal;
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return TraversalParent.super.getSelfAndChildRequirements();
+    }
+
+    @Override
+    public ShortestPathVertexProgramStep clone() {
+        final ShortestPathVertexProgramStep clone = (ShortestPathVertexProgramStep) super.clone();
+        if (null != this.targetTraversal)
+            clone.targetTraversal = this.targetTraversal.clone();
+        clone.edgeTraversal = this.edgeTraversal.clone();
+        return clone;
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> parentTraversal) {
+        super.setTraversal(parentTraversal);
+        if (null != this.targetTraversal)
+            this.integrateChild(this.targetTraversal.get());
+        this.integrateChild(this.edgeTraversal.get());
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.VertexComputing;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.ComputerResultStep;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.ProgramVertexProgramStep;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.ShortestPathVertexProgramStep;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.TraversalVertexProgramStep;
 import org.apache.tinkerpop.gremlin.process.remote.traversal.strategy.decoration.RemoteStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
@@ -35,6 +36,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ShortestPathStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
@@ -73,6 +75,13 @@ public final class VertexProgramStrategy extends AbstractTraversalStrategy<Trave
         if (!(traversal.getParent() instanceof EmptyStep) || traversal.getStrategies().getStrategy(RemoteStrategy.class).isPresent())
             return;
 
+        // replace the steps that have a vertex computing counterpart
+        for (final ShortestPathStep<?> shortestPathStep : TraversalHelper.getStepsOfClass(ShortestPathStep.class, traversal)) {
+            final ShortestPathVertexProgramStep shortestPathVertexProgramStep = new ShortestPathVertexProgramStep(traversal, shortestPathStep);
+            TraversalHelper.replaceStep((Step) shortestPathStep, shortestPathVertexProgramStep, traversal);
+            TraversalHelper.copyLabels(shortestPathStep, shortestPathVertexProgramStep, false);
+        }
+
         // back propagate as()-labels off of vertex computing steps
         Step<?, ?> currentStep = traversal.getEndStep();
         final Set<String> currentLabels = new HashSet<>();
@@ -87,10 +96,12 @@ public final class VertexProgramStrategy extends AbstractTraversalStrategy<Trave
             currentStep = currentStep.getPreviousStep();
         }
 
-        // push GraphStep forward in the chain to reduce the number of TraversalVertexProgram compilations
+        // push GraphStep forward in the chain to reduce the number of TraversalVertexProgram compilations (unless the
+        // vertex computing step starts from the traversers of the GraphStep)
         currentStep = traversal.getStartStep();
         while (!(currentStep instanceof EmptyStep)) {
-            if (currentStep instanceof GraphStep && currentStep.getNextStep() instanceof VertexComputing) {
+            if (currentStep instanceof GraphStep && currentStep.getNextStep() instanceof VertexComputing &&
+                    !(currentStep.getNextStep() instanceof ShortestPathVertexProgramStep)) {
                 int index = TraversalHelper.stepIndex(currentStep.getNextStep(), traversal);
                 traversal.removeStep(currentStep);
                 traversal.addStep(index, currentStep);
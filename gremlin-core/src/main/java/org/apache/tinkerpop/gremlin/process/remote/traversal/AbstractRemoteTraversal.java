@@ -131,4 +131,12 @@ public abstract class AbstractRemoteTraversal<S,E> implements RemoteTraversal<S,
     public void setGraph(final Graph graph) {
         throw new UnsupportedOperationException("Remote traversals do not support this method");
     }
+
+    /**
+     * A remote traversal has no local steps to close, so this method does nothing by default. Implementations that
+     * hold resources for the traversal should release them here.
+     */
+    @Override
+    public void close() throws Exception {
+    }
 }
@@ -53,4 +53,9 @@ public class EmbeddedRemoteTraversal<S,E> extends AbstractRemoteTraversal<S,E> {
     public E next() {
         return t.next();
     }
+
+    @Override
+    public void close() throws Exception {
+        t.close();
+    }
 }
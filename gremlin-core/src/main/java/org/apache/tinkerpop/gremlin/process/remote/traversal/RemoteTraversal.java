@@ -22,8 +22,14 @@ import org.apache.tinkerpop.gremlin.process.remote.RemoteConnection;
 import org.apache.tinkerpop.gremlin.process.remote.traversal.step.map.RemoteStep;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * A {@link RemoteTraversal} is returned from {@link RemoteConnection#submitAsync(Bytecode)}. It is iterated from
  * within {@link RemoteStep} using {@link #nextTraverser()}. Implementations should typically be given a "result" from
@@ -44,4 +50,25 @@ public interface RemoteTraversal<S,E> extends Traversal.Admin<S,E> {
      */
     @Override
     public RemoteTraversalSideEffects getSideEffects();
+
+    /**
+     * Gets up to the specified number of traversers without blocking the calling thread. The returned future
+     * completes with fewer traversers only if the traversal has no more of them, so an empty list marks the end of
+     * the traversal. The default implementation calls {@link #nextTraverser()} on the calling thread which is only
+     * appropriate if the "result" is available locally.
+     */
+    public default CompletableFuture<List<Traverser.Admin<E>>> nextTraversersAsync(final int count) {
+        final List<Traverser.Admin<E>> traversers = new ArrayList<>(count);
+        try {
+            while (traversers.size() < count) {
+                traversers.add(this.nextTraverser());
+            }
+        } catch (final NoSuchElementException ignored) {
+        } catch (final Throwable t) {
+            final CompletableFuture<List<Traverser.Admin<E>>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(t);
+            return failed;
+        }
+        return CompletableFuture.completedFuture(traversers);
+    }
 }
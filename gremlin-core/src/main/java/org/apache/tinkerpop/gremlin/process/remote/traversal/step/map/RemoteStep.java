@@ -30,6 +30,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.BytecodeHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -42,7 +43,7 @@ import java.util.concurrent.atomic.AtomicReference;
  * @author Stephen Mallette (http://stephen.genoprime.com)
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class RemoteStep<S, E> extends AbstractStep<S, E> {
+public final class RemoteStep<S, E> extends AbstractStep<S, E> implements AutoCloseable {
 
     private transient RemoteConnection remoteConnection;
     private RemoteTraversal<?, E> remoteTraversal;
@@ -98,4 +99,23 @@ public final class RemoteStep<S, E> extends AbstractStep<S, E> {
             throw new IllegalStateException(rce);
         }
     }
+
+    /**
+     * Gets up to the specified number of traversers from the "remote" without blocking the calling thread, submitting
+     * the traversal first if that was not done yet. An empty list marks the end of the results.
+     *
+     * @see RemoteTraversal#nextTraversersAsync(int)
+     */
+    public CompletableFuture<List<Traverser.Admin<E>>> nextTraversersAsync(final int count) {
+        return promise().thenCompose(t -> this.remoteTraversal.nextTraversersAsync(count));
+    }
+
+    /**
+     * Releases the resources that the "remote" holds for the traversal, if it was submitted.
+     */
+    @Override
+    public void close() throws Exception {
+        if (null != this.remoteTraversal)
+            this.remoteTraversal.close();
+    }
 }
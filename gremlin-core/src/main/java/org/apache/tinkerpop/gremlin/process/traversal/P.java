@@ -66,6 +66,15 @@ public class P<V> implements Predicate<V>, Serializable, Cloneable {
         this.value = value;
     }
 
+    /**
+     * Replaces both the current and the original value, as if the {@code P} had been constructed with the new value.
+     * Only the {@link TraversalPlanCache} rebinds the predicates of the plans that it clones.
+     */
+    void rebind(final V value) {
+        this.value = value;
+        this.originalValue = value;
+    }
+
     @Override
     public boolean test(final V testValue) {
         return this.biPredicate.test(testValue, this.value);
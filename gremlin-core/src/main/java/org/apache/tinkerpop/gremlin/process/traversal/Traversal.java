@@ -28,9 +28,11 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.SideEffect
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalSubscription;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalExplanation;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalSubscriber;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 
 import java.io.Serializable;
@@ -162,6 +164,18 @@ public interface Traversal<S, E> extends Iterator<E>, Serializable, Cloneable, A
         }
     }
 
+    /**
+     * Subscribes to the results of the {@code Traversal} which are then sent to the subscriber as it requests them.
+     * The results of a traversal constructed using {@link TraversalSource#withRemote(Configuration)} are fetched from
+     * the remote without blocking a thread, while those of any other traversal are computed on the thread that
+     * requests them.
+     *
+     * @param subscriber the subscriber to send the results to
+     */
+    public default void subscribe(final TraversalSubscriber<? super E> subscriber) {
+        DefaultTraversalSubscription.subscribe(this.asAdmin(), subscriber);
+    }
+
     /**
      * Add all the results of the traversal to the provided collection.
      *
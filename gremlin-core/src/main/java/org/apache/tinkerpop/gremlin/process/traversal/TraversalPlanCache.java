@@ -0,0 +1,402 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal;
+
+import org.apache.commons.configuration.ConfigurationConverter;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.TraversalStrategyProxy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.ConnectiveP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * A {@code TraversalPlanCache} memoizes the compiled form of a traversal (i.e. the steps after the
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies} have been applied) so that the same
+ * {@link Bytecode} arriving again is not translated and optimized again. Variables of the bytecode (i.e.
+ * {@link Bytecode.Binding} arguments) are abstracted from the cache key where possible, so that traversals of the
+ * same shape share one compiled plan regardless of the values that are bound to them. On a hit, the cached plan is
+ * cloned, the values of the new bindings are written into the cloned predicates and the {@link Bytecode} of the clone
+ * is replaced with the bytecode of the request.
+ * <p/>
+ * A variable is only abstracted if its value is a {@code String}, {@code Boolean}, {@code Character} or a primitive
+ * wrapper {@code Number} and if, after strategy application, the value is found in exactly the {@link P} predicates
+ * of the {@link HasContainer} objects created for it. All other variables (e.g. the argument of {@code limit()} or a
+ * value that strategies folded into the step structure like an id that was moved into {@code V()}) remain part of
+ * the cache key, so a plan is only reused for the same values. The same applies to a variable whose predicates are
+ * shared between a traversal and its clone (i.e. a {@link HasContainerHolder} step that does not copy its containers
+ * when it is cloned), as rebinding them would change every plan cloned from the prototype. Graph providers whose strategies make structural
+ * decisions based on the value of a {@code has()} predicate should not use the cache. A cache instance is only valid
+ * for the {@link TraversalSource} (and its strategies) that the cached traversals were spawned from.
+ * <p/>
+ * Traversals that are configured with {@code withSideEffect()} or {@code withSack()} are not cached as their
+ * initial values would be shared by every traversal cloned from the plan.
+ */
+public final class TraversalPlanCache {
+
+    private static final Set<String> UNCACHEABLE_SOURCE_INSTRUCTIONS = new TreeSet<>(Arrays.asList(
+            TraversalSource.Symbols.withSideEffect, TraversalSource.Symbols.withSack));
+
+    private final int maxSize;
+    private final Map<List<Object>, Set<String>> fixedVariables;
+    private final Map<List<Object>, Plan> plans;
+    private long hits = 0L;
+
+    public TraversalPlanCache(final int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("The maximum size of the cache must be greater than zero: " + maxSize);
+        this.maxSize = maxSize;
+        this.fixedVariables = new LeastRecentlyUsedMap<>(maxSize);
+        this.plans = new LeastRecentlyUsedMap<>(maxSize);
+    }
+
+    /**
+     * Gets a compiled traversal for the bytecode from the cache or translates the bytecode with the
+     * {@link Translator} and applies its strategies and caches the result.
+     */
+    public <S, E> Traversal.Admin<S, E> compile(final Bytecode bytecode, final Translator.StepTranslator<?, ? extends Traversal.Admin<?, ?>> translator) {
+        final Optional<Traversal.Admin<S, E>> cached = this.get(bytecode);
+        if (cached.isPresent())
+            return cached.get();
+        final Traversal.Admin<S, E> traversal = (Traversal.Admin<S, E>) translator.translate(bytecode);
+        traversal.applyStrategies();
+        this.put(bytecode, traversal);
+        return traversal;
+    }
+
+    /**
+     * Gets a compiled (i.e. locked) traversal for the bytecode with its current bindings if a plan of the same
+     * shape has been cached.
+     */
+    public <S, E> Optional<Traversal.Admin<S, E>> get(final Bytecode bytecode) {
+        final Shape shape = new Shape(bytecode);
+        if (!shape.cacheable)
+            return Optional.empty();
+        final Plan plan;
+        synchronized (this) {
+            final Set<String> fixed = this.fixedVariables.get(shape.key);
+            plan = null == fixed ? null : this.plans.get(shape.planKey(fixed));
+            if (null != plan)
+                this.hits++;
+        }
+        return null == plan ? Optional.empty() : Optional.of((Traversal.Admin<S, E>) plan.instantiate(bytecode, shape.bindings));
+    }
+
+    /**
+     * Caches the compiled form of the traversal that was translated from the bytecode. The traversal must have had
+     * its strategies applied but must not have been iterated yet.
+     */
+    public void put(final Bytecode bytecode, final Traversal.Admin<?, ?> traversal) {
+        if (!traversal.isLocked())
+            throw new IllegalArgumentException("The traversal must be compiled before it can be cached: " + traversal);
+        final Shape shape = new Shape(bytecode);
+        if (!shape.cacheable)
+            return;
+
+        final Traversal.Admin<?, ?> prototype = traversal.clone();
+        final List<P> predicates = predicates(prototype);
+        final List<P> predicatesAgain = predicates(prototype);
+        final List<P> clonedPredicates = predicates(prototype.clone());
+        final Set<String> fixed = new TreeSet<>();
+        final Map<String, int[]> slots = new HashMap<>();
+        for (final Map.Entry<String, List<Object>> variable : shape.variables.entrySet()) {
+            final int[] indices = locate(variable.getValue(), shape.arguments, predicates, predicatesAgain, clonedPredicates);
+            if (null == indices)
+                fixed.add(variable.getKey());
+            else
+                slots.put(variable.getKey(), indices);
+        }
+        slots.keySet().removeAll(fixed);
+
+        synchronized (this) {
+            final Set<String> existing = this.fixedVariables.get(shape.key);
+            if (null == existing)
+                this.fixedVariables.put(shape.key, fixed);
+            else if (!existing.equals(fixed))
+                return;
+            this.plans.put(shape.planKey(fixed), new Plan(prototype, slots));
+        }
+    }
+
+    public synchronized int size() {
+        return this.plans.size();
+    }
+
+    /**
+     * Gets the number of calls to {@link #get(Bytecode)} that were answered with a cached plan.
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    public synchronized void clear() {
+        this.fixedVariables.clear();
+        this.plans.clear();
+        this.hits = 0L;
+    }
+
+    @Override
+    public String toString() {
+        return "traversalplancache[" + this.size() + "/" + this.maxSize + ", hits:" + this.getHits() + "]";
+    }
+
+    /**
+     * Determines the positions of the predicates that hold the values of a variable. The variable can be rebound if
+     * every one of its values is held by predicates only, if the predicates did not convert the value, if the
+     * predicates are stable across calls to {@link HasContainerHolder#getHasContainers()} and if a clone of the
+     * traversal has predicates of its own.
+     */
+    private static int[] locate(final List<Object> values, final List<Object> arguments, final List<P> predicates,
+                                final List<P> predicatesAgain, final List<P> clonedPredicates) {
+        final Map<Object, Boolean> identities = new IdentityHashMap<>();
+        values.forEach(value -> identities.put(value, Boolean.TRUE));
+        int argumentCount = 0;
+        for (final Object argument : arguments) {
+            if (identities.containsKey(argument))
+                argumentCount++;
+        }
+        if (argumentCount != values.size())
+            return null;
+        if (predicates.size() != predicatesAgain.size() || predicates.size() != clonedPredicates.size())
+            return null;
+        final List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < predicates.size(); i++) {
+            if (identities.containsKey(predicates.get(i).getOriginalValue())) {
+                if (predicates.get(i) != predicatesAgain.get(i) || predicates.get(i) == clonedPredicates.get(i) ||
+                        predicates.get(i).getValue() != predicates.get(i).getOriginalValue())
+                    return null;
+                indices.add(i);
+            }
+        }
+        return indices.size() != values.size() ? null : indices.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static List<P> predicates(final Traversal.Admin<?, ?> traversal) {
+        final List<P> predicates = new ArrayList<>();
+        for (final HasContainerHolder holder : TraversalHelper.getStepsOfAssignableClassRecursively(HasContainerHolder.class, traversal)) {
+            for (final HasContainer hasContainer : holder.getHasContainers()) {
+                addPredicates(hasContainer.getPredicate(), predicates);
+            }
+        }
+        return predicates;
+    }
+
+    private static void addPredicates(final P<?> predicate, final List<P> predicates) {
+        if (predicate instanceof ConnectiveP) {
+            for (final P<?> p : ((ConnectiveP<?>) predicate).getPredicates()) {
+                addPredicates(p, predicates);
+            }
+        } else
+            predicates.add(predicate);
+    }
+
+    private static boolean isRebindable(final Object value) {
+        return value instanceof String || value instanceof Boolean || value instanceof Character ||
+                value instanceof Integer || value instanceof Long || value instanceof Double ||
+                value instanceof Float || value instanceof Short || value instanceof Byte;
+    }
+
+    /**
+     * A cached prototype of a compiled traversal along with the positions of the predicates of each variable.
+     */
+    private static final class Plan {
+
+        private final Traversal.Admin<?, ?> prototype;
+        private final Map<String, int[]> slots;
+
+        private Plan(final Traversal.Admin<?, ?> prototype, final Map<String, int[]> slots) {
+            this.prototype = prototype;
+            this.slots = slots;
+        }
+
+        private Traversal.Admin<?, ?> instantiate(final Bytecode bytecode, final Map<String, Object> bindings) {
+            final Traversal.Admin<?, ?> traversal = this.prototype.clone();
+            // the clone carries the bytecode of the prototype and with it the values that the prototype was bound to
+            final Bytecode clonedBytecode = traversal.getBytecode();
+            clonedBytecode.getSourceInstructions().clear();
+            clonedBytecode.getSourceInstructions().addAll(bytecode.getSourceInstructions());
+            clonedBytecode.getStepInstructions().clear();
+            clonedBytecode.getStepInstructions().addAll(bytecode.getStepInstructions());
+            if (!this.slots.isEmpty()) {
+                final List<P> predicates = predicates(traversal);
+                for (final Map.Entry<String, int[]> slot : this.slots.entrySet()) {
+                    final Object value = bindings.get(slot.getKey());
+                    for (final int index : slot.getValue()) {
+                        predicates.get(index).rebind(value);
+                    }
+                }
+            }
+            return traversal;
+        }
+    }
+
+    /**
+     * The shape of a bytecode is the bytecode with the values of its rebindable variables replaced by their type.
+     */
+    private static final class Shape {
+
+        private final List<Object> key;
+        private final Map<String, Object> bindings = new HashMap<>();
+        private final Map<String, List<Object>> variables = new TreeMap<>();
+        private final List<Object> arguments = new ArrayList<>();
+        private boolean cacheable = true;
+
+        private Shape(final Bytecode bytecode) {
+            for (final Bytecode.Instruction instruction : bytecode.getSourceInstructions()) {
+                if (UNCACHEABLE_SOURCE_INSTRUCTIONS.contains(instruction.getOperator()))
+                    this.cacheable = false;
+            }
+            this.key = this.shapeOf(bytecode);
+        }
+
+        private List<Object> planKey(final Set<String> fixed) {
+            final List<Object> values = new ArrayList<>(fixed.size());
+            for (final String variable : fixed) {
+                values.add(this.bindings.get(variable));
+            }
+            return Arrays.asList(this.key, values);
+        }
+
+        private List<Object> shapeOf(final Bytecode bytecode) {
+            return Arrays.asList(this.shapeOf(bytecode.getSourceInstructions()), this.shapeOf(bytecode.getStepInstructions()));
+        }
+
+        private List<Object> shapeOf(final List<Bytecode.Instruction> instructions) {
+            final List<Object> shape = new ArrayList<>(instructions.size());
+            for (final Bytecode.Instruction instruction : instructions) {
+                final Object[] arguments = new Object[instruction.getArguments().length + 1];
+                arguments[0] = instruction.getOperator();
+                for (int i = 0; i < instruction.getArguments().length; i++) {
+                    arguments[i + 1] = this.shapeOf(instruction.getArguments()[i]);
+                }
+                shape.add(Arrays.asList(arguments));
+            }
+            return shape;
+        }
+
+        private Object shapeOf(final Object argument) {
+            if (argument instanceof Bytecode.Binding) {
+                final String variable = ((Bytecode.Binding<?>) argument).variable();
+                final Object value = ((Bytecode.Binding<?>) argument).value();
+                this.arguments.add(value);
+                if (null == value)
+                    this.cacheable = false;
+                else if (this.bindings.containsKey(variable) && !Objects.equals(this.bindings.get(variable), value))
+                    this.cacheable = false;
+                this.bindings.put(variable, value);
+                if (!isRebindable(value))
+                    return null == value ? variable : argument;
+                this.variables.computeIfAbsent(variable, k -> new ArrayList<>()).add(value);
+                return new Variable(variable, value.getClass());
+            } else if (argument instanceof Bytecode)
+                return this.shapeOf((Bytecode) argument);
+            else if (argument instanceof TraversalStrategyProxy)
+                // strategies are equal by class so their configuration has to be part of the shape
+                return Arrays.asList(((TraversalStrategyProxy) argument).getStrategyClass(),
+                        new HashMap<>(ConfigurationConverter.getMap(((TraversalStrategyProxy) argument).getConfiguration())));
+            else if (argument instanceof TraversalStrategy)
+                return Arrays.asList(argument.getClass(), new HashMap<>(ConfigurationConverter.getMap(((TraversalStrategy) argument).getConfiguration())));
+            else if (argument instanceof List) {
+                final List<Object> list = new ArrayList<>(((List) argument).size());
+                for (final Object item : (List) argument) {
+                    list.add(this.shapeOf(item));
+                }
+                return list;
+            } else if (argument instanceof Map) {
+                ((Map<?, ?>) argument).forEach((k, v) -> {
+                    this.addArgument(k);
+                    this.addArgument(v);
+                });
+                return argument;
+            } else if (argument instanceof Collection) {
+                ((Collection<?>) argument).forEach(this::addArgument);
+                return argument;
+            } else {
+                this.arguments.add(argument);
+                return argument;
+            }
+        }
+
+        private void addArgument(final Object argument) {
+            if (argument instanceof Bytecode.Binding)
+                this.arguments.add(((Bytecode.Binding<?>) argument).value());
+            else
+                this.arguments.add(argument);
+        }
+    }
+
+    /**
+     * A placeholder for the value of a variable in the shape of a bytecode.
+     */
+    private static final class Variable {
+
+        private final String name;
+        private final Class<?> type;
+
+        private Variable(final String name, final Class<?> type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            return object instanceof Variable &&
+                    this.name.equals(((Variable) object).name) &&
+                    this.type.equals(((Variable) object).type);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.name.hashCode() ^ this.type.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return this.name + ":" + this.type.getSimpleName();
+        }
+    }
+
+    private static final class LeastRecentlyUsedMap<K, V> extends LinkedHashMap<K, V> {
+
+        private final int maxSize;
+
+        private LeastRecentlyUsedMap(final int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+            return this.size() > this.maxSize;
+        }
+    }
+}
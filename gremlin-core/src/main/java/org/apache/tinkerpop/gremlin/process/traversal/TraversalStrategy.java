@@ -69,6 +69,19 @@ public interface TraversalStrategy<S extends TraversalStrategy> extends Serializ
         return Collections.emptySet();
     }
 
+    /**
+     * The classes of the steps that this strategy requires in order to do anything. If a traversal has no step of (a
+     * subclass of) any of these classes, the strategy would leave it unaltered and it is not applied to it. Only the
+     * steps of the traversal itself are considered, so a strategy that looks into child traversals or that applies
+     * to every traversal must not declare any. The default implementation returns an empty set and the strategy is
+     * always applied.
+     *
+     * @return the set of step classes of which the traversal must contain at least one
+     */
+    public default Set<Class<?>> requiredStepClasses() {
+        return Collections.emptySet();
+    }
+
     /**
      * The type of traversal strategy -- i.e. {@link DecorationStrategy}, {@link OptimizationStrategy}, {@link FinalizationStrategy}, or {@link VerificationStrategy}.
      *
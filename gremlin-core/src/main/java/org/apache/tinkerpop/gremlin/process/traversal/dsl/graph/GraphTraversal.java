@@ -68,6 +68,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddEdgeStartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddEdgeStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddVertexStartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.CardinalityStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.CoalesceStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.ConstantStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.CountGlobalStep;
@@ -102,10 +103,13 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertyKeyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertyMapStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertyValueStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.QuantileGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.QuantileLocalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.RangeLocalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SackStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SampleLocalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SelectOneStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ShortestPathStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SelectStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SumGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SumLocalStep;
@@ -608,6 +612,33 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
         return this.asAdmin().addStep(new PathStep<>(this.asAdmin()));
     }
 
+    /**
+     * Map the {@link Vertex} to the shortest {@link Path} to every vertex it can reach. The edges to traverse default
+     * to {@code bothE()} and can be specified with a {@code by(Traversal)} modulator. A {@code by(String)} modulator
+     * specifies the edge property that holds the distance of an edge, which otherwise is {@code 1}.
+     *
+     * @return the traversal with an appended {@link ShortestPathStep}.
+     * @see <a href="http://tinkerpop.apache.org/docs/${project.version}/reference/#shortestpath-step" target="_blank">Reference Documentation - ShortestPath Step</a>
+     * @since 3.3.1
+     */
+    public default GraphTraversal<S, Path> shortestPath() {
+        this.asAdmin().getBytecode().addStep(Symbols.shortestPath);
+        return this.asAdmin().addStep((Step<E, Path>) new ShortestPathStep<>(this.asAdmin(), null));
+    }
+
+    /**
+     * Map the {@link Vertex} to the shortest {@link Path} to each vertex that passes the target traversal.
+     *
+     * @param targetTraversal the filter that determines the target vertices
+     * @return the traversal with an appended {@link ShortestPathStep}.
+     * @see <a href="http://tinkerpop.apache.org/docs/${project.version}/reference/#shortestpath-step" target="_blank">Reference Documentation - ShortestPath Step</a>
+     * @since 3.3.1
+     */
+    public default GraphTraversal<S, Path> shortestPath(final Traversal<Vertex, ?> targetTraversal) {
+        this.asAdmin().getBytecode().addStep(Symbols.shortestPath, targetTraversal);
+        return this.asAdmin().addStep((Step<E, Path>) new ShortestPathStep<>(this.asAdmin(), targetTraversal.asAdmin()));
+    }
+
     /**
      * Map the {@link Traverser} to a {@link Map} of bindings as specified by the provided match traversals.
      *
@@ -812,6 +843,19 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
         return this.asAdmin().addStep(scope.equals(Scope.global) ? new CountGlobalStep<>(this.asAdmin()) : new CountLocalStep<>(this.asAdmin()));
     }
 
+    /**
+     * Map the traversal stream to an estimate of the number of distinct objects in it (i.e. an approximation of
+     * {@code dedup().count()} that runs in constant memory).
+     *
+     * @return the traversal with an appended {@link CardinalityStep}.
+     * @see <a href="http://tinkerpop.apache.org/docs/${project.version}/reference/#cardinality-step" target="_blank">Reference Documentation - Cardinality Step</a>
+     * @since 3.3.1
+     */
+    public default GraphTraversal<S, Long> cardinality() {
+        this.asAdmin().getBytecode().addStep(Symbols.cardinality);
+        return this.asAdmin().addStep(new CardinalityStep<>(this.asAdmin()));
+    }
+
     /**
      * Map the traversal stream to its reduction as a sum of the {@link Traverser#get} values multiplied by their
      * {@link Traverser#bulk} (i.e. sum the traverser values up to this point).
@@ -910,6 +954,36 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
         return this.asAdmin().addStep(scope.equals(Scope.global) ? new MeanGlobalStep(this.asAdmin()) : new MeanLocalStep(this.asAdmin()));
     }
 
+    /**
+     * Estimates the value at the specified quantile of the numbers in the stream (e.g. {@code 0.5} for the median or
+     * {@code 0.99} for the 99th percentile) using a constant-memory sketch of the distribution.
+     *
+     * @param quantile the quantile between {@code 0.0} and {@code 1.0}
+     * @return the traversal with an appended {@link QuantileGlobalStep}.
+     * @see <a href="http://tinkerpop.apache.org/docs/${project.version}/reference/#quantile-step" target="_blank">Reference Documentation - Quantile Step</a>
+     * @since 3.3.1
+     */
+    public default GraphTraversal<S, Double> quantile(final double quantile) {
+        this.asAdmin().getBytecode().addStep(Symbols.quantile, quantile);
+        return this.asAdmin().addStep(new QuantileGlobalStep<>(this.asAdmin(), quantile));
+    }
+
+    /**
+     * Estimates the value at the specified quantile of the numbers in the stream given the {@link Scope}.
+     *
+     * @param scope    the scope of the numbers to consider
+     * @param quantile the quantile between {@code 0.0} and {@code 1.0}
+     * @return the traversal with an appended {@link QuantileGlobalStep} or {@link QuantileLocalStep} depending on the {@link Scope}
+     * @see <a href="http://tinkerpop.apache.org/docs/${project.version}/reference/#quantile-step" target="_blank">Reference Documentation - Quantile Step</a>
+     * @since 3.3.1
+     */
+    public default GraphTraversal<S, Double> quantile(final Scope scope, final double quantile) {
+        this.asAdmin().getBytecode().addStep(Symbols.quantile, scope, quantile);
+        return this.asAdmin().addStep(scope.equals(Scope.global) ?
+                new QuantileGlobalStep<>(this.asAdmin(), quantile) :
+                new QuantileLocalStep<>(this.asAdmin(), quantile));
+    }
+
     /**
      * Organize objects in the stream into a {@code Map}. Calls to {@code group()} are typically accompanied with
      * {@link #by()} modulators which help specify how the grouping should occur.
@@ -2339,6 +2413,23 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
             return RepeatStep.addUntilToTraversal(this, new LoopTraversal<>(maxLoops));
     }
 
+    /**
+     * Modifies a {@link #repeat(Traversal)} to merge the equal traversers that are at the same object (traversers
+     * with different paths or unmergeable sacks are kept apart). With {@link Scope#local} the traversers are merged
+     * within each loop iteration and with {@link Scope#global} the
+     * traversers that reach an object that was reached in an earlier loop iteration are also removed, which makes the
+     * loop a breadth-first search that visits each object once.
+     *
+     * @param visitedScope whether traversers are merged per loop iteration or across all loop iterations
+     * @return the traversal with the appended {@link RepeatStep}
+     * @see <a href="http://tinkerpop.apache.org/docs/${project.version}/reference/#repeat-step" target="_blank">Reference Documentation - Repeat Step</a>
+     * @since 3.3.1
+     */
+    public default GraphTraversal<S, E> visited(final Scope visitedScope) {
+        this.asAdmin().getBytecode().addStep(Symbols.visited, visitedScope);
+        return RepeatStep.addVisitedToTraversal(this, visitedScope);
+    }
+
     /**
      * Provides a execute a specified traversal on a single element within a stream.
      *
@@ -2703,6 +2794,7 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
         public static final String key = "key";
         public static final String value = "value";
         public static final String path = "path";
+        public static final String shortestPath = "shortestPath";
         public static final String match = "match";
         public static final String math = "math";
         public static final String sack = "sack";
@@ -2711,10 +2803,12 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
         public static final String unfold = "unfold";
         public static final String fold = "fold";
         public static final String count = "count";
+        public static final String cardinality = "cardinality";
         public static final String sum = "sum";
         public static final String max = "max";
         public static final String min = "min";
         public static final String mean = "mean";
+        public static final String quantile = "quantile";
         public static final String group = "group";
         public static final String groupCount = "groupCount";
         public static final String tree = "tree";
@@ -2772,6 +2866,7 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
 
         public static final String by = "by";
         public static final String times = "times";
+        public static final String visited = "visited";
         public static final String as = "as";
         public static final String option = "option";
 
@@ -302,6 +302,20 @@ public class __ {
         return __.<A>start().path();
     }
 
+    /**
+     * @see GraphTraversal#shortestPath()
+     */
+    public static <A> GraphTraversal<A, Path> shortestPath() {
+        return __.<A>start().shortestPath();
+    }
+
+    /**
+     * @see GraphTraversal#shortestPath(Traversal)
+     */
+    public static <A> GraphTraversal<A, Path> shortestPath(final Traversal<Vertex, ?> targetTraversal) {
+        return __.<A>start().shortestPath(targetTraversal);
+    }
+
     /**
      * @see GraphTraversal#match(Traversal[])
      */
@@ -386,6 +400,13 @@ public class __ {
         return __.<A>start().count(scope);
     }
 
+    /**
+     * @see GraphTraversal#cardinality()
+     */
+    public static <A> GraphTraversal<A, Long> cardinality() {
+        return __.<A>start().cardinality();
+    }
+
     /**
      * @see GraphTraversal#sum()
      */
@@ -442,6 +463,20 @@ public class __ {
         return __.<A>start().mean(scope);
     }
 
+    /**
+     * @see GraphTraversal#quantile(double)
+     */
+    public static <A> GraphTraversal<A, Double> quantile(final double quantile) {
+        return __.<A>start().quantile(quantile);
+    }
+
+    /**
+     * @see GraphTraversal#quantile(Scope, double)
+     */
+    public static <A> GraphTraversal<A, Double> quantile(final Scope scope, final double quantile) {
+        return __.<A>start().quantile(scope, quantile);
+    }
+
     /**
      * @see GraphTraversal#group()
      */
@@ -1050,6 +1085,13 @@ public class __ {
         return __.<A>start().times(maxLoops);
     }
 
+    /**
+     * @see GraphTraversal#visited(Scope)
+     */
+    public static <A> GraphTraversal<A, A> visited(final Scope visitedScope) {
+        return __.<A>start().visited(visitedScope);
+    }
+
     /**
      * @see GraphTraversal#emit()
      */
@@ -61,6 +61,16 @@ public interface Barrier<B> extends MemoryComputing<B> {
      */
     public void addBarrier(final B barrier);
 
+    /**
+     * Gets the number of objects that are currently held by the barrier like the traversers of a
+     * {@link org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet} or the entries of a reduced map.
+     * It is used to report the peak size of a barrier when a traversal is profiled. The default implementation returns
+     * zero.
+     */
+    public default long getBarrierSize() {
+        return 0L;
+    }
+
     /**
      * A way to hard set that the barrier is complete.
      * This is necessary when parallel barriers don't all have barriers and need hard resetting.
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.TraverserBatch;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@code Batching} step can compute the results of many traversers at once instead of one traverser at a time. When
+ * a batch size greater than one is set, the step pulls up to that many traversers into a {@link TraverserBatch} and
+ * hands them to {@link #processBatch(List)} before any of them is emitted. The traversers of the batch are emitted in
+ * the order in which they arrived. Providers that are backed by a remote store should override
+ * {@link #processBatch(List)} in their step implementations to resolve the whole batch with a single multi-get request.
+ */
+public interface Batching<S, E> {
+
+    /**
+     * Sets the maximum number of traversers to process at once where a size of {@code 0} disables batching.
+     */
+    public void setBatchSize(final int batchSize);
+
+    public int getBatchSize();
+
+    /**
+     * Computes the results of the objects of the batch, which holds the traversers in the order in which they arrived.
+     * Objects that are missing from the returned map are processed one at a time when their traverser is reached,
+     * which is all that the default implementation does. The returned results may be lazy and are iterated once for
+     * every traverser of the object.
+     */
+    public default Map<S, Iterable<E>> processBatch(final List<Traverser.Admin<S>> batch) {
+        return Collections.emptyMap();
+    }
+}
@@ -18,18 +18,21 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.step.branch;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ComputerAwareStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -43,9 +46,16 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
     private Traversal.Admin<S, S> repeatTraversal = null;
     private Traversal.Admin<S, ?> untilTraversal = null;
     private Traversal.Admin<S, ?> emitTraversal = null;
+    private Scope visitedScope = null;
     public boolean untilFirst = false;
     public boolean emitFirst = false;
 
+    private static final int MAX_START_BATCH_SIZE = 2500;
+
+    private TraverserSet<S> frontier = new TraverserSet<>();
+    private TraverserSet<S> nextFrontier = new TraverserSet<>();
+    private Set<Object> visited = new HashSet<>();
+
     public RepeatStep(final Traversal.Admin traversal) {
         super(traversal);
     }
@@ -94,6 +104,23 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
         return this.repeatTraversal;
     }
 
+    /**
+     * Sets the scope within which traversers are deduplicated. With {@link Scope#local} the equal traversers of each
+     * loop iteration (the same object and, where they are tracked, the same path, loops and a mergeable sack) are
+     * merged into one traverser with the sum of their bulks and with {@link Scope#global} a traverser is also dropped
+     * if its object was already reached in an earlier loop iteration. The loop is then evaluated one iteration at a
+     * time (a breadth-first frontier) rather than one traverser at a time.
+     */
+    public void setVisitedScope(final Scope visitedScope) {
+        if (null != this.visitedScope)
+            throw new IllegalStateException("The repeat()-step already has its visited()-modulator declared: " + this);
+        this.visitedScope = visitedScope;
+    }
+
+    public Scope getVisitedScope() {
+        return this.visitedScope;
+    }
+
     public List<Traversal.Admin<S, S>> getGlobalChildren() {
         return null == this.repeatTraversal ? Collections.emptyList() : Collections.singletonList(this.repeatTraversal);
     }
@@ -118,13 +145,13 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
     @Override
     public String toString() {
         if (this.untilFirst && this.emitFirst)
-            return StringFactory.stepString(this, untilString(), emitString(), this.repeatTraversal);
+            return StringFactory.stepString(this, untilString(), emitString(), this.repeatTraversal, visitedString());
         else if (this.emitFirst)
-            return StringFactory.stepString(this, emitString(), this.repeatTraversal, untilString());
+            return StringFactory.stepString(this, emitString(), this.repeatTraversal, untilString(), visitedString());
         else if (this.untilFirst)
-            return StringFactory.stepString(this, untilString(), this.repeatTraversal, emitString());
+            return StringFactory.stepString(this, untilString(), this.repeatTraversal, emitString(), visitedString());
         else
-            return StringFactory.stepString(this, this.repeatTraversal, untilString(), emitString());
+            return StringFactory.stepString(this, this.repeatTraversal, untilString(), emitString(), visitedString());
     }
 
     @Override
@@ -136,6 +163,9 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
             this.untilTraversal.reset();
         if (null != this.repeatTraversal)
             this.repeatTraversal.reset();
+        this.frontier.clear();
+        this.nextFrontier.clear();
+        this.visited.clear();
     }
 
     private final String untilString() {
@@ -146,6 +176,10 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
         return null == this.emitTraversal ? "emit(false)" : "emit(" + this.emitTraversal + ')';
     }
 
+    private final String visitedString() {
+        return null == this.visitedScope ? null : "visited(" + this.visitedScope + ')';
+    }
+
     /////////////////////////
 
     @Override
@@ -156,6 +190,9 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
             clone.untilTraversal = this.untilTraversal.clone();
         if (null != this.emitTraversal)
             clone.emitTraversal = this.emitTraversal.clone();
+        clone.frontier = new TraverserSet<>();
+        clone.nextFrontier = new TraverserSet<>();
+        clone.visited = new HashSet<>();
         return clone;
     }
 
@@ -176,6 +213,8 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
             result ^= this.untilTraversal.hashCode();
         if (this.emitTraversal != null)
             result ^= this.emitTraversal.hashCode();
+        if (this.visitedScope != null)
+            result ^= this.visitedScope.hashCode();
         return result;
     }
 
@@ -183,6 +222,8 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
     protected Iterator<Traverser.Admin<S>> standardAlgorithm() throws NoSuchElementException {
         if (null == this.repeatTraversal)
             throw new IllegalStateException("The repeat()-traversal was not defined: " + this);
+        if (null != this.visitedScope)
+            return this.frontierAlgorithm();
 
         while (true) {
             if (this.repeatTraversal.getEndStep().hasNext()) {
@@ -203,6 +244,78 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
         }
     }
 
+    /**
+     * Evaluates the loop one iteration at a time. The traversers of an iteration are collected into a frontier that
+     * merges equal traversers (and drops those at objects visited in an earlier iteration if the visited scope is
+     * global) and the whole frontier is fed to the repeat traversal before any traverser of the next iteration is
+     * looked at. With a local visited scope the starts are taken in batches so that the step does not become a
+     * barrier. With a global visited scope all the starts form the first frontier, as an object that a start reaches
+     * in a later iteration must not block another start that reaches it in an earlier one.
+     */
+    private Iterator<Traverser.Admin<S>> frontierAlgorithm() throws NoSuchElementException {
+        while (true) {
+            if (this.repeatTraversal.getEndStep().hasNext())
+                return this.repeatTraversal.getEndStep();
+            else if (!this.nextFrontier.isEmpty()) {
+                final TraverserSet<S> looped = this.nextFrontier;
+                this.nextFrontier = this.frontier;
+                this.frontier = looped;
+                final List<Traverser.Admin<S>> halted = this.processFrontier(true);
+                if (!halted.isEmpty())
+                    return halted.iterator();
+            } else {
+                this.addToFrontier(this.frontier, this.starts.next());
+                while ((Scope.global == this.visitedScope || this.frontier.size() < MAX_START_BATCH_SIZE) && this.starts.hasNext()) {
+                    this.addToFrontier(this.frontier, this.starts.next());
+                }
+                final List<Traverser.Admin<S>> halted = this.processFrontier(false);
+                if (!halted.isEmpty())
+                    return halted.iterator();
+            }
+        }
+    }
+
+    private void addToFrontier(final TraverserSet<S> frontier, final Traverser.Admin<S> traverser) {
+        if (Scope.local == this.visitedScope || !this.visited.contains(traverser.get()))
+            frontier.add(traverser);
+    }
+
+    /**
+     * Feeds the frontier to the repeat traversal and returns the traversers that exit (or are emitted from) the loop.
+     */
+    private List<Traverser.Admin<S>> processFrontier(final boolean looped) {
+        final List<Traverser.Admin<S>> halted = new ArrayList<>();
+        for (final Traverser.Admin<S> traverser : this.frontier) {
+            if (Scope.global == this.visitedScope)
+                this.visited.add(traverser.get());
+            if (looped) {
+                if (this.doUntil(traverser, false)) {
+                    traverser.resetLoops();
+                    halted.add(traverser);
+                    continue;
+                }
+                if (this.doEmit(traverser, false)) {
+                    final Traverser.Admin<S> emitSplit = traverser.split();
+                    emitSplit.resetLoops();
+                    halted.add(emitSplit);
+                }
+            }
+            if (this.doUntil(traverser, true)) {
+                traverser.resetLoops();
+                halted.add(traverser);
+                continue;
+            }
+            if (this.doEmit(traverser, true)) {
+                final Traverser.Admin<S> emitSplit = traverser.split();
+                emitSplit.resetLoops();
+                halted.add(emitSplit);
+            }
+            this.repeatTraversal.addStart(traverser);
+        }
+        this.frontier.clear();
+        return halted;
+    }
+
     @Override
     protected Iterator<Traverser.Admin<S>> computerAlgorithm() throws NoSuchElementException {
         if (null == this.repeatTraversal)
@@ -212,7 +325,7 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
         if (doUntil(start, true)) {
             start.resetLoops();
             start.setStepId(this.getNextStep().getId());
-            start.addLabels(this.labels);
+            start.addLabels(this.getLabels());
             return IteratorUtils.of(start);
         } else {
             start.setStepId(this.repeatTraversal.getStartStep().getId());
@@ -253,6 +366,18 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
         return traversal;
     }
 
+    public static <A, B, C extends Traversal<A, B>> C addVisitedToTraversal(final C traversal, final Scope visitedScope) {
+        final Step<?, B> step = traversal.asAdmin().getEndStep();
+        if (step instanceof RepeatStep && null == ((RepeatStep) step).visitedScope) {
+            ((RepeatStep<B>) step).setVisitedScope(visitedScope);
+        } else {
+            final RepeatStep<B> repeatStep = new RepeatStep<>(traversal.asAdmin());
+            repeatStep.setVisitedScope(visitedScope);
+            traversal.asAdmin().addStep(repeatStep);
+        }
+        return traversal;
+    }
+
     public static <A, B, C extends Traversal<A, B>> C addEmitToTraversal(final C traversal, final Traversal.Admin<B, ?> emitPredicate) {
         final Step<?, B> step = traversal.asAdmin().getEndStep();
         if (step instanceof RepeatStep && null == ((RepeatStep) step).emitTraversal) {
@@ -279,6 +404,10 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
             while (true) {
                 final Traverser.Admin<S> start = this.starts.next();
                 start.incrLoops(this.getId());
+                if (null != repeatStep.visitedScope) {
+                    repeatStep.addToFrontier(repeatStep.nextFrontier, start);
+                    continue;
+                }
                 if (repeatStep.doUntil(start, false)) {
                     start.resetLoops();
                     return IteratorUtils.of(start);
@@ -304,7 +433,7 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
             if (repeatStep.doUntil(start, false)) {
                 start.resetLoops();
                 start.setStepId(repeatStep.getNextStep().getId());
-                start.addLabels(repeatStep.labels);
+                start.addLabels(repeatStep.getLabels());
                 return IteratorUtils.of(start);
             } else {
                 start.setStepId(repeatStep.getId());
@@ -312,7 +441,7 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
                     final Traverser.Admin<S> emitSplit = start.split();
                     emitSplit.resetLoops();
                     emitSplit.setStepId(repeatStep.getNextStep().getId());
-                    emitSplit.addLabels(repeatStep.labels);
+                    emitSplit.addLabels(repeatStep.getLabels());
                     return IteratorUtils.of(start, emitSplit);
                 }
                 return IteratorUtils.of(start);
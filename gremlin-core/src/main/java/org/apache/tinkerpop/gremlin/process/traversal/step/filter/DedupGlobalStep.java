@@ -31,6 +31,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemoryBudget;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
@@ -60,6 +61,8 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
     private boolean executingAtMaster = false;
     private Map<Object, Traverser.Admin<S>> barrier;
     private Iterator<Map.Entry<Object, Traverser.Admin<S>>> barrierIterator;
+    private transient TraversalMemoryBudget memoryBudget = null;
+    private transient boolean memoryBudgetResolved = false;
 
     public DedupGlobalStep(final Traversal.Admin traversal, final String... dedupLabels) {
         super(traversal);
@@ -70,13 +73,28 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
     protected boolean filter(final Traverser.Admin<S> traverser) {
         if (this.onGraphComputer && !this.executingAtMaster) return true;
         traverser.setBulk(1L);
+        final boolean added;
         if (null == this.dedupLabels) {
-            return this.duplicateSet.add(TraversalUtil.applyNullable(traverser, this.dedupTraversal));
+            added = this.duplicateSet.add(TraversalUtil.applyNullable(traverser, this.dedupTraversal));
         } else {
             final List<Object> objects = new ArrayList<>(this.dedupLabels.size());
             this.dedupLabels.forEach(label -> objects.add(TraversalUtil.applyNullable((S) this.getScopeValue(Pop.last, label, traverser), this.dedupTraversal)));
-            return this.duplicateSet.add(objects);
+            added = this.duplicateSet.add(objects);
         }
+        if (added) {
+            final TraversalMemoryBudget memoryBudget = this.getMemoryBudget();
+            if (null != memoryBudget)
+                memoryBudget.update(this, this.duplicateSet.size());
+        }
+        return added;
+    }
+
+    private TraversalMemoryBudget getMemoryBudget() {
+        if (!this.memoryBudgetResolved) {
+            this.memoryBudget = TraversalMemoryBudget.of(this.traversal);
+            this.memoryBudgetResolved = true;
+        }
+        return this.memoryBudget;
     }
 
     @Override
@@ -119,6 +137,8 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
     public DedupGlobalStep<S> clone() {
         final DedupGlobalStep<S> clone = (DedupGlobalStep<S>) super.clone();
         clone.duplicateSet = new HashSet<>();
+        clone.memoryBudget = null;
+        clone.memoryBudgetResolved = false;
         if (null != this.dedupTraversal)
             clone.dedupTraversal = this.dedupTraversal.clone();
         return clone;
@@ -180,6 +200,11 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
         return null != this.barrier || this.starts.hasNext();
     }
 
+    @Override
+    public long getBarrierSize() {
+        return this.duplicateSet.size() + (null == this.barrier ? 0 : this.barrier.size());
+    }
+
     @Override
     public Map<Object, Traverser.Admin<S>> nextBarrier() throws NoSuchElementException {
         final Map<Object, Traverser.Admin<S>> map = null != this.barrier ? this.barrier : new HashMap<>();
@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.filter;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.FusedStep;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -41,4 +42,12 @@ public abstract class FilterStep<S> extends AbstractStep<S, S> {
     }
 
     protected abstract boolean filter(final Traverser.Admin<S> traverser);
+
+    /**
+     * Filters a traverser that was not pulled from the previous step which is how a {@link FusedStep} evaluates this
+     * step.
+     */
+    public final boolean filterTraverser(final Traverser.Admin<S> traverser) {
+        return this.filter(traverser);
+    }
 }
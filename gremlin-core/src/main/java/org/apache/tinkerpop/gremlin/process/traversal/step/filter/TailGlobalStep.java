@@ -142,6 +142,11 @@ public final class TailGlobalStep<S> extends AbstractStep<S, S> implements Bypas
         return this.starts.hasNext();
     }
 
+    @Override
+    public long getBarrierSize() {
+        return null == this.tail ? 0L : this.tail.size();
+    }
+
     @Override
     public TraverserSet<S> nextBarrier() throws NoSuchElementException {
         if (!this.starts.hasNext())
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HyperLogLog;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.util.function.HyperLogLogSupplier;
+
+import java.io.Serializable;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Estimates the number of distinct objects in the traversal stream (i.e. an approximate {@code dedup().count()}).
+ * Rather than materializing the distinct objects, each object is folded into a {@link HyperLogLog} sketch which is
+ * merged across workers in OLAP.
+ */
+public final class CardinalityStep<S, E> extends ReducingBarrierStep<S, E> {
+
+    private static final Set<TraverserRequirement> REQUIREMENTS = EnumSet.of(TraverserRequirement.OBJECT);
+
+    public CardinalityStep(final Traversal.Admin traversal) {
+        super(traversal);
+        this.setSeedSupplier((Supplier) HyperLogLogSupplier.instance());
+        this.setReducingBiOperator(CardinalityBiOperator.INSTANCE);
+    }
+
+    @Override
+    public E projectTraverser(final Traverser.Admin<S> traverser) {
+        return (E) traverser.get();
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return REQUIREMENTS;
+    }
+
+    @Override
+    public E generateFinalResult(final E hyperLogLog) {
+        return (E) Long.valueOf(((HyperLogLog) hyperLogLog).cardinality());
+    }
+
+    /////
+
+    public static final class CardinalityBiOperator<S> implements BinaryOperator<S>, Serializable {
+
+        private static final CardinalityBiOperator INSTANCE = new CardinalityBiOperator();
+
+        @Override
+        public S apply(final S mutatingSeed, final S object) {
+            if (mutatingSeed instanceof HyperLogLog) {
+                return (object instanceof HyperLogLog) ?
+                        (S) ((HyperLogLog) mutatingSeed).merge((HyperLogLog) object) :
+                        (S) ((HyperLogLog) mutatingSeed).add(object);
+            } else {
+                return (object instanceof HyperLogLog) ?
+                        (S) ((HyperLogLog) object).add(mutatingSeed) :
+                        (S) new HyperLogLog().add(mutatingSeed).add(object);
+            }
+        }
+    }
+}
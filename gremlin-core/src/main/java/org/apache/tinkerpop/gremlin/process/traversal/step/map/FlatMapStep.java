@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.FusedStep;
 import org.apache.tinkerpop.gremlin.structure.util.CloseableIterator;
 import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
 
@@ -45,14 +46,29 @@ public abstract class FlatMapStep<S, E> extends AbstractStep<S, E> {
                 return this.head.split(this.iterator.next(), this);
             } else {
                 closeIterator();
-                this.head = this.starts.next();
+                this.head = this.nextStart();
                 this.iterator = this.flatMap(this.head);
             }
         }
     }
 
+    /**
+     * Gets the next traverser to flat map which is the next of the starts unless the step groups its starts.
+     */
+    protected Traverser.Admin<S> nextStart() {
+        return this.starts.next();
+    }
+
     protected abstract Iterator<E> flatMap(final Traverser.Admin<S> traverser);
 
+    /**
+     * Flat maps a traverser that was not pulled from the previous step which is how a {@link FusedStep} evaluates
+     * this step.
+     */
+    public final Iterator<E> flatMapTraverser(final Traverser.Admin<S> traverser) {
+        return this.flatMap(traverser);
+    }
+
     @Override
     public void reset() {
         super.reset();
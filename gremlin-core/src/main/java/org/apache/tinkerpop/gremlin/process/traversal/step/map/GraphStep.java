@@ -24,9 +24,12 @@ import org.apache.tinkerpop.gremlin.process.traversal.Contains;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
 import org.apache.tinkerpop.gremlin.process.traversal.step.GraphComputing;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.TraverserBatch;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
@@ -39,23 +42,28 @@ import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  * @author Pieter Martin
  */
-public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implements GraphComputing, AutoCloseable {
+public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implements GraphComputing, Batching<S, E>, AutoCloseable {
 
     protected final Class<E> returnClass;
     protected Object[] ids;
     protected transient Supplier<Iterator<E>> iteratorSupplier;
     protected boolean isStart;
     protected boolean done = false;
+    protected long limit = Long.MAX_VALUE;
     private Traverser.Admin<S> head = null;
     private Iterator<E> iterator = EmptyIterator.instance();
-
+    private int batchSize = 0;
+    private TraverserBatch<S, E> batch = new TraverserBatch<>();
 
     public GraphStep(final Traversal.Admin traversal, final Class<E> returnClass, final boolean isStart, final Object... ids) {
         super(traversal);
@@ -115,6 +123,20 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
         this.ids = new Object[0];
     }
 
+    /**
+     * Sets the maximum number of elements that the traversal consumes from this step per start, e.g. {@code 10} for
+     * {@code g.V().has('name','marko').limit(10)}. The limit is a hint that providers can push down into their
+     * lookups to stop early. The {@link RangeGlobalStep} that defined it remains in the traversal, so a step that
+     * ignores the limit still produces correct results.
+     */
+    public void setLimit(final long limit) {
+        this.limit = limit;
+    }
+
+    public long getLimit() {
+        return this.limit;
+    }
+
     @Override
     public void onGraphComputer() {
         this.iteratorSupplier = Collections::emptyIterator;
@@ -141,6 +163,11 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
                         this.done = true;
                         this.iterator = null == this.iteratorSupplier ? EmptyIterator.instance() : this.iteratorSupplier.get();
                     }
+                } else if (this.batchSize > 1) {
+                    this.head = this.batch.next(this.starts, this);
+                    final Iterator<E> results = this.batch.getResults(this.head.get());
+                    this.iterator = null != results ? results :
+                            null == this.iteratorSupplier ? EmptyIterator.instance() : this.iteratorSupplier.get();
                 } else {
                     this.head = this.starts.next();
                     this.iterator = null == this.iteratorSupplier ? EmptyIterator.instance() : this.iteratorSupplier.get();
@@ -149,12 +176,46 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
         }
     }
 
+    @Override
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * The elements of a mid-traversal {@code GraphStep} do not depend on the incoming traverser, so every traverser of
+     * the batch shares one {@code Iterable}. It looks the elements up lazily each time it is iterated rather than
+     * holding all the elements of the graph in memory.
+     */
+    @Override
+    public Map<S, Iterable<E>> processBatch(final List<Traverser.Admin<S>> batch) {
+        final Supplier<Iterator<E>> supplier = this.iteratorSupplier;
+        final Iterable<E> elements = null == supplier ? Collections.emptyList() : supplier::get;
+        final Map<S, Iterable<E>> results = new HashMap<>();
+        for (final Traverser.Admin<S> traverser : batch) {
+            results.put(traverser.get(), elements);
+        }
+        return results;
+    }
+
     @Override
     public void reset() {
         super.reset();
         this.head = null;
         this.done = false;
         this.iterator = EmptyIterator.instance();
+        this.batch.clear();
+    }
+
+    @Override
+    public GraphStep<S, E> clone() {
+        final GraphStep<S, E> clone = (GraphStep<S, E>) super.clone();
+        clone.batch = new TraverserBatch<>();
+        return clone;
     }
 
     @Override
@@ -163,6 +224,8 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
         for (final Object id : this.ids) {
             result ^= id.hashCode();
         }
+        if (Long.MAX_VALUE != this.limit)
+            result ^= Long.hashCode(this.limit);
         return result;
     }
 
@@ -191,4 +254,24 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
         }
         return false;
     }
+
+    /**
+     * Helper method for providers that want to push the high range of a {@link RangeGlobalStep} that directly follows
+     * the {@link GraphStep} into the {@link GraphStep#setLimit(long)} after they have folded in their
+     * {@link HasContainer}'s.
+     *
+     * @param graphStep the GraphStep to potentially {@link GraphStep#setLimit(long)}.
+     * @return true if the limit of the {@link GraphStep} was set.
+     */
+    public static boolean processLimit(final GraphStep<?, ?> graphStep) {
+        Step<?, ?> currentStep = graphStep.getNextStep();
+        while (currentStep instanceof NoOpBarrierStep) {
+            currentStep = currentStep.getNextStep();
+        }
+        if (currentStep instanceof RangeGlobalStep && -1 != ((RangeGlobalStep) currentStep).getHighRange()) {
+            graphStep.setLimit(((RangeGlobalStep) currentStep).getHighRange());
+            return true;
+        }
+        return false;
+    }
 }
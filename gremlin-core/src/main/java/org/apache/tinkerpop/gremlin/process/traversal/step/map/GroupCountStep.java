@@ -44,6 +44,7 @@ import java.util.function.BinaryOperator;
 public final class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Long>> implements TraversalParent, ByModulating {
 
     private Traversal.Admin<S, E> keyTraversal = null;
+    private Map<E, long[]> counts = null;
 
     public GroupCountStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -58,6 +59,47 @@ public final class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Lo
         return map;
     }
 
+    @Override
+    protected Map<E, Long> reduce(final Map<E, Long> seed, final Traverser.Admin<S> traverser) {
+        if (null == this.counts)
+            this.counts = new HashMap<>();
+        final E key = TraversalUtil.applyNullable(traverser, this.keyTraversal);
+        final long[] count = this.counts.get(key);
+        if (null == count)
+            this.counts.put(key, new long[]{traverser.bulk()});
+        else
+            count[0] += traverser.bulk();
+        return seed;
+    }
+
+    @Override
+    public long getBarrierSize() {
+        return super.getBarrierSize() + (null == this.counts ? 0L : this.counts.size());
+    }
+
+    @Override
+    protected Map<E, Long> complete(final Map<E, Long> seed) {
+        if (null != this.counts) {
+            for (final Map.Entry<E, long[]> entry : this.counts.entrySet()) {
+                MapHelper.incr(seed, entry.getKey(), entry.getValue()[0]);
+            }
+            this.counts = null;
+        }
+        return seed;
+    }
+
+    @Override
+    public void done() {
+        super.done();
+        this.counts = null;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.counts = null;
+    }
+
     @Override
     public void addLocalChild(final Traversal.Admin<?, ?> groupTraversal) {
         this.keyTraversal = this.integrateChild(groupTraversal);
@@ -81,6 +123,7 @@ public final class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Lo
     @Override
     public GroupCountStep<S, E> clone() {
         final GroupCountStep<S, E> clone = (GroupCountStep<S, E>) super.clone();
+        clone.counts = null;
         if (null != this.keyTraversal)
             clone.keyTraversal = this.keyTraversal.clone();
         return clone;
@@ -33,6 +33,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemoryBudget;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.function.HashMapSupplier;
@@ -54,6 +55,8 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
     private Traversal.Admin<S, K> keyTraversal;
     private Traversal.Admin<S, V> valueTraversal;
     private Barrier barrierStep;
+    private Map<K, long[]> counts = null;
+    private long valuesSize = 0L;
 
     public GroupStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -78,6 +81,14 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
         }
     }
 
+    public Traversal.Admin<S, K> getKeyTraversal() {
+        return this.keyTraversal;
+    }
+
+    public Traversal.Admin<S, V> getValueTraversal() {
+        return this.valueTraversal;
+    }
+
     @Override
     public Map<K, V> projectTraverser(final Traverser.Admin<S> traverser) {
         final Map<K, V> map = new HashMap<>(1);
@@ -91,6 +102,71 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
         return map;
     }
 
+    @Override
+    protected Map<K, V> reduce(final Map<K, V> seed, final Traverser.Admin<S> traverser) {
+        if (isCountTraversal(this.valueTraversal)) {
+            // count() of a single traverser is its bulk so the value traversal does not need to be executed
+            if (null == this.counts)
+                this.counts = new HashMap<>();
+            final K key = TraversalUtil.applyNullable(traverser, this.keyTraversal);
+            final long[] count = this.counts.get(key);
+            if (null == count)
+                this.counts.put(key, new long[]{traverser.bulk()});
+            else
+                count[0] += traverser.bulk();
+            return seed;
+        }
+        this.valueTraversal.reset();
+        this.valueTraversal.addStart(traverser);
+        if (null == this.barrierStep) {
+            if (this.valueTraversal.hasNext())
+                this.merge(seed, TraversalUtil.applyNullable(traverser, this.keyTraversal), (V) this.valueTraversal.next());
+        } else if (this.barrierStep.hasNextBarrier())
+            this.merge(seed, TraversalUtil.applyNullable(traverser, this.keyTraversal), (V) this.barrierStep.nextBarrier());
+        return seed;
+    }
+
+    /**
+     * Merges a value into the seed and keeps track of the number of objects held by the values, as the values
+     * (e.g. the lists of {@code fold()}) usually hold far more objects than the keys.
+     */
+    private void merge(final Map<K, V> seed, final K key, final V value) {
+        final long sizeBefore = TraversalMemoryBudget.sizeOf(seed.get(key));
+        ((GroupBiOperator<K, V>) this.reducingBiOperator).merge(seed, key, value);
+        this.valuesSize = this.valuesSize + TraversalMemoryBudget.sizeOf(seed.get(key)) - sizeBefore;
+    }
+
+    @Override
+    public long getBarrierSize() {
+        return super.getBarrierSize() + this.valuesSize + (null == this.counts ? 0L : this.counts.size());
+    }
+
+    @Override
+    protected Map<K, V> complete(final Map<K, V> seed) {
+        if (null != this.counts) {
+            for (final Map.Entry<K, long[]> entry : this.counts.entrySet()) {
+                ((GroupBiOperator<K, V>) this.reducingBiOperator).merge(seed, entry.getKey(), (V) (Long) entry.getValue()[0]);
+            }
+            this.counts = null;
+        }
+        this.valuesSize = 0L;
+        return seed;
+    }
+
+    @Override
+    public void done() {
+        super.done();
+        this.counts = null;
+        this.valuesSize = 0L;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.counts = null;
+        this.valuesSize = 0L;
+    }
+
     @Override
     public String toString() {
         return StringFactory.stepString(this, this.keyTraversal, this.valueTraversal);
@@ -117,6 +193,8 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
             clone.keyTraversal = this.keyTraversal.clone();
         clone.valueTraversal = this.valueTraversal.clone();
         clone.barrierStep = TraversalHelper.getFirstStepOfAssignableClass(Barrier.class, clone.valueTraversal).orElse(null);
+        clone.counts = null;
+        clone.valuesSize = 0L;
         return clone;
     }
 
@@ -156,17 +234,22 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
 
         @Override
         public Map<K, V> apply(final Map<K, V> mapA, final Map<K, V> mapB) {
-            for (final K key : mapB.keySet()) {
-                V objectA = mapA.get(key);
-                final V objectB = mapB.get(key);
-                if (null == objectA)
-                    objectA = objectB;
-                else if (null != objectB)
-                    objectA = this.barrierAggregator.apply(objectA, objectB);
-                mapA.put(key, objectA);
+            for (final Map.Entry<K, V> entry : mapB.entrySet()) {
+                this.merge(mapA, entry.getKey(), entry.getValue());
             }
             return mapA;
         }
+
+        /**
+         * Merges a single value into the map in the same way as {@link #apply(Map, Map)} merges the entries of two maps.
+         */
+        public void merge(final Map<K, V> map, final K key, final V value) {
+            final V objectA = map.get(key);
+            if (null == objectA)
+                map.put(key, value);
+            else if (null != value)
+                map.put(key, this.barrierAggregator.apply(objectA, value));
+        }
     }
 
 
@@ -182,6 +265,12 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
             return valueTraversal;
     }
 
+    private static boolean isCountTraversal(final Traversal.Admin<?, ?> valueTraversal) {
+        return 1 == valueTraversal.getSteps().size() &&
+                valueTraversal.getStartStep() instanceof CountGlobalStep &&
+                valueTraversal.getStartStep().getLabels().isEmpty();
+    }
+
     public static <K, V> Map<K, V> doFinalReduction(final Map<K, Object> map, final Traversal.Admin<?, V> valueTraversal) {
         TraversalHelper.getFirstStepOfAssignableClass(Barrier.class, valueTraversal).ifPresent(barrierStep -> {
             for (final K key : map.keySet()) {
@@ -0,0 +1,365 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Pop;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.SortedAdjacency;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * {@code LeapfrogJoinStep} evaluates a conjunction of adjacency patterns between vertex variables (e.g. the
+ * {@code match()} of a triangle) with a worst-case optimal multi-way join. Rather than joining one pattern at a time,
+ * which materializes all the intermediate paths of a cyclic pattern, the variables are bound one after the other and
+ * the candidates of a variable are the intersection of the sorted adjacency lists of the already bound variables
+ * it is connected to. The lists are intersected by seeking each list to the largest head of all lists (leapfrogging)
+ * so that the work is bounded by the smallest list. The sorted adjacency lists are provided by a {@link Graph}
+ * that implements {@link SortedAdjacency}. The step emits the same bindings with the same bulk as the
+ * {@link MatchStep} it replaces.
+ */
+public final class LeapfrogJoinStep<S, E> extends AbstractStep<S, Map<String, E>> implements Scoping {
+
+    private final List<Atom> atoms;
+    private final String computedStartLabel;
+    private final Set<String> matchStartLabels;
+    private final Set<String> variables = new LinkedHashSet<>();
+    private transient SortedAdjacency adjacency;
+    private Iterator<Traverser.Admin<Map<String, E>>> iterator = EmptyIterator.instance();
+
+    public LeapfrogJoinStep(final Traversal.Admin traversal, final List<Atom> atoms, final String computedStartLabel, final Set<String> matchStartLabels) {
+        super(traversal);
+        this.atoms = Collections.unmodifiableList(new ArrayList<>(atoms));
+        this.computedStartLabel = computedStartLabel;
+        this.matchStartLabels = Collections.unmodifiableSet(new LinkedHashSet<>(matchStartLabels));
+        for (final Atom atom : atoms) {
+            this.variables.add(atom.from);
+            this.variables.add(atom.to);
+        }
+    }
+
+    public List<Atom> getAtoms() {
+        return this.atoms;
+    }
+
+    @Override
+    public Set<String> getScopeKeys() {
+        return Collections.unmodifiableSet(this.variables);
+    }
+
+    @Override
+    protected Traverser.Admin<Map<String, E>> processNextStart() throws NoSuchElementException {
+        while (true) {
+            if (this.iterator.hasNext())
+                return this.iterator.next();
+            this.iterator = this.join(this.starts.next());
+        }
+    }
+
+    private Iterator<Traverser.Admin<Map<String, E>>> join(final Traverser.Admin<S> traverser) {
+        if (null == this.adjacency)
+            this.adjacency = (SortedAdjacency) this.getTraversal().getGraph().
+                    filter(graph -> graph instanceof SortedAdjacency).
+                    orElseThrow(() -> new IllegalStateException(LeapfrogJoinStep.class.getSimpleName() + " requires a graph that implements " + SortedAdjacency.class.getSimpleName()));
+
+        // bind the variables that are already in the path, and if there are none, the traverser to the start label
+        boolean hasStartLabel = false;
+        for (final String label : this.matchStartLabels) {
+            if (traverser.path().hasLabel(label)) {
+                hasStartLabel = true;
+                break;
+            }
+        }
+        if (!hasStartLabel)
+            traverser.addLabels(Collections.singleton(this.computedStartLabel));
+        final Path path = traverser.path();
+        final Map<String, Vertex> bindings = new HashMap<>();
+        for (final String variable : this.variables) {
+            if (path.hasLabel(variable))
+                bindings.put(variable, asVertex(variable, path.get(Pop.last, variable)));
+        }
+
+        // patterns between variables that are already bound are membership checks
+        long multiplicity = 1L;
+        for (final Atom atom : this.atoms) {
+            if (bindings.containsKey(atom.from) && bindings.containsKey(atom.to)) {
+                multiplicity = multiplicity * count(this.adjacency.getSortedAdjacentVertices(bindings.get(atom.from), atom.direction, atom.edgeLabels), bindings.get(atom.to));
+                if (0L == multiplicity)
+                    return EmptyIterator.instance();
+            }
+        }
+
+        final List<String> order = this.computeVariableOrder(bindings.keySet());
+        final List<Traverser.Admin<Map<String, E>>> results = new ArrayList<>();
+        this.extend(traverser, order, 0, bindings, multiplicity, results);
+        return results.iterator();
+    }
+
+    /**
+     * Orders the unbound variables so that each variable is connected to as many previously bound ones as possible.
+     */
+    private List<String> computeVariableOrder(final Set<String> boundVariables) {
+        final Set<String> bound = new LinkedHashSet<>(boundVariables);
+        final List<String> order = new ArrayList<>();
+        while (bound.size() < this.variables.size()) {
+            String next = null;
+            int nextConnections = 0;
+            for (final String variable : this.variables) {
+                if (bound.contains(variable))
+                    continue;
+                int connections = 0;
+                for (final Atom atom : this.atoms) {
+                    if ((atom.from.equals(variable) && !atom.to.equals(variable) && bound.contains(atom.to)) ||
+                            (atom.to.equals(variable) && !atom.from.equals(variable) && bound.contains(atom.from)))
+                        connections++;
+                }
+                if (connections > nextConnections) {
+                    next = variable;
+                    nextConnections = connections;
+                }
+            }
+            if (null == next)
+                throw new IllegalStateException("The patterns of " + LeapfrogJoinStep.class.getSimpleName() + " are not connected to the bound variables " + bound + ": " + this.atoms);
+            bound.add(next);
+            order.add(next);
+        }
+        return order;
+    }
+
+    private void extend(final Traverser.Admin<S> traverser, final List<String> order, final int depth,
+                        final Map<String, Vertex> bindings, final long multiplicity, final List<Traverser.Admin<Map<String, E>>> results) {
+        if (depth == order.size()) {
+            results.add(this.generateTraverser(traverser, order, bindings, multiplicity));
+            return;
+        }
+        final String variable = order.get(depth);
+        final List<List<Vertex>> lists = new ArrayList<>();
+        final List<Atom> loops = new ArrayList<>();
+        for (final Atom atom : this.atoms) {
+            if (atom.from.equals(variable) && atom.to.equals(variable))
+                loops.add(atom);
+            else if (atom.to.equals(variable) && bindings.containsKey(atom.from))
+                lists.add(this.adjacency.getSortedAdjacentVertices(bindings.get(atom.from), atom.direction, atom.edgeLabels));
+            else if (atom.from.equals(variable) && bindings.containsKey(atom.to))
+                lists.add(this.adjacency.getSortedAdjacentVertices(bindings.get(atom.to), atom.direction.opposite(), atom.edgeLabels));
+        }
+
+        final Comparator<Vertex> comparator = this.adjacency.getAdjacencyOrder();
+        final int[] positions = new int[lists.size()];
+        for (final List<Vertex> list : lists) {
+            if (list.isEmpty())
+                return;
+        }
+        while (true) {
+            // leapfrog all lists to the largest head
+            Vertex max = lists.get(0).get(positions[0]);
+            for (int i = 1; i < lists.size(); i++) {
+                final Vertex head = lists.get(i).get(positions[i]);
+                if (comparator.compare(head, max) > 0)
+                    max = head;
+            }
+            boolean aligned = true;
+            for (int i = 0; i < lists.size(); i++) {
+                positions[i] = seek(lists.get(i), positions[i], max, comparator);
+                if (positions[i] == lists.get(i).size())
+                    return;
+                if (comparator.compare(lists.get(i).get(positions[i]), max) != 0)
+                    aligned = false;
+            }
+            if (!aligned)
+                continue;
+
+            // all lists are at the same vertex -- its multiplicity is the product of its occurrences in the lists
+            long candidateMultiplicity = multiplicity;
+            boolean exhausted = false;
+            for (int i = 0; i < lists.size(); i++) {
+                final List<Vertex> list = lists.get(i);
+                int end = positions[i] + 1;
+                while (end < list.size() && comparator.compare(list.get(end), max) == 0) {
+                    end++;
+                }
+                candidateMultiplicity = candidateMultiplicity * (end - positions[i]);
+                positions[i] = end;
+                exhausted = exhausted || end == list.size();
+            }
+            for (final Atom loop : loops) {
+                candidateMultiplicity = candidateMultiplicity * count(this.adjacency.getSortedAdjacentVertices(max, loop.direction, loop.edgeLabels), max);
+            }
+            if (candidateMultiplicity > 0L) {
+                bindings.put(variable, max);
+                this.extend(traverser, order, depth + 1, bindings, candidateMultiplicity, results);
+                bindings.remove(variable);
+            }
+            if (exhausted)
+                return;
+        }
+    }
+
+    private Traverser.Admin<Map<String, E>> generateTraverser(final Traverser.Admin<S> traverser, final List<String> order,
+                                                             final Map<String, Vertex> bindings, final long multiplicity) {
+        Traverser.Admin<Object> split = (Traverser.Admin<Object>) traverser.split();
+        for (final String variable : order) {
+            split = split.split(bindings.get(variable), (Step) EmptyStep.instance());
+            split.addLabels(Collections.singleton(variable));
+        }
+        final Traverser.Admin<Map<String, E>> result = split.split((Map<String, E>) new HashMap<>(bindings), (Step) this);
+        result.setBulk(traverser.bulk() * multiplicity);
+        return result;
+    }
+
+    private static Vertex asVertex(final String variable, final Object object) {
+        if (!(object instanceof Vertex))
+            throw new IllegalStateException("The variable " + variable + " of " + LeapfrogJoinStep.class.getSimpleName() + " must be bound to a vertex: " + object);
+        return (Vertex) object;
+    }
+
+    /**
+     * Finds the position of the first vertex in the list at or after the position that is not less than the vertex.
+     */
+    private static int seek(final List<Vertex> list, final int position, final Vertex vertex, final Comparator<Vertex> comparator) {
+        int low = position;
+        int high = list.size();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (comparator.compare(list.get(middle), vertex) < 0)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+
+    private long count(final List<Vertex> list, final Vertex vertex) {
+        final Comparator<Vertex> comparator = this.adjacency.getAdjacencyOrder();
+        int position = seek(list, 0, vertex, comparator);
+        long count = 0L;
+        while (position < list.size() && comparator.compare(list.get(position), vertex) == 0) {
+            count++;
+            position++;
+        }
+        return count;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.iterator = EmptyIterator.instance();
+    }
+
+    @Override
+    public LeapfrogJoinStep<S, E> clone() {
+        final LeapfrogJoinStep<S, E> clone = (LeapfrogJoinStep<S, E>) super.clone();
+        clone.iterator = EmptyIterator.instance();
+        return clone;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.atoms);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ this.atoms.hashCode();
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return EnumSet.of(TraverserRequirement.LABELED_PATH);
+    }
+
+    ///////////
+
+    /**
+     * A pattern stating that the vertex bound to {@code to} is adjacent to the vertex bound to {@code from} in the
+     * direction over an edge with any of the labels, i.e. {@code as(from).out(edgeLabels).as(to)} for {@code OUT}.
+     */
+    public static final class Atom implements Serializable {
+        private final String from;
+        private final Direction direction;
+        private final String[] edgeLabels;
+        private final String to;
+
+        public Atom(final String from, final Direction direction, final String[] edgeLabels, final String to) {
+            this.from = from;
+            this.direction = direction;
+            this.edgeLabels = edgeLabels;
+            this.to = to;
+        }
+
+        public String getFrom() {
+            return this.from;
+        }
+
+        public Direction getDirection() {
+            return this.direction;
+        }
+
+        public String[] getEdgeLabels() {
+            return this.edgeLabels;
+        }
+
+        public String getTo() {
+            return this.to;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (!(object instanceof Atom))
+                return false;
+            final Atom other = (Atom) object;
+            return this.from.equals(other.from) && this.direction == other.direction &&
+                    Arrays.equals(this.edgeLabels, other.edgeLabels) && this.to.equals(other.to);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.from.hashCode() ^ this.direction.hashCode() ^ Arrays.hashCode(this.edgeLabels) ^ this.to.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return this.from + "-" + this.direction.name().toLowerCase() + Arrays.toString(this.edgeLabels) + "->" + this.to;
+        }
+    }
+}
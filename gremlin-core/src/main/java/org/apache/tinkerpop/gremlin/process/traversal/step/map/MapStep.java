@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.FusedStep;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -39,5 +40,12 @@ public abstract class MapStep<S, E> extends AbstractStep<S, E> {
 
     protected abstract E map(final Traverser.Admin<S> traverser);
 
+    /**
+     * Maps a traverser that was not pulled from the previous step which is how a {@link FusedStep} evaluates this step.
+     */
+    public final E mapTraverser(final Traverser.Admin<S> traverser) {
+        return this.map(traverser);
+    }
+
 }
 
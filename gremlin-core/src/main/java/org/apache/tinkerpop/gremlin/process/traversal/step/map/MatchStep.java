@@ -18,6 +18,8 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
 import org.apache.tinkerpop.gremlin.process.traversal.Path;
 import org.apache.tinkerpop.gremlin.process.traversal.Pop;
 import org.apache.tinkerpop.gremlin.process.traversal.Scope;
@@ -26,17 +28,26 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.PathProcessor;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.AndStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.CoinStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.ConnectiveStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.NotStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.SampleGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WherePredicateStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTraversalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ComputerAwareStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ConnectiveStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.PathRetractionStrategy;
@@ -45,17 +56,26 @@ import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSe
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.util.PathUtil;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.CardinalityEstimator;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -228,6 +248,8 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
     public void reset() {
         super.reset();
         this.first = true;
+        if (null != this.matchAlgorithm)
+            this.matchAlgorithm.reset();
     }
 
     public void setMatchAlgorithm(final Class<? extends MatchAlgorithm> matchAlgorithmClass) {
@@ -399,7 +421,8 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
                 if (this.connective == ConnectiveStep.Connective.AND) {
                     final Traversal.Admin<Object, Object> matchTraversal = this.getMatchAlgorithm().apply(traverser);
                     traverser.getTags().add(matchTraversal.getStartStep().getId());
-                    matchTraversal.addStart(traverser); // determine which sub-pattern the traverser should try next
+                    if (!this.matchAlgorithm.join(traverser, matchTraversal, this.standardAlgorithmBarrier))
+                        matchTraversal.addStart(traverser); // determine which sub-pattern the traverser should try next
                 } else {  // OR
                     for (final Traversal.Admin<?, ?> matchTraversal : this.matchTraversals) {
                         final Traverser.Admin split = traverser.split();
@@ -432,7 +455,7 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
             if (!this.isDuplicate(traverser)) {
                 if (hasMatched(this.connective, traverser)) {
                     traverser.setStepId(this.getNextStep().getId());
-                    traverser.addLabels(this.labels);
+                    traverser.addLabels(this.getLabels());
                     return IteratorUtils.of(traverser.split(this.getBindings(traverser), this));
                 }
                 if (this.connective == ConnectiveStep.Connective.AND) {
@@ -548,6 +571,8 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
 
 
         private <S> Traverser.Admin<S> retractUnnecessaryLabels(final Traverser.Admin<S> traverser) {
+            if (null == this.parent)
+                this.parent = ((MatchStep) this.getTraversal().getParent().asStep());
             if (null == this.parent.getKeepLabels())
                 return traverser;
 
@@ -701,6 +726,24 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
         public default void recordEnd(final Traverser.Admin<Object> traverser, final Traversal.Admin<Object, Object> traversal) {
 
         }
+
+        /**
+         * Releases any state that the algorithm holds across traversers when the {@link MatchStep} is reset.
+         */
+        public default void reset() {
+
+        }
+
+        /**
+         * Evaluates the traversal for the traverser without iterating it, e.g. from a cache of earlier results. The
+         * results are added to the barrier as they would have left the {@link MatchEndStep} of the traversal. This
+         * is only called in OLTP.
+         *
+         * @return {@code false} if the traverser must be added to the traversal, which is the default
+         */
+        public default boolean join(final Traverser.Admin<Object> traverser, final Traversal.Admin<Object, Object> traversal, final TraverserSet<Object> barrier) {
+            return false;
+        }
     }
 
     public static class GreedyMatchAlgorithm implements MatchAlgorithm {
@@ -743,7 +786,7 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
                 Collections.sort(this.bundles,
                         Comparator.<Bundle>comparingLong(b -> Helper.getStartLabels(b.traversal).stream().filter(startLabel -> !lastLabels.contains(startLabel)).count()).
                                 thenComparingInt(b -> b.traversalType.ordinal()).
-                                thenComparingDouble(b -> b.multiplicity));
+                                thenComparingDouble(this::cost));
             }
 
             Bundle startLabelsBundle = null;
@@ -769,7 +812,7 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
             this.getBundle(traversal).incrementEndCount();
             if (!this.onComputer) {  // if on computer, sort on a per traverser-basis with bias towards local star graph
                 if (this.counter < 200 || this.counter % 250 == 0) // aggressively sort for the first 200 results -- after that, sort every 250
-                    Collections.sort(this.bundles, Comparator.<Bundle>comparingInt(b -> b.traversalType.ordinal()).thenComparingDouble(b -> b.multiplicity));
+                    Collections.sort(this.bundles, Comparator.<Bundle>comparingInt(b -> b.traversalType.ordinal()).thenComparingDouble(this::cost));
                 this.counter++;
             }
         }
@@ -782,6 +825,14 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
             throw new IllegalStateException("No equivalent traversal could be found in " + CountMatchAlgorithm.class.getSimpleName() + ": " + traversal);
         }
 
+        /**
+         * The cost of executing the traversal of the bundle, by which bundles of the same type are ordered. This is
+         * the observed multiplicity of the traversal.
+         */
+        protected double cost(final Bundle bundle) {
+            return bundle.multiplicity;
+        }
+
         ///////////
 
         public class Bundle {
@@ -804,4 +855,283 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
             }
         }
     }
+
+    /**
+     * A {@link MatchAlgorithm} that chooses the order of the match traversals up front by their estimated cost, i.e.
+     * the number of traversers a traversal is expected to produce per start. The estimates are computed from the
+     * label counts, average degrees and selectivities that a {@link org.apache.tinkerpop.gremlin.structure.Graph}
+     * implementing {@link CardinalityEstimator} provides. As in {@link CountMatchAlgorithm}, the multiplicity of each
+     * traversal is observed during execution and, once a traversal has been started {@link #SAMPLE_SIZE} times, the
+     * observation replaces the estimate if the two diverge by more than a factor of {@link #DIVERGENCE}. If the graph
+     * does not provide estimates, this algorithm behaves like {@link CountMatchAlgorithm}.
+     */
+    public static class CostMatchAlgorithm extends CountMatchAlgorithm {
+
+        public static final int SAMPLE_SIZE = 100;
+        public static final double DIVERGENCE = 2.0d;
+        public static final double DEFAULT_SELECTIVITY = 0.5d;
+
+        @Override
+        public void initialize(final TraversalEngine.Type traversalEngineType, final List<Traversal.Admin<Object, Object>> traversals) {
+            this.onComputer = traversalEngineType.equals(TraversalEngine.Type.COMPUTER);
+            final CardinalityEstimator estimator = traversals.isEmpty() ? null : traversals.get(0).getGraph()
+                    .filter(graph -> graph instanceof CardinalityEstimator)
+                    .map(graph -> (CardinalityEstimator) graph).orElse(null);
+            this.bundles = traversals.stream().map(traversal -> new CostBundle(traversal, null == estimator ? Double.NaN : estimate(traversal, estimator))).collect(Collectors.toList());
+            Collections.sort(this.bundles, Comparator.<Bundle>comparingInt(b -> b.traversalType.ordinal()).thenComparingDouble(this::cost));
+        }
+
+        @Override
+        protected double cost(final Bundle bundle) {
+            final double estimate = ((CostBundle) bundle).estimate;
+            if (Double.isNaN(estimate) || (bundle.startsCount >= SAMPLE_SIZE &&
+                    (bundle.multiplicity > estimate * DIVERGENCE || bundle.multiplicity * DIVERGENCE < estimate)))
+                return bundle.multiplicity;
+            return estimate;
+        }
+
+        /**
+         * Estimates the number of traversers that the match traversal produces per start.
+         */
+        public static double estimate(final Traversal.Admin<Object, Object> traversal, final CardinalityEstimator estimator) {
+            double estimate = 1.0d;
+            Class<? extends Element> elementClass = Vertex.class;
+            for (final Step<?, ?> step : traversal.getSteps()) {
+                if (step instanceof VertexStep) {
+                    final VertexStep<?> vertexStep = (VertexStep<?>) step;
+                    if (0 == vertexStep.getEdgeLabels().length)
+                        estimate *= estimator.estimateAverageDegree(vertexStep.getDirection(), null);
+                    else {
+                        double degree = 0.0d;
+                        for (final String edgeLabel : vertexStep.getEdgeLabels()) {
+                            degree += estimator.estimateAverageDegree(vertexStep.getDirection(), edgeLabel);
+                        }
+                        estimate *= degree;
+                    }
+                    elementClass = vertexStep.returnsVertex() ? Vertex.class : Edge.class;
+                } else if (step instanceof EdgeVertexStep) {
+                    if (Direction.BOTH == ((EdgeVertexStep) step).getDirection())
+                        estimate *= 2.0d;
+                    elementClass = Vertex.class;
+                } else if (step instanceof HasContainerHolder) {
+                    for (final HasContainer hasContainer : ((HasContainerHolder) step).getHasContainers()) {
+                        estimate *= selectivity(elementClass, hasContainer, estimator);
+                    }
+                } else if (step instanceof FilterStep && !(step instanceof MatchStartStep))
+                    estimate *= DEFAULT_SELECTIVITY;
+            }
+            return estimate;
+        }
+
+        private static double selectivity(final Class<? extends Element> elementClass, final HasContainer hasContainer, final CardinalityEstimator estimator) {
+            final double selectivity = estimator.estimateSelectivity(elementClass, hasContainer);
+            if (!Double.isNaN(selectivity))
+                return selectivity;
+            final long total = Vertex.class.equals(elementClass) ? estimator.estimateVertexCount(null) : estimator.estimateEdgeCount(null);
+            if (0 == total)
+                return 0.0d;
+            if (hasContainer.getKey().equals(T.label.getAccessor())) {
+                final List<Object> labels = Compare.eq == hasContainer.getBiPredicate() ?
+                        Collections.singletonList(hasContainer.getValue()) :
+                        Contains.within == hasContainer.getBiPredicate() && hasContainer.getValue() instanceof Collection ?
+                                new ArrayList<>((Collection<?>) hasContainer.getValue()) :
+                                null;
+                if (null != labels) {
+                    long count = 0L;
+                    for (final Object label : labels) {
+                        count += Vertex.class.equals(elementClass) ?
+                                estimator.estimateVertexCount(label.toString()) :
+                                estimator.estimateEdgeCount(label.toString());
+                    }
+                    return Math.min(1.0d, (double) count / (double) total);
+                }
+            } else if (hasContainer.getKey().equals(T.id.getAccessor()) && Compare.eq == hasContainer.getBiPredicate())
+                return 1.0d / (double) total;
+            return DEFAULT_SELECTIVITY;
+        }
+
+        ///////////
+
+        public class CostBundle extends Bundle {
+            public double estimate;
+
+            public CostBundle(final Traversal.Admin<Object, Object> traversal, final double estimate) {
+                super(traversal);
+                this.estimate = estimate;
+            }
+        }
+    }
+
+    /**
+     * A {@link CountMatchAlgorithm} that evaluates the patterns whose results only depend on the object bound to their
+     * start label as hash joins between the partial matches and the results of the pattern. The hash table of a
+     * pattern is keyed on the variables it shares with the partial matches: the object bound to its start label maps
+     * to the bulked objects the pattern reaches from it. The first partial match that binds an object to the start
+     * label builds its entry by running a clone of the pattern and every partial match probes the table instead of
+     * re-walking the graph. If the end label of the pattern is already bound, the probe looks up the bound object
+     * in the entry. Patterns that reference other labels or the path, use sacks, side-effects, lambdas or mutations
+     * are evaluated as in {@link CountMatchAlgorithm}, as are all patterns on
+     * {@link org.apache.tinkerpop.gremlin.process.computer.GraphComputer}. A hash table stops taking new entries once
+     * it holds {@link #MAX_TABLE_SIZE} results and all tables are cleared when the {@link MatchStep} is reset.
+     */
+    public static class HashJoinMatchAlgorithm extends CountMatchAlgorithm {
+
+        public static final int MAX_TABLE_SIZE = 100000;
+
+        @Override
+        public void initialize(final TraversalEngine.Type traversalEngineType, final List<Traversal.Admin<Object, Object>> traversals) {
+            this.onComputer = traversalEngineType.equals(TraversalEngine.Type.COMPUTER);
+            this.bundles = traversals.stream().map(traversal -> new HashJoinBundle(traversal, !this.onComputer && isHashable(traversal))).collect(Collectors.toList());
+        }
+
+        @Override
+        public void reset() {
+            for (final Bundle bundle : this.bundles) {
+                ((HashJoinBundle) bundle).clear();
+            }
+        }
+
+        /**
+         * Evaluates the traversal for the traverser by probing its hash table. The results are added to the
+         * barrier as they would have left the {@link MatchEndStep} of the traversal, each with the bulk of the
+         * traverser times the bulk of the result.
+         *
+         * @return {@code false} if the traversal can not be hash joined and the traverser must be added to it
+         */
+        @Override
+        public boolean join(final Traverser.Admin<Object> traverser, final Traversal.Admin<Object, Object> traversal, final TraverserSet<Object> barrier) {
+            final HashJoinBundle bundle = (HashJoinBundle) this.getBundle(traversal);
+            if (null == bundle.build)
+                return false;
+            final Path path = traverser.path();
+            final Map<Object, Long> results = bundle.probe(path.get(Pop.last, ((MatchStartStep) traversal.getStartStep()).selectKey), traverser);
+            this.recordStart(traverser, traversal);
+            final MatchEndStep endStep = (MatchEndStep) traversal.getEndStep();
+            if (null != endStep.matchKey && path.hasLabel(endStep.matchKey)) {
+                final Object boundObject = path.get(Pop.last, endStep.matchKey);
+                final Long bulk = results.get(boundObject);
+                if (null != bulk)
+                    barrier.add(this.joinResult(traverser, traversal, boundObject, bulk));
+            } else {
+                for (final Map.Entry<Object, Long> result : results.entrySet()) {
+                    barrier.add(this.joinResult(traverser, traversal, result.getKey(), result.getValue()));
+                }
+            }
+            return true;
+        }
+
+        private Traverser.Admin<Object> joinResult(final Traverser.Admin<Object> traverser, final Traversal.Admin<Object, Object> traversal, final Object object, final long bulk) {
+            final MatchEndStep endStep = (MatchEndStep) traversal.getEndStep();
+            final Traverser.Admin<Object> split = traverser.split(object, EmptyStep.instance());
+            split.setBulk(traverser.bulk() * bulk);
+            split.setStepId(traversal.getParent().asStep().getId());
+            split.addLabels(endStep.matchKeyCollection);
+            this.recordEnd(split, traversal);
+            return endStep.retractUnnecessaryLabels(split);
+        }
+
+        /**
+         * The starts and ends of the traversal that builds a hash table are not recorded as they are recorded once
+         * for every probe of the table.
+         */
+        @Override
+        public void recordStart(final Traverser.Admin<Object> traverser, final Traversal.Admin<Object, Object> traversal) {
+            if (!this.isBuildTraversal(traversal))
+                super.recordStart(traverser, traversal);
+        }
+
+        @Override
+        public void recordEnd(final Traverser.Admin<Object> traverser, final Traversal.Admin<Object, Object> traversal) {
+            if (!this.isBuildTraversal(traversal))
+                super.recordEnd(traverser, traversal);
+        }
+
+        private boolean isBuildTraversal(final Traversal.Admin<Object, Object> traversal) {
+            for (final Bundle bundle : this.bundles) {
+                if (((HashJoinBundle) bundle).build == traversal)
+                    return true;
+            }
+            return false;
+        }
+
+        /**
+         * Determines if the results of the traversal only depend on the object bound to its start label.
+         */
+        public static boolean isHashable(final Traversal.Admin<Object, Object> traversal) {
+            final Step<?, ?> startStep = traversal.getStartStep();
+            final Step<?, ?> endStep = traversal.getEndStep();
+            if (TraversalType.MATCH_TRAVERSAL != Helper.getTraversalType(traversal) ||
+                    !(startStep instanceof MatchStartStep) || !(endStep instanceof MatchEndStep) ||
+                    null == ((MatchStartStep) startStep).selectKey ||
+                    ((MatchStartStep) startStep).getScopeKeys().size() != 1)
+                return false;
+            final Set<TraverserRequirement> requirements = TraversalHelper.getRootTraversal(traversal).getTraverserRequirements();
+            if (requirements.contains(TraverserRequirement.PATH) || requirements.contains(TraverserRequirement.SACK))
+                return false;
+            return !TraversalHelper.anyStepRecursively(step -> step != startStep && step != endStep && (
+                    !step.getLabels().isEmpty() ||
+                            step instanceof Scoping ||
+                            step instanceof PathProcessor ||
+                            step instanceof SideEffectCapable ||
+                            step instanceof Mutating ||
+                            step instanceof LambdaHolder ||
+                            step instanceof ProfileStep ||
+                            step instanceof CoinStep ||
+                            step instanceof SampleGlobalStep ||
+                            step instanceof SampleLocalStep ||
+                            !Collections.disjoint(step.getRequirements(), UNHASHABLE_REQUIREMENTS)), traversal);
+        }
+
+        private static final Set<TraverserRequirement> UNHASHABLE_REQUIREMENTS = EnumSet.of(
+                TraverserRequirement.PATH, TraverserRequirement.LABELED_PATH, TraverserRequirement.SACK, TraverserRequirement.SIDE_EFFECTS);
+
+        ///////////
+
+        public class HashJoinBundle extends Bundle {
+            public Traversal.Admin<Object, Object> build;
+            public Map<Object, Map<Object, Long>> table;
+            public long tableSize = 0L;
+
+            public HashJoinBundle(final Traversal.Admin<Object, Object> traversal, final boolean hashable) {
+                super(traversal);
+                if (hashable) {
+                    this.build = traversal.clone();
+                    this.table = new HashMap<>();
+                }
+            }
+
+            /**
+             * Gets the results of the traversal for the object from the hash table. If the table has no entry for
+             * the object, the entry is built by running a clone of the traversal with a traverser that only has the
+             * object bound to the start label. Equal results are merged into one entry by summing their bulks.
+             */
+            public Map<Object, Long> probe(final Object object, final Traverser.Admin<Object> traverser) {
+                final Map<Object, Long> cached = this.table.get(object);
+                if (null != cached)
+                    return cached;
+                final Traverser.Admin<Object> start = this.build.getTraverserGenerator().generate(object, (Step) this.build.getStartStep(), 1L);
+                start.addLabels(Collections.singleton(((MatchStartStep) this.build.getStartStep()).selectKey));
+                start.setSideEffects(traverser.getSideEffects());
+                this.build.addStart(start);
+                final Map<Object, Long> results = new LinkedHashMap<>();
+                while (this.build.hasNext()) {
+                    final Traverser.Admin<Object> result = this.build.nextTraverser();
+                    results.merge(result.get(), result.bulk(), Long::sum);
+                }
+                if (this.tableSize + results.size() <= MAX_TABLE_SIZE) {
+                    this.table.put(object, results);
+                    this.tableSize = this.tableSize + results.size();
+                }
+                return results;
+            }
+
+            public void clear() {
+                if (null != this.build) {
+                    this.build.reset();
+                    this.table.clear();
+                    this.tableSize = 0L;
+                }
+            }
+        }
+    }
 }
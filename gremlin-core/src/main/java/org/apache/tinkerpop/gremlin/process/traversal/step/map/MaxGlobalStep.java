@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.NumberAccumulator;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.util.function.ConstantSupplier;
@@ -34,6 +35,8 @@ import java.util.function.BinaryOperator;
  */
 public final class MaxGlobalStep<S extends Number> extends ReducingBarrierStep<S, S> {
 
+    private NumberAccumulator max = null;
+
     public MaxGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
         this.setSeedSupplier(new ConstantSupplier<>((S) Integer.valueOf(Integer.MIN_VALUE)));
@@ -45,6 +48,33 @@ public final class MaxGlobalStep<S extends Number> extends ReducingBarrierStep<S
         return traverser.get();
     }
 
+    @Override
+    protected S reduce(final S seed, final Traverser.Admin<S> traverser) {
+        if (null == this.max)
+            this.max = NumberAccumulator.max();
+        this.max.start(seed);
+        this.max.add(traverser.get(), traverser.bulk());
+        return seed;
+    }
+
+    @Override
+    protected S complete(final S seed) {
+        return null == this.max || this.max.isEmpty() ? seed : (S) this.max.complete();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.max = null;
+    }
+
+    @Override
+    public MaxGlobalStep<S> clone() {
+        final MaxGlobalStep<S> clone = (MaxGlobalStep<S>) super.clone();
+        clone.max = null;
+        return clone;
+    }
+
     @Override
     public Set<TraverserRequirement> getRequirements() {
         return Collections.singleton(TraverserRequirement.OBJECT);
@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.util.NumberHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.NumberAccumulator;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.util.function.MeanNumberSupplier;
@@ -42,6 +43,9 @@ public final class MeanGlobalStep<S extends Number, E extends Number> extends Re
 
     private static final Set<TraverserRequirement> REQUIREMENTS = EnumSet.of(TraverserRequirement.OBJECT, TraverserRequirement.BULK);
 
+    private NumberAccumulator sum = null;
+    private long count = 0L;
+
     public MeanGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
         this.setSeedSupplier((Supplier) MeanNumberSupplier.instance());
@@ -53,6 +57,41 @@ public final class MeanGlobalStep<S extends Number, E extends Number> extends Re
         return (E) new MeanNumber(traverser.get(), traverser.bulk());
     }
 
+    @Override
+    protected E reduce(final E seed, final Traverser.Admin<S> traverser) {
+        if (null == this.sum)
+            this.sum = NumberAccumulator.sum();
+        this.sum.start(((MeanNumber) seed).sum);
+        this.sum.add(traverser.get(), traverser.bulk());
+        this.count += traverser.bulk();
+        return seed;
+    }
+
+    @Override
+    protected E complete(final E seed) {
+        if (null != this.sum && !this.sum.isEmpty()) {
+            ((MeanNumber) seed).sum = this.sum.complete();
+            ((MeanNumber) seed).count += this.count;
+            this.count = 0L;
+        }
+        return seed;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.sum = null;
+        this.count = 0L;
+    }
+
+    @Override
+    public MeanGlobalStep<S, E> clone() {
+        final MeanGlobalStep<S, E> clone = (MeanGlobalStep<S, E>) super.clone();
+        clone.sum = null;
+        clone.count = 0L;
+        return clone;
+    }
+
     @Override
     public Set<TraverserRequirement> getRequirements() {
         return REQUIREMENTS;
@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.NumberAccumulator;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.util.function.ConstantSupplier;
@@ -34,6 +35,8 @@ import java.util.function.BinaryOperator;
  */
 public final class MinGlobalStep<S extends Number> extends ReducingBarrierStep<S, S> {
 
+    private NumberAccumulator min = null;
+
     public MinGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
         this.setSeedSupplier(new ConstantSupplier<>((S)Integer.valueOf(Integer.MAX_VALUE)));
@@ -45,6 +48,33 @@ public final class MinGlobalStep<S extends Number> extends ReducingBarrierStep<S
         return traverser.get();
     }
 
+    @Override
+    protected S reduce(final S seed, final Traverser.Admin<S> traverser) {
+        if (null == this.min)
+            this.min = NumberAccumulator.min();
+        this.min.start(seed);
+        this.min.add(traverser.get(), traverser.bulk());
+        return seed;
+    }
+
+    @Override
+    protected S complete(final S seed) {
+        return null == this.min || this.min.isEmpty() ? seed : (S) this.min.complete();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.min = null;
+    }
+
+    @Override
+    public MinGlobalStep<S> clone() {
+        final MinGlobalStep<S> clone = (MinGlobalStep<S>) super.clone();
+        clone.min = null;
+        return clone;
+    }
+
     @Override
     public Set<TraverserRequirement> getRequirements() {
         return Collections.singleton(TraverserRequirement.OBJECT);
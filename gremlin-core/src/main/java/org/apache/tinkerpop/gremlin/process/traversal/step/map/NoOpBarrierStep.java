@@ -26,7 +26,9 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemoryBudget;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracing;
 
 import java.util.Collections;
 import java.util.NoSuchElementException;
@@ -49,11 +51,23 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
         this.maxBarrierSize = maxBarrierSize;
     }
 
+    public int getMaxBarrierSize() {
+        return this.maxBarrierSize;
+    }
+
     @Override
     protected Traverser.Admin<S> processNextStart() throws NoSuchElementException {
-        if (this.barrier.isEmpty())
+        if (this.barrier.isEmpty()) {
+            final boolean traced = GremlinTracing.isEnabled();
+            final long start = traced ? System.nanoTime() : 0L;
             this.processAllStarts();
-        return this.barrier.remove();
+            if (traced && !this.barrier.isEmpty())
+                GremlinTracing.getTracer().barrierFlushed(this, this.barrier.size(), System.nanoTime() - start);
+        }
+        final Traverser.Admin<S> traverser = this.barrier.remove();
+        if (this.barrier.isEmpty())
+            TraversalMemoryBudget.release(this);
+        return traverser;
     }
 
     @Override
@@ -63,10 +77,13 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
 
     @Override
     public void processAllStarts() {
+        final TraversalMemoryBudget memoryBudget = this.starts.hasNext() ? TraversalMemoryBudget.of(this.traversal) : null;
         while (this.starts.hasNext() && (this.maxBarrierSize == Integer.MAX_VALUE || this.barrier.size() < this.maxBarrierSize)) {
             final Traverser.Admin<S> traverser = this.starts.next();
             traverser.setStepId(this.getNextStep().getId()); // when barrier is reloaded, the traversers should be at the next step
             this.barrier.add(traverser);
+            if (null != memoryBudget)
+                memoryBudget.update(this, this.barrier.size());
         }
     }
 
@@ -76,6 +93,11 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
         return !this.barrier.isEmpty();
     }
 
+    @Override
+    public long getBarrierSize() {
+        return this.barrier.size();
+    }
+
     @Override
     public TraverserSet<S> nextBarrier() throws NoSuchElementException {
         this.processAllStarts();
@@ -30,6 +30,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.util.CollectingBarrie
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.ProjectedTraverser;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemoryBudget;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.function.MultiComparator;
@@ -70,8 +71,11 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
 
     @Override
     public void processAllStarts() {
+        final TraversalMemoryBudget memoryBudget = this.starts.hasNext() ? TraversalMemoryBudget.of(this.traversal) : null;
         while (this.starts.hasNext()) {
             this.traverserSet.add(this.createProjectedTraverser(this.starts.next()));
+            if (null != memoryBudget)
+                memoryBudget.update(this, this.traverserSet.size());
         }
     }
 
@@ -20,6 +20,8 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.TraverserBatch;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.PropertyType;
@@ -33,19 +35,30 @@ import java.util.Set;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public class PropertiesStep<E> extends FlatMapStep<Element, E> implements AutoCloseable {
+public class PropertiesStep<E> extends FlatMapStep<Element, E> implements Batching<Element, E>, AutoCloseable {
 
     protected final String[] propertyKeys;
     protected final PropertyType returnType;
 
+    private int batchSize = 0;
+    private TraverserBatch<Element, E> batch = new TraverserBatch<>();
+
     public PropertiesStep(final Traversal.Admin traversal, final PropertyType propertyType, final String... propertyKeys) {
         super(traversal);
         this.returnType = propertyType;
         this.propertyKeys = propertyKeys;
     }
 
+    @Override
+    protected Traverser.Admin<Element> nextStart() {
+        return this.batchSize > 1 ? this.batch.next(this.starts, this) : super.nextStart();
+    }
+
     @Override
     protected Iterator<E> flatMap(final Traverser.Admin<Element> traverser) {
+        final Iterator<E> batchResults = this.batchSize > 1 ? this.batch.getResults(traverser.get()) : null;
+        if (null != batchResults)
+            return batchResults;
         return this.returnType.equals(PropertyType.VALUE) ?
                 traverser.get().values(this.propertyKeys) :
                 (Iterator) traverser.get().properties(this.propertyKeys);
@@ -78,6 +91,29 @@ public class PropertiesStep<E> extends FlatMapStep<Element, E> implements AutoCl
         return Collections.singleton(TraverserRequirement.OBJECT);
     }
 
+    @Override
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.batch.clear();
+    }
+
+    @Override
+    public PropertiesStep<E> clone() {
+        final PropertiesStep<E> clone = (PropertiesStep<E>) super.clone();
+        clone.batch = new TraverserBatch<>();
+        return clone;
+    }
+
     @Override
     public void close() throws Exception {
         closeIterator();
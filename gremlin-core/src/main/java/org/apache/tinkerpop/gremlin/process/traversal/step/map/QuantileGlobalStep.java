@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.TDigest;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.function.TDigestSupplier;
+import org.javatuples.Pair;
+
+import java.io.Serializable;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Estimates the value at a quantile of the numbers in the traversal stream. The numbers are folded into a
+ * {@link TDigest} so the step runs in constant memory and the digests of the workers are merged in OLAP.
+ */
+public final class QuantileGlobalStep<S extends Number, E> extends ReducingBarrierStep<S, E> {
+
+    private static final Set<TraverserRequirement> REQUIREMENTS = EnumSet.of(TraverserRequirement.OBJECT, TraverserRequirement.BULK);
+
+    private final double quantile;
+
+    public QuantileGlobalStep(final Traversal.Admin traversal, final double quantile) {
+        super(traversal);
+        if (quantile < 0.0d || quantile > 1.0d)
+            throw new IllegalArgumentException("The quantile must be between 0.0 and 1.0: " + quantile);
+        this.quantile = quantile;
+        this.setSeedSupplier((Supplier) TDigestSupplier.instance());
+        this.setReducingBiOperator(QuantileGlobalBiOperator.INSTANCE);
+    }
+
+    public double getQuantile() {
+        return this.quantile;
+    }
+
+    @Override
+    public E projectTraverser(final Traverser.Admin<S> traverser) {
+        return 1L == traverser.bulk() ?
+                (E) traverser.get() :
+                (E) Pair.with(traverser.get(), traverser.bulk());
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return REQUIREMENTS;
+    }
+
+    @Override
+    public E generateFinalResult(final E digest) {
+        return (E) Double.valueOf(((TDigest) digest).quantile(this.quantile));
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.quantile);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ Double.hashCode(this.quantile);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return super.equals(other) && ((QuantileGlobalStep) other).quantile == this.quantile;
+    }
+
+    /////
+
+    public static final class QuantileGlobalBiOperator<S> implements BinaryOperator<S>, Serializable {
+
+        private static final QuantileGlobalBiOperator INSTANCE = new QuantileGlobalBiOperator();
+
+        @Override
+        public S apply(final S mutatingSeed, final S object) {
+            final TDigest digest;
+            if (mutatingSeed instanceof TDigest)
+                digest = (TDigest) mutatingSeed;
+            else
+                digest = add(new TDigest(), mutatingSeed);
+            return (S) add(digest, object);
+        }
+
+        private static TDigest add(final TDigest digest, final Object object) {
+            if (object instanceof TDigest)
+                return digest.merge((TDigest) object);
+            else if (object instanceof Pair)
+                return digest.add(((Number) ((Pair) object).getValue0()).doubleValue(), ((Long) ((Pair) object).getValue1()).doubleValue());
+            else
+                return digest.add((Number) object);
+        }
+    }
+}
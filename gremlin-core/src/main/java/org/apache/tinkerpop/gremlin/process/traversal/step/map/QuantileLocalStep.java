@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.TDigest;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Estimates the value at a quantile of the numbers in the current {@code Iterable} object using a {@link TDigest}.
+ */
+public final class QuantileLocalStep<E extends Number, S extends Iterable<E>> extends MapStep<S, Double> {
+
+    private final double quantile;
+
+    public QuantileLocalStep(final Traversal.Admin traversal, final double quantile) {
+        super(traversal);
+        if (quantile < 0.0d || quantile > 1.0d)
+            throw new IllegalArgumentException("The quantile must be between 0.0 and 1.0: " + quantile);
+        this.quantile = quantile;
+    }
+
+    public double getQuantile() {
+        return this.quantile;
+    }
+
+    @Override
+    protected Double map(final Traverser.Admin<S> traverser) {
+        final TDigest digest = new TDigest();
+        for (final E number : traverser.get()) {
+            digest.add(number);
+        }
+        return digest.quantile(this.quantile);
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return Collections.singleton(TraverserRequirement.OBJECT);
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.quantile);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ Double.hashCode(this.quantile);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return super.equals(other) && ((QuantileLocalStep) other).quantile == this.quantile;
+    }
+}
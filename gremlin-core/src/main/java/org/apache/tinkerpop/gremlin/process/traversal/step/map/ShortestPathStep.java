@@ -0,0 +1,379 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.MutablePath;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Emits the shortest path from the incoming vertex to each target vertex (or to every reachable vertex if no target
+ * is specified). The path is found with Dijkstra's algorithm over the edges emitted by the edge traversal, which is
+ * a breadth-first search when the edges are not weighted. Edges without the distance property have a distance of
+ * {@code 1}. If the target traversal only filters on vertex ids, the targets are looked up by id and a single target
+ * is searched bidirectionally: one search runs from the source along the edge traversal and one from the target
+ * along the reversed edge traversal until the two meet. Otherwise, the target traversal is tested on each vertex the
+ * search settles, at most once per vertex. Visited vertices are keyed by their id and the path is reconstructed from
+ * parent pointers, so no path is materialized for the vertices that do not end up on the shortest path.
+ *
+ * @see org.apache.tinkerpop.gremlin.process.computer.search.path.ShortestPathVertexProgram
+ */
+public final class ShortestPathStep<S extends Vertex> extends FlatMapStep<S, Path> implements TraversalParent, ByModulating {
+
+    private Traversal.Admin<Vertex, ?> targetTraversal;
+    private Traversal.Admin<Vertex, Edge> edgeTraversal;
+    private Traversal.Admin<Vertex, Edge> reverseEdgeTraversal;
+    private String distanceKey;
+    private boolean targetsResolved = false;
+    private Map<Object, Vertex> targets;
+    private Map<Object, Boolean> targetTests = new HashMap<>();
+
+    public ShortestPathStep(final Traversal.Admin traversal, final Traversal.Admin<Vertex, ?> targetTraversal) {
+        super(traversal);
+        this.targetTraversal = null == targetTraversal ? null : this.integrateChild(targetTraversal);
+        this.modulateBy(__.<Vertex>bothE().asAdmin());
+    }
+
+    @Override
+    public void modulateBy(final Traversal.Admin<?, ?> edgeTraversal) {
+        this.edgeTraversal = this.integrateChild((Traversal.Admin<Vertex, Edge>) edgeTraversal);
+    }
+
+    @Override
+    public void modulateBy(final String distanceKey) {
+        this.distanceKey = distanceKey;
+    }
+
+    public Traversal.Admin<Vertex, ?> getTargetTraversal() {
+        return this.targetTraversal;
+    }
+
+    public Traversal.Admin<Vertex, Edge> getEdgeTraversal() {
+        return this.edgeTraversal;
+    }
+
+    public String getDistanceKey() {
+        return this.distanceKey;
+    }
+
+    @Override
+    protected Iterator<Path> flatMap(final Traverser.Admin<S> traverser) {
+        final Vertex source = traverser.get();
+        if (!this.targetsResolved) {
+            this.targets = this.lookupTargets();
+            this.targetsResolved = true;
+        }
+        if (null == this.targets)
+            return this.searchAll(source, null).iterator();
+        if (1 == this.targets.size()) {
+            final Path path = this.searchBidirectional(source, this.targets.values().iterator().next());
+            return null == path ? Collections.emptyIterator() : Collections.singleton(path).iterator();
+        }
+        return this.targets.isEmpty() ? Collections.emptyIterator() : this.searchAll(source, this.targets).iterator();
+    }
+
+    /**
+     * Looks up the target vertices by id if the target traversal only consists of id filters and the graph is
+     * available, as scanning the graph for the targets would be linear in its size. A traversal that was deserialized
+     * has no graph and an anonymous traversal has an {@link EmptyGraph}.
+     *
+     * @return the targets keyed by their id or {@code null} if the targets have to be tested during the search
+     */
+    private Map<Object, Vertex> lookupTargets() {
+        final Optional<Graph> graph = this.getTraversal().getGraph();
+        if (null == this.targetTraversal || !graph.isPresent() || graph.get() instanceof EmptyGraph)
+            return null;
+        final List<Object> ids = new ArrayList<>();
+        for (final Step<?, ?> step : this.targetTraversal.getSteps()) {
+            if (!(step instanceof HasContainerHolder))
+                return null;
+            for (final HasContainer hasContainer : ((HasContainerHolder) step).getHasContainers()) {
+                if (!hasContainer.getKey().equals(T.id.getAccessor()) ||
+                        (hasContainer.getBiPredicate() != Compare.eq && hasContainer.getBiPredicate() != Contains.within))
+                    return null;
+                // further id filters only narrow the ids of the first one down and are applied by the test below
+                if (ids.isEmpty()) {
+                    if (hasContainer.getValue() instanceof Collection)
+                        ids.addAll((Collection) hasContainer.getValue());
+                    else
+                        ids.add(hasContainer.getValue());
+                }
+            }
+        }
+        if (ids.isEmpty())
+            return null;
+        final Map<Object, Vertex> targets = new LinkedHashMap<>();
+        graph.get().vertices(ids.toArray()).forEachRemaining(vertex -> {
+            if (TraversalUtil.test(vertex, this.targetTraversal))
+                targets.put(vertex.id(), vertex);
+        });
+        return targets;
+    }
+
+    private boolean isTarget(final Vertex vertex) {
+        if (null == this.targetTraversal)
+            return true;
+        Boolean target = this.targetTests.get(vertex.id());
+        if (null == target) {
+            target = TraversalUtil.test(vertex, this.targetTraversal);
+            this.targetTests.put(vertex.id(), target);
+        }
+        return target;
+    }
+
+    /**
+     * Searches from the source until all targets are settled and returns the paths in order of their distance. If
+     * the targets are {@code null}, all reachable vertices are searched and the paths to those that pass the target
+     * traversal are returned.
+     */
+    private List<Path> searchAll(final Vertex source, final Map<Object, Vertex> targets) {
+        final List<Path> paths = new ArrayList<>();
+        final Set<Object> remaining = null == targets ? null : new HashSet<>(targets.keySet());
+        final Map<Object, Node> visited = new HashMap<>();
+        final Set<Object> settled = new HashSet<>();
+        final PriorityQueue<Node> queue = new PriorityQueue<>();
+        final Node start = new Node(source, 0.0d, null);
+        visited.put(source.id(), start);
+        queue.add(start);
+        while (!queue.isEmpty() && (null == remaining || !remaining.isEmpty())) {
+            final Node node = queue.poll();
+            if (!settled.add(node.vertex.id()))
+                continue;
+            if (null == remaining ? this.isTarget(node.vertex) : remaining.remove(node.vertex.id()))
+                paths.add(node.path());
+            this.expand(node, this.edgeTraversal, visited, settled, queue);
+        }
+        return paths;
+    }
+
+    /**
+     * Searches from the source and from the target at the same time, always expanding the side with the smaller
+     * frontier, and returns the shortest path or {@code null} if the target can not be reached.
+     */
+    private Path searchBidirectional(final Vertex source, final Vertex target) {
+        if (source.id().equals(target.id()))
+            return MutablePath.make().extend(source, Collections.emptySet());
+        if (null == this.reverseEdgeTraversal)
+            this.reverseEdgeTraversal = VertexProgramHelper.reverse(this.edgeTraversal.clone());
+        final Map<Object, Node> forward = new HashMap<>();
+        final Map<Object, Node> backward = new HashMap<>();
+        final Set<Object> forwardSettled = new HashSet<>();
+        final Set<Object> backwardSettled = new HashSet<>();
+        final PriorityQueue<Node> forwardQueue = new PriorityQueue<>();
+        final PriorityQueue<Node> backwardQueue = new PriorityQueue<>();
+        forward.put(source.id(), new Node(source, 0.0d, null));
+        backward.put(target.id(), new Node(target, 0.0d, null));
+        forwardQueue.add(forward.get(source.id()));
+        backwardQueue.add(backward.get(target.id()));
+
+        double shortest = Double.POSITIVE_INFINITY;
+        Object meeting = null;
+        while (true) {
+            final Node forwardTop = peek(forwardQueue, forwardSettled);
+            final Node backwardTop = peek(backwardQueue, backwardSettled);
+            if (null == forwardTop || null == backwardTop || forwardTop.distance + backwardTop.distance >= shortest)
+                break;
+            final boolean isForward = forwardQueue.size() <= backwardQueue.size();
+            final Node node = isForward ? forwardQueue.poll() : backwardQueue.poll();
+            (isForward ? forwardSettled : backwardSettled).add(node.vertex.id());
+            for (final Node next : this.expand(node, isForward ? this.edgeTraversal : this.reverseEdgeTraversal,
+                    isForward ? forward : backward, isForward ? forwardSettled : backwardSettled, isForward ? forwardQueue : backwardQueue)) {
+                final Node other = (isForward ? backward : forward).get(next.vertex.id());
+                if (null != other && next.distance + other.distance < shortest) {
+                    shortest = next.distance + other.distance;
+                    meeting = next.vertex.id();
+                }
+            }
+        }
+        if (null == meeting)
+            return null;
+        final Path path = forward.get(meeting).path();
+        for (Node node = backward.get(meeting).parent; null != node; node = node.parent) {
+            path.extend(node.vertex, Collections.emptySet());
+        }
+        return path;
+    }
+
+    /**
+     * Relaxes the edges of the node and returns the nodes whose distance was improved.
+     */
+    private List<Node> expand(final Node node, final Traversal.Admin<Vertex, Edge> edges, final Map<Object, Node> visited,
+                              final Set<Object> settled, final PriorityQueue<Node> queue) {
+        final List<Node> improved = new ArrayList<>();
+        final Object id = node.vertex.id();
+        final Iterator<Edge> iterator = TraversalUtil.applyAll(node.vertex, edges);
+        while (iterator.hasNext()) {
+            final Edge edge = iterator.next();
+            final Vertex adjacent = edge.outVertex().id().equals(id) ? edge.inVertex() : edge.outVertex();
+            if (settled.contains(adjacent.id()))
+                continue;
+            final double distance = node.distance + this.distance(edge);
+            final Node current = visited.get(adjacent.id());
+            if (null == current || distance < current.distance) {
+                final Node next = new Node(adjacent, distance, node);
+                visited.put(adjacent.id(), next);
+                queue.add(next);
+                improved.add(next);
+            }
+        }
+        return improved;
+    }
+
+    private double distance(final Edge edge) {
+        if (null == this.distanceKey)
+            return 1.0d;
+        final Property<Number> property = edge.property(this.distanceKey);
+        if (!property.isPresent())
+            return 1.0d;
+        final double distance = property.value().doubleValue();
+        if (distance < 0.0d)
+            throw new IllegalStateException("The shortest path can not be determined over a negative distance: " + edge + "[" + this.distanceKey + "=" + distance + "]");
+        return distance;
+    }
+
+    /**
+     * Gets the unsettled node of the smallest distance (discarding the stale entries) without removing it.
+     */
+    private static Node peek(final PriorityQueue<Node> queue, final Set<Object> settled) {
+        while (!queue.isEmpty() && settled.contains(queue.peek().vertex.id())) {
+            queue.poll();
+        }
+        return queue.peek();
+    }
+
+    @Override
+    public List<Traversal.Admin<?, ?>> getLocalChildren() {
+        final List<Traversal.Admin<?, ?>> children = new ArrayList<>();
+        if (null != this.targetTraversal)
+            children.add(this.targetTraversal);
+        children.add(this.edgeTraversal);
+        return children;
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return this.getSelfAndChildRequirements();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.targetsResolved = false;
+        this.targets = null;
+        this.targetTests.clear();
+    }
+
+    @Override
+    public ShortestPathStep<S> clone() {
+        final ShortestPathStep<S> clone = (ShortestPathStep<S>) super.clone();
+        if (null != this.targetTraversal)
+            clone.targetTraversal = this.targetTraversal.clone();
+        clone.edgeTraversal = this.edgeTraversal.clone();
+        clone.reverseEdgeTraversal = null;
+        clone.targetsResolved = false;
+        clone.targets = null;
+        clone.targetTests = new HashMap<>();
+        return clone;
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> parentTraversal) {
+        super.setTraversal(parentTraversal);
+        if (null != this.targetTraversal)
+            this.integrateChild(this.targetTraversal);
+        this.integrateChild(this.edgeTraversal);
+        this.reverseEdgeTraversal = null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode() ^ this.edgeTraversal.hashCode();
+        if (null != this.targetTraversal)
+            result ^= this.targetTraversal.hashCode();
+        if (null != this.distanceKey)
+            result ^= this.distanceKey.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.targetTraversal, this.edgeTraversal, this.distanceKey);
+    }
+
+    private static final class Node implements Comparable<Node> {
+
+        private final Vertex vertex;
+        private final double distance;
+        private final Node parent;
+
+        private Node(final Vertex vertex, final double distance, final Node parent) {
+            this.vertex = vertex;
+            this.distance = distance;
+            this.parent = parent;
+        }
+
+        private Path path() {
+            final LinkedList<Vertex> vertices = new LinkedList<>();
+            for (Node node = this; null != node; node = node.parent) {
+                vertices.addFirst(node.vertex);
+            }
+            final Path path = MutablePath.make();
+            vertices.forEach(vertex -> path.extend(vertex, Collections.emptySet()));
+            return path;
+        }
+
+        @Override
+        public int compareTo(final Node other) {
+            return Double.compare(this.distance, other.distance);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.StreamingGroupStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A {@code group().unfold()} for traversers that arrive sorted by the group key. The traversers of a group are
+ * adjacent to one another and to the traversers of the keys that the sort comparator considers equal, e.g.
+ * {@code 29} and {@code 29L} for {@link org.apache.tinkerpop.gremlin.process.traversal.Order#incr}. Such a run of
+ * keys is grouped by {@code equals()} and its entries are emitted as soon as the comparator sees a different key.
+ * Only the groups of the current run are held in memory. This step is added by {@link StreamingGroupStrategy}.
+ */
+public final class StreamingGroupStep<S, K, V> extends AbstractStep<S, Map.Entry<K, V>> implements TraversalParent {
+
+    private Traversal.Admin<S, K> keyTraversal;
+    private Traversal.Admin<S, V> valueTraversal;
+    private Barrier barrierStep;
+    private GroupStep.GroupBiOperator<K, V> groupBiOperator;
+    private Comparator<? super K> keyComparator;
+
+    private Map<K, V> groups = null;
+    private K runKey = null;
+    private Iterator<Map.Entry<K, V>> completed = Collections.emptyIterator();
+    private Traverser.Admin<S> pending = null;
+    private K pendingKey = null;
+
+    public StreamingGroupStep(final Traversal.Admin traversal, final Traversal.Admin<S, K> keyTraversal, final Traversal.Admin<S, V> valueTraversal,
+                              final Comparator<? super K> keyComparator) {
+        super(traversal);
+        this.keyComparator = keyComparator;
+        this.keyTraversal = this.integrateChild(keyTraversal);
+        this.valueTraversal = this.integrateChild(valueTraversal);
+        this.barrierStep = TraversalHelper.getFirstStepOfAssignableClass(Barrier.class, this.valueTraversal).orElse(null);
+        this.groupBiOperator = new GroupStep.GroupBiOperator<>(null == this.barrierStep ? Operator.assign : this.barrierStep.getMemoryComputeKey().getReducer());
+    }
+
+    public Traversal.Admin<S, K> getKeyTraversal() {
+        return this.keyTraversal;
+    }
+
+    public Traversal.Admin<S, V> getValueTraversal() {
+        return this.valueTraversal;
+    }
+
+    /**
+     * Gets the comparator that the traversers were sorted with, which determines where a run of keys ends.
+     */
+    public Comparator<? super K> getKeyComparator() {
+        return this.keyComparator;
+    }
+
+    @Override
+    protected Traverser.Admin<Map.Entry<K, V>> processNextStart() {
+        while (true) {
+            if (this.completed.hasNext())
+                return this.getTraversal().getTraverserGenerator().generate(this.completed.next(), (Step) this, 1L);
+            final Traverser.Admin<S> start;
+            final K key;
+            if (null != this.pending) {
+                start = this.pending;
+                key = this.pendingKey;
+                this.pending = null;
+                this.pendingKey = null;
+            } else if (this.starts.hasNext()) {
+                start = this.starts.next();
+                key = TraversalUtil.applyNullable(start, this.keyTraversal);
+            } else if (null != this.groups) {
+                this.completeGroups();
+                continue;
+            } else
+                throw FastNoSuchElementException.instance();
+
+            if (null != this.groups && !this.isSameRun(key)) {
+                // the sort placed every key of the current run before this one so its groups have seen all traversers
+                this.pending = start;
+                this.pendingKey = key;
+                this.completeGroups();
+            } else {
+                if (null == this.groups) {
+                    this.groups = new LinkedHashMap<>(1);
+                    this.runKey = key;
+                }
+                this.reduce(start, key);
+            }
+        }
+    }
+
+    private boolean isSameRun(final K key) {
+        if (null == this.runKey || null == key)
+            return Objects.equals(this.runKey, key);
+        return 0 == this.keyComparator.compare(this.runKey, key);
+    }
+
+    private void reduce(final Traverser.Admin<S> traverser, final K key) {
+        this.valueTraversal.reset();
+        this.valueTraversal.addStart(traverser);
+        if (null == this.barrierStep) {
+            if (this.valueTraversal.hasNext())
+                this.groupBiOperator.merge(this.groups, key, (V) this.valueTraversal.next());
+        } else if (this.barrierStep.hasNextBarrier())
+            this.groupBiOperator.merge(this.groups, key, (V) this.barrierStep.nextBarrier());
+    }
+
+    private void completeGroups() {
+        // a value traversal that filters all traversers of a group leaves no entry just like group() would
+        final Map<K, V> map = GroupStep.doFinalReduction((Map<K, Object>) this.groups, this.valueTraversal);
+        this.groups = null;
+        this.runKey = null;
+        this.completed = map.entrySet().iterator();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.groups = null;
+        this.runKey = null;
+        this.completed = Collections.emptyIterator();
+        this.pending = null;
+        this.pendingKey = null;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.keyTraversal, this.valueTraversal);
+    }
+
+    @Override
+    public List<Traversal.Admin<?, ?>> getLocalChildren() {
+        final List<Traversal.Admin<?, ?>> children = new ArrayList<>(2);
+        if (null != this.keyTraversal)
+            children.add(this.keyTraversal);
+        children.add(this.valueTraversal);
+        return children;
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return this.getSelfAndChildRequirements(TraverserRequirement.OBJECT, TraverserRequirement.BULK);
+    }
+
+    @Override
+    public StreamingGroupStep<S, K, V> clone() {
+        final StreamingGroupStep<S, K, V> clone = (StreamingGroupStep<S, K, V>) super.clone();
+        if (null != this.keyTraversal)
+            clone.keyTraversal = this.keyTraversal.clone();
+        clone.valueTraversal = this.valueTraversal.clone();
+        clone.barrierStep = TraversalHelper.getFirstStepOfAssignableClass(Barrier.class, clone.valueTraversal).orElse(null);
+        clone.groups = null;
+        clone.runKey = null;
+        clone.completed = Collections.emptyIterator();
+        return clone;
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> parentTraversal) {
+        super.setTraversal(parentTraversal);
+        integrateChild(this.keyTraversal);
+        integrateChild(this.valueTraversal);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        if (this.keyTraversal != null) result ^= this.keyTraversal.hashCode();
+        result ^= this.valueTraversal.hashCode();
+        return result;
+    }
+}
@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.NumberAccumulator;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.util.function.ConstantSupplier;
@@ -41,6 +42,8 @@ public final class SumGlobalStep<S extends Number> extends ReducingBarrierStep<S
             TraverserRequirement.OBJECT
     );
 
+    private NumberAccumulator sum = null;
+
     public SumGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
         this.setSeedSupplier(new ConstantSupplier<>((S) Integer.valueOf(0)));
@@ -52,6 +55,32 @@ public final class SumGlobalStep<S extends Number> extends ReducingBarrierStep<S
         return (S) mul(traverser.get(), traverser.bulk());
     }
 
+    @Override
+    protected S reduce(final S seed, final Traverser.Admin<S> traverser) {
+        if (null == this.sum)
+            this.sum = NumberAccumulator.sum();
+        this.sum.start(seed);
+        this.sum.add(traverser.get(), traverser.bulk());
+        return seed;
+    }
+
+    @Override
+    protected S complete(final S seed) {
+        return null == this.sum || this.sum.isEmpty() ? seed : (S) this.sum.complete();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.sum = null;
+    }
+
+    @Override
+    public SumGlobalStep<S> clone() {
+        final SumGlobalStep<S> clone = (SumGlobalStep<S>) super.clone();
+        clone.sum = null;
+        return clone;
+    }
 
     @Override
     public Set<TraverserRequirement> getRequirements() {
@@ -20,6 +20,8 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.TraverserBatch;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
@@ -35,12 +37,15 @@ import java.util.Set;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public class VertexStep<E extends Element> extends FlatMapStep<Vertex, E> implements AutoCloseable {
+public class VertexStep<E extends Element> extends FlatMapStep<Vertex, E> implements Batching<Vertex, E>, AutoCloseable {
 
     private final String[] edgeLabels;
     private Direction direction;
     private final Class<E> returnClass;
 
+    private int batchSize = 0;
+    private TraverserBatch<Vertex, E> batch = new TraverserBatch<>();
+
     public VertexStep(final Traversal.Admin traversal, final Class<E> returnClass, final Direction direction, final String... edgeLabels) {
         super(traversal);
         this.direction = direction;
@@ -48,8 +53,16 @@ public class VertexStep<E extends Element> extends FlatMapStep<Vertex, E> implem
         this.returnClass = returnClass;
     }
 
+    @Override
+    protected Traverser.Admin<Vertex> nextStart() {
+        return this.batchSize > 1 ? this.batch.next(this.starts, this) : super.nextStart();
+    }
+
     @Override
     protected Iterator<E> flatMap(final Traverser.Admin<Vertex> traverser) {
+        final Iterator<E> batchResults = this.batchSize > 1 ? this.batch.getResults(traverser.get()) : null;
+        if (null != batchResults)
+            return batchResults;
         return Vertex.class.isAssignableFrom(this.returnClass) ?
                 (Iterator<E>) traverser.get().vertices(this.direction, this.edgeLabels) :
                 (Iterator<E>) traverser.get().edges(this.direction, this.edgeLabels);
@@ -98,6 +111,29 @@ public class VertexStep<E extends Element> extends FlatMapStep<Vertex, E> implem
         return Collections.singleton(TraverserRequirement.OBJECT);
     }
 
+    @Override
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.batch.clear();
+    }
+
+    @Override
+    public VertexStep<E> clone() {
+        final VertexStep<E> clone = (VertexStep<E>) super.clone();
+        clone.batch = new TraverserBatch<>();
+        return clone;
+    }
+
     @Override
     public void close() throws Exception {
         closeIterator();
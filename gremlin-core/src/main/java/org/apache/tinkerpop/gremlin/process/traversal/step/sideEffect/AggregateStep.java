@@ -30,6 +30,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemoryBudget;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.function.BulkSetSupplier;
@@ -107,18 +108,29 @@ public final class AggregateStep<S> extends AbstractStep<S, S> implements SideEf
     @Override
     protected Traverser.Admin<S> processNextStart() {
         this.processAllStarts();
-        return this.barrier.remove();
+        final Traverser.Admin<S> traverser = this.barrier.remove();
+        if (this.barrier.isEmpty()) {
+            final TraversalMemoryBudget memoryBudget = TraversalMemoryBudget.of(this.traversal);
+            if (null != memoryBudget)
+                memoryBudget.update(this, TraversalMemoryBudget.sizeOf(this.getTraversal().getSideEffects().get(this.sideEffectKey)));
+        }
+        return traverser;
     }
 
     @Override
     public void processAllStarts() {
         if (this.starts.hasNext()) {
             final BulkSet<Object> bulkSet = new BulkSet<>();
+            final TraversalMemoryBudget memoryBudget = TraversalMemoryBudget.of(this.traversal);
+            // the aggregated side-effect is held for the lifetime of the traversal on top of the barrier
+            final long aggregated = null == memoryBudget ? 0L : TraversalMemoryBudget.sizeOf(this.getTraversal().getSideEffects().get(this.sideEffectKey));
             while (this.starts.hasNext()) {
                 final Traverser.Admin<S> traverser = this.starts.next();
                 bulkSet.add(TraversalUtil.applyNullable(traverser, this.aggregateTraversal), traverser.bulk());
                 traverser.setStepId(this.getNextStep().getId()); // when barrier is reloaded, the traversers should be at the next step
                 this.barrier.add(traverser);
+                if (null != memoryBudget)
+                    memoryBudget.update(this, aggregated + bulkSet.uniqueSize() + this.barrier.size());
             }
             this.getTraversal().getSideEffects().add(this.sideEffectKey, bulkSet);
         }
@@ -130,6 +142,11 @@ public final class AggregateStep<S> extends AbstractStep<S, S> implements SideEf
         return !this.barrier.isEmpty();
     }
 
+    @Override
+    public long getBarrierSize() {
+        return this.barrier.size();
+    }
+
     @Override
     public TraverserSet<S> nextBarrier() throws NoSuchElementException {
         this.processAllStarts();
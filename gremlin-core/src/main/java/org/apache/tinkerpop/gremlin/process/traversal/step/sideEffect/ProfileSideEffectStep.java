@@ -23,7 +23,10 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.GraphComputing;
 import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ProfileStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalMetrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.ProfileSampler;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.util.function.DefaultTraversalMetricsSupplier;
 
@@ -32,11 +35,12 @@ import java.util.function.Supplier;
 /**
  * @author Bob Briody (http://bobbriody.com)
  */
-public final class ProfileSideEffectStep<S> extends SideEffectStep<S> implements SideEffectCapable<DefaultTraversalMetrics, DefaultTraversalMetrics>, GraphComputing {
+public final class ProfileSideEffectStep<S> extends SideEffectStep<S> implements SideEffectCapable<DefaultTraversalMetrics, DefaultTraversalMetrics>, GraphComputing, AutoCloseable {
     public static final String DEFAULT_METRICS_KEY = Graph.Hidden.hide("metrics");
 
     private String sideEffectKey;
     private boolean onGraphComputer = false;
+    private transient ProfileSampler sampler = null;
 
     public ProfileSideEffectStep(final Traversal.Admin traversal, final String sideEffectKey) {
         super(traversal);
@@ -62,19 +66,39 @@ public final class ProfileSideEffectStep<S> extends SideEffectStep<S> implements
         } finally {
             if (!this.onGraphComputer && start == null) {
                 final DefaultTraversalMetrics m = getTraversalMetricsFromSideEffects();
-                if (!m.isFinalized()) m.setMetrics(this.getTraversal(), false);
+                if (!m.isFinalized()) this.finalizeMetrics(m);
             }
         }
     }
 
     @Override
     public boolean hasNext() {
-        boolean start = super.hasNext();
-        if (!this.onGraphComputer && !start) {
-            final DefaultTraversalMetrics m = getTraversalMetricsFromSideEffects();
-            if (!m.isFinalized()) m.setMetrics(this.getTraversal(), false);
+        boolean start = false;
+        try {
+            start = super.hasNext();
+            return start;
+        } finally {
+            if (!this.onGraphComputer && !start) {
+                final DefaultTraversalMetrics m = getTraversalMetricsFromSideEffects();
+                if (!m.isFinalized()) this.finalizeMetrics(m);
+            }
         }
-        return start;
+    }
+
+    /**
+     * Gets the sampler that is shared by all the {@link ProfileStep} instances of the traversal which are in the
+     * {@link ProfileStrategy.Mode#SAMPLING} mode.
+     */
+    public synchronized ProfileSampler getSampler(final long sampleInterval) {
+        if (null == this.sampler)
+            this.sampler = new ProfileSampler(sampleInterval);
+        return this.sampler;
+    }
+
+    private void finalizeMetrics(final DefaultTraversalMetrics m) {
+        if (null != this.sampler)
+            this.sampler.stop();
+        m.setMetrics(this.getTraversal(), false);
     }
 
     private DefaultTraversalMetrics getTraversalMetricsFromSideEffects() {
@@ -88,6 +112,26 @@ public final class ProfileSideEffectStep<S> extends SideEffectStep<S> implements
         return tm;
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        if (null != this.sampler)
+            this.sampler.cancel();
+    }
+
+    @Override
+    public void close() {
+        if (null != this.sampler)
+            this.sampler.cancel();
+    }
+
+    @Override
+    public ProfileSideEffectStep<S> clone() {
+        final ProfileSideEffectStep<S> clone = (ProfileSideEffectStep<S>) super.clone();
+        clone.sampler = null;
+        return clone;
+    }
+
     @Override
     public void onGraphComputer() {
         onGraphComputer = true;
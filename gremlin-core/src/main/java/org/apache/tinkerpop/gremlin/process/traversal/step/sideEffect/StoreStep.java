@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemoryBudget;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.function.BulkSetSupplier;
@@ -43,6 +44,8 @@ public final class StoreStep<S> extends SideEffectStep<S> implements SideEffectC
 
     private Traversal.Admin<S, Object> storeTraversal = null;
     private String sideEffectKey;
+    private transient TraversalMemoryBudget memoryBudget = null;
+    private transient boolean memoryBudgetResolved = false;
 
     public StoreStep(final Traversal.Admin traversal, final String sideEffectKey) {
         super(traversal);
@@ -55,6 +58,17 @@ public final class StoreStep<S> extends SideEffectStep<S> implements SideEffectC
         final BulkSet<Object> bulkSet = new BulkSet<>();
         bulkSet.add(TraversalUtil.applyNullable(traverser, this.storeTraversal), traverser.bulk());
         this.getTraversal().getSideEffects().add(this.sideEffectKey, bulkSet);
+        final TraversalMemoryBudget memoryBudget = this.getMemoryBudget();
+        if (null != memoryBudget)
+            memoryBudget.update(this, TraversalMemoryBudget.sizeOf(this.getTraversal().getSideEffects().get(this.sideEffectKey)));
+    }
+
+    private TraversalMemoryBudget getMemoryBudget() {
+        if (!this.memoryBudgetResolved) {
+            this.memoryBudget = TraversalMemoryBudget.of(this.traversal);
+            this.memoryBudgetResolved = true;
+        }
+        return this.memoryBudget;
     }
 
     @Override
@@ -85,6 +99,8 @@ public final class StoreStep<S> extends SideEffectStep<S> implements SideEffectC
     @Override
     public StoreStep<S> clone() {
         final StoreStep<S> clone = (StoreStep<S>) super.clone();
+        clone.memoryBudget = null;
+        clone.memoryBudgetResolved = false;
         if (null != this.storeTraversal)
             clone.storeTraversal = this.storeTraversal.clone();
         return clone;
@@ -38,6 +38,11 @@ import java.util.Set;
 public abstract class AbstractStep<S, E> implements Step<S, E> {
 
     protected Set<String> labels = new LinkedHashSet<>();
+    /**
+     * The labels of the step compiled by {@link LabelBitSet#compile(Traversal.Admin)} which is reset whenever the
+     * labels of the step change.
+     */
+    Set<String> compiledLabels = null;
     protected String id = Traverser.Admin.HALT;
     protected Traversal.Admin traversal;
     protected ExpandableStepIterator<S> starts;
@@ -66,16 +71,18 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
     @Override
     public void addLabel(final String label) {
         this.labels.add(label);
+        this.compiledLabels = null;
     }
 
     @Override
     public void removeLabel(final String label) {
         this.labels.remove(label);
+        this.compiledLabels = null;
     }
 
     @Override
     public Set<String> getLabels() {
-        return Collections.unmodifiableSet(this.labels);
+        return null != this.compiledLabels ? this.compiledLabels : Collections.unmodifiableSet(this.labels);
     }
 
     @Override
@@ -204,7 +211,7 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
     private final Traverser.Admin<E> prepareTraversalForNextStep(final Traverser.Admin<E> traverser) {
         if (!this.traverserStepIdAndLabelsSetByChild) {
             traverser.setStepId(this.nextStep.getId());
-            traverser.addLabels(this.labels);
+            traverser.addLabels(this.getLabels());
         }
         return traverser;
     }
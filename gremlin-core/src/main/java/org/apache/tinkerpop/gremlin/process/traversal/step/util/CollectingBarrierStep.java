@@ -27,9 +27,11 @@ import org.apache.tinkerpop.gremlin.process.traversal.traverser.ProjectedTravers
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemoryBudget;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracing;
 
 import java.util.Collections;
 import java.util.NoSuchElementException;
@@ -64,11 +66,14 @@ public abstract class CollectingBarrierStep<S> extends AbstractStep<S, S> implem
     @Override
     public void processAllStarts() {
         if (this.starts.hasNext()) {
-            if (Integer.MAX_VALUE == this.maxBarrierSize) {
+            final TraversalMemoryBudget memoryBudget = TraversalMemoryBudget.of(this.traversal);
+            if (Integer.MAX_VALUE == this.maxBarrierSize && null == memoryBudget) {
                 this.starts.forEachRemaining(this.traverserSet::add);
             } else {
                 while (this.starts.hasNext() && this.traverserSet.size() < this.maxBarrierSize) {
                     this.traverserSet.add(this.starts.next());
+                    if (null != memoryBudget)
+                        memoryBudget.update(this, this.traverserSet.size());
                 }
             }
         }
@@ -80,6 +85,11 @@ public abstract class CollectingBarrierStep<S> extends AbstractStep<S, S> implem
         return !this.traverserSet.isEmpty();
     }
 
+    @Override
+    public long getBarrierSize() {
+        return this.traverserSet.size();
+    }
+
     @Override
     public TraverserSet<S> nextBarrier() throws NoSuchElementException {
         this.processAllStarts();
@@ -104,6 +114,8 @@ public abstract class CollectingBarrierStep<S> extends AbstractStep<S, S> implem
 
     @Override
     public Traverser.Admin<S> processNextStart() {
+        final boolean traced = GremlinTracing.isEnabled();
+        final long start = traced ? System.nanoTime() : 0L;
         if (this.traverserSet.isEmpty() && this.starts.hasNext()) {
             this.processAllStarts();
             this.barrierConsumed = false;
@@ -112,8 +124,13 @@ public abstract class CollectingBarrierStep<S> extends AbstractStep<S, S> implem
         if (!this.barrierConsumed) {
             this.barrierConsumer(this.traverserSet);
             this.barrierConsumed = true;
+            if (traced)
+                GremlinTracing.getTracer().barrierFlushed(this, this.getBarrierSize(), System.nanoTime() - start);
         }
-        return ProjectedTraverser.tryUnwrap(this.traverserSet.remove());
+        final Traverser.Admin<S> traverser = this.traverserSet.remove();
+        if (this.traverserSet.isEmpty())
+            TraversalMemoryBudget.release(this);
+        return ProjectedTraverser.tryUnwrap(traverser);
     }
 
     @Override
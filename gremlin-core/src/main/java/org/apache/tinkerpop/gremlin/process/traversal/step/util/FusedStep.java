@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.FlatMapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.structure.util.CloseableIterator;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * FusedStep evaluates a linear chain of {@link MapStep}, {@link FilterStep} and {@link FlatMapStep} steps in a single
+ * loop. A traverser is pushed through the whole chain before the next one is pulled, so the chain costs one
+ * {@link ExpandableStepIterator} and one {@code hasNext()}/{@code next()} handshake instead of one per step and the
+ * {@code map()}/{@code filter()}/{@code flatMap()} calls of the fused steps are made from one call site. The
+ * traversers are still split by the step that produced them, so paths, sacks and bulks are the same as if the steps
+ * were executed one by one. The results of a {@link FlatMapStep} are consumed depth-first, which preserves the order of
+ * the unfused chain. This step is not part of the Gremlin language and is only inserted by {@code StepFusionStrategy}.
+ */
+public final class FusedStep<S, E> extends AbstractStep<S, E> implements AutoCloseable {
+
+    private List<Step<?, ?>> fusedSteps;
+    private Step<?, ?>[] chain;
+    private Traverser.Admin<?>[] heads;
+    private Iterator<?>[] iterators;
+
+    public FusedStep(final Traversal.Admin traversal, final List<Step<?, ?>> fusedSteps) {
+        super(traversal);
+        if (fusedSteps.isEmpty())
+            throw new IllegalArgumentException("A fused step requires at least one step");
+        for (final Step<?, ?> step : fusedSteps) {
+            if (!(step instanceof MapStep || step instanceof FilterStep || step instanceof FlatMapStep))
+                throw new IllegalArgumentException("Only map, filter and flatMap steps can be fused: " + step);
+        }
+        this.fusedSteps = new ArrayList<>(fusedSteps);
+        this.initializeChain();
+    }
+
+    private void initializeChain() {
+        this.chain = this.fusedSteps.toArray(new Step<?, ?>[this.fusedSteps.size()]);
+        this.heads = new Traverser.Admin<?>[this.chain.length];
+        this.iterators = new Iterator<?>[this.chain.length];
+    }
+
+    public List<Step<?, ?>> getFusedSteps() {
+        return Collections.unmodifiableList(this.fusedSteps);
+    }
+
+    @Override
+    protected Traverser.Admin<E> processNextStart() throws NoSuchElementException {
+        while (true) {
+            // resume the deepest flatMap() that has results left before pulling a new traverser
+            int depth = this.chain.length - 1;
+            while (depth >= 0 && !this.hasNextResult(depth)) {
+                depth--;
+            }
+            final Traverser.Admin<E> traverser;
+            if (depth < 0)
+                traverser = this.evaluate((Traverser.Admin) this.starts.next(), 0);
+            else {
+                final Traverser.Admin split = this.heads[depth].split(this.iterators[depth].next(), (Step) this.chain[depth]);
+                traverser = isLive(split) ? this.evaluate(split, depth + 1) : null;
+            }
+            if (null != traverser)
+                return traverser;
+        }
+    }
+
+    private boolean hasNextResult(final int index) {
+        final Iterator<?> iterator = this.iterators[index];
+        if (null == iterator)
+            return false;
+        if (iterator.hasNext())
+            return true;
+        CloseableIterator.closeIterator(iterator);
+        this.iterators[index] = null;
+        this.heads[index] = null;
+        return false;
+    }
+
+    /**
+     * Pushes a traverser through the chain starting at the specified index and returns {@code null} if the traverser
+     * was filtered (or flat mapped to nothing) along the way.
+     */
+    private Traverser.Admin<E> evaluate(Traverser.Admin traverser, final int from) {
+        for (int i = from; i < this.chain.length; i++) {
+            final Step step = this.chain[i];
+            if (step instanceof MapStep)
+                traverser = traverser.split(((MapStep) step).mapTraverser(traverser), step);
+            else if (step instanceof FilterStep) {
+                if (!((FilterStep) step).filterTraverser(traverser))
+                    return null;
+            } else {
+                final Iterator iterator = ((FlatMapStep) step).flatMapTraverser(traverser);
+                if (!iterator.hasNext()) {
+                    CloseableIterator.closeIterator(iterator);
+                    return null;
+                }
+                this.heads[i] = traverser;
+                this.iterators[i] = iterator;
+                traverser = traverser.split(iterator.next(), step);
+            }
+            if (!isLive(traverser))
+                return null;
+        }
+        return traverser;
+    }
+
+    /**
+     * A traverser that would not leave an {@link AbstractStep} (i.e. a {@code null} object or a zero bulk) is dropped
+     * between the fused steps as well.
+     */
+    private static boolean isLive(final Traverser.Admin<?> traverser) {
+        return null != traverser.get() && 0 != traverser.bulk();
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        final Set<TraverserRequirement> requirements = EnumSet.noneOf(TraverserRequirement.class);
+        for (final Step<?, ?> step : this.fusedSteps) {
+            requirements.addAll(step.getRequirements());
+        }
+        return requirements;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.closeIterators();
+        this.fusedSteps.forEach(Step::reset);
+    }
+
+    /**
+     * Closes the open {@link FlatMapStep} results of the chain as well as the fused steps that hold resources, as
+     * {@link Traversal#close()} only closes the steps of a traversal and the fused steps are no longer among them.
+     */
+    @Override
+    public void close() throws Exception {
+        this.closeIterators();
+        for (final Step<?, ?> step : this.fusedSteps) {
+            if (step instanceof AutoCloseable)
+                ((AutoCloseable) step).close();
+        }
+    }
+
+    private void closeIterators() {
+        for (int i = 0; i < this.chain.length; i++) {
+            CloseableIterator.closeIterator(this.iterators[i]);
+            this.iterators[i] = null;
+            this.heads[i] = null;
+        }
+    }
+
+    @Override
+    public FusedStep<S, E> clone() {
+        final FusedStep<S, E> clone = (FusedStep<S, E>) super.clone();
+        clone.fusedSteps = new ArrayList<>(this.fusedSteps.size());
+        for (final Step<?, ?> step : this.fusedSteps) {
+            clone.fusedSteps.add(step.clone());
+        }
+        clone.initializeChain();
+        return clone;
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> traversal) {
+        super.setTraversal(traversal);
+        for (final Step<?, ?> step : this.fusedSteps) {
+            step.setTraversal(traversal);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.fusedSteps);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ this.fusedSteps.hashCode();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog is a fixed-size, mergeable sketch that estimates the number of distinct objects it has seen. Objects are
+ * hashed to 64 bits and only the hash is retained, so the memory footprint is {@code 2^precision} bytes regardless of
+ * how many objects are added. The relative standard error of the estimate is roughly {@code 1.04 / sqrt(2^precision)}
+ * which is about 0.8% for the default precision of 14. Two sketches of the same precision can be merged without loss
+ * which makes the sketch suitable as the seed of a {@link ReducingBarrierStep} in OLAP.
+ * <p/>
+ * The estimate is computed with the improved estimator of Ertl ("New cardinality estimation algorithms for
+ * HyperLogLog sketches", 2017) which is unbiased over the full cardinality range and requires no empirical
+ * bias-correction tables.
+ */
+public final class HyperLogLog implements Serializable {
+
+    public static final int DEFAULT_PRECISION = 14;
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+
+    private int precision;
+    private byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(final int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION)
+            throw new IllegalArgumentException("The precision must be between " + MIN_PRECISION + " and " + MAX_PRECISION + ": " + precision);
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public int getPrecision() {
+        return this.precision;
+    }
+
+    public HyperLogLog add(final Object object) {
+        return this.addHash(hash(object));
+    }
+
+    public HyperLogLog addHash(final long hash) {
+        final int index = (int) (hash >>> (Long.SIZE - this.precision));
+        // a sentinel bit bounds the rank by 64 - precision + 1 when the remaining bits are all zero
+        final byte rank = (byte) (Long.numberOfLeadingZeros((hash << this.precision) | (1L << (this.precision - 1))) + 1);
+        if (rank > this.registers[index])
+            this.registers[index] = rank;
+        return this;
+    }
+
+    public HyperLogLog merge(final HyperLogLog other) {
+        if (this.precision != other.precision)
+            throw new IllegalArgumentException("HyperLogLog sketches of different precision can not be merged: " + this.precision + " != " + other.precision);
+        for (int i = 0; i < this.registers.length; i++) {
+            if (other.registers[i] > this.registers[i])
+                this.registers[i] = other.registers[i];
+        }
+        return this;
+    }
+
+    public long cardinality() {
+        final int m = this.registers.length;
+        final int q = Long.SIZE - this.precision;
+        final int[] histogram = new int[q + 2];
+        for (final byte register : this.registers) {
+            histogram[register]++;
+        }
+        double z = m * tau(1.0d - (double) histogram[q + 1] / m);
+        for (int k = q; k >= 1; k--) {
+            z = 0.5d * (z + histogram[k]);
+        }
+        z = z + m * sigma((double) histogram[0] / m);
+        return Math.round(m / (2.0d * Math.log(2.0d)) * m / z);
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        return object instanceof HyperLogLog &&
+                this.precision == ((HyperLogLog) object).precision &&
+                Arrays.equals(this.registers, ((HyperLogLog) object).registers);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.precision ^ Arrays.hashCode(this.registers);
+    }
+
+    @Override
+    public String toString() {
+        return "hll[" + this.precision + "]~" + this.cardinality();
+    }
+
+    /**
+     * Computes a well-mixed 64-bit hash of an object. {@link Element} objects are hashed by their id and integral
+     * numbers by their value so that equal ids from different element instances (e.g. detached and attached) land
+     * on the same hash.
+     */
+    public static long hash(final Object object) {
+        if (null == object)
+            return mix(0L);
+        else if (object instanceof Element)
+            return hash(((Element) object).id());
+        else if (object instanceof Long || object instanceof Integer || object instanceof Short || object instanceof Byte)
+            return mix(((Number) object).longValue());
+        else if (object instanceof Double || object instanceof Float)
+            return mix(Double.doubleToLongBits(((Number) object).doubleValue()));
+        else if (object instanceof CharSequence) {
+            final CharSequence sequence = (CharSequence) object;
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < sequence.length(); i++) {
+                h ^= sequence.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            return mix(h);
+        } else
+            return mix(object.hashCode());
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static double sigma(double x) {
+        if (x == 1.0d)
+            return Double.POSITIVE_INFINITY;
+        double y = 1.0d;
+        double z = x;
+        double previous;
+        do {
+            x = x * x;
+            previous = z;
+            z = z + x * y;
+            y = y + y;
+        } while (previous != z);
+        return z;
+    }
+
+    private static double tau(double x) {
+        if (x == 0.0d || x == 1.0d)
+            return 0.0d;
+        double y = 1.0d;
+        double z = 1.0d - x;
+        double previous;
+        do {
+            x = Math.sqrt(x);
+            previous = z;
+            y = y * 0.5d;
+            z = z - Math.pow(1.0d - x, 2) * y;
+        } while (previous != z);
+        return z / 3.0d;
+    }
+}
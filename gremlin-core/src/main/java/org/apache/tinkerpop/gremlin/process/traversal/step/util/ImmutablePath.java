@@ -25,11 +25,17 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
 /**
+ * A {@link Path} of immutable path sections where each section points to the section prior to it. Extending the path
+ * creates a single new section, so the traversers that split from one another share the sections of their common
+ * prefix and the paths of all traversers form a tree. Retracting labels only rebuilds the sections from the oldest
+ * section that loses a label onwards and reuses the label sets of the sections that are not affected. The label sets
+ * of the sections are usually {@link LabelBitSet}s shared with the steps of a compiled traversal in which case label
+ * lookups are resolved to a bit once per walk and tested against each section without hashing the label.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class ImmutablePath implements Path, Serializable, Cloneable {
@@ -90,12 +96,8 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
     public Path extend(final Set<String> labels) {
         if (labels.isEmpty() || this.currentLabels.containsAll(labels))
             return this;
-        else {
-            final Set<String> newLabels = new LinkedHashSet<>();
-            newLabels.addAll(this.currentLabels);
-            newLabels.addAll(labels);
-            return new ImmutablePath(this.previousPath, this.currentObject, newLabels);
-        }
+        else
+            return new ImmutablePath(this.previousPath, this.currentObject, LabelBitSet.union(this.currentLabels, labels));
     }
 
     @Override
@@ -103,22 +105,34 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
         if (labels.isEmpty())
             return this;
 
-        // get all the immutable path sections
+        // get the path sections up to the oldest one that changes as the sections prior to it can be shared as is
+        final LabelBitSet.Matcher matcher = new LabelBitSet.Matcher(labels);
         final List<ImmutablePath> immutablePaths = new ArrayList<>();
+        int changed = -1;
         ImmutablePath currentPath = this;
         while (true) {
             if (currentPath.isTail())
                 break;
-            immutablePaths.add(0, currentPath);
+            immutablePaths.add(currentPath);
+            if (currentPath.currentLabels.isEmpty() || matcher.matches(currentPath.currentLabels))
+                changed = immutablePaths.size() - 1;
             currentPath = currentPath.previousPath;
         }
-        // build a new immutable path using the respective path sections that are not to be retracted
-        Path newPath = TAIL_PATH;
-        for (final ImmutablePath immutablePath : immutablePaths) {
-            final Set<String> temp = new LinkedHashSet<>(immutablePath.currentLabels);
-            temp.removeAll(labels);
-            if (!temp.isEmpty())
-                newPath = newPath.extend(immutablePath.currentObject, temp);
+        if (-1 == changed)
+            return this;
+        // build the changed sections on top of the shared sections (reusing the label sets that are not retracted)
+        ImmutablePath newPath = immutablePaths.get(changed).previousPath;
+        for (int i = changed; i >= 0; i--) {
+            final ImmutablePath immutablePath = immutablePaths.get(i);
+            if (immutablePath.currentLabels.isEmpty())
+                continue;
+            if (!matcher.matches(immutablePath.currentLabels))
+                newPath = new ImmutablePath(newPath, immutablePath.currentObject, immutablePath.currentLabels);
+            else {
+                final Set<String> temp = matcher.removeFrom(immutablePath.currentLabels);
+                if (!temp.isEmpty())
+                    newPath = new ImmutablePath(newPath, immutablePath.currentObject, temp);
+            }
         }
         return newPath;
     }
@@ -138,14 +152,16 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
     public <A> A get(final Pop pop, final String label) {
         if (Pop.mixed == pop) {
             return this.get(label);
-        } else if (Pop.all == pop) {
+        }
+        final LabelBitSet.Matcher matcher = new LabelBitSet.Matcher(label);
+        if (Pop.all == pop) {
             // Recursively build the list to avoid building objects/labels collections.
             final List<Object> list = new ArrayList<>();
             ImmutablePath currentPath = this;
             while (true) {
                 if (currentPath.isTail())
                     break;
-                else if (currentPath.currentLabels.contains(label))
+                else if (matcher.matches(currentPath.currentLabels))
                     list.add(0, currentPath.currentObject);
                 currentPath = currentPath.previousPath;
             }
@@ -155,7 +171,7 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
             while (true) {
                 if (currentPath.isTail())
                     throw Path.Exceptions.stepWithProvidedLabelDoesNotExist(label);
-                else if (currentPath.currentLabels.contains(label))
+                else if (matcher.matches(currentPath.currentLabels))
                     return (A) currentPath.currentObject;
                 else
                     currentPath = currentPath.previousPath;
@@ -166,7 +182,7 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
             while (true) {
                 if (currentPath.isTail())
                     break;
-                else if (currentPath.currentLabels.contains(label))
+                else if (matcher.matches(currentPath.currentLabels))
                     found = (A) currentPath.currentObject;
                 currentPath = currentPath.previousPath;
             }
@@ -178,11 +194,12 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
 
     @Override
     public boolean hasLabel(final String label) {
+        final LabelBitSet.Matcher matcher = new LabelBitSet.Matcher(label);
         ImmutablePath currentPath = this;
         while (true) {
             if (currentPath.isTail())
                 return false;
-            else if (currentPath.currentLabels.contains(label))
+            else if (matcher.matches(currentPath.currentLabels))
                 return true;
             else
                 currentPath = currentPath.previousPath;
@@ -222,26 +239,38 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
 
     @Override
     public int hashCode() {
-        // hashCode algorithm from AbstractList
-        int[] hashCodes = new int[this.size()];
-        int index = hashCodes.length - 1;
+        // hashCode algorithm from AbstractList computed from the head to the tail (i.e. sum of hash * 31^position)
+        int hashCode = 0;
+        int multiplier = 1;
         ImmutablePath currentPath = this;
         while (true) {
             if (currentPath.isTail())
                 break;
-            hashCodes[index] = currentPath.currentObject.hashCode();
+            hashCode = hashCode + multiplier * currentPath.currentObject.hashCode();
+            multiplier = multiplier * 31;
             currentPath = currentPath.previousPath;
-            index--;
-        }
-        int hashCode = 1;
-        for (final int hash : hashCodes) {
-            hashCode = hashCode * 31 + hash;
         }
-        return hashCode;
+        return hashCode + multiplier;
     }
 
     @Override
     public boolean equals(final Object other) {
+        if (other instanceof ImmutablePath) {
+            // walk both paths from the head and stop at the first path section that they share
+            ImmutablePath currentPath = this;
+            ImmutablePath otherPath = (ImmutablePath) other;
+            while (true) {
+                if (currentPath == otherPath)
+                    return true;
+                else if (currentPath.isTail() || otherPath.isTail())
+                    return currentPath.isTail() && otherPath.isTail();
+                else if (!currentPath.currentObject.equals(otherPath.currentObject) ||
+                        !currentPath.currentLabels.equals(otherPath.currentLabels))
+                    return false;
+                currentPath = currentPath.previousPath;
+                otherPath = otherPath.previousPath;
+            }
+        }
         if (!(other instanceof Path))
             return false;
         final Path otherPath = (Path) other;
@@ -0,0 +1,321 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable set of step labels that is encoded as a bitset over the label {@link Index} of a compiled traversal.
+ * Once the strategies of a traversal are applied its label universe is known, so every label is assigned a small
+ * integer id and the labels of a step are compiled to a {@code long} with one bit per label. Path sections share
+ * the compiled label sets of the steps that created them, which allows {@link ImmutablePath} to answer label lookups,
+ * retractions and equality checks with bit operations instead of string hashing. Traversals with more than
+ * {@link Index#MAX_LABELS} distinct labels are not compiled and use plain sets of labels.
+ */
+public final class LabelBitSet extends AbstractSet<String> implements Serializable {
+
+    private final Index index;
+    private final long bits;
+    private final String[] labels;
+    private final int hashCode;
+
+    private LabelBitSet(final Index index, final long bits, final String[] labels) {
+        this.index = index;
+        this.bits = bits;
+        this.labels = labels;
+        int hashCode = 0;
+        for (final String label : labels) {
+            hashCode = hashCode + label.hashCode();
+        }
+        this.hashCode = hashCode;
+    }
+
+    public Index getIndex() {
+        return this.index;
+    }
+
+    public long getBits() {
+        return this.bits;
+    }
+
+    @Override
+    public int size() {
+        return this.labels.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == this.labels.length;
+    }
+
+    @Override
+    public boolean contains(final Object object) {
+        // step label sets are tiny so a scan is cheaper than hashing the label
+        for (final String label : this.labels) {
+            if (label == object || label.equals(object))
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean containsAll(final Collection<?> collection) {
+        return isCompiled(this.index, collection) ?
+                (((LabelBitSet) collection).bits & ~this.bits) == 0L :
+                super.containsAll(collection);
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return Collections.unmodifiableList(Arrays.asList(this.labels)).iterator();
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object)
+            return true;
+        return isCompiled(this.index, object) ?
+                this.bits == ((LabelBitSet) object).bits :
+                super.equals(object);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    /**
+     * Creates a copy of this set without the labels of the specified bits.
+     */
+    public LabelBitSet without(final long bits) {
+        if ((this.bits & bits) == 0L)
+            return this;
+        final List<String> remaining = new ArrayList<>(this.labels.length);
+        for (final String label : this.labels) {
+            if ((this.index.bitOf(label) & bits) == 0L)
+                remaining.add(label);
+        }
+        return new LabelBitSet(this.index, this.bits & ~bits, remaining.toArray(new String[remaining.size()]));
+    }
+
+    /**
+     * Creates the union of two sets of labels preserving the iteration order of the first set followed by the new
+     * labels of the second set. The union is a {@code LabelBitSet} if both sets are compiled against the same index.
+     */
+    public static Set<String> union(final Set<String> labels, final Set<String> otherLabels) {
+        if (labels instanceof LabelBitSet && isCompiled(((LabelBitSet) labels).index, otherLabels)) {
+            final LabelBitSet first = (LabelBitSet) labels;
+            final LabelBitSet second = (LabelBitSet) otherLabels;
+            final List<String> union = new ArrayList<>(first.labels.length + second.labels.length);
+            union.addAll(Arrays.asList(first.labels));
+            for (final String label : second.labels) {
+                if ((first.index.bitOf(label) & first.bits) == 0L)
+                    union.add(label);
+            }
+            return new LabelBitSet(first.index, first.bits | second.bits, union.toArray(new String[union.size()]));
+        }
+        final Set<String> union = new LinkedHashSet<>(labels);
+        union.addAll(otherLabels);
+        return union;
+    }
+
+    private static boolean isCompiled(final Index index, final Object object) {
+        return object instanceof LabelBitSet && ((LabelBitSet) object).index == index;
+    }
+
+    /**
+     * Compiles the labels of all the steps of the traversal and its nested child traversals against a single label
+     * index. Steps that are labeled afterwards simply fall back to a plain set of labels.
+     */
+    public static void compile(final Traversal.Admin<?, ?> traversal) {
+        final Map<String, Long> ids = new HashMap<>();
+        final List<String> labels = new ArrayList<>();
+        if (!collectLabels(traversal, ids, labels))
+            return;
+        final Index index = new Index(ids, labels.toArray(new String[labels.size()]));
+        compileLabels(traversal, index);
+    }
+
+    private static boolean collectLabels(final Traversal.Admin<?, ?> traversal, final Map<String, Long> ids, final List<String> labels) {
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            for (final String label : step.getLabels()) {
+                if (!ids.containsKey(label)) {
+                    if (labels.size() == Index.MAX_LABELS)
+                        return false;
+                    ids.put(label, 1L << labels.size());
+                    labels.add(label);
+                }
+            }
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> globalChild : ((TraversalParent) step).getGlobalChildren()) {
+                    if (!collectLabels(globalChild, ids, labels))
+                        return false;
+                }
+                for (final Traversal.Admin<?, ?> localChild : ((TraversalParent) step).getLocalChildren()) {
+                    if (!collectLabels(localChild, ids, labels))
+                        return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void compileLabels(final Traversal.Admin<?, ?> traversal, final Index index) {
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof AbstractStep)
+                ((AbstractStep) step).compiledLabels = index.of(((AbstractStep) step).labels);
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> globalChild : ((TraversalParent) step).getGlobalChildren()) {
+                    compileLabels(globalChild, index);
+                }
+                for (final Traversal.Admin<?, ?> localChild : ((TraversalParent) step).getLocalChildren()) {
+                    compileLabels(localChild, index);
+                }
+            }
+        }
+    }
+
+    /**
+     * The label universe of a compiled traversal where each label is assigned a single bit.
+     */
+    public static final class Index implements Serializable {
+
+        public static final int MAX_LABELS = Long.SIZE;
+
+        private final Map<String, Long> ids;
+        private final String[] labels;
+
+        private Index(final Map<String, Long> ids, final String[] labels) {
+            this.ids = ids;
+            this.labels = labels;
+        }
+
+        /**
+         * Gets the bit of the label or {@code 0} if the label is not part of the index.
+         */
+        public long bitOf(final String label) {
+            final Long bit = this.ids.get(label);
+            return null == bit ? 0L : bit;
+        }
+
+        /**
+         * Gets the bits of the labels ignoring the labels that are not part of the index.
+         */
+        public long bitsOf(final Collection<String> labels) {
+            long bits = 0L;
+            for (final String label : labels) {
+                bits = bits | this.bitOf(label);
+            }
+            return bits;
+        }
+
+        /**
+         * Compiles the set of labels against this index or returns {@code null} if any label is not part of the index.
+         */
+        public Set<String> of(final Set<String> labels) {
+            if (labels.isEmpty())
+                return Collections.emptySet();
+            long bits = 0L;
+            for (final String label : labels) {
+                final long bit = this.bitOf(label);
+                if (0L == bit)
+                    return null;
+                bits = bits | bit;
+            }
+            return new LabelBitSet(this, bits, labels.toArray(new String[labels.size()]));
+        }
+
+        public int size() {
+            return this.labels.length;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(this.labels);
+        }
+    }
+
+    /**
+     * Tests path sections for one or more labels. The bits of the labels are only resolved once per index so that
+     * walking a path whose sections are compiled against the same index costs a single bit operation per section.
+     */
+    public static final class Matcher {
+
+        private final String label;
+        private final Collection<String> labels;
+        private Index index = null;
+        private long bits = 0L;
+
+        public Matcher(final String label) {
+            this.label = label;
+            this.labels = null;
+        }
+
+        public Matcher(final Collection<String> labels) {
+            this.label = null;
+            this.labels = labels;
+        }
+
+        /**
+         * Determines if the section labels contain any of the labels of the matcher.
+         */
+        public boolean matches(final Set<String> sectionLabels) {
+            if (sectionLabels instanceof LabelBitSet)
+                return (((LabelBitSet) sectionLabels).bits & this.bitsOf(((LabelBitSet) sectionLabels).index)) != 0L;
+            return null != this.label ? sectionLabels.contains(this.label) : !Collections.disjoint(sectionLabels, this.labels);
+        }
+
+        /**
+         * Removes the labels of the matcher from a copy of the section labels.
+         */
+        public Set<String> removeFrom(final Set<String> sectionLabels) {
+            if (sectionLabels instanceof LabelBitSet)
+                return ((LabelBitSet) sectionLabels).without(this.bitsOf(((LabelBitSet) sectionLabels).index));
+            final Set<String> temp = new LinkedHashSet<>(sectionLabels);
+            if (null != this.label)
+                temp.remove(this.label);
+            else
+                temp.removeAll(this.labels);
+            return temp;
+        }
+
+        private long bitsOf(final Index index) {
+            if (this.index != index) {
+                this.index = index;
+                this.bits = null != this.label ? index.bitOf(this.label) : index.bitsOf(this.labels);
+            }
+            return this.bits;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.util.NumberHelper;
+
+/**
+ * NumberAccumulator folds numbers into a primitive {@code long} or {@code double} for as long as the running value is
+ * an {@code Integer}, {@code Long} or {@code Double}, so that the {@code sum()}, {@code mean()}, {@code min()} and
+ * {@code max()} barriers do not resolve the common number class and box a new running value per traverser. The
+ * running value follows the promotion rules of {@link NumberHelper} exactly, so the value and the class of the result
+ * are the same as the ones of folding the numbers with {@link Operator#sum}, {@link Operator#min} or
+ * {@link Operator#max}. Any other number (e.g. {@code Float} or {@code BigDecimal}) switches the accumulator to
+ * {@link NumberHelper} for the rest of the fold.
+ */
+public final class NumberAccumulator {
+
+    private static final byte EMPTY = 0;
+    private static final byte INTEGER = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte NUMBER = 4;
+
+    private final Operator operator;
+    private byte type = EMPTY;
+    private long longValue;
+    private double doubleValue;
+    private Number numberValue;
+
+    private NumberAccumulator(final Operator operator) {
+        this.operator = operator;
+    }
+
+    public static NumberAccumulator sum() {
+        return new NumberAccumulator(Operator.sum);
+    }
+
+    public static NumberAccumulator min() {
+        return new NumberAccumulator(Operator.min);
+    }
+
+    public static NumberAccumulator max() {
+        return new NumberAccumulator(Operator.max);
+    }
+
+    public boolean isEmpty() {
+        return EMPTY == this.type;
+    }
+
+    /**
+     * Starts the fold with the specified running value unless the fold has already been started.
+     */
+    public void start(final Number seed) {
+        if (EMPTY != this.type)
+            return;
+        if (seed instanceof Integer) {
+            this.type = INTEGER;
+            this.longValue = seed.intValue();
+        } else if (seed instanceof Long) {
+            this.type = LONG;
+            this.longValue = seed.longValue();
+        } else if (seed instanceof Double) {
+            this.type = DOUBLE;
+            this.doubleValue = seed.doubleValue();
+        } else {
+            this.type = NUMBER;
+            this.numberValue = seed;
+        }
+    }
+
+    /**
+     * Folds the number into the running value. A sum adds the number multiplied by the bulk, while a minimum or a
+     * maximum ignores the bulk.
+     */
+    public void add(final Number number, final long bulk) {
+        if (Operator.sum == this.operator)
+            this.addSum(number, bulk);
+        else
+            this.addExtremum(number);
+    }
+
+    /**
+     * Returns the running value and empties the accumulator.
+     */
+    public Number complete() {
+        final Number result;
+        switch (this.type) {
+            case INTEGER:
+                result = (int) this.longValue;
+                break;
+            case LONG:
+                result = this.longValue;
+                break;
+            case DOUBLE:
+                result = this.doubleValue;
+                break;
+            default:
+                result = this.numberValue;
+        }
+        this.type = EMPTY;
+        this.numberValue = null;
+        return result;
+    }
+
+    private void addSum(final Number number, final long bulk) {
+        if (NUMBER != this.type) {
+            // the product of a number and a bulk is a Long for integral numbers and a Double for floating point numbers
+            if (isIntegral(number)) {
+                if (DOUBLE == this.type)
+                    this.doubleValue = this.doubleValue + (double) (number.longValue() * bulk);
+                else {
+                    this.longValue = this.longValue + number.longValue() * bulk;
+                    this.type = LONG;
+                }
+                return;
+            } else if (number instanceof Double || number instanceof Float) {
+                this.doubleValue = (DOUBLE == this.type ? this.doubleValue : (double) this.longValue) + number.doubleValue() * bulk;
+                this.type = DOUBLE;
+                return;
+            }
+            this.numberValue = this.complete();
+            this.type = NUMBER;
+        }
+        this.numberValue = NumberHelper.add(this.numberValue, NumberHelper.mul(number, bulk));
+    }
+
+    private void addExtremum(final Number number) {
+        if (NUMBER != this.type) {
+            final boolean min = Operator.min == this.operator;
+            if (number instanceof Double || (DOUBLE == this.type && isIntegral(number))) {
+                final double x = DOUBLE == this.type ? this.doubleValue : (double) this.longValue;
+                final double y = number.doubleValue();
+                this.doubleValue = min ? (x <= y ? x : y) : (x >= y ? x : y);
+                this.type = DOUBLE;
+                return;
+            } else if (isIntegral(number)) {
+                final long x = this.longValue;
+                final long y = number.longValue();
+                this.longValue = min ? (x <= y ? x : y) : (x >= y ? x : y);
+                if (number instanceof Long)
+                    this.type = LONG;
+                return;
+            }
+            this.numberValue = this.complete();
+            this.type = NUMBER;
+        }
+        this.numberValue = (Number) this.operator.apply(this.numberValue, number);
+    }
+
+    private static boolean isIntegral(final Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ParallelStep executes a segment of stateless steps on a {@link ForkJoinPool}. The incoming traversers are
+ * partitioned into chunks and every chunk is pushed through its own clone of the segment, so the steps of the segment
+ * never see two threads at once. Chunks are emitted in the order they were pulled which preserves the order of a
+ * sequential execution. If the segment ends with a {@link ReducingBarrierStep}, each chunk yields the partial seed of
+ * that barrier and the partial seeds are merged with the barrier's {@code BinaryOperator} just as the memory of a
+ * {@code GraphComputer} does. This step is not part of the Gremlin language and is only inserted by
+ * {@code ParallelStrategy}.
+ * <p/>
+ * The pools created for a specific parallelism are shared by all traversals and run on daemon threads, so they never
+ * keep the JVM alive. Idle worker threads are retired by the {@link ForkJoinPool} itself.
+ */
+public final class ParallelStep<S, E> extends AbstractStep<S, E> implements TraversalParent {
+
+    private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    private Traversal.Admin<S, E> parallelTraversal;
+    private final int parallelism;
+    private final int chunkSize;
+    private Queue<Traversal.Admin<S, E>> idleTraversals = new ConcurrentLinkedQueue<>();
+    private Deque<ForkJoinTask<Object>> pendingChunks = new ArrayDeque<>();
+    private Iterator<Traverser.Admin<E>> results = Collections.emptyIterator();
+    private E seed = null;
+    private boolean done = false;
+
+    /**
+     * @param parallelism the number of threads to use or {@code 0} to use the {@link ForkJoinPool#commonPool()}
+     * @param chunkSize   the number of traversers handed to a thread at a time
+     */
+    public ParallelStep(final Traversal.Admin traversal, final Traversal.Admin<S, E> parallelTraversal, final int parallelism, final int chunkSize) {
+        super(traversal);
+        if (parallelism < 0)
+            throw new IllegalArgumentException("The parallelism can not be negative: " + parallelism);
+        if (chunkSize < 1)
+            throw new IllegalArgumentException("The chunk size must be greater than zero: " + chunkSize);
+        this.parallelTraversal = this.integrateChild(parallelTraversal);
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    public int getChunkSize() {
+        return this.chunkSize;
+    }
+
+    @Override
+    public List<Traversal.Admin<S, E>> getLocalChildren() {
+        return Collections.singletonList(this.parallelTraversal);
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return this.getSelfAndChildRequirements();
+    }
+
+    @Override
+    protected Traverser.Admin<E> processNextStart() throws NoSuchElementException {
+        final ReducingBarrierStep<?, E> reducingBarrierStep = this.parallelTraversal.getEndStep() instanceof ReducingBarrierStep ?
+                (ReducingBarrierStep<?, E>) this.parallelTraversal.getEndStep() :
+                null;
+        while (true) {
+            if (this.results.hasNext())
+                return this.results.next();
+            this.submitChunks();
+            if (this.pendingChunks.isEmpty()) {
+                if (null == reducingBarrierStep || this.done)
+                    throw FastNoSuchElementException.instance();
+                this.done = true;
+                final E result = null == this.seed ? reducingBarrierStep.getSeedSupplier().get() : this.seed;
+                this.seed = null;
+                return this.getTraversal().getTraverserGenerator().generate(reducingBarrierStep.generateFinalResult(result), (Step<E, E>) this, 1l);
+            }
+            final Object chunkResult = this.pendingChunks.removeFirst().join();
+            if (null != reducingBarrierStep) {
+                if (null != chunkResult)
+                    this.seed = null == this.seed ? (E) chunkResult : reducingBarrierStep.getBiOperator().apply(this.seed, (E) chunkResult);
+            } else
+                this.results = ((List<Traverser.Admin<E>>) chunkResult).iterator();
+        }
+    }
+
+    private void submitChunks() {
+        final ForkJoinPool pool = 0 == this.parallelism ?
+                ForkJoinPool.commonPool() :
+                POOLS.computeIfAbsent(this.parallelism, ParallelStep::createPool);
+        // keep every thread busy while bounding the number of traversers that are held in memory at once
+        final int maxPendingChunks = pool.getParallelism() * 2;
+        while (this.pendingChunks.size() < maxPendingChunks && this.starts.hasNext()) {
+            final List<Traverser.Admin<S>> chunk = new ArrayList<>(this.chunkSize);
+            while (chunk.size() < this.chunkSize && this.starts.hasNext()) {
+                chunk.add(this.starts.next());
+            }
+            this.pendingChunks.add(pool.submit(() -> this.processChunk(chunk)));
+        }
+    }
+
+    private static ForkJoinPool createPool(final int parallelism) {
+        final AtomicInteger workerCount = new AtomicInteger();
+        return new ForkJoinPool(parallelism, pool -> {
+            final ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            worker.setDaemon(true);
+            worker.setName("gremlin-parallel-" + parallelism + "-worker-" + workerCount.getAndIncrement());
+            return worker;
+        }, null, false);
+    }
+
+    private Object processChunk(final List<Traverser.Admin<S>> chunk) {
+        Traversal.Admin<S, E> traversal = this.idleTraversals.poll();
+        if (null == traversal)
+            traversal = this.parallelTraversal.clone();
+        try {
+            traversal.addStarts(chunk.iterator());
+            if (traversal.getEndStep() instanceof ReducingBarrierStep) {
+                final ReducingBarrierStep<?, E> reducingBarrierStep = (ReducingBarrierStep<?, E>) traversal.getEndStep();
+                return reducingBarrierStep.hasNextBarrier() ? reducingBarrierStep.nextBarrier() : null;
+            } else {
+                final List<Traverser.Admin<E>> results = new ArrayList<>();
+                while (traversal.hasNext()) {
+                    results.add(traversal.nextTraverser());
+                }
+                return results;
+            }
+        } finally {
+            traversal.reset();
+            this.idleTraversals.offer(traversal);
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.pendingChunks.forEach(chunk -> chunk.cancel(true));
+        this.pendingChunks.clear();
+        this.results = Collections.emptyIterator();
+        this.seed = null;
+        this.done = false;
+        this.parallelTraversal.reset();
+    }
+
+    @Override
+    public ParallelStep<S, E> clone() {
+        final ParallelStep<S, E> clone = (ParallelStep<S, E>) super.clone();
+        clone.parallelTraversal = this.parallelTraversal.clone();
+        clone.idleTraversals = new ConcurrentLinkedQueue<>();
+        clone.pendingChunks = new ArrayDeque<>();
+        clone.results = Collections.emptyIterator();
+        clone.seed = null;
+        clone.done = false;
+        return clone;
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> parentTraversal) {
+        super.setTraversal(parentTraversal);
+        this.integrateChild(this.parallelTraversal);
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.parallelTraversal);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ this.parallelTraversal.hashCode() ^ Objects.hash(this.parallelism, this.chunkSize);
+    }
+}
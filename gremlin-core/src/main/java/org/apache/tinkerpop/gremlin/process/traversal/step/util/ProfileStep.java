@@ -22,27 +22,58 @@ import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
 import org.apache.tinkerpop.gremlin.process.traversal.step.MemoryComputing;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Profiling;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ProfileStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.ProfileSampler;
+import org.apache.tinkerpop.gremlin.process.traversal.util.ThreadAllocation;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
 
 import java.io.Serializable;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BinaryOperator;
 
 /**
  * @author Bob Briody (http://bobbriody.com)
  */
 public final class ProfileStep<S> extends AbstractStep<S, S> implements MemoryComputing<MutableMetrics> {  // pseudo GraphComputing but local traversals are "GraphComputing"
+    private final ProfileStrategy.Mode mode;
+    private final long sampleInterval;
+    private final boolean memory;
     private MutableMetrics metrics;
     private boolean onGraphComputer = false;
+    private long traverserCount = 0L;
+    private long elementCount = 0L;
+    private transient ProfileSampler sampler = null;
+    private transient AtomicLong samples = null;
+    private long allocatedBytes = 0L;
+    private long barrierSize = 0L;
+    private boolean barrierSizeChanged = false;
+    private transient Barrier<?> barrier = null;
+    private transient ProfileStep<?> barrierProfileStep = null;
 
     public ProfileStep(final Traversal.Admin traversal) {
+        this(traversal, ProfileStrategy.Mode.TIMING, 1L, false);
+    }
+
+    public ProfileStep(final Traversal.Admin traversal, final ProfileStrategy.Mode mode, final long sampleInterval, final boolean memory) {
         super(traversal);
+        this.mode = mode;
+        this.sampleInterval = sampleInterval;
+        this.memory = memory;
+    }
+
+    public ProfileStrategy.Mode getMode() {
+        return this.mode;
     }
 
     public MutableMetrics getMetrics() {
+        this.flushCounts();
         return metrics;
     }
 
@@ -50,11 +81,15 @@ public final class ProfileStep<S> extends AbstractStep<S, S> implements MemoryCo
     public Traverser.Admin<S> next() {
         Traverser.Admin<S> start = null;
         this.initializeIfNeeded();
+        if (ProfileStrategy.Mode.TIMING != this.mode)
+            return this.nextUntimed();
+        final long allocated = this.readAllocatedBytes();
         this.metrics.start();
         try {
             start = super.next();
             return start;
         } finally {
+            this.recordMemory(allocated);
             if (start != null) {
                 this.metrics.finish(start.bulk());
                 if (this.onGraphComputer) {
@@ -74,12 +109,92 @@ public final class ProfileStep<S> extends AbstractStep<S, S> implements MemoryCo
     @Override
     public boolean hasNext() {
         initializeIfNeeded();
+        if (ProfileStrategy.Mode.TIMING != this.mode) {
+            final boolean sampled = null != this.sampler && this.sampler.enter(this.samples);
+            final long allocated = this.readAllocatedBytes();
+            try {
+                return super.hasNext();
+            } finally {
+                this.recordMemory(allocated);
+                if (sampled) this.sampler.exit();
+            }
+        }
+        final long allocated = this.readAllocatedBytes();
         this.metrics.start();
         boolean ret = super.hasNext();
         this.metrics.stop();
+        this.recordMemory(allocated);
         return ret;
     }
 
+    /**
+     * Pulls the next traverser without reading the clock, counting the traversers in local fields which are flushed to
+     * the metrics when they are requested.
+     */
+    private Traverser.Admin<S> nextUntimed() {
+        final boolean sampled = null != this.sampler && this.sampler.enter(this.samples);
+        final long allocated = this.readAllocatedBytes();
+        try {
+            final Traverser.Admin<S> start = super.next();
+            this.traverserCount++;
+            this.elementCount += start.bulk();
+            return start;
+        } finally {
+            this.recordMemory(allocated);
+            if (sampled) this.sampler.exit();
+            if (this.onGraphComputer) {
+                this.flushCounts();
+                this.getTraversal().getSideEffects().add(this.getId(), this.metrics);
+                this.metrics = null;
+            }
+        }
+    }
+
+    private void flushCounts() {
+        if (0L != this.traverserCount && null != this.metrics) {
+            this.metrics.incrementCount(TraversalMetrics.TRAVERSER_COUNT_ID, this.traverserCount);
+            this.metrics.incrementCount(TraversalMetrics.ELEMENT_COUNT_ID, this.elementCount);
+            this.traverserCount = 0L;
+            this.elementCount = 0L;
+        }
+        if (0L != this.allocatedBytes && null != this.metrics) {
+            this.metrics.setAnnotation(TraversalMetrics.ALLOCATED_BYTES_KEY, (Long) this.metrics.getAnnotation(TraversalMetrics.ALLOCATED_BYTES_KEY) + this.allocatedBytes);
+            this.allocatedBytes = 0L;
+        }
+        if (this.barrierSizeChanged && null != this.metrics) {
+            this.metrics.setAnnotation(TraversalMetrics.BARRIER_SIZE_KEY, this.barrierSize);
+            this.barrierSizeChanged = false;
+        }
+    }
+
+    /**
+     * Reads the bytes allocated by the current thread if memory is accounted for, otherwise returns {@code -1}.
+     */
+    private long readAllocatedBytes() {
+        return this.memory && !this.onGraphComputer ? ThreadAllocation.getAllocatedBytes() : -1L;
+    }
+
+    /**
+     * Adds the bytes allocated since {@link #readAllocatedBytes()} and updates the peak size of the profiled barrier
+     * and of the barrier that is fed by the profiled step, as a barrier is filled while it pulls from upstream.
+     */
+    private void recordMemory(final long allocatedBefore) {
+        if (allocatedBefore >= 0L)
+            this.allocatedBytes += ThreadAllocation.getAllocatedBytes() - allocatedBefore;
+        if (null != this.barrier)
+            this.updateBarrierSize();
+        if (null != this.barrierProfileStep)
+            this.barrierProfileStep.updateBarrierSize();
+    }
+
+    private void updateBarrierSize() {
+        final long size = this.barrier.getBarrierSize();
+        if (size > this.barrierSize) {
+            this.barrierSize = size;
+            this.barrierSizeChanged = true;
+        }
+    }
+
     @Override
     protected Traverser.Admin<S> processNextStart() throws NoSuchElementException {
         return this.starts.next();
@@ -95,6 +210,25 @@ public final class ProfileStep<S> extends AbstractStep<S, S> implements MemoryCo
             // annotations
             if (previousStep instanceof Profiling)
                 ((Profiling) previousStep).setMetrics(this.metrics);
+
+            // memory is not accounted for on a GraphComputer where the metrics of every traverser are merged
+            if (this.memory && !this.onGraphComputer) {
+                if (ThreadAllocation.isSupported())
+                    this.metrics.setAnnotation(TraversalMetrics.ALLOCATED_BYTES_KEY, 0L);
+                if (previousStep instanceof Barrier) {
+                    this.barrier = (Barrier<?>) previousStep;
+                    if (previousStep.getPreviousStep() instanceof ProfileStep)
+                        ((ProfileStep<?>) previousStep.getPreviousStep()).barrierProfileStep = this;
+                }
+            }
+
+            // sampling is not supported on a GraphComputer where the traversers are only counted
+            if (ProfileStrategy.Mode.SAMPLING == this.mode && !this.onGraphComputer) {
+                this.sampler = TraversalHelper.getLastStepOfAssignableClass(ProfileSideEffectStep.class, TraversalHelper.getRootTraversal(this.getTraversal())).
+                        map(step -> ((ProfileSideEffectStep<?>) step).getSampler(this.sampleInterval)).orElse(null);
+                if (null != this.sampler)
+                    this.samples = this.sampler.register(this.metrics);
+            }
         }
     }
 
@@ -107,6 +241,15 @@ public final class ProfileStep<S> extends AbstractStep<S, S> implements MemoryCo
     public ProfileStep<S> clone() {
         final ProfileStep<S> clone = (ProfileStep<S>) super.clone();
         clone.metrics = null;
+        clone.traverserCount = 0L;
+        clone.elementCount = 0L;
+        clone.sampler = null;
+        clone.samples = null;
+        clone.allocatedBytes = 0L;
+        clone.barrierSize = 0L;
+        clone.barrierSizeChanged = false;
+        clone.barrier = null;
+        clone.barrierProfileStep = null;
         return clone;
     }
 
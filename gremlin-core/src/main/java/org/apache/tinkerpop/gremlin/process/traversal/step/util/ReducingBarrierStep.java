@@ -25,6 +25,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Generating;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemoryBudget;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracing;
 
 import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
@@ -54,6 +56,23 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
 
     public abstract E projectTraverser(final Traverser.Admin<S> traverser);
 
+    /**
+     * Folds a traverser into the seed. By default, the traverser is projected with {@link #projectTraverser} and the
+     * projection is merged into the seed with the reducing bi-operator. Steps with a mutable seed can override this
+     * method to aggregate the traverser into the seed directly and avoid allocating a projection per traverser.
+     */
+    protected E reduce(final E seed, final Traverser.Admin<S> traverser) {
+        return this.reducingBiOperator.apply(seed, this.projectTraverser(traverser));
+    }
+
+    /**
+     * Completes any aggregation that {@link #reduce} deferred, before the seed leaves the step as a barrier or as
+     * the final result. By default, the seed is returned as it is.
+     */
+    protected E complete(final E seed) {
+        return seed;
+    }
+
     public void setReducingBiOperator(final BinaryOperator<E> reducingBiOperator) {
         this.reducingBiOperator = reducingBiOperator;
     }
@@ -80,8 +99,12 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
             return;
         this.hasProcessedOnce = true;
         if (this.seed == null) this.seed = this.seedSupplier.get();
-        while (this.starts.hasNext())
-            this.seed = this.reducingBiOperator.apply(this.seed, this.projectTraverser(this.starts.next()));
+        final TraversalMemoryBudget memoryBudget = TraversalMemoryBudget.of(this.traversal);
+        while (this.starts.hasNext()) {
+            this.seed = this.reduce(this.seed, this.starts.next());
+            if (null != memoryBudget)
+                memoryBudget.update(this, this.getBarrierSize());
+        }
     }
 
     @Override
@@ -90,13 +113,19 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
         return null != this.seed;
     }
 
+    @Override
+    public long getBarrierSize() {
+        return TraversalMemoryBudget.sizeOf(this.seed);
+    }
+
     @Override
     public E nextBarrier() {
         if (!this.hasNextBarrier())
             throw FastNoSuchElementException.instance();
         else {
-            final E temp = this.seed;
+            final E temp = this.complete(this.seed);
             this.seed = null;
+            TraversalMemoryBudget.release(this);
             return temp;
         }
     }
@@ -110,11 +139,17 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
 
     @Override
     public Traverser.Admin<E> processNextStart() {
+        final boolean traced = GremlinTracing.isEnabled();
+        final long start = traced ? System.nanoTime() : 0L;
         this.processAllStarts();
         if (this.seed == null)
             throw FastNoSuchElementException.instance();
-        final Traverser.Admin<E> traverser = this.getTraversal().getTraverserGenerator().generate(this.generateFinalResult(this.seed), (Step<E, E>) this, 1l);
+        final long size = traced ? this.getBarrierSize() : 0L;
+        final Traverser.Admin<E> traverser = this.getTraversal().getTraverserGenerator().generate(this.generateFinalResult(this.complete(this.seed)), (Step<E, E>) this, 1l);
+        if (traced)
+            GremlinTracing.getTracer().barrierFlushed(this, size, System.nanoTime() - start);
         this.seed = null;
+        TraversalMemoryBudget.release(this);
         return traverser;
     }
 
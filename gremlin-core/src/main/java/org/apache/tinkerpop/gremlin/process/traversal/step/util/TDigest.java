@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * TDigest is a mergeable sketch of a distribution of numbers from which quantiles can be estimated. It is a "merging"
+ * t-digest (Dunning and Ertl, "Computing extremely accurate quantiles using t-digests") which keeps weighted
+ * centroids in a sorted array and buffers incoming values until the buffer is full and is folded into the centroids.
+ * The number of centroids is bounded by the compression factor so the sketch runs in constant memory, and the
+ * {@code asin} scale function keeps centroids small near the tails which makes extreme quantiles (e.g. the 99th
+ * percentile) the most accurate ones. Small inputs are represented exactly.
+ */
+public final class TDigest implements Serializable {
+
+    public static final double DEFAULT_COMPRESSION = 100.0d;
+
+    private double compression;
+    private double[] means;
+    private double[] weights;
+    private int size = 0;
+    private double[] bufferMeans;
+    private double[] bufferWeights;
+    private int bufferSize = 0;
+    private double totalWeight = 0.0d;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public TDigest() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    public TDigest(final double compression) {
+        if (compression < 10.0d)
+            throw new IllegalArgumentException("The compression must be at least 10: " + compression);
+        this.compression = compression;
+        final int capacity = (int) Math.ceil(compression) + 10;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+        this.bufferMeans = new double[capacity * 5];
+        this.bufferWeights = new double[capacity * 5];
+    }
+
+    public TDigest add(final Number number) {
+        return this.add(number.doubleValue(), 1.0d);
+    }
+
+    public TDigest add(final double value, final double weight) {
+        if (Double.isNaN(value))
+            throw new IllegalArgumentException("NaN can not be added to a " + TDigest.class.getSimpleName());
+        if (this.bufferSize == this.bufferMeans.length)
+            this.compress();
+        this.bufferMeans[this.bufferSize] = value;
+        this.bufferWeights[this.bufferSize] = weight;
+        this.bufferSize++;
+        this.totalWeight += weight;
+        if (value < this.min) this.min = value;
+        if (value > this.max) this.max = value;
+        return this;
+    }
+
+    public TDigest merge(final TDigest other) {
+        other.compress();
+        this.totalWeight += other.totalWeight;
+        for (int i = 0; i < other.size; i++) {
+            if (this.bufferSize == this.bufferMeans.length)
+                this.compress();
+            this.bufferMeans[this.bufferSize] = other.means[i];
+            this.bufferWeights[this.bufferSize] = other.weights[i];
+            this.bufferSize++;
+        }
+        if (other.min < this.min) this.min = other.min;
+        if (other.max > this.max) this.max = other.max;
+        return this;
+    }
+
+    public double getTotalWeight() {
+        return this.totalWeight;
+    }
+
+    /**
+     * Estimates the value at the specified quantile, where {@code 0.0} is the minimum and {@code 1.0} is the maximum.
+     * Values are linearly interpolated between the centers of neighboring centroids, which for exactly represented
+     * inputs is the common "midpoint" definition of a sample quantile. The estimate of an empty digest is {@code NaN}.
+     */
+    public double quantile(final double quantile) {
+        if (quantile < 0.0d || quantile > 1.0d)
+            throw new IllegalArgumentException("The quantile must be between 0.0 and 1.0: " + quantile);
+        this.compress();
+        if (0 == this.size)
+            return Double.NaN;
+
+        final double index = quantile * this.totalWeight;
+        // between the minimum and the center of the first centroid
+        if (index <= this.weights[0] / 2.0d)
+            return this.min + index / (this.weights[0] / 2.0d) * (this.means[0] - this.min);
+
+        double weightSoFar = this.weights[0] / 2.0d;
+        for (int i = 0; i < this.size - 1; i++) {
+            final double delta = (this.weights[i] + this.weights[i + 1]) / 2.0d;
+            if (weightSoFar + delta > index)
+                return this.means[i] + (index - weightSoFar) / delta * (this.means[i + 1] - this.means[i]);
+            weightSoFar = weightSoFar + delta;
+        }
+
+        // between the center of the last centroid and the maximum
+        final double lastWeight = this.weights[this.size - 1];
+        return this.max - (this.totalWeight - index) / (lastWeight / 2.0d) * (this.max - this.means[this.size - 1]);
+    }
+
+    private void compress() {
+        if (0 == this.bufferSize)
+            return;
+
+        // sort the buffer and merge it with the already sorted centroids
+        final Integer[] order = new Integer[this.bufferSize];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(this.bufferMeans[a], this.bufferMeans[b]));
+        final int total = this.size + this.bufferSize;
+        final double[] incomingMeans = new double[total];
+        final double[] incomingWeights = new double[total];
+        int c = 0;
+        int b = 0;
+        for (int i = 0; i < total; i++) {
+            if (b == this.bufferSize || (c < this.size && this.means[c] <= this.bufferMeans[order[b]])) {
+                incomingMeans[i] = this.means[c];
+                incomingWeights[i] = this.weights[c];
+                c++;
+            } else {
+                incomingMeans[i] = this.bufferMeans[order[b]];
+                incomingWeights[i] = this.bufferWeights[order[b]];
+                b++;
+            }
+        }
+
+        // sweep left to right, merging neighbors while the centroid stays within one unit of the scale function
+        final double normalizer = this.compression / (2.0d * Math.PI);
+        int last = 0;
+        this.means[0] = incomingMeans[0];
+        this.weights[0] = incomingWeights[0];
+        double weightSoFar = 0.0d;
+        double limit = this.totalWeight * limit(weightSoFar / this.totalWeight, normalizer);
+        for (int i = 1; i < total; i++) {
+            if (weightSoFar + this.weights[last] + incomingWeights[i] <= limit) {
+                this.weights[last] = this.weights[last] + incomingWeights[i];
+                this.means[last] = this.means[last] + (incomingMeans[i] - this.means[last]) * incomingWeights[i] / this.weights[last];
+            } else {
+                weightSoFar = weightSoFar + this.weights[last];
+                limit = this.totalWeight * limit(weightSoFar / this.totalWeight, normalizer);
+                last++;
+                if (last == this.means.length) {
+                    this.means = Arrays.copyOf(this.means, this.means.length * 2);
+                    this.weights = Arrays.copyOf(this.weights, this.weights.length * 2);
+                }
+                this.means[last] = incomingMeans[i];
+                this.weights[last] = incomingWeights[i];
+            }
+        }
+        this.size = last + 1;
+        this.bufferSize = 0;
+    }
+
+    /**
+     * The quantile one unit of the scale function {@code k(q) = compression / 2PI * asin(2q - 1)} to the right of
+     * the specified quantile.
+     */
+    private static double limit(final double quantile, final double normalizer) {
+        final double k = normalizer * Math.asin(2.0d * Math.min(1.0d, quantile) - 1.0d) + 1.0d;
+        return k / normalizer >= Math.PI / 2.0d ? 1.0d : (Math.sin(k / normalizer) + 1.0d) / 2.0d;
+    }
+
+    @Override
+    public String toString() {
+        return "tdigest[" + this.compression + "]~" + this.totalWeight;
+    }
+}
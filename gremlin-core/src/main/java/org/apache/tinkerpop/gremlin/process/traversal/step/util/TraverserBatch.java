@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The current batch of a {@link Batching} step. The traversers are handed out in the order in which they were pulled
+ * from the previous step and the results that {@link Batching#processBatch(List)} computed for them are looked up by
+ * their object.
+ */
+public final class TraverserBatch<S, E> implements Serializable {
+
+    private final Deque<Traverser.Admin<S>> traversers = new ArrayDeque<>();
+    private Map<S, Iterable<E>> results = Collections.emptyMap();
+
+    /**
+     * Takes the next traverser of the batch. If the batch is used up, the next batch of up to
+     * {@link Batching#getBatchSize()} traversers is pulled from the starts and processed first.
+     */
+    public Traverser.Admin<S> next(final Iterator<Traverser.Admin<S>> starts, final Batching<S, E> step) {
+        if (this.traversers.isEmpty()) {
+            final List<Traverser.Admin<S>> batch = new ArrayList<>();
+            while (batch.size() < step.getBatchSize() && starts.hasNext()) {
+                batch.add(starts.next());
+            }
+            if (batch.isEmpty())
+                throw FastNoSuchElementException.instance();
+            this.results = step.processBatch(batch);
+            this.traversers.addAll(batch);
+        }
+        return this.traversers.removeFirst();
+    }
+
+    /**
+     * Gets the results that were computed for the object of a traverser of the batch or {@code null} if the object
+     * has to be processed on its own.
+     */
+    public Iterator<E> getResults(final S object) {
+        final Iterable<E> objectResults = this.results.get(object);
+        return null == objectResults ? null : objectResults.iterator();
+    }
+
+    public void clear() {
+        this.traversers.clear();
+        this.results = Collections.emptyMap();
+    }
+}
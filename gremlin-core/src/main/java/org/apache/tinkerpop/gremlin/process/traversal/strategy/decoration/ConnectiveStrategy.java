@@ -34,6 +34,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 
+import java.util.Collections;
 import java.util.Set;
 
 /**
@@ -52,6 +53,7 @@ import java.util.Set;
 public final class ConnectiveStrategy extends AbstractTraversalStrategy<TraversalStrategy.DecorationStrategy> implements TraversalStrategy.DecorationStrategy {
 
     private static final ConnectiveStrategy INSTANCE = new ConnectiveStrategy();
+    private static final Set<Class<?>> REQUIRED_STEP_CLASSES = Collections.singleton(ConnectiveStep.class);
 
     private ConnectiveStrategy() {
     }
@@ -63,6 +65,11 @@ public final class ConnectiveStrategy extends AbstractTraversalStrategy<Traversa
         }
     }
 
+    @Override
+    public Set<Class<?>> requiredStepClasses() {
+        return REQUIRED_STEP_CLASSES;
+    }
+
     private static boolean legalCurrentStep(final Step<?, ?> step) {
         return !(step instanceof EmptyStep || step instanceof ProfileSideEffectStep || step instanceof HasNextStep ||
                 step instanceof ComputerAwareStep.EndStep || (step instanceof StartStep && !StartStep.isVariableStartStep(step)) ||
@@ -35,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
+import java.util.Set;
 
 /**
  * A strategy that raises events when {@link Mutating} steps are encountered and successfully executed.
@@ -45,6 +46,8 @@ import java.util.List;
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
 public final class EventStrategy extends AbstractTraversalStrategy<TraversalStrategy.DecorationStrategy> implements TraversalStrategy.DecorationStrategy {
+    private static final Set<Class<?>> REQUIRED_STEP_CLASSES = Collections.singleton(Mutating.class);
+
     private final EventQueue eventQueue;
 
     private EventStrategy(final Builder builder) {
@@ -58,6 +61,11 @@ public final class EventStrategy extends AbstractTraversalStrategy<TraversalStra
         TraversalHelper.getStepsOfAssignableClass(Mutating.class, traversal).forEach(s -> s.getMutatingCallbackRegistry().addCallback(callback));
     }
 
+    @Override
+    public Set<Class<?>> requiredStepClasses() {
+        return REQUIRED_STEP_CLASSES;
+    }
+
     public static Builder build() {
         return new Builder();
     }
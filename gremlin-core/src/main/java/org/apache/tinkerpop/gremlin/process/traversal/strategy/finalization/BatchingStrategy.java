@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CollectingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.SupplyingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.LazyBarrierStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * {@code BatchingStrategy} lets every {@link Batching} step that directly follows a barrier which has already pulled
+ * its traversers process the traversers of that barrier in batches, so that reading them ahead does not make the
+ * traversal any less lazy. These barriers are the {@link NoOpBarrierStep} (as inserted by {@link LazyBarrierStrategy})
+ * and the collecting, reducing and supplying barriers (e.g. {@code order()} or {@code fold()}). The batches are as
+ * large as the preceding {@link NoOpBarrierStep} but never larger than the configured {@code batchSize}. Steps that
+ * follow a lazy {@link Barrier} like {@code dedup()} or {@code limit()} are not batched, as reading ahead of those
+ * would pull more traversers than the traversal needs. The strategy is a
+ * finalization strategy so that it also covers the steps that providers substitute for the standard ones. It is not
+ * registered by default as it only pays off for providers that override
+ * {@link Batching#processBatch(java.util.List)}.
+ *
+ * @example <pre>
+ * __.V().out().out().values("name")  // the second out() processes batches of up to 2500 traversers
+ * __.V().out().barrier(10).out()     // the second out() processes batches of up to 10 traversers
+ * __.V().dedup().out()               // out() is not batched
+ * </pre>
+ */
+public final class BatchingStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    public static final String BATCH_SIZE = "batchSize";
+    private static final int DEFAULT_BATCH_SIZE = 2500;
+
+    private static final BatchingStrategy INSTANCE = new BatchingStrategy(DEFAULT_BATCH_SIZE);
+    private static final Set<Class<?>> REQUIRED_STEP_CLASSES = Collections.singleton(Batching.class);
+
+    private int batchSize;
+
+    private BatchingStrategy() {
+        // for serialization
+    }
+
+    private BatchingStrategy(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof Batching && !GraphStep.isStartStep(step)) {
+                final int barrierSize = getBarrierSize(step.getPreviousStep());
+                if (barrierSize > 1)
+                    ((Batching) step).setBatchSize(Math.min(barrierSize, this.batchSize));
+            }
+        }
+    }
+
+    /**
+     * Gets the number of traversers that the step holds once it emits its first traverser or {@code 0} if it is not a
+     * barrier that drains its input before it emits.
+     */
+    private static int getBarrierSize(final Step<?, ?> step) {
+        if (step instanceof NoOpBarrierStep)
+            return ((NoOpBarrierStep) step).getMaxBarrierSize();
+        else if (step instanceof CollectingBarrierStep || step instanceof ReducingBarrierStep || step instanceof SupplyingBarrierStep)
+            return Integer.MAX_VALUE;
+        else
+            return 0;
+    }
+
+    @Override
+    public Set<Class<?>> requiredStepClasses() {
+        return REQUIRED_STEP_CLASSES;
+    }
+
+    @Override
+    public Set<Class<? extends FinalizationStrategy>> applyPost() {
+        return Collections.singleton(ProfileStrategy.class);
+    }
+
+    public static BatchingStrategy create(final Configuration configuration) {
+        return new BatchingStrategy(configuration.getInt(BATCH_SIZE, DEFAULT_BATCH_SIZE));
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        return new MapConfiguration(Collections.singletonMap(BATCH_SIZE, this.batchSize));
+    }
+
+    public static BatchingStrategy instance() {
+        return INSTANCE;
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalStrategyString(this);
+    }
+
+    public final static class Builder {
+
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * The maximum number of traversers that a {@link Batching} step processes at once.
+         */
+        public Builder batchSize(final int batchSize) {
+            if (batchSize < 2)
+                throw new IllegalArgumentException("The batch size must be greater than one: " + batchSize);
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public BatchingStrategy create() {
+            return new BatchingStrategy(this.batchSize);
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversal
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
 import java.util.Collections;
+import java.util.Set;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -35,6 +36,8 @@ import java.util.Collections;
 public final class MatchAlgorithmStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
 
     private static final String MATCH_ALGORITHM = "matchAlgorithm";
+    private static final Set<Class<?>> REQUIRED_STEP_CLASSES = Collections.singleton(MatchStep.class);
+
     private Class<? extends MatchStep.MatchAlgorithm> matchAlgorithmClass;
 
     private MatchAlgorithmStrategy() {
@@ -54,6 +57,11 @@ public final class MatchAlgorithmStrategy extends AbstractTraversalStrategy<Trav
         }
     }
 
+    @Override
+    public Set<Class<?>> requiredStepClasses() {
+        return REQUIRED_STEP_CLASSES;
+    }
+
     public static MatchAlgorithmStrategy create(final Configuration configuration) {
         try {
             return new MatchAlgorithmStrategy((Class) Class.forName(configuration.getString(MATCH_ALGORITHM)));
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.ComparatorHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.CoinStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.SampleGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TimeLimitStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.LoopsStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.SampleLocalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalResultCache;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.javatuples.Pair;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * {@code MemoizationStrategy} memoizes the results of the child traversals of {@code by()}, {@code where()},
+ * {@code choose()} and the like by the object that is started through them, so an element that arrives at such a step
+ * more than once (e.g. after a fan-out that could not be bulked) is only walked once. The results are held in a
+ * {@link TraversalResultCache} of at most {@code cacheSize} objects per child traversal which lives as long as the
+ * traversal instance and are cleared when the root traversal is reset. A child traversal is only memoized if its
+ * results solely depend on the start object, so children that read the path, scoped labels, loops, sack or
+ * side-effects, mutate the graph, hold lambdas or sample at random are evaluated for every traverser. Nothing is
+ * memoized in a traversal that mutates the graph, as a result could be outdated by the time it is read from the cache.
+ * The strategy is not registered by default and has no effect on a {@code GraphComputer}.
+ *
+ * @example <pre>
+ * __.V().out().out().order().by(out("knows").count())  // the count of every vertex is computed once
+ * __.V().out().where(out("created"))                   // the filter of every vertex is computed once
+ * __.V().out().order().by(sack())                      // not memoized as the result depends on the sack
+ * </pre>
+ */
+public final class MemoizationStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    public static final String CACHE_SIZE = "cacheSize";
+    private static final int DEFAULT_CACHE_SIZE = 10000;
+
+    private static final MemoizationStrategy INSTANCE = new MemoizationStrategy(DEFAULT_CACHE_SIZE);
+
+    private static final Set<TraverserRequirement> STATEFUL_REQUIREMENTS = EnumSet.of(
+            TraverserRequirement.PATH, TraverserRequirement.LABELED_PATH,
+            TraverserRequirement.SINGLE_LOOP, TraverserRequirement.NESTED_LOOP,
+            TraverserRequirement.SACK, TraverserRequirement.SIDE_EFFECTS);
+
+    private int cacheSize;
+
+    private MemoizationStrategy() {
+        // for serialization
+    }
+
+    private MemoizationStrategy(final int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (traversal.getParent() instanceof EmptyStep ||
+                TraversalHelper.onGraphComputer(traversal) ||
+                !traversal.getParent().getLocalChildren().stream().anyMatch(child -> child == traversal) ||
+                TraversalHelper.hasLabels(traversal) ||
+                TraversalHelper.anyStepRecursively(MemoizationStrategy::isStateful, traversal) ||
+                TraversalHelper.anyStepRecursively(step -> step instanceof Mutating, TraversalHelper.getRootTraversal(traversal)))
+            return;
+        TraversalResultCache.enable(traversal, this.cacheSize);
+    }
+
+    /**
+     * A step is stateful if its result may depend on more than the object of the traverser, or if it has effects that
+     * would be lost if it was not executed for every traverser.
+     */
+    private static boolean isStateful(final Step<?, ?> step) {
+        if (step instanceof Mutating ||
+                step instanceof LambdaHolder ||
+                step instanceof CoinStep ||
+                step instanceof LoopsStep ||
+                step instanceof SampleGlobalStep ||
+                step instanceof SampleLocalStep ||
+                step instanceof TimeLimitStep ||
+                step instanceof Scoping ||
+                !Collections.disjoint(step.getRequirements(), STATEFUL_REQUIREMENTS))
+            return true;
+        if (step instanceof ComparatorHolder) {
+            for (final Pair<Traversal.Admin<Object, Comparable>, Comparator<Comparable>> pair : ((ComparatorHolder<Object, Comparable>) step).getComparators()) {
+                if (Order.shuffle.equals(pair.getValue1()))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Class<? extends FinalizationStrategy>> applyPost() {
+        return Collections.singleton(ProfileStrategy.class);
+    }
+
+    public static MemoizationStrategy create(final Configuration configuration) {
+        return new MemoizationStrategy(configuration.getInt(CACHE_SIZE, DEFAULT_CACHE_SIZE));
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        return new MapConfiguration(Collections.singletonMap(CACHE_SIZE, this.cacheSize));
+    }
+
+    public static MemoizationStrategy instance() {
+        return INSTANCE;
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalStrategyString(this);
+    }
+
+    public final static class Builder {
+
+        private int cacheSize = DEFAULT_CACHE_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * The maximum number of start objects whose results are held per child traversal.
+         */
+        public Builder cacheSize(final int cacheSize) {
+            if (cacheSize < 1)
+                throw new IllegalArgumentException("The cache size must be greater than zero: " + cacheSize);
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        public MemoizationStrategy create() {
+            return new MemoizationStrategy(this.cacheSize);
+        }
+    }
+}
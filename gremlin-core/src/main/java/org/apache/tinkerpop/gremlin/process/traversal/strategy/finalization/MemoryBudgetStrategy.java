@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MemoryBudgetExceededException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemoryBudget;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.Collections;
+
+/**
+ * {@code MemoryBudgetStrategy} bounds the number of objects that the barriers and side-effects of a traversal like
+ * {@code group()}, {@code order()}, {@code aggregate()}, {@code store()} and {@code dedup()} may hold at once. A
+ * traversal that exceeds its budget fails with a {@link MemoryBudgetExceededException} instead of exhausting the heap
+ * that it shares with other traversals. The objects are accounted for in a {@link TraversalMemoryBudget} of the root
+ * traversal where every object counts the same regardless of its actual size, so the budget should be chosen with the
+ * typical size of the objects in mind. The strategy is not registered by default and has no effect on a
+ * {@code GraphComputer}.
+ *
+ * @example <pre>
+ * g.withStrategies(MemoryBudgetStrategy.build().maxSize(1000000).create())
+ * __.V().group().by("name")   // fails once more than 1000000 names are grouped
+ * </pre>
+ */
+public final class MemoryBudgetStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    public static final String MAX_SIZE = "maxSize";
+    private static final long DEFAULT_MAX_SIZE = 10000000L;
+
+    private static final MemoryBudgetStrategy INSTANCE = new MemoryBudgetStrategy(DEFAULT_MAX_SIZE);
+
+    private long maxSize;
+
+    private MemoryBudgetStrategy() {
+        // for serialization
+    }
+
+    private MemoryBudgetStrategy(final long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        // the budget is held by the root traversal and the traversals of a GraphComputer are never the root
+        if (traversal.getParent() instanceof EmptyStep)
+            TraversalMemoryBudget.enable(traversal, this.maxSize);
+    }
+
+    public long getMaxSize() {
+        return this.maxSize;
+    }
+
+    public static MemoryBudgetStrategy create(final Configuration configuration) {
+        return new MemoryBudgetStrategy(configuration.getLong(MAX_SIZE, DEFAULT_MAX_SIZE));
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        return new MapConfiguration(Collections.singletonMap(MAX_SIZE, this.maxSize));
+    }
+
+    public static MemoryBudgetStrategy instance() {
+        return INSTANCE;
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalStrategyString(this);
+    }
+
+    public final static class Builder {
+
+        private long maxSize = DEFAULT_MAX_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * The maximum number of objects that the barriers and side-effects of a traversal may hold at once.
+         */
+        public Builder maxSize(final long maxSize) {
+            if (maxSize < 1)
+                throw new IllegalArgumentException("The maximum size must be greater than zero: " + maxSize);
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        public MemoryBudgetStrategy create() {
+            return new MemoryBudgetStrategy(this.maxSize);
+        }
+    }
+}
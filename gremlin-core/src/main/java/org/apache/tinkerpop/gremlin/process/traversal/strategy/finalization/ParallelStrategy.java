@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.VertexComputing;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.PathProcessor;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TimeLimitStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ParallelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code ParallelStrategy} executes OLTP traversals on multiple threads without the overhead of a
+ * {@code GraphComputer}. The steps that follow the start {@link GraphStep} are folded into a {@link ParallelStep}
+ * for as long as they are stateless (no global barriers, side-effects, mutations, lambdas, labels or path processing)
+ * and a {@link ReducingBarrierStep} (e.g. {@code count()}, {@code fold()}, {@code group()}) that ends the segment is
+ * folded in as well so that every thread reduces its own partial result. The output of the {@link GraphStep} is
+ * partitioned into chunks of {@code chunkSize} traversers which are processed by a {@code ForkJoinPool}. The
+ * strategy is not registered by default and has no effect on a {@code GraphComputer}.
+ *
+ * @example <pre>
+ * g.withStrategies(ParallelStrategy.instance()).V().out().out().groupCount().by("name")     // [ParallelStep([VertexStep(OUT,vertex), VertexStep(OUT,vertex), GroupCountStep(value(name))])]
+ * g.withStrategies(ParallelStrategy.instance()).V().out().order().by("age").values("name")  // [ParallelStep([VertexStep(OUT,vertex)]), OrderGlobalStep, PropertiesStep]
+ * </pre>
+ */
+public final class ParallelStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    public static final String PARALLELISM = "parallelism";
+    public static final String CHUNK_SIZE = "chunkSize";
+
+    private static final ParallelStrategy INSTANCE = ParallelStrategy.build().create();
+
+    private int parallelism;
+    private int chunkSize;
+
+    private ParallelStrategy() {
+        // for serialization
+    }
+
+    private ParallelStrategy(final int parallelism, final int chunkSize) {
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (!(traversal.getParent() instanceof EmptyStep) ||
+                TraversalHelper.onGraphComputer(traversal) ||
+                !(traversal.getStartStep() instanceof GraphStep) ||
+                TraversalHelper.hasStepOfAssignableClassRecursively(ProfileSideEffectStep.class, traversal))
+            return;
+
+        Step<?, ?> endStep = traversal.getStartStep();
+        boolean work = false;
+        while (isParallelizable(endStep.getNextStep(), true)) {
+            endStep = endStep.getNextStep();
+            work = work || !(endStep instanceof NoOpBarrierStep);
+        }
+        if (endStep.getNextStep() instanceof ReducingBarrierStep && isParallelizableReducer(endStep.getNextStep())) {
+            endStep = endStep.getNextStep();
+            work = true;
+        }
+        if (!work)
+            return;
+
+        final Step<?, ?> startStep = traversal.getStartStep().getNextStep();
+        final Traversal.Admin parallelTraversal = __.start().asAdmin();
+        final ParallelStep<?, ?> parallelStep = new ParallelStep<>(traversal, parallelTraversal, this.parallelism, this.chunkSize);
+        if (endStep instanceof ReducingBarrierStep)
+            TraversalHelper.copyLabels(endStep, parallelStep, true);
+        TraversalHelper.removeToTraversal((Step) startStep, endStep.getNextStep(), parallelTraversal);
+        traversal.addStep(1, parallelStep);
+    }
+
+    /**
+     * A step can be executed by a chunk of the traversers if it neither depends on the traversers of other chunks
+     * nor writes to state that is shared between threads.
+     */
+    private static boolean isParallelizable(final Step<?, ?> step, final boolean global) {
+        if (step instanceof EmptyStep ||
+                step instanceof SideEffectCapable ||
+                step instanceof Mutating ||
+                step instanceof LambdaHolder ||
+                step instanceof PathProcessor ||
+                step instanceof Scoping ||
+                step instanceof StartStep ||
+                step instanceof TimeLimitStep ||
+                step instanceof ProfileStep ||
+                step instanceof VertexComputing ||
+                !step.getLabels().isEmpty())
+            return false;
+        if (global && step instanceof Barrier && !(step instanceof NoOpBarrierStep))
+            return false;
+        return !(step instanceof TraversalParent) || isParallelizableParent((TraversalParent) step);
+    }
+
+    private static boolean isParallelizableReducer(final Step<?, ?> step) {
+        return !(step instanceof SideEffectCapable) &&
+                !(step instanceof LambdaHolder) &&
+                !(step instanceof PathProcessor) &&
+                !(step instanceof Scoping) &&
+                (!(step instanceof TraversalParent) || isParallelizableParent((TraversalParent) step));
+    }
+
+    private static boolean isParallelizableParent(final TraversalParent parent) {
+        for (final Traversal.Admin<?, ?> globalChild : parent.getGlobalChildren()) {
+            for (final Step<?, ?> step : globalChild.getSteps()) {
+                if (!isParallelizable(step, true))
+                    return false;
+            }
+        }
+        for (final Traversal.Admin<?, ?> localChild : parent.getLocalChildren()) {
+            for (final Step<?, ?> step : localChild.getSteps()) {
+                if (!isParallelizable(step, false))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    public static ParallelStrategy create(final Configuration configuration) {
+        return new ParallelStrategy(configuration.getInt(PARALLELISM, 0), configuration.getInt(CHUNK_SIZE, Builder.DEFAULT_CHUNK_SIZE));
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(PARALLELISM, this.parallelism);
+        map.put(CHUNK_SIZE, this.chunkSize);
+        return new MapConfiguration(map);
+    }
+
+    public static ParallelStrategy instance() {
+        return INSTANCE;
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalStrategyString(this);
+    }
+
+    public final static class Builder {
+
+        private static final int DEFAULT_CHUNK_SIZE = 256;
+
+        private int parallelism = 0;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * The number of threads to execute the traversal with. The default of {@code 0} uses the
+         * {@code ForkJoinPool.commonPool()}.
+         */
+        public Builder parallelism(final int parallelism) {
+            if (parallelism < 0)
+                throw new IllegalArgumentException("The parallelism can not be negative: " + parallelism);
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * The number of traversers that a thread processes at a time.
+         */
+        public Builder chunkSize(final int chunkSize) {
+            if (chunkSize < 1)
+                throw new IllegalArgumentException("The chunk size must be greater than zero: " + chunkSize);
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        public ParallelStrategy create() {
+            return new ParallelStrategy(this.parallelism, this.chunkSize);
+        }
+    }
+}
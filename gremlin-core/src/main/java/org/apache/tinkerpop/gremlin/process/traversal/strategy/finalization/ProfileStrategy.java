@@ -18,6 +18,8 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
 
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.VertexProgramStep;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
@@ -29,17 +31,48 @@ import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversal
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
+ * {@code ProfileStrategy} injects a {@link ProfileStep} after every step of a traversal that ends with
+ * {@code profile()}. By default, the {@link Mode#TIMING} mode reads the clock around every pull of a step, which is
+ * exact but can distort the durations of cheap steps. {@link Mode#SAMPLING} estimates the durations from periodic
+ * samples of the steps that are being pulled and {@link Mode#COUNTING} only counts the traversers of every step, so
+ * both can be used to profile live traversals at little cost. Sampling is not supported on a {@code GraphComputer}
+ * which falls back to counting.
+ *
  * @author Bob Briody (http://bobbriody.com)
+ * @example <pre>
+ * ProfileStrategy.instance()                                               // times every pull of a step
+ * ProfileStrategy.build().mode(Mode.SAMPLING).sampleInterval(5).create()   // samples the steps every 5 milliseconds
+ * ProfileStrategy.build().mode(Mode.COUNTING).create()                     // only counts the traversers
+ * ProfileStrategy.build().memory(true).create()                            // also reports allocations and barrier sizes
+ * </pre>
  */
 public final class ProfileStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
 
-    private static final ProfileStrategy INSTANCE = new ProfileStrategy();
+    public static final String MODE = "mode";
+    public static final String SAMPLE_INTERVAL = "sampleInterval";
+    public static final String MEMORY = "memory";
+    private static final long DEFAULT_SAMPLE_INTERVAL = 1L;
+
+    private static final ProfileStrategy INSTANCE = new ProfileStrategy(Mode.TIMING, DEFAULT_SAMPLE_INTERVAL, false);
     private static final String MARKER = Graph.Hidden.hide("gremlin.profile");
 
+    private Mode mode;
+    private long sampleInterval;
+    private boolean memory;
+
     private ProfileStrategy() {
+        // for serialization
+    }
+
+    private ProfileStrategy(final Mode mode, final long sampleInterval, final boolean memory) {
+        this.mode = mode;
+        this.sampleInterval = sampleInterval;
+        this.memory = memory;
     }
 
     @Override
@@ -57,12 +90,89 @@ public final class ProfileStrategy extends AbstractTraversalStrategy<TraversalSt
                 if (steps.get(i * 2) instanceof ProfileSideEffectStep)
                     break;
                 // Create and inject ProfileStep
-                traversal.addStep((i * 2) + 1, new ProfileStep(traversal));
+                traversal.addStep((i * 2) + 1, new ProfileStep(traversal, this.mode, this.sampleInterval, this.memory));
             }
         }
     }
 
+    public static ProfileStrategy create(final Configuration configuration) {
+        return new ProfileStrategy(Mode.valueOf(configuration.getString(MODE, Mode.TIMING.name())),
+                configuration.getLong(SAMPLE_INTERVAL, DEFAULT_SAMPLE_INTERVAL),
+                configuration.getBoolean(MEMORY, false));
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(MODE, this.mode.name());
+        map.put(SAMPLE_INTERVAL, this.sampleInterval);
+        map.put(MEMORY, this.memory);
+        return new MapConfiguration(map);
+    }
+
     public static ProfileStrategy instance() {
         return INSTANCE;
     }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    /**
+     * The way in which the steps of a profiled traversal are measured.
+     */
+    public enum Mode {
+        /**
+         * The duration of every pull of a step is measured with {@link System#nanoTime()}.
+         */
+        TIMING,
+        /**
+         * The durations of the steps are estimated from samples of the steps that are being pulled, which are taken
+         * by a background thread every {@code sampleInterval} milliseconds.
+         */
+        SAMPLING,
+        /**
+         * Only the number of traversers and their bulk are counted for every step.
+         */
+        COUNTING
+    }
+
+    public final static class Builder {
+
+        private Mode mode = Mode.TIMING;
+        private long sampleInterval = DEFAULT_SAMPLE_INTERVAL;
+        private boolean memory = false;
+
+        private Builder() {
+        }
+
+        public Builder mode(final Mode mode) {
+            this.mode = mode;
+            return this;
+        }
+
+        /**
+         * The number of milliseconds between two samples in the {@link Mode#SAMPLING} mode.
+         */
+        public Builder sampleInterval(final long sampleInterval) {
+            if (sampleInterval < 1)
+                throw new IllegalArgumentException("The sample interval must be at least one millisecond: " + sampleInterval);
+            this.sampleInterval = sampleInterval;
+            return this;
+        }
+
+        /**
+         * Determines if the bytes allocated by every step and the peak size of every barrier are reported. The
+         * allocations are read from the {@code ThreadMXBean} of the JVM and are not measured on a
+         * {@code GraphComputer}.
+         */
+        public Builder memory(final boolean memory) {
+            this.memory = memory;
+            return this;
+        }
+
+        public ProfileStrategy create() {
+            return new ProfileStrategy(this.mode, this.sampleInterval, this.memory);
+        }
+    }
 }
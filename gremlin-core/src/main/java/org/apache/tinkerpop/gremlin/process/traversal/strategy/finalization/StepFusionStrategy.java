@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
+import org.apache.tinkerpop.gremlin.process.traversal.step.PathProcessor;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.FlatMapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.FusedStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code StepFusionStrategy} replaces every run of two or more adjacent {@link MapStep}, {@link FilterStep} and
+ * {@link FlatMapStep} steps with a {@link FusedStep} that evaluates the run in a single loop. This removes the step
+ * to step plumbing which dominates short OLTP traversals such as point lookups. A step is only fused if it is
+ * evaluated entirely by its {@code map()}, {@code filter()} or {@code flatMap()} method, so barriers, parents of child
+ * traversals, path processors, scoping steps, batching steps and steps that override {@code processNextStart()} are
+ * left to the interpreter. Only the last step of a run may be labeled and its labels move to the {@link FusedStep}.
+ * The strategy is applied after {@link ProfileStrategy}, so a profiled traversal reports its steps one by one. It is
+ * not registered by default and has no effect on a {@code GraphComputer}.
+ *
+ * @example <pre>
+ * __.V(1).out("knows").has("age", gt(30)).values("name")  // [GraphStep, FusedStep([VertexStep, HasStep, PropertiesStep])]
+ * __.V().out().as("a").in().values("name")                // [GraphStep, VertexStep@[a], FusedStep([VertexStep, PropertiesStep])]
+ * __.V().out().order().by("name").in().id()               // [GraphStep, VertexStep, OrderGlobalStep, FusedStep([VertexStep, IdStep])]
+ * </pre>
+ */
+public final class StepFusionStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    private static final StepFusionStrategy INSTANCE = new StepFusionStrategy();
+    private static final Set<Class<? extends FinalizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            ProfileStrategy.class, BatchingStrategy.class, ParallelStrategy.class));
+    private static final Map<Class<?>, Boolean> FUSIBLE_CLASSES = new ConcurrentHashMap<>();
+
+    private StepFusionStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        final List<Step> steps = traversal.getSteps();
+        int start = 0;
+        while (start < steps.size()) {
+            int end = start;
+            while (end < steps.size() && isFusible(steps.get(end)) &&
+                    (end == start || steps.get(end - 1).getLabels().isEmpty())) {
+                end++;
+            }
+            if (end - start < 2) {
+                start = Math.max(end, start + 1);
+                continue;
+            }
+            final List<Step<?, ?>> fusedSteps = new ArrayList<>((List) steps.subList(start, end));
+            final FusedStep<?, ?> fusedStep = new FusedStep<>(traversal, fusedSteps);
+            TraversalHelper.copyLabels(fusedSteps.get(fusedSteps.size() - 1), fusedStep, true);
+            for (int i = start; i < end; i++) {
+                traversal.removeStep(start);
+            }
+            traversal.addStep(start, fusedStep);
+            start++;
+        }
+    }
+
+    private static boolean isFusible(final Step<?, ?> step) {
+        if (step instanceof Barrier ||
+                step instanceof TraversalParent ||
+                step instanceof PathProcessor ||
+                step instanceof Scoping ||
+                (step instanceof Batching && ((Batching) step).getBatchSize() > 1))
+            return false;
+        return FUSIBLE_CLASSES.computeIfAbsent(step.getClass(), StepFusionStrategy::isFusibleClass);
+    }
+
+    /**
+     * A step class can be fused if it is a map, filter or flatMap step that does not override the
+     * {@code processNextStart()} of its base class, as the {@link FusedStep} would bypass the override.
+     */
+    private static boolean isFusibleClass(final Class<?> stepClass) {
+        final Class<?> baseClass = MapStep.class.isAssignableFrom(stepClass) ? MapStep.class :
+                FilterStep.class.isAssignableFrom(stepClass) ? FilterStep.class :
+                        FlatMapStep.class.isAssignableFrom(stepClass) ? FlatMapStep.class : null;
+        if (null == baseClass)
+            return false;
+        for (Class<?> c = stepClass; !c.equals(baseClass); c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("processNextStart");
+                return false;
+            } catch (final NoSuchMethodException e) {
+                // keep looking in the superclass
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Set<Class<? extends FinalizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public static StepFusionStrategy instance() {
+        return INSTANCE;
+    }
+}
@@ -61,6 +61,7 @@ public final class AdjacentToIncidentStrategy extends AbstractTraversalStrategy<
         implements TraversalStrategy.OptimizationStrategy {
 
     private static final AdjacentToIncidentStrategy INSTANCE = new AdjacentToIncidentStrategy();
+    private static final Set<Class<?>> REQUIRED_STEP_CLASSES = new HashSet<>(Arrays.asList(VertexStep.class, PropertiesStep.class));
     private static final Set<Class<? extends OptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(IdentityRemovalStrategy.class, IncidentToAdjacentStrategy.class));
 
     private AdjacentToIncidentStrategy() {
@@ -89,6 +90,11 @@ public final class AdjacentToIncidentStrategy extends AbstractTraversalStrategy<
         }
     }
 
+    @Override
+    public Set<Class<?>> requiredStepClasses() {
+        return REQUIRED_STEP_CLASSES;
+    }
+
     @Override
     public Set<Class<? extends OptimizationStrategy>> applyPrior() {
         return PRIORS;
@@ -70,6 +70,7 @@ public final class CountStrategy extends AbstractTraversalStrategy<TraversalStra
             EnumSet.of(Compare.eq, Compare.neq, Compare.lte, Compare.gt);
 
     private static final CountStrategy INSTANCE = new CountStrategy();
+    private static final Set<Class<?>> REQUIRED_STEP_CLASSES = Collections.singleton(CountGlobalStep.class);
 
     private CountStrategy() {
     }
@@ -183,6 +184,11 @@ public final class CountStrategy extends AbstractTraversalStrategy<TraversalStra
         }
     }
 
+    @Override
+    public Set<Class<?>> requiredStepClasses() {
+        return REQUIRED_STEP_CLASSES;
+    }
+
     private boolean doStrategy(final Step step) {
         if (!(step instanceof CountGlobalStep) ||
                 !(step.getNextStep() instanceof IsStep) ||
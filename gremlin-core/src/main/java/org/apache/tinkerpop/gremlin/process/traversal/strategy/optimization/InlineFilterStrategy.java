@@ -71,6 +71,7 @@ import java.util.Set;
 public final class InlineFilterStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
 
     private static final InlineFilterStrategy INSTANCE = new InlineFilterStrategy();
+    private static final Set<Class<?>> REQUIRED_STEP_CLASSES = new HashSet<>(Arrays.asList(FilterStep.class, MatchStep.class));
     private static final Set<Class<? extends OptimizationStrategy>> POSTS = new HashSet<>(Arrays.asList(
             GraphFilterStrategy.class,
             AdjacentToIncidentStrategy.class));
@@ -105,6 +106,11 @@ public final class InlineFilterStrategy extends AbstractTraversalStrategy<Traver
         }
     }
 
+    @Override
+    public Set<Class<?>> requiredStepClasses() {
+        return REQUIRED_STEP_CLASSES;
+    }
+
     ////////////////////////////
     ///////////////////////////
 
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.ConnectiveStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeOtherVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.LeapfrogJoinStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.util.SortedAdjacency;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code LeapfrogJoinStrategy} replaces a {@link MatchStep} whose patterns all traverse from one vertex variable to
+ * an adjacent one (e.g. {@code as("a").out("knows").as("b")}) and form a cyclic pattern (e.g. a triangle) with a
+ * {@link LeapfrogJoinStep} which evaluates the patterns with a worst-case optimal multi-way join. The strategy only
+ * applies to OLTP traversals over a graph that implements {@link SortedAdjacency} and that do not require full paths.
+ * It is not a default strategy and must be added with {@code withStrategies()}.
+ *
+ * @example <pre>
+ * __.match(as("a").out().as("b"), as("b").out().as("c"), as("c").out().as("a"))   // is replaced by a LeapfrogJoinStep
+ * __.match(as("a").out().as("b"), as("b").out().as("c"))                          // is not replaced as it is not cyclic
+ * __.match(as("a").out().has("age", 29).as("b"), as("b").out().as("a"))            // is not replaced as it filters
+ * </pre>
+ */
+public final class LeapfrogJoinStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
+
+    private static final LeapfrogJoinStrategy INSTANCE = new LeapfrogJoinStrategy();
+    private static final Set<Class<?>> REQUIRED_STEP_CLASSES = Collections.singleton(MatchStep.class);
+    private static final Set<Class<? extends OptimizationStrategy>> POSTS = new HashSet<>(Arrays.asList(MatchPredicateStrategy.class, PathRetractionStrategy.class));
+
+    private LeapfrogJoinStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (!TraversalHelper.hasStepOfClass(MatchStep.class, traversal) ||
+                TraversalHelper.onGraphComputer(traversal) ||
+                !traversal.getGraph().filter(graph -> graph instanceof SortedAdjacency).isPresent())
+            return;
+
+        final Map<MatchStep<?, ?>, List<LeapfrogJoinStep.Atom>> candidates = new LinkedHashMap<>();
+        for (final MatchStep<?, ?> matchStep : TraversalHelper.getStepsOfClass(MatchStep.class, traversal)) {
+            final List<LeapfrogJoinStep.Atom> atoms = getAtoms(matchStep);
+            if (null != atoms && isCyclic(atoms))
+                candidates.put(matchStep, atoms);
+        }
+        // the join does not produce the paths of the patterns (e.g. otherV() within a pattern requires them though)
+        if (candidates.isEmpty() || TraversalHelper.anyStepRecursively(step ->
+                step.getRequirements().contains(TraverserRequirement.PATH) && !isWithin(step, candidates.keySet()), TraversalHelper.getRootTraversal(traversal)))
+            return;
+
+        for (final Map.Entry<MatchStep<?, ?>, List<LeapfrogJoinStep.Atom>> entry : candidates.entrySet()) {
+            final MatchStep<?, ?> matchStep = entry.getKey();
+            final LeapfrogJoinStep<?, ?> leapfrogJoinStep = new LeapfrogJoinStep<>(traversal, entry.getValue(),
+                    MatchStep.Helper.computeStartLabel(matchStep.getGlobalChildren()), matchStep.getMatchStartLabels());
+            TraversalHelper.replaceStep((Step) matchStep, leapfrogJoinStep, traversal);
+            TraversalHelper.copyLabels(matchStep, leapfrogJoinStep, false);
+        }
+    }
+
+    @Override
+    public Set<Class<?>> requiredStepClasses() {
+        return REQUIRED_STEP_CLASSES;
+    }
+
+    private static boolean isWithin(Step<?, ?> step, final Set<MatchStep<?, ?>> matchSteps) {
+        while (!(step instanceof EmptyStep)) {
+            if (matchSteps.contains(step))
+                return true;
+            step = step.getTraversal().getParent().asStep();
+        }
+        return false;
+    }
+
+    /**
+     * Gets the patterns of the {@link MatchStep} as atoms of a join or {@code null} if any of its patterns does
+     * more than traversing from one variable to an adjacent vertex.
+     */
+    private static List<LeapfrogJoinStep.Atom> getAtoms(final MatchStep<?, ?> matchStep) {
+        if (matchStep.getConnective() != ConnectiveStep.Connective.AND)
+            return null;
+        final List<LeapfrogJoinStep.Atom> atoms = new ArrayList<>();
+        for (final Traversal.Admin<?, ?> pattern : matchStep.getGlobalChildren()) {
+            final List<Step> steps = pattern.getSteps();
+            if (steps.size() < 3 || steps.size() > 4 ||
+                    !(steps.get(0) instanceof MatchStep.MatchStartStep) ||
+                    !(steps.get(1) instanceof VertexStep) ||
+                    !(steps.get(steps.size() - 1) instanceof MatchStep.MatchEndStep))
+                return null;
+            final MatchStep.MatchStartStep startStep = (MatchStep.MatchStartStep) steps.get(0);
+            final VertexStep<?> vertexStep = (VertexStep<?>) steps.get(1);
+            final MatchStep.MatchEndStep endStep = (MatchStep.MatchEndStep) steps.get(steps.size() - 1);
+            if (!startStep.getSelectKey().isPresent() || !endStep.getMatchKey().isPresent() ||
+                    !vertexStep.getLabels().isEmpty() || !startStep.getLabels().isEmpty())
+                return null;
+            // patterns are optimized after their parent, so incident steps (e.g. outE().inV()) are not yet adjacent steps
+            if (steps.size() == 3 ? !vertexStep.returnsVertex() : !isAdjacent(vertexStep, steps.get(2)))
+                return null;
+            atoms.add(new LeapfrogJoinStep.Atom(startStep.getSelectKey().get(), vertexStep.getDirection(),
+                    vertexStep.getEdgeLabels(), endStep.getMatchKey().get()));
+        }
+        return atoms;
+    }
+
+    /**
+     * Determines if an edge-emitting step followed by a vertex-emitting step traverses to the adjacent vertex.
+     */
+    private static boolean isAdjacent(final VertexStep<?> edgeStep, final Step vertexStep) {
+        if (!edgeStep.returnsEdge() || !vertexStep.getLabels().isEmpty())
+            return false;
+        return vertexStep instanceof EdgeOtherVertexStep || (edgeStep.getDirection() != Direction.BOTH &&
+                vertexStep instanceof EdgeVertexStep && ((EdgeVertexStep) vertexStep).getDirection() == edgeStep.getDirection().opposite());
+    }
+
+    /**
+     * Determines if the atoms connect all of their variables and contain a cycle.
+     */
+    private static boolean isCyclic(final List<LeapfrogJoinStep.Atom> atoms) {
+        final Map<String, String> components = new HashMap<>();
+        for (final LeapfrogJoinStep.Atom atom : atoms) {
+            components.putIfAbsent(atom.getFrom(), atom.getFrom());
+            components.putIfAbsent(atom.getTo(), atom.getTo());
+        }
+        boolean cyclic = false;
+        for (final LeapfrogJoinStep.Atom atom : atoms) {
+            final String from = find(components, atom.getFrom());
+            final String to = find(components, atom.getTo());
+            if (from.equals(to))
+                cyclic = true;
+            else
+                components.put(from, to);
+        }
+        final Set<String> roots = new HashSet<>();
+        for (final String variable : components.keySet()) {
+            roots.add(find(components, variable));
+        }
+        return cyclic && roots.size() == 1;
+    }
+
+    private static String find(final Map<String, String> components, final String variable) {
+        String root = variable;
+        while (!components.get(root).equals(root)) {
+            root = components.get(root);
+        }
+        return root;
+    }
+
+    @Override
+    public Set<Class<? extends OptimizationStrategy>> applyPost() {
+        return POSTS;
+    }
+
+    public static LeapfrogJoinStrategy instance() {
+        return INSTANCE;
+    }
+}
@@ -54,6 +54,7 @@ import java.util.Set;
 public final class MatchPredicateStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
 
     private static final MatchPredicateStrategy INSTANCE = new MatchPredicateStrategy();
+    private static final Set<Class<?>> REQUIRED_STEP_CLASSES = Collections.singleton(MatchStep.class);
     private static final Set<Class<? extends OptimizationStrategy>> PRIORS = Collections.singleton(IdentityRemovalStrategy.class);
     private static final Set<Class<? extends OptimizationStrategy>> POSTS = Collections.singleton(FilterRankingStrategy.class);
 
@@ -92,6 +93,11 @@ public final class MatchPredicateStrategy extends AbstractTraversalStrategy<Trav
         });
     }
 
+    @Override
+    public Set<Class<?>> requiredStepClasses() {
+        return REQUIRED_STEP_CLASSES;
+    }
+
     public static MatchPredicateStrategy instance() {
         return INSTANCE;
     }
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.IdentityTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.StreamingGroupStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.UnfoldStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.IdentityStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.javatuples.Pair;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Set;
+
+/**
+ * {@code StreamingGroupStrategy} replaces a {@link GroupStep} that is unfolded right away with a
+ * {@link StreamingGroupStep} when the traversers are already sorted by the group key, i.e. when the closest prior step
+ * that is not a filter is an {@link OrderGlobalStep} whose first comparator orders by the group key. Each group entry
+ * is then emitted as soon as that comparator sees a different key instead of after the entire input has been grouped
+ * in a {@code Map}.
+ * The strategy does not apply to traversals executed on a {@code GraphComputer}.
+ *
+ * @example <pre>
+ * __.order().by("name").group().by("name").by(out().count()).unfold()   // group().unfold() is replaced by a StreamingGroupStep
+ * __.order().by("age").has("age").group().by("age").unfold()             // group().unfold() is replaced by a StreamingGroupStep
+ * __.order().by("age").group().by("name").unfold()                       // is not replaced
+ * </pre>
+ */
+public final class StreamingGroupStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
+
+    private static final StreamingGroupStrategy INSTANCE = new StreamingGroupStrategy();
+    private static final Set<Class<?>> REQUIRED_STEP_CLASSES = Collections.singleton(GroupStep.class);
+
+    private StreamingGroupStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        for (final GroupStep groupStep : TraversalHelper.getStepsOfClass(GroupStep.class, traversal)) {
+            if (!groupStep.getLabels().isEmpty() || !(groupStep.getNextStep() instanceof UnfoldStep))
+                continue;
+            final Comparator<?> keyComparator = getKeyComparator(groupStep);
+            if (null == keyComparator)
+                continue;
+            final Step<?, ?> unfoldStep = groupStep.getNextStep();
+            final StreamingGroupStep streamingGroupStep = new StreamingGroupStep<>(traversal, groupStep.getKeyTraversal(), groupStep.getValueTraversal(), (Comparator) keyComparator);
+            TraversalHelper.copyLabels(unfoldStep, streamingGroupStep, false);
+            TraversalHelper.replaceStep(groupStep, streamingGroupStep, traversal);
+            traversal.removeStep(unfoldStep);
+        }
+    }
+
+    @Override
+    public Set<Class<?>> requiredStepClasses() {
+        return REQUIRED_STEP_CLASSES;
+    }
+
+    /**
+     * Gets the comparator that sorted the traversers by the key of the group or {@code null} if they are not sorted
+     * by that key.
+     */
+    private static Comparator<?> getKeyComparator(final GroupStep<?, ?, ?> groupStep) {
+        Step<?, ?> previousStep = groupStep.getPreviousStep();
+        while (previousStep instanceof FilterStep || previousStep instanceof IdentityStep) {
+            previousStep = previousStep.getPreviousStep();
+        }
+        if (!(previousStep instanceof OrderGlobalStep))
+            return null;
+        // only the natural order groups equal keys next to one another
+        final Pair<? extends Traversal.Admin<?, ?>, ? extends Comparator<?>> comparator = ((OrderGlobalStep<?, ?>) previousStep).getComparators().get(0);
+        if (comparator.getValue1() != Order.incr && comparator.getValue1() != Order.decr)
+            return null;
+        final Traversal.Admin<?, ?> keyTraversal = groupStep.getKeyTraversal();
+        final boolean sortedByKey = null == keyTraversal ?
+                comparator.getValue0() instanceof IdentityTraversal :
+                keyTraversal.equals(comparator.getValue0());
+        return sortedByKey ? comparator.getValue1() : null;
+    }
+
+    public static StreamingGroupStrategy instance() {
+        return INSTANCE;
+    }
+}
@@ -41,6 +41,7 @@ import java.util.Set;
 public final class ReadOnlyStrategy extends AbstractTraversalStrategy<TraversalStrategy.VerificationStrategy> implements TraversalStrategy.VerificationStrategy {
 
     private static final ReadOnlyStrategy INSTANCE = new ReadOnlyStrategy();
+    private static final Set<Class<?>> REQUIRED_STEP_CLASSES = Collections.singleton(Mutating.class);
 
     private ReadOnlyStrategy() {
     }
@@ -53,6 +54,11 @@ public final class ReadOnlyStrategy extends AbstractTraversalStrategy<TraversalS
         }
     }
 
+    @Override
+    public Set<Class<?>> requiredStepClasses() {
+        return REQUIRED_STEP_CLASSES;
+    }
+
     @Override
     public Set<Class<? extends VerificationStrategy>> applyPost() {
         return Collections.singleton(ComputerVerificationStrategy.class);
@@ -28,6 +28,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.TraverserGenerator;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.LabelBitSet;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.DefaultTraverserGeneratorFactory;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.EmptyTraverser;
@@ -63,6 +64,25 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
     protected Set<TraverserRequirement> requirements;
     protected boolean locked = false;
     protected Bytecode bytecode; // TODO: perhaps make transient until 3.3.0?
+    /**
+     * The evaluator that {@link TraversalUtil} uses for simple child traversals which is compiled along with the
+     * strategies.
+     */
+    FastPathEvaluator fastPathEvaluator = null;
+    /**
+     * The memoized results of a child traversal which is enabled by {@code MemoizationStrategy}.
+     */
+    transient TraversalResultCache resultCache = null;
+    /**
+     * The bound of the objects held by the barriers and side-effects of a root traversal which is enabled by
+     * {@code MemoryBudgetStrategy}.
+     */
+    transient TraversalMemoryBudget memoryBudget = null;
+    /**
+     * The classes of the steps of this traversal as used to skip strategies, which is dropped when a step is added
+     * or removed.
+     */
+    transient StepClassIndex stepClassIndex = null;
 
 
     private DefaultTraversal(final Graph graph, final TraversalStrategies traversalStrategies, final Bytecode bytecode) {
@@ -141,6 +161,11 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
             this.requirements = null;
             this.getTraverserRequirements();
         }
+        if (!(this.getParent() instanceof EmptyStep))
+            this.fastPathEvaluator = FastPathEvaluator.compile(this);
+        // compile the labels of traversals that are not compiled as part of their parent (e.g. the root traversal)
+        if (this.getParent() instanceof EmptyStep || this.getParent().asStep().getTraversal().isLocked())
+            LabelBitSet.compile(this);
         this.locked = true;
     }
 
@@ -209,6 +234,8 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
     public void reset() {
         this.steps.forEach(Step::reset);
         this.lastTraverser = EmptyTraverser.instance();
+        if (this.parent instanceof EmptyStep)
+            TraversalResultCache.clearChildren(this);
     }
 
     @Override
@@ -257,6 +284,10 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
                 clone.steps.add(clonedStep);
             }
             clone.finalEndStep = clone.getEndStep();
+            if (null != this.resultCache)
+                clone.resultCache = this.resultCache.emptyCopy();
+            if (null != this.memoryBudget)
+                clone.memoryBudget = this.memoryBudget.emptyCopy();
             return clone;
         } catch (final CloneNotSupportedException e) {
             throw new IllegalStateException(e.getMessage(), e);
@@ -293,6 +324,7 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
         if (this.locked) throw Exceptions.traversalIsLocked();
         step.setId(this.stepPosition.nextXId());
         this.steps.add(index, step);
+        this.stepClassIndex = null;
         final Step previousStep = this.steps.size() > 0 && index != 0 ? steps.get(index - 1) : null;
         final Step nextStep = this.steps.size() > index + 1 ? steps.get(index + 1) : null;
         step.setPreviousStep(null != previousStep ? previousStep : EmptyStep.instance());
@@ -310,6 +342,7 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
         final Step nextStep = this.steps.size() > index + 1 ? steps.get(index + 1) : null;
         //this.steps.get(index).setTraversal(EmptyTraversal.instance());
         this.steps.remove(index);
+        this.stepClassIndex = null;
         if (null != previousStep) previousStep.setNextStep(null == nextStep ? EmptyStep.instance() : nextStep);
         if (null != nextStep) nextStep.setPreviousStep(null == previousStep ? EmptyStep.instance() : previousStep);
         return (Traversal.Admin<S2, E2>) this;
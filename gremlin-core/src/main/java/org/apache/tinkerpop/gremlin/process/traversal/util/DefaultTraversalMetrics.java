@@ -158,10 +158,13 @@ public final class DefaultTraversalMetrics implements TraversalMetrics, Serializ
             tempMetrics.add(Pair.with(ii, stepMetrics.clone()));
         }
 
-        tempMetrics.forEach(m -> {
-            final double dur = m.getValue1().getDuration(TimeUnit.NANOSECONDS) * 100.d / this.totalStepDuration;
-            m.getValue1().setAnnotation(PERCENT_DURATION_KEY, dur);
-        });
+        // there is no duration to share if the steps were only counted or no sample was taken
+        if (this.totalStepDuration > 0) {
+            tempMetrics.forEach(m -> {
+                final double dur = m.getValue1().getDuration(TimeUnit.NANOSECONDS) * 100.d / this.totalStepDuration;
+                m.getValue1().setAnnotation(PERCENT_DURATION_KEY, dur);
+            });
+        }
 
         tempMetrics.forEach(p -> {
             this.stepIndexedMetrics.put(p.getValue1().getId(), p.getValue1().getImmutableClone());
@@ -171,6 +174,7 @@ public final class DefaultTraversalMetrics implements TraversalMetrics, Serializ
 
     private void handleNestedTraversals(final Traversal.Admin traversal, final MutableMetrics parentMetrics, final boolean onGraphComputer) {
         long prevDur = 0;
+        long prevAllocated = 0;
         for (int i = 0; i < traversal.getSteps().size(); i++) {
             final Step step = (Step) traversal.getSteps().get(i);
             if (!(step instanceof ProfileStep))
@@ -187,6 +191,12 @@ public final class DefaultTraversalMetrics implements TraversalMetrics, Serializ
                     // adjust duration
                     metrics.setDuration(metrics.getDuration(TimeUnit.NANOSECONDS) - prevDur, TimeUnit.NANOSECONDS);
                     prevDur = durBeforeAdjustment;
+                    // allocations are measured inclusively like the durations
+                    final Object allocated = metrics.getAnnotation(ALLOCATED_BYTES_KEY);
+                    if (null != allocated) {
+                        metrics.setAnnotation(ALLOCATED_BYTES_KEY, Math.max(0L, (Long) allocated - prevAllocated));
+                        prevAllocated = (Long) allocated;
+                    }
                 }
 
                 if (parentMetrics != null) {
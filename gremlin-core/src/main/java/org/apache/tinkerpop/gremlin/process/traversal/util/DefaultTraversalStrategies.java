@@ -22,6 +22,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracer;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracing;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -82,9 +84,30 @@ public class DefaultTraversalStrategies implements TraversalStrategies {
 
     @Override
     public void applyStrategies(final Traversal.Admin<?, ?> traversal) {
+        if (GremlinTracing.isEnabled()) {
+            this.applyStrategies(traversal, GremlinTracing.getTracer());
+            return;
+        }
+        for (final TraversalStrategy<?> traversalStrategy : this.traversalStrategies) {
+            if (StepClassIndex.isApplicable(traversalStrategy, traversal))
+                traversalStrategy.apply(traversal);
+        }
+    }
+
+    /**
+     * Applies the strategies like {@link #applyStrategies(Traversal.Admin)} and reports the time taken by each
+     * strategy that was not skipped to the {@link GremlinTracer}.
+     */
+    protected void applyStrategies(final Traversal.Admin<?, ?> traversal, final GremlinTracer tracer) {
+        final long start = System.nanoTime();
         for (final TraversalStrategy<?> traversalStrategy : this.traversalStrategies) {
-            traversalStrategy.apply(traversal);
+            if (StepClassIndex.isApplicable(traversalStrategy, traversal)) {
+                final long time = System.nanoTime();
+                traversalStrategy.apply(traversal);
+                tracer.strategyApplied(traversal, traversalStrategy, System.nanoTime() - time);
+            }
         }
+        tracer.strategiesApplied(traversal, System.nanoTime() - start);
     }
 
     @Override
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.remote.traversal.step.map.RemoteStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends the results of a {@link Traversal} to a {@link TraversalSubscriber} as they are requested. The results of
+ * a local traversal are computed on the thread that requests them. The results of a traversal that ends with a
+ * {@link RemoteStep} are fetched in batches with {@link RemoteStep#nextTraversersAsync(int)} and sent from the thread
+ * that completes the fetch, so that no thread is blocked while the remote is busy. Traversers are unrolled by their
+ * bulk, so every result counts as one against the demand of the subscriber. The traversal is closed once it completed,
+ * failed or the subscription was cancelled. A subscriber that throws from {@code onNext()} is treated as cancelled and
+ * the exception is sent to its {@code onError()}.
+ */
+public final class DefaultTraversalSubscription<E> implements TraversalSubscription {
+
+    /**
+     * The maximum number of traversers that are fetched at once from a {@link RemoteStep}.
+     */
+    public static final int MAX_BATCH_SIZE = 64;
+
+    private final Traversal.Admin<?, E> traversal;
+    private final TraversalSubscriber<? super E> subscriber;
+    private final AtomicLong demand = new AtomicLong(0L);
+    // serializes the calls to drainLoop() which may be triggered by request() and by the completion of a fetch
+    private final AtomicInteger workInProgress = new AtomicInteger(0);
+
+    private Step<?, E> endStep;
+    private E result = null;
+    private long bulk = 0L;
+    private Iterator<Traverser.Admin<E>> batch = Collections.emptyIterator();
+    private boolean done = false;
+
+    private volatile List<Traverser.Admin<E>> fetched = null;
+    private volatile boolean fetching = false;
+    private volatile Throwable error = null;
+    private volatile boolean cancelled = false;
+    private boolean closed = false;
+
+    private DefaultTraversalSubscription(final Traversal.Admin<?, E> traversal, final TraversalSubscriber<? super E> subscriber) {
+        this.traversal = traversal;
+        this.subscriber = subscriber;
+    }
+
+    /**
+     * Compiles the traversal, if it is not locked already, and subscribes the subscriber to its results.
+     */
+    public static <E> void subscribe(final Traversal.Admin<?, E> traversal, final TraversalSubscriber<? super E> subscriber) {
+        final DefaultTraversalSubscription<E> subscription = new DefaultTraversalSubscription<>(traversal, subscriber);
+        try {
+            if (!traversal.isLocked()) traversal.applyStrategies();
+            // use the end step so the results are bulked
+            subscription.endStep = traversal.getEndStep();
+        } catch (final Throwable t) {
+            subscription.error = t;
+        }
+        subscriber.onSubscribe(subscription);
+        if (null != subscription.error)
+            subscription.drain();
+    }
+
+    @Override
+    public void request(final long n) {
+        if (n <= 0L)
+            this.error = new IllegalArgumentException("The number of requested results must be positive: " + n);
+        else
+            this.demand.getAndAccumulate(n, (a, b) -> a + b < 0L ? Long.MAX_VALUE : a + b);
+        this.drain();
+    }
+
+    @Override
+    public void cancel() {
+        this.cancelled = true;
+        this.drain();
+    }
+
+    private void drain() {
+        if (this.workInProgress.getAndIncrement() != 0)
+            return;
+        do {
+            this.drainLoop();
+            if (this.cancelled)
+                this.close();
+        } while (this.workInProgress.decrementAndGet() != 0);
+    }
+
+    private void drainLoop() {
+        while (!this.cancelled && !this.done) {
+            if (null != this.error) {
+                this.fail(this.error);
+                return;
+            }
+            // the next traverser is read ahead of the demand so that the end of the traversal is signaled right away
+            if (0L == this.bulk && !this.advance()) {
+                if (null == this.error) return;
+                continue;
+            }
+            if (0L == this.demand.get())
+                return;
+            this.demand.decrementAndGet();
+            final E next = this.result;
+            if (0L == --this.bulk)
+                this.result = null;
+            try {
+                this.subscriber.onNext(next);
+            } catch (final Throwable t) {
+                this.cancelled = true;
+                this.fail(t);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Moves to the next traverser and returns {@code true} if there is one available.
+     */
+    private boolean advance() {
+        if (this.endStep instanceof RemoteStep) {
+            if (!this.batch.hasNext()) {
+                final List<Traverser.Admin<E>> traversers = this.fetched;
+                if (null != traversers) {
+                    this.fetched = null;
+                    if (traversers.isEmpty()) {
+                        this.complete();
+                        return false;
+                    }
+                    this.batch = traversers.iterator();
+                } else {
+                    if (!this.fetching)
+                        this.fetch();
+                    return false;
+                }
+            }
+            this.set(this.batch.next());
+            return true;
+        } else {
+            try {
+                this.set(this.endStep.next());
+                return true;
+            } catch (final NoSuchElementException e) {
+                this.complete();
+                return false;
+            } catch (final Throwable t) {
+                this.error = t;
+                return false;
+            }
+        }
+    }
+
+    private void fetch() {
+        this.fetching = true;
+        final int size = (int) Math.max(1L, Math.min(this.demand.get(), MAX_BATCH_SIZE));
+        try {
+            ((RemoteStep<?, E>) this.endStep).nextTraversersAsync(size).whenComplete((traversers, t) -> {
+                if (null != t)
+                    this.error = t instanceof CompletionException && null != t.getCause() ? t.getCause() : t;
+                else
+                    this.fetched = traversers;
+                this.fetching = false;
+                this.drain();
+            });
+        } catch (final Throwable t) {
+            this.error = t;
+            this.fetching = false;
+        }
+    }
+
+    private void set(final Traverser.Admin<E> traverser) {
+        this.result = traverser.get();
+        this.bulk = traverser.bulk();
+    }
+
+    private void complete() {
+        this.done = true;
+        final Throwable t = this.close();
+        if (null == t)
+            this.subscriber.onComplete();
+        else
+            this.subscriber.onError(t);
+    }
+
+    private void fail(final Throwable throwable) {
+        this.done = true;
+        final Throwable t = this.close();
+        if (null != t && t != throwable)
+            throwable.addSuppressed(t);
+        this.subscriber.onError(throwable);
+    }
+
+    /**
+     * Closes the traversal once and returns the exception that closing it threw, if any.
+     */
+    private Throwable close() {
+        if (this.closed)
+            return null;
+        this.closed = true;
+        try {
+            this.traversal.close();
+            return null;
+        } catch (final Throwable t) {
+            return t;
+        }
+    }
+}
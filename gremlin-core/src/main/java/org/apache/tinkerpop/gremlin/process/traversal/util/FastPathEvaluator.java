@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.CountGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.IdStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.LabelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.PropertyType;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.CloseableIterator;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A FastPathEvaluator evaluates a simple child traversal, like {@code values("name")}, {@code id()}, {@code label()}
+ * or {@code out("knows").count()}, directly against the object of a traverser. {@link TraversalUtil} uses it in place
+ * of splitting the traverser, resetting the child traversal and pushing the split through its steps, which is what
+ * every {@code by()}-modulator, {@code where()} and {@code project()} otherwise pays per traverser. The evaluator is
+ * compiled by {@link DefaultTraversal#applyStrategies()} from the final steps of a child traversal, so steps that
+ * providers substitute for the standard ones are never evaluated by it.
+ */
+public abstract class FastPathEvaluator implements Serializable {
+
+    /**
+     * Evaluates the traversal for the start object and returns its first result or {@code null} if the traversal has
+     * no result.
+     */
+    public abstract Object apply(final Object start);
+
+    /**
+     * Evaluates the traversal for the start object and returns all of its results.
+     */
+    public Iterator<Object> applyAll(final Object start) {
+        final Object end = this.apply(start);
+        return null == end ? Collections.emptyIterator() : IteratorUtils.of(end);
+    }
+
+    /**
+     * Compiles the evaluator of a traversal or returns {@code null} if the traversal is not simple enough.
+     */
+    public static FastPathEvaluator compile(final Traversal.Admin<?, ?> traversal) {
+        final List<Step> steps = traversal.getSteps();
+        if (steps.isEmpty() || steps.size() > 2)
+            return null;
+        for (final Step<?, ?> step : steps) {
+            if (!step.getLabels().isEmpty())
+                return null;
+        }
+        final Step<?, ?> step = steps.get(0);
+        if (1 == steps.size()) {
+            if (step.getClass().equals(IdStep.class))
+                return IdEvaluator.INSTANCE;
+            else if (step.getClass().equals(LabelStep.class))
+                return LabelEvaluator.INSTANCE;
+            else if (step.getClass().equals(PropertiesStep.class) && ((PropertiesStep) step).getReturnType() == PropertyType.VALUE)
+                return new ValuesEvaluator(((PropertiesStep) step).getPropertyKeys());
+            else if (step.getClass().equals(VertexStep.class))
+                return new AdjacentEvaluator((VertexStep) step);
+        } else if (step.getClass().equals(VertexStep.class) && steps.get(1).getClass().equals(CountGlobalStep.class))
+            return new AdjacentCountEvaluator(new AdjacentEvaluator((VertexStep) step));
+        return null;
+    }
+
+    private static Object first(final Iterator<?> iterator) {
+        try {
+            return iterator.hasNext() ? iterator.next() : null;
+        } finally {
+            CloseableIterator.closeIterator(iterator);
+        }
+    }
+
+    /**
+     * Evaluates {@code id()}.
+     */
+    private static final class IdEvaluator extends FastPathEvaluator {
+
+        private static final IdEvaluator INSTANCE = new IdEvaluator();
+
+        @Override
+        public Object apply(final Object start) {
+            return ((Element) start).id();
+        }
+    }
+
+    /**
+     * Evaluates {@code label()}.
+     */
+    private static final class LabelEvaluator extends FastPathEvaluator {
+
+        private static final LabelEvaluator INSTANCE = new LabelEvaluator();
+
+        @Override
+        public Object apply(final Object start) {
+            return ((Element) start).label();
+        }
+    }
+
+    /**
+     * Evaluates {@code values(keys...)}.
+     */
+    private static final class ValuesEvaluator extends FastPathEvaluator {
+
+        private final String[] propertyKeys;
+
+        private ValuesEvaluator(final String[] propertyKeys) {
+            this.propertyKeys = propertyKeys;
+        }
+
+        @Override
+        public Object apply(final Object start) {
+            return first(this.applyAll(start));
+        }
+
+        @Override
+        public Iterator<Object> applyAll(final Object start) {
+            return ((Element) start).values(this.propertyKeys);
+        }
+    }
+
+    /**
+     * Evaluates {@code out()}, {@code inE()}, {@code both()} and the like.
+     */
+    private static final class AdjacentEvaluator extends FastPathEvaluator {
+
+        private final Direction direction;
+        private final String[] edgeLabels;
+        private final boolean returnsVertex;
+
+        private AdjacentEvaluator(final VertexStep<?> step) {
+            this.direction = step.getDirection();
+            this.edgeLabels = step.getEdgeLabels();
+            this.returnsVertex = step.returnsVertex();
+        }
+
+        @Override
+        public Object apply(final Object start) {
+            return first(this.applyAll(start));
+        }
+
+        @Override
+        public Iterator<Object> applyAll(final Object start) {
+            return this.returnsVertex ?
+                    (Iterator) ((Vertex) start).vertices(this.direction, this.edgeLabels) :
+                    (Iterator) ((Vertex) start).edges(this.direction, this.edgeLabels);
+        }
+    }
+
+    /**
+     * Evaluates {@code out().count()}, {@code inE().count()} and the like.
+     */
+    private static final class AdjacentCountEvaluator extends FastPathEvaluator {
+
+        private final AdjacentEvaluator adjacentEvaluator;
+
+        private AdjacentCountEvaluator(final AdjacentEvaluator adjacentEvaluator) {
+            this.adjacentEvaluator = adjacentEvaluator;
+        }
+
+        @Override
+        public Object apply(final Object start) {
+            final Iterator<Object> iterator = this.adjacentEvaluator.applyAll(start);
+            try {
+                return IteratorUtils.count(iterator);
+            } finally {
+                CloseableIterator.closeIterator(iterator);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+
+/**
+ * Thrown if the barriers and side-effects of a {@link Traversal} hold more objects than its
+ * {@link TraversalMemoryBudget} allows. This is an unchecked exception.
+ */
+public class MemoryBudgetExceededException extends RuntimeException {
+
+    private final long maxSize;
+
+    public MemoryBudgetExceededException(final long maxSize, final Step<?, ?> step) {
+        super("The traversal exceeded its memory budget of " + maxSize + " objects at " + step);
+        this.maxSize = maxSize;
+    }
+
+    public long getMaxSize() {
+        return this.maxSize;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@code ProfileSampler} estimates the durations of the profiled steps of a traversal without reading the clock
+ * around every {@code next()} and {@code hasNext()}. The profiled steps push themselves onto a stack while they are
+ * pulled and a background thread periodically adds a sample to every step that is on the stack at that moment. As a
+ * profiled step is on the stack while the steps before it are pulled, the samples of a step include the ones of its
+ * upstream steps just like the timed durations do. The estimated duration of a step is its number of samples times the
+ * sample interval.
+ * <p/>
+ * Only the thread that first pulls a profiled step is sampled, so steps that are executed on other threads are not
+ * accounted for.
+ */
+public final class ProfileSampler {
+
+    private static final ScheduledExecutorService SAMPLER_EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "gremlin-profile-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final long sampleIntervalMs;
+    private final List<MutableMetrics> metrics = new ArrayList<>();
+    private final List<AtomicLong> samples = new ArrayList<>();
+    private volatile AtomicLong[] stack = new AtomicLong[16];
+    private volatile int depth = 0;
+    private volatile Thread owner = null;
+    private ScheduledFuture<?> future = null;
+
+    public ProfileSampler(final long sampleIntervalMs) {
+        if (sampleIntervalMs < 1)
+            throw new IllegalArgumentException("The sample interval must be at least one millisecond: " + sampleIntervalMs);
+        this.sampleIntervalMs = sampleIntervalMs;
+    }
+
+    public long getSampleInterval(final TimeUnit unit) {
+        return unit.convert(this.sampleIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized boolean isSampling() {
+        return null != this.future;
+    }
+
+    /**
+     * Registers the metrics of a profiled step and returns the counter of its samples which is to be passed to
+     * {@link #enter(AtomicLong)} whenever the step is pulled.
+     */
+    public synchronized AtomicLong register(final MutableMetrics stepMetrics) {
+        final AtomicLong counter = new AtomicLong();
+        this.metrics.add(stepMetrics);
+        this.samples.add(counter);
+        return counter;
+    }
+
+    /**
+     * Pushes the sample counter of a profiled step onto the stack. Returns {@code false} if the step was pulled by a
+     * thread that is not sampled in which case {@link #exit()} must not be called.
+     */
+    public boolean enter(final AtomicLong counter) {
+        if (null == this.owner) {
+            this.owner = Thread.currentThread();
+            this.start();
+        } else if (Thread.currentThread() != this.owner)
+            return false;
+        AtomicLong[] current = this.stack;
+        if (this.depth == current.length)
+            this.stack = current = Arrays.copyOf(current, current.length * 2);
+        current[this.depth] = counter;
+        this.depth = this.depth + 1;
+        return true;
+    }
+
+    public void exit() {
+        // the stack is emptied if sampling is cancelled while a step is pulled
+        if (this.depth > 0)
+            this.depth = this.depth - 1;
+    }
+
+    /**
+     * Stops sampling and sets the duration of every registered step to its estimate. The number of samples of a step
+     * is available through its {@link TraversalMetrics#SAMPLE_COUNT_KEY} annotation.
+     */
+    public synchronized void stop() {
+        this.cancel();
+        for (int i = 0; i < this.metrics.size(); i++) {
+            final MutableMetrics stepMetrics = this.metrics.get(i);
+            if (stepMetrics.isFinalized())
+                continue;
+            final long count = this.samples.get(i).get();
+            stepMetrics.setDuration(count * this.sampleIntervalMs, TimeUnit.MILLISECONDS);
+            stepMetrics.setAnnotation(TraversalMetrics.SAMPLE_COUNT_KEY, count);
+        }
+    }
+
+    /**
+     * Stops sampling without touching the metrics of the registered steps. The next step that is pulled starts
+     * sampling again, so a traversal that is reset or abandoned does not leave its task on the sampler thread.
+     */
+    public synchronized void cancel() {
+        if (null != this.future) {
+            this.future.cancel(false);
+            this.future = null;
+        }
+        this.owner = null;
+        this.depth = 0;
+    }
+
+    private synchronized void start() {
+        if (null == this.future)
+            this.future = SAMPLER_EXECUTOR.scheduleAtFixedRate(this::sample, this.sampleIntervalMs, this.sampleIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void sample() {
+        // the stack may change while it is read, which at worst misattributes a single sample
+        final AtomicLong[] current = this.stack;
+        final int size = Math.min(this.depth, current.length);
+        for (int i = 0; i < size; i++) {
+            final AtomicLong counter = current[i];
+            if (null != counter)
+                counter.incrementAndGet();
+        }
+    }
+}
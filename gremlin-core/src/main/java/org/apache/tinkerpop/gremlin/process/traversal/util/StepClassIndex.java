@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A {@code StepClassIndex} is the set of the classes, super-classes and interfaces of the steps of a
+ * {@link Traversal}, not including the steps of its child traversals. It allows a {@link TraversalStrategy} that
+ * declares {@link TraversalStrategy#requiredStepClasses()} to be skipped with a few lookups rather than a scan of the
+ * steps. The index of a {@link DefaultTraversal} is computed on first use and kept until a step is added or removed.
+ */
+public final class StepClassIndex {
+
+    private static final ClassValue<Set<Class<?>>> TYPES = new ClassValue<Set<Class<?>>>() {
+        @Override
+        protected Set<Class<?>> computeValue(final Class<?> stepClass) {
+            final Set<Class<?>> types = new HashSet<>();
+            final Deque<Class<?>> queue = new ArrayDeque<>();
+            queue.add(stepClass);
+            while (!queue.isEmpty()) {
+                final Class<?> type = queue.remove();
+                if (types.add(type)) {
+                    if (null != type.getSuperclass())
+                        queue.add(type.getSuperclass());
+                    Collections.addAll(queue, type.getInterfaces());
+                }
+            }
+            return Collections.unmodifiableSet(types);
+        }
+    };
+
+    private final Set<Class<?>> types = new HashSet<>();
+
+    private StepClassIndex(final Traversal.Admin<?, ?> traversal) {
+        final Set<Class<?>> stepClasses = new HashSet<>();
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (stepClasses.add(step.getClass()))
+                this.types.addAll(TYPES.get(step.getClass()));
+        }
+    }
+
+    public static StepClassIndex of(final Traversal.Admin<?, ?> traversal) {
+        if (traversal instanceof DefaultTraversal) {
+            final DefaultTraversal<?, ?> defaultTraversal = (DefaultTraversal<?, ?>) traversal;
+            if (null == defaultTraversal.stepClassIndex)
+                defaultTraversal.stepClassIndex = new StepClassIndex(traversal);
+            return defaultTraversal.stepClassIndex;
+        }
+        return new StepClassIndex(traversal);
+    }
+
+    /**
+     * Determines if the traversal has a step of the specified class or of a class that extends or implements it.
+     */
+    public boolean contains(final Class<?> stepClass) {
+        return this.types.contains(stepClass);
+    }
+
+    /**
+     * Determines if the traversal has a step of any of the specified classes or of a class that extends or
+     * implements one of them.
+     */
+    public boolean containsAny(final Set<Class<?>> stepClasses) {
+        for (final Class<?> stepClass : stepClasses) {
+            if (this.types.contains(stepClass))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Determines if the strategy has to be applied to the traversal as of its
+     * {@link TraversalStrategy#requiredStepClasses()}.
+     */
+    public static boolean isApplicable(final TraversalStrategy<?> strategy, final Traversal.Admin<?, ?> traversal) {
+        final Set<Class<?>> requiredStepClasses = strategy.requiredStepClasses();
+        return requiredStepClasses.isEmpty() || of(traversal).containsAny(requiredStepClasses);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads the number of bytes that the current thread has allocated on the heap from the HotSpot extension of the
+ * {@link ThreadMXBean}. The difference of two readings is the number of bytes allocated in between which is how
+ * profiled steps measure their allocations. On JVMs without the extension every reading is {@code -1}.
+ */
+public final class ThreadAllocation {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = load();
+
+    private ThreadAllocation() {
+    }
+
+    public static boolean isSupported() {
+        return null != THREAD_MX_BEAN;
+    }
+
+    /**
+     * Gets the total number of bytes allocated by the current thread or {@code -1} if it can not be measured.
+     */
+    public static long getAllocatedBytes() {
+        return null == THREAD_MX_BEAN ?
+                -1L :
+                ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static ThreadMXBean load() {
+        try {
+            final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+                if (!((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemoryEnabled())
+                    ((com.sun.management.ThreadMXBean) bean).setThreadAllocatedMemoryEnabled(true);
+                return bean;
+            }
+        } catch (final LinkageError | RuntimeException e) {
+            // the JVM does not provide the HotSpot extension or does not permit to enable it
+        }
+        return null;
+    }
+}
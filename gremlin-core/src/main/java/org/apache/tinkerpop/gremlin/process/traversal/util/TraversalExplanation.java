@@ -22,19 +22,23 @@ package org.apache.tinkerpop.gremlin.process.traversal.util;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracer;
 import org.javatuples.Pair;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 /**
  * A TraversalExplanation takes a {@link Traversal} and, for each registered {@link TraversalStrategy}, it creates a
  * mapping reflecting how each strategy alters the traversal. This is useful for understanding how each traversal
- * strategy mutates the traversal. This is useful in debugging and analysis of traversal compilation. The
+ * strategy mutates the traversal. This is useful in debugging and analysis of traversal compilation. It also records
+ * the time taken by each strategy to compile the traversal along with its child traversals. The
  * {@link TraversalExplanation#toString()} has a pretty-print representation that is useful in the Gremlin Console.
  *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -43,6 +47,7 @@ public class TraversalExplanation implements Serializable {
 
     private Traversal.Admin<?, ?> traversal;
     private List<Pair<TraversalStrategy, Traversal.Admin<?, ?>>> strategyTraversals = new ArrayList<>();
+    private Map<TraversalStrategy, Long> strategyTimes = new LinkedHashMap<>();
 
     private TraversalExplanation() {
         // no arg constructor for serialization
@@ -58,6 +63,9 @@ public class TraversalExplanation implements Serializable {
             mutatingTraversal.applyStrategies();
             this.strategyTraversals.add(Pair.with(strategy, mutatingTraversal));
         }
+        final Traversal.Admin<?, ?> timedTraversal = this.traversal.clone();
+        timedTraversal.setStrategies(new TimedTraversalStrategies(this.traversal.getStrategies(), this.strategyTimes));
+        timedTraversal.applyStrategies();
     }
 
     /**
@@ -69,6 +77,17 @@ public class TraversalExplanation implements Serializable {
         return Collections.unmodifiableList(this.strategyTraversals);
     }
 
+    /**
+     * Get the time in nanoseconds that each {@link TraversalStrategy} took to compile the traversal and its child
+     * traversals. A strategy that is missing was skipped for all of them as of
+     * {@link TraversalStrategy#requiredStepClasses()}.
+     *
+     * @return the strategy times
+     */
+    public Map<TraversalStrategy, Long> getStrategyTimes() {
+        return Collections.unmodifiableMap(this.strategyTimes);
+    }
+
     /**
      * Get the original {@link Traversal} used to create this explanation.
      *
@@ -95,6 +114,7 @@ public class TraversalExplanation implements Serializable {
     public String prettyPrint(final int maxLineLength) {
         final String originalTraversal = "Original Traversal";
         final String finalTraversal = "Final Traversal";
+        final String strategyTimes = "Strategy Times";
         final int maxStrategyColumnLength = this.strategyTraversals.stream()
                 .map(Pair::getValue0)
                 .map(Object::toString)
@@ -147,9 +167,26 @@ public class TraversalExplanation implements Serializable {
         builder.append(wordWrap((this.strategyTraversals.size() > 0 ?
                 this.strategyTraversals.get(this.strategyTraversals.size() - 1).getValue1().toString() :
                 this.traversal.toString()), maxTraversalColumn, newLineIndent));
+        builder.append("\n\n");
+        builder.append(strategyTimes).append(" (ms)");
+        long total = 0L;
+        for (final Pair<TraversalStrategy, Traversal.Admin<?, ?>> pairs : this.strategyTraversals) {
+            final Long time = this.strategyTimes.get(pairs.getValue0());
+            appendTime(builder, pairs.getValue0().toString(), time, maxStrategyColumnLength);
+            if (null != time) total = total + time;
+        }
+        appendTime(builder, "Total", total, maxStrategyColumnLength);
         return builder.toString();
     }
 
+    private static void appendTime(final StringBuilder builder, final String name, final Long time, final int maxStrategyColumnLength) {
+        builder.append("\n").append(name);
+        for (int i = 0; i < maxStrategyColumnLength - name.length() + 7; i++) {
+            builder.append(" ");
+        }
+        builder.append(null == time ? "skipped" : String.format("%.3f", time / 1000000.0d));
+    }
+
     private String wordWrap(final String longString, final int maxLengthPerLine, final int newLineIndent) {
         if (longString.length() <= maxLengthPerLine)
             return longString;
@@ -175,4 +212,26 @@ public class TraversalExplanation implements Serializable {
         return builder.toString();
     }
 
+    /**
+     * Applies the strategies of a traversal and sums up the time that each strategy takes.
+     */
+    private static final class TimedTraversalStrategies extends DefaultTraversalStrategies implements GremlinTracer {
+
+        private final Map<TraversalStrategy, Long> strategyTimes;
+
+        private TimedTraversalStrategies(final TraversalStrategies strategies, final Map<TraversalStrategy, Long> strategyTimes) {
+            this.strategyTimes = strategyTimes;
+            this.addStrategies(strategies.toList().toArray(new TraversalStrategy[strategies.toList().size()]));
+        }
+
+        @Override
+        public void applyStrategies(final Traversal.Admin<?, ?> traversal) {
+            this.applyStrategies(traversal, this);
+        }
+
+        @Override
+        public void strategyApplied(final Traversal.Admin<?, ?> traversal, final TraversalStrategy<?> strategy, final long durationNanos) {
+            this.strategyTimes.merge(strategy, durationNanos, Long::sum);
+        }
+    }
 }
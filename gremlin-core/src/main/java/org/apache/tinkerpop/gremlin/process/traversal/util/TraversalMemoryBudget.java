@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * TraversalMemoryBudget bounds the number of objects that the barriers and side-effects of a traversal may hold at
+ * once. Steps that accumulate objects like {@code group()}, {@code order()}, {@code aggregate()}, {@code store()} or
+ * {@code dedup()} report the current size of their structure to the budget of the root traversal whenever it grows,
+ * and the traversal fails with a {@link MemoryBudgetExceededException} as soon as the total exceeds the budget, rather
+ * than with an {@code OutOfMemoryError} that may take down every other traversal of the JVM. The accounting is
+ * approximate as every object counts the same regardless of its actual size. The budget belongs to one traversal
+ * instance, so a clone starts empty, and it is only enabled by {@code MemoryBudgetStrategy}.
+ */
+public final class TraversalMemoryBudget {
+
+    private final long maxSize;
+    private final Map<Object, long[]> sizes = new IdentityHashMap<>();
+    private long size = 0L;
+
+    private TraversalMemoryBudget(final long maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("The maximum size of the memory budget must be greater than zero: " + maxSize);
+        this.maxSize = maxSize;
+    }
+
+    public long getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Gets the number of objects that are currently accounted for.
+     */
+    public synchronized long getSize() {
+        return this.size;
+    }
+
+    /**
+     * Enables the budget of a root traversal. The budget is ignored for traversals that are not a
+     * {@link DefaultTraversal}.
+     */
+    public static void enable(final Traversal.Admin<?, ?> traversal, final long maxSize) {
+        if (traversal instanceof DefaultTraversal)
+            ((DefaultTraversal) traversal).memoryBudget = new TraversalMemoryBudget(maxSize);
+    }
+
+    /**
+     * Gets the budget of the root traversal of a traversal or {@code null} if it has none.
+     */
+    public static TraversalMemoryBudget of(final Traversal.Admin<?, ?> traversal) {
+        final Traversal.Admin<?, ?> root = TraversalHelper.getRootTraversal(traversal);
+        return root instanceof DefaultTraversal ? ((DefaultTraversal) root).memoryBudget : null;
+    }
+
+    /**
+     * Sets the number of objects that a step currently holds.
+     *
+     * @throws MemoryBudgetExceededException if the objects held by all steps exceed the budget
+     */
+    public synchronized void update(final Step<?, ?> step, final long stepSize) {
+        final long[] held = this.sizes.computeIfAbsent(step, s -> new long[1]);
+        this.size = this.size + stepSize - held[0];
+        held[0] = stepSize;
+        if (this.size > this.maxSize)
+            throw new MemoryBudgetExceededException(this.maxSize, step);
+    }
+
+    /**
+     * Releases the objects of a step that no longer holds any, if its traversal has a budget.
+     */
+    public static void release(final Step<?, ?> step) {
+        final TraversalMemoryBudget memoryBudget = TraversalMemoryBudget.of(step.getTraversal());
+        if (null != memoryBudget)
+            memoryBudget.update(step, 0L);
+    }
+
+    /**
+     * Creates an empty budget of the same size for a cloned traversal.
+     */
+    TraversalMemoryBudget emptyCopy() {
+        return new TraversalMemoryBudget(this.maxSize);
+    }
+
+    /**
+     * Approximates the number of objects held by a barrier seed or side-effect which is the number of distinct
+     * objects of a {@link BulkSet}, the size of any other collection or map and one for any other object.
+     */
+    public static long sizeOf(final Object object) {
+        if (null == object)
+            return 0L;
+        else if (object instanceof BulkSet)
+            return ((BulkSet) object).uniqueSize();
+        else if (object instanceof Collection)
+            return ((Collection) object).size();
+        else if (object instanceof Map)
+            return ((Map) object).size();
+        else
+            return 1L;
+    }
+}
@@ -43,6 +43,25 @@ public interface TraversalMetrics {
      */
     public static final String PERCENT_DURATION_KEY = "percentDur";
 
+    /**
+     * The annotation key used to obtain the number of samples of a step that was profiled with
+     * {@link org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ProfileStrategy.Mode#SAMPLING} via
+     * Metrics.getAnnotation(String key)
+     */
+    public static final String SAMPLE_COUNT_KEY = "samples";
+
+    /**
+     * The annotation key used to obtain the number of bytes allocated by a step that was profiled with memory
+     * accounting via Metrics.getAnnotation(String key)
+     */
+    public static final String ALLOCATED_BYTES_KEY = "allocatedBytes";
+
+    /**
+     * The annotation key used to obtain the peak number of objects held by a barrier step that was profiled with memory
+     * accounting via Metrics.getAnnotation(String key)
+     */
+    public static final String BARRIER_SIZE_KEY = "peakBarrierSize";
+
     /**
      * Get the total duration taken by the Traversal.
      *
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * TraversalResultCache memoizes the results of a child traversal by the object that is started through it, so that an
+ * element which reaches a {@code by()}, {@code where()} or {@code choose()} more than once is only walked once.
+ * {@link TraversalUtil} consults the cache of a child traversal when mapping with {@code apply()} and filtering with
+ * {@code test()}. The cache holds the most recently used results of at most {@code maxSize} objects and it belongs to
+ * one traversal instance, so a clone (e.g. the next execution of a cached traversal) starts empty and the caches of
+ * all the children are cleared when the root traversal is reset. The cache is synchronized, so a child traversal that
+ * is shared by several threads is evaluated by one thread at a time. It is only enabled by
+ * {@code MemoizationStrategy} for child traversals whose results solely depend on the start object.
+ */
+public final class TraversalResultCache {
+
+    private final int maxSize;
+    private final Map<Object, Object> ends;
+    private final Map<Object, Boolean> tests;
+
+    private TraversalResultCache(final int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("The maximum size of the cache must be greater than zero: " + maxSize);
+        this.maxSize = maxSize;
+        this.ends = createLruMap(maxSize);
+        this.tests = createLruMap(maxSize);
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Enables the cache of a child traversal. The cache is ignored for traversals that are not a
+     * {@link DefaultTraversal}.
+     */
+    public static void enable(final Traversal.Admin<?, ?> traversal, final int maxSize) {
+        if (traversal instanceof DefaultTraversal)
+            ((DefaultTraversal) traversal).resultCache = new TraversalResultCache(maxSize);
+    }
+
+    /**
+     * Gets the cache of a traversal or {@code null} if it has none.
+     */
+    public static TraversalResultCache of(final Traversal.Admin<?, ?> traversal) {
+        return traversal instanceof DefaultTraversal ? ((DefaultTraversal) traversal).resultCache : null;
+    }
+
+    /**
+     * Clears the caches of all the child traversals of a traversal.
+     */
+    public static void clearChildren(final Traversal.Admin<?, ?> traversal) {
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getLocalChildren()) {
+                    clear(child);
+                }
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getGlobalChildren()) {
+                    clear(child);
+                }
+            }
+        }
+    }
+
+    private static void clear(final Traversal.Admin<?, ?> traversal) {
+        final TraversalResultCache resultCache = of(traversal);
+        if (null != resultCache) {
+            resultCache.ends.clear();
+            resultCache.tests.clear();
+        }
+        clearChildren(traversal);
+    }
+
+    <E> E apply(final Object start, final Function<Object, E> function) {
+        return (E) this.ends.computeIfAbsent(start, function);
+    }
+
+    boolean test(final Object start, final Function<Object, Boolean> function) {
+        return this.tests.computeIfAbsent(start, function);
+    }
+
+    int size() {
+        return this.ends.size() + this.tests.size();
+    }
+
+    /**
+     * Creates an empty cache of the same size for a cloned traversal.
+     */
+    TraversalResultCache emptyCopy() {
+        return new TraversalResultCache(this.maxSize);
+    }
+
+    private static <V> Map<Object, V> createLruMap(final int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<Object, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Object, V> eldest) {
+                return this.size() > maxSize;
+            }
+        });
+    }
+}
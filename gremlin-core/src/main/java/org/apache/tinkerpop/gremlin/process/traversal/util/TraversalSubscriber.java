@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+
+/**
+ * A {@code TraversalSubscriber} receives the results of a {@link Traversal} as it requests them through a
+ * {@link TraversalSubscription}, see {@link Traversal#subscribe(TraversalSubscriber)}. The methods have the same
+ * signatures and contract as those of a Reactive Streams subscriber (i.e. {@code java.util.concurrent.Flow.Subscriber}
+ * of Java 9), so a subscriber of a reactive library can be adapted with one-line delegations. The methods are never
+ * called concurrently, but they may be called from different threads.
+ */
+public interface TraversalSubscriber<E> {
+
+    /**
+     * Called first and exactly once. No result is sent until results are requested with
+     * {@link TraversalSubscription#request(long)}.
+     */
+    public void onSubscribe(final TraversalSubscription subscription);
+
+    /**
+     * Called with the next result, at most as often as results were requested.
+     */
+    public void onNext(final E result);
+
+    /**
+     * Called once if the traversal failed after which no other method is called.
+     */
+    public void onError(final Throwable throwable);
+
+    /**
+     * Called once if the traversal has no more results after which no other method is called.
+     */
+    public void onComplete();
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+/**
+ * The link between a {@link TraversalSubscriber} and the traversal it subscribed to, through which the subscriber
+ * signals its demand for results.
+ */
+public interface TraversalSubscription {
+
+    /**
+     * Requests the specified number of results in addition to those that were already requested. A number that is
+     * not positive fails the subscription with an {@code IllegalArgumentException}.
+     */
+    public void request(final long n);
+
+    /**
+     * Stops sending results to the subscriber, though results that are already on their way may still be sent.
+     */
+    public void cancel();
+}
@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.util;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.structure.util.CloseableIterator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -34,6 +35,21 @@ public final class TraversalUtil {
     }
 
     public static final <S, E> E apply(final Traverser.Admin<S> traverser, final Traversal.Admin<S, E> traversal) {
+        final TraversalResultCache resultCache = TraversalResultCache.of(traversal);
+        return null == resultCache ?
+                applyUncached(traverser, traversal) :
+                resultCache.apply(traverser.get(), start -> applyUncached(traverser, traversal));
+    }
+
+    private static <S, E> E applyUncached(final Traverser.Admin<S> traverser, final Traversal.Admin<S, E> traversal) {
+        final FastPathEvaluator fastPathEvaluator = getFastPathEvaluator(traversal);
+        if (null != fastPathEvaluator) {
+            final E end = (E) fastPathEvaluator.apply(traverser.get());
+            if (null == end)
+                throw new IllegalArgumentException("The provided traverser does not map to a value: " + traverser + "->" + traversal);
+            return end;
+        }
+
         final Traverser.Admin<S> split = traverser.split();
         split.setSideEffects(traversal.getSideEffects());
         split.setBulk(1l);
@@ -47,6 +63,10 @@ public final class TraversalUtil {
     }
 
     public static final <S, E> Iterator<E> applyAll(final Traverser.Admin<S> traverser, final Traversal.Admin<S, E> traversal) {
+        final FastPathEvaluator fastPathEvaluator = getFastPathEvaluator(traversal);
+        if (null != fastPathEvaluator)
+            return (Iterator<E>) fastPathEvaluator.applyAll(traverser.get());
+
         final Traverser.Admin<S> split = traverser.split();
         split.setSideEffects(traversal.getSideEffects());
         split.setBulk(1l);
@@ -57,6 +77,9 @@ public final class TraversalUtil {
 
     public static final <S, E> boolean test(final Traverser.Admin<S> traverser, final Traversal.Admin<S, E> traversal, E end) {
         if (null == end) return TraversalUtil.test(traverser, traversal);
+        final FastPathEvaluator fastPathEvaluator = getFastPathEvaluator(traversal);
+        if (null != fastPathEvaluator)
+            return contains(fastPathEvaluator.applyAll(traverser.get()), end);
 
         final Traverser.Admin<S> split = traverser.split();
         split.setSideEffects(traversal.getSideEffects());
@@ -76,6 +99,17 @@ public final class TraversalUtil {
     }
 
     public static final <S, E> boolean test(final Traverser.Admin<S> traverser, final Traversal.Admin<S, E> traversal) {
+        final TraversalResultCache resultCache = TraversalResultCache.of(traversal);
+        return null == resultCache ?
+                testUncached(traverser, traversal) :
+                resultCache.test(traverser.get(), start -> testUncached(traverser, traversal));
+    }
+
+    private static <S, E> boolean testUncached(final Traverser.Admin<S> traverser, final Traversal.Admin<S, E> traversal) {
+        final FastPathEvaluator fastPathEvaluator = getFastPathEvaluator(traversal);
+        if (null != fastPathEvaluator)
+            return null != fastPathEvaluator.apply(traverser.get());
+
         final Traverser.Admin<S> split = traverser.split();
         split.setSideEffects(traversal.getSideEffects());
         split.setBulk(1l);
@@ -87,6 +121,21 @@ public final class TraversalUtil {
     ///////
 
     public static final <S, E> E apply(final S start, final Traversal.Admin<S, E> traversal) {
+        final TraversalResultCache resultCache = TraversalResultCache.of(traversal);
+        return null == resultCache ?
+                applyUncached(start, traversal) :
+                resultCache.apply(start, s -> applyUncached(start, traversal));
+    }
+
+    private static <S, E> E applyUncached(final S start, final Traversal.Admin<S, E> traversal) {
+        final FastPathEvaluator fastPathEvaluator = getFastPathEvaluator(traversal);
+        if (null != fastPathEvaluator) {
+            final E end = (E) fastPathEvaluator.apply(start);
+            if (null == end)
+                throw new IllegalArgumentException("The provided start does not map to a value: " + start + "->" + traversal);
+            return end;
+        }
+
         traversal.reset();
         traversal.addStart(traversal.getTraverserGenerator().generate(start, traversal.getStartStep(), 1l));
         try {
@@ -97,6 +146,10 @@ public final class TraversalUtil {
     }
 
     public static final <S, E> Iterator<E> applyAll(final S start, final Traversal.Admin<S, E> traversal) {
+        final FastPathEvaluator fastPathEvaluator = getFastPathEvaluator(traversal);
+        if (null != fastPathEvaluator)
+            return (Iterator<E>) fastPathEvaluator.applyAll(start);
+
         traversal.reset();
         traversal.addStart(traversal.getTraverserGenerator().generate(start, traversal.getStartStep(), 1l));
         return traversal; // flatMap
@@ -104,6 +157,9 @@ public final class TraversalUtil {
 
     public static final <S, E> boolean test(final S start, final Traversal.Admin<S, E> traversal, final E end) {
         if (null == end) return TraversalUtil.test(start, traversal);
+        final FastPathEvaluator fastPathEvaluator = getFastPathEvaluator(traversal);
+        if (null != fastPathEvaluator)
+            return contains(fastPathEvaluator.applyAll(start), end);
 
         traversal.reset();
         traversal.addStart(traversal.getTraverserGenerator().generate(start, traversal.getStartStep(), 1l));
@@ -120,8 +176,41 @@ public final class TraversalUtil {
     }
 
     public static final <S, E> boolean test(final S start, final Traversal.Admin<S, E> traversal) {
+        final TraversalResultCache resultCache = TraversalResultCache.of(traversal);
+        return null == resultCache ?
+                testUncached(start, traversal) :
+                resultCache.test(start, s -> testUncached(start, traversal));
+    }
+
+    private static <S, E> boolean testUncached(final S start, final Traversal.Admin<S, E> traversal) {
+        final FastPathEvaluator fastPathEvaluator = getFastPathEvaluator(traversal);
+        if (null != fastPathEvaluator)
+            return null != fastPathEvaluator.apply(start);
+
         traversal.reset();
         traversal.addStart(traversal.getTraverserGenerator().generate(start, traversal.getStartStep(), 1l));
         return traversal.hasNext(); // filter
     }
+
+    ///////
+
+    /**
+     * Gets the {@link FastPathEvaluator} that was compiled for a child traversal which allows it to be evaluated
+     * without resetting it and pushing a traverser through its steps.
+     */
+    private static FastPathEvaluator getFastPathEvaluator(final Traversal.Admin<?, ?> traversal) {
+        return traversal instanceof DefaultTraversal ? ((DefaultTraversal) traversal).fastPathEvaluator : null;
+    }
+
+    private static boolean contains(final Iterator<?> iterator, final Object end) {
+        try {
+            while (iterator.hasNext()) {
+                if (iterator.next().equals(end))
+                    return true;
+            }
+            return false;
+        } finally {
+            CloseableIterator.closeIterator(iterator);
+        }
+    }
 }
@@ -39,15 +39,23 @@ import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.EventS
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.HaltedTraverserStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.PartitionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SubgraphStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.BatchingStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MatchAlgorithmStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MemoizationStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MemoryBudgetStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ProfileStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ParallelStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.StepFusionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.AdjacentToIncidentStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.FilterRankingStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.IdentityRemovalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.IncidentToAdjacentStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.LeapfrogJoinStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.InlineFilterStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.LazyBarrierStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.MatchPredicateStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.OrderLimitStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.StreamingGroupStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.PathProcessorStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.PathRetractionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.CountStrategy;
@@ -165,13 +173,21 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                             SubgraphStrategy.class,
                             LazyBarrierStrategy.class,
                             MatchAlgorithmStrategy.class,
+                            ParallelStrategy.class,
+                            BatchingStrategy.class,
+                            StepFusionStrategy.class,
+                            MemoizationStrategy.class,
+                            MemoryBudgetStrategy.class,
+                            ProfileStrategy.class,
                             AdjacentToIncidentStrategy.class,
                             FilterRankingStrategy.class,
                             IdentityRemovalStrategy.class,
                             IncidentToAdjacentStrategy.class,
+                            LeapfrogJoinStrategy.class,
                             InlineFilterStrategy.class,
                             MatchPredicateStrategy.class,
                             OrderLimitStrategy.class,
+                            StreamingGroupStrategy.class,
                             PathProcessorStrategy.class,
                             PathRetractionStrategy.class,
                             CountStrategy.class,
@@ -281,13 +297,21 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                     SubgraphStrategy.class,
                     LazyBarrierStrategy.class,
                     MatchAlgorithmStrategy.class,
+                    ParallelStrategy.class,
+                    BatchingStrategy.class,
+                    StepFusionStrategy.class,
+                    MemoizationStrategy.class,
+                    MemoryBudgetStrategy.class,
+                    ProfileStrategy.class,
                     AdjacentToIncidentStrategy.class,
                     FilterRankingStrategy.class,
                     IdentityRemovalStrategy.class,
                     IncidentToAdjacentStrategy.class,
+                    LeapfrogJoinStrategy.class,
                     InlineFilterStrategy.class,
                     MatchPredicateStrategy.class,
                     OrderLimitStrategy.class,
+                    StreamingGroupStrategy.class,
                     PathProcessorStrategy.class,
                     PathRetractionStrategy.class,
                     CountStrategy.class,
@@ -379,13 +403,21 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                             SubgraphStrategy.class,
                             LazyBarrierStrategy.class,
                             MatchAlgorithmStrategy.class,
+                            ParallelStrategy.class,
+                            BatchingStrategy.class,
+                            StepFusionStrategy.class,
+                            MemoizationStrategy.class,
+                            MemoryBudgetStrategy.class,
+                            ProfileStrategy.class,
                             AdjacentToIncidentStrategy.class,
                             FilterRankingStrategy.class,
                             IdentityRemovalStrategy.class,
                             IncidentToAdjacentStrategy.class,
+                            LeapfrogJoinStrategy.class,
                             InlineFilterStrategy.class,
                             MatchPredicateStrategy.class,
                             OrderLimitStrategy.class,
+                            StreamingGroupStrategy.class,
                             PathProcessorStrategy.class,
                             PathRetractionStrategy.class,
                             CountStrategy.class,
@@ -487,13 +519,21 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                     SubgraphStrategy.class,
                     LazyBarrierStrategy.class,
                     MatchAlgorithmStrategy.class,
+                    ParallelStrategy.class,
+                    BatchingStrategy.class,
+                    StepFusionStrategy.class,
+                    MemoizationStrategy.class,
+                    MemoryBudgetStrategy.class,
+                    ProfileStrategy.class,
                     AdjacentToIncidentStrategy.class,
                     FilterRankingStrategy.class,
                     IdentityRemovalStrategy.class,
                     IncidentToAdjacentStrategy.class,
+                    LeapfrogJoinStrategy.class,
                     InlineFilterStrategy.class,
                     MatchPredicateStrategy.class,
                     OrderLimitStrategy.class,
+                    StreamingGroupStrategy.class,
                     PathProcessorStrategy.class,
                     PathRetractionStrategy.class,
                     CountStrategy.class,
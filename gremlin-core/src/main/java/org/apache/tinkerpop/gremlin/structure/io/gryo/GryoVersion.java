@@ -35,29 +35,41 @@ import org.apache.tinkerpop.gremlin.process.traversal.SackFunctions;
 import org.apache.tinkerpop.gremlin.process.traversal.Scope;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalOptionParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.CardinalityStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.FoldStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupCountStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.MeanGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.QuantileGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.TreeStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HyperLogLog;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.TDigest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.Tree;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ConnectiveStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.HaltedTraverserStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.PartitionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SubgraphStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.BatchingStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MatchAlgorithmStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MemoizationStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MemoryBudgetStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ProfileStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ParallelStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.StepFusionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.AdjacentToIncidentStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.FilterRankingStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.IdentityRemovalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.IncidentToAdjacentStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.LeapfrogJoinStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.InlineFilterStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.LazyBarrierStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.MatchPredicateStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.OrderLimitStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.StreamingGroupStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.PathProcessorStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.PathRetractionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.CountStrategy;
@@ -247,7 +259,7 @@ public enum GryoVersion {
             add(GryoTypeReg.of(HashMap.class, 11));
             add(GryoTypeReg.of(HashMap.Entry.class, 16));
             add(GryoTypeReg.of(Types.HASH_MAP_NODE, 92));
-            add(GryoTypeReg.of(Types.HASH_MAP_TREE_NODE, 172));                  // ***LAST ID***
+            add(GryoTypeReg.of(Types.HASH_MAP_TREE_NODE, 172));
             add(GryoTypeReg.of(KryoSerializable.class, 36));
             add(GryoTypeReg.of(LinkedHashMap.class, 47));
             add(GryoTypeReg.of(LinkedHashSet.class, 71));
@@ -372,6 +384,20 @@ public enum GryoVersion {
             add(GryoTypeReg.of(RangeGlobalStep.RangeBiOperator.class, 114));
             add(GryoTypeReg.of(OrderGlobalStep.OrderBiOperator.class, 118));
             add(GryoTypeReg.of(ProfileStep.ProfileBiOperator.class, 119));
+            add(GryoTypeReg.of(CardinalityStep.CardinalityBiOperator.class, 173));
+            add(GryoTypeReg.of(HyperLogLog.class, 174));
+            add(GryoTypeReg.of(QuantileGlobalStep.QuantileGlobalBiOperator.class, 175));
+            add(GryoTypeReg.of(TDigest.class, 176));
+            add(GryoTypeReg.of(ParallelStrategy.class, 177));
+            add(GryoTypeReg.of(BatchingStrategy.class, 178));
+            add(GryoTypeReg.of(MatchStep.CostMatchAlgorithm.class, 179));
+            add(GryoTypeReg.of(MatchStep.HashJoinMatchAlgorithm.class, 180));
+            add(GryoTypeReg.of(LeapfrogJoinStrategy.class, 181));
+            add(GryoTypeReg.of(StreamingGroupStrategy.class, 182));
+            add(GryoTypeReg.of(StepFusionStrategy.class, 183));
+            add(GryoTypeReg.of(MemoizationStrategy.class, 184));
+            add(GryoTypeReg.of(ProfileStrategy.class, 185));
+            add(GryoTypeReg.of(MemoryBudgetStrategy.class, 186));                                 // ***LAST ID***
 
             // placeholder serializers for classes that don't live here in core. this will allow them to be used if
             // present  or ignored if the class isn't available. either way the registration numbers are held as
@@ -422,7 +448,7 @@ public enum GryoVersion {
             add(GryoTypeReg.of(HashMap.class, 11));
             add(GryoTypeReg.of(HashMap.Entry.class, 16));
             add(GryoTypeReg.of(Types.HASH_MAP_NODE, 92));
-            add(GryoTypeReg.of(Types.HASH_MAP_TREE_NODE, 170));                  // ***LAST ID***
+            add(GryoTypeReg.of(Types.HASH_MAP_TREE_NODE, 170));
             add(GryoTypeReg.of(KryoSerializable.class, 36));
             add(GryoTypeReg.of(LinkedHashMap.class, 47));
             add(GryoTypeReg.of(LinkedHashSet.class, 71));
@@ -523,6 +549,20 @@ public enum GryoVersion {
             add(GryoTypeReg.of(RangeGlobalStep.RangeBiOperator.class, 114));
             add(GryoTypeReg.of(OrderGlobalStep.OrderBiOperator.class, 118, new JavaSerializer()));
             add(GryoTypeReg.of(ProfileStep.ProfileBiOperator.class, 119));
+            add(GryoTypeReg.of(CardinalityStep.CardinalityBiOperator.class, 171));
+            add(GryoTypeReg.of(HyperLogLog.class, 172));
+            add(GryoTypeReg.of(QuantileGlobalStep.QuantileGlobalBiOperator.class, 173));
+            add(GryoTypeReg.of(TDigest.class, 174));
+            add(GryoTypeReg.of(ParallelStrategy.class, 175));
+            add(GryoTypeReg.of(BatchingStrategy.class, 176));
+            add(GryoTypeReg.of(MatchStep.CostMatchAlgorithm.class, 177));
+            add(GryoTypeReg.of(MatchStep.HashJoinMatchAlgorithm.class, 178));
+            add(GryoTypeReg.of(LeapfrogJoinStrategy.class, 179));
+            add(GryoTypeReg.of(StreamingGroupStrategy.class, 180));
+            add(GryoTypeReg.of(StepFusionStrategy.class, 181));
+            add(GryoTypeReg.of(MemoizationStrategy.class, 182));
+            add(GryoTypeReg.of(ProfileStrategy.class, 183));
+            add(GryoTypeReg.of(MemoryBudgetStrategy.class, 184));                                 // ***LAST ID***
 
             add(GryoTypeReg.of(ConnectiveStrategy.class, 138));
             add(GryoTypeReg.of(HaltedTraverserStrategy.class, 139));
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+/**
+ * A {@link Graph} that implements {@code CardinalityEstimator} provides statistics about its data which a
+ * cost-based optimizer (e.g. {@link org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep.CostMatchAlgorithm})
+ * can use to estimate the number of traversers that a traversal will produce. Estimates are not expected to be exact
+ * and an implementation may return cached or sampled values.
+ */
+public interface CardinalityEstimator {
+
+    /**
+     * Estimates the number of vertices with the specified label or the number of all vertices if the label is
+     * {@code null}.
+     */
+    public long estimateVertexCount(final String label);
+
+    /**
+     * Estimates the number of edges with the specified label or the number of all edges if the label is
+     * {@code null}.
+     */
+    public long estimateEdgeCount(final String label);
+
+    /**
+     * Estimates the average number of edges with the specified label (or of any label if {@code null}) that are
+     * incident to a vertex in the specified direction. By default, this is derived from the edge and vertex counts.
+     */
+    public default double estimateAverageDegree(final Direction direction, final String edgeLabel) {
+        final long vertexCount = this.estimateVertexCount(null);
+        if (0 == vertexCount)
+            return 0.0d;
+        final double degree = (double) this.estimateEdgeCount(edgeLabel) / (double) vertexCount;
+        return Direction.BOTH == direction ? 2.0d * degree : degree;
+    }
+
+    /**
+     * Estimates the fraction of the elements of the specified class that satisfy the {@link HasContainer}, e.g. from
+     * the statistics of an index. The estimate is between {@code 0.0} and {@code 1.0} or {@code Double.NaN} if the
+     * graph has no estimate in which case a default is used.
+     */
+    public default double estimateSelectivity(final Class<? extends Element> elementClass, final HasContainer hasContainer) {
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure.util;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A {@link Graph} that implements {@code SortedAdjacency} can return the adjacent vertices of a vertex sorted by a
+ * total order of its choosing. Sorted adjacency lists can be intersected by merging them rather than by lookups,
+ * which is what multi-way joins like the
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.step.map.LeapfrogJoinStep} rely on.
+ */
+public interface SortedAdjacency {
+
+    /**
+     * The order of the vertices in the lists returned by {@link #getSortedAdjacentVertices}. The order must be
+     * consistent with equality, i.e. only compare equal vertices as {@code 0}.
+     */
+    public Comparator<Vertex> getAdjacencyOrder();
+
+    /**
+     * Gets the vertices adjacent to the vertex in the direction over the edges with any of the labels (or any label
+     * if none are provided) sorted by the {@link #getAdjacencyOrder()}. A vertex that is connected by more than one
+     * edge occurs once for each edge. The returned list should support fast random access and must not be modified.
+     */
+    public List<Vertex> getSortedAdjacentVertices(final Vertex vertex, final Direction direction, final String... edgeLabels);
+}
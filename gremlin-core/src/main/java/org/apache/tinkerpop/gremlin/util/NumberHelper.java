@@ -221,16 +221,28 @@ public final class NumberHelper {
     }
 
     public static Number add(final Number a, final Number b) {
+        final Class<? extends Number> same = getSameNumberClass(a, b);
+        if (Long.class == same) return a.longValue() + b.longValue();
+        if (Integer.class == same) return a.intValue() + b.intValue();
+        if (Double.class == same) return a.doubleValue() + b.doubleValue();
         final Class<? extends Number> clazz = getHighestCommonNumberClass(a, b);
         return getHelper(clazz).add.apply(a, b);
     }
 
     public static Number sub(final Number a, final Number b) {
+        final Class<? extends Number> same = getSameNumberClass(a, b);
+        if (Long.class == same) return a.longValue() - b.longValue();
+        if (Integer.class == same) return a.intValue() - b.intValue();
+        if (Double.class == same) return a.doubleValue() - b.doubleValue();
         final Class<? extends Number> clazz = getHighestCommonNumberClass(a, b);
         return getHelper(clazz).sub.apply(a, b);
     }
 
     public static Number mul(final Number a, final Number b) {
+        final Class<? extends Number> same = getSameNumberClass(a, b);
+        if (Long.class == same) return a.longValue() * b.longValue();
+        if (Integer.class == same) return a.intValue() * b.intValue();
+        if (Double.class == same) return a.doubleValue() * b.doubleValue();
         final Class<? extends Number> clazz = getHighestCommonNumberClass(a, b);
         return getHelper(clazz).mul.apply(a, b);
     }
@@ -240,25 +252,54 @@ public final class NumberHelper {
     }
 
     public static Number div(final Number a, final Number b, final boolean forceFloatingPoint) {
+        final Class<? extends Number> same = getSameNumberClass(a, b);
+        if (Double.class == same) return a.doubleValue() / b.doubleValue();
+        if (!forceFloatingPoint) {
+            if (Long.class == same) return a.longValue() / b.longValue();
+            if (Integer.class == same) return a.intValue() / b.intValue();
+        }
         final Class<? extends Number> clazz = getHighestCommonNumberClass(forceFloatingPoint, a, b);
         return getHelper(clazz).div.apply(a, b);
     }
 
     public static Number min(final Number a, final Number b) {
+        final Class<? extends Number> same = getSameNumberClass(a, b);
+        if (Long.class == same) return a.longValue() <= b.longValue() ? a : b;
+        if (Integer.class == same) return a.intValue() <= b.intValue() ? a : b;
+        if (Double.class == same) return a.doubleValue() <= b.doubleValue() ? a : b;
         final Class<? extends Number> clazz = getHighestCommonNumberClass(a, b);
         return getHelper(clazz).min.apply(a, b);
     }
 
     public static Number max(final Number a, final Number b) {
+        final Class<? extends Number> same = getSameNumberClass(a, b);
+        if (Long.class == same) return a.longValue() >= b.longValue() ? a : b;
+        if (Integer.class == same) return a.intValue() >= b.intValue() ? a : b;
+        if (Double.class == same) return a.doubleValue() >= b.doubleValue() ? a : b;
         final Class<? extends Number> clazz = getHighestCommonNumberClass(a, b);
         return getHelper(clazz).max.apply(a, b);
     }
 
     public static Integer compare(final Number a, final Number b) {
+        final Class<? extends Number> same = getSameNumberClass(a, b);
+        if (Long.class == same) return Long.compare(a.longValue(), b.longValue());
+        if (Integer.class == same) return Integer.compare(a.intValue(), b.intValue());
+        if (Double.class == same) return Double.compare(a.doubleValue(), b.doubleValue());
         final Class<? extends Number> clazz = getHighestCommonNumberClass(a, b);
         return getHelper(clazz).cmp.apply(a, b);
     }
 
+    /**
+     * Returns the class of both numbers if they are of the same class, which allows the most common operations on
+     * {@code Integer}, {@code Long} and {@code Double} operands to skip the resolution of the highest common number
+     * class and the dispatch through the helper of that class.
+     */
+    private static Class<? extends Number> getSameNumberClass(final Number a, final Number b) {
+        if (null == a || null == b) return null;
+        final Class<? extends Number> clazz = a.getClass();
+        return clazz == b.getClass() ? clazz : null;
+    }
+
     private static NumberHelper getHelper(final Class<? extends Number> clazz) {
         if (clazz.equals(Byte.class)) {
             return BYTE_NUMBER_HELPER;
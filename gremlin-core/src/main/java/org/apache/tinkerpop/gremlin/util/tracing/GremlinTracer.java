@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.util.tracing;
+
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+
+import java.util.UUID;
+
+/**
+ * A {@code GremlinTracer} is notified of what Gremlin is doing inside a JVM: the compilation of traversals, the
+ * flushes of barrier steps, the supersteps of a {@link GraphComputer} and the phases of the requests of Gremlin Server.
+ * It is the extension point for low-overhead tracing in production, e.g. a bridge that commits the events to the JDK
+ * Flight Recorder or to a distributed tracing system. Every method has an empty default implementation, so a tracer
+ * only overrides the events that it is interested in. The events are raised synchronously on the thread that did the
+ * work, thus a tracer must be thread-safe and should return quickly. A tracer is installed with {@link GremlinTracing}.
+ */
+public interface GremlinTracer {
+
+    /**
+     * The phases of a request that is processed by Gremlin Server.
+     */
+    public enum RequestPhase {
+        /**
+         * The request message is deserialized.
+         */
+        DECODE,
+        /**
+         * The script is evaluated or the bytecode is translated to a traversal.
+         */
+        EVAL,
+        /**
+         * The result is iterated, which includes its serialization and write.
+         */
+        ITERATE,
+        /**
+         * A batch of the result is serialized to a response message.
+         */
+        SERIALIZE,
+        /**
+         * A response message is written to the channel.
+         */
+        WRITE
+    }
+
+    /**
+     * A strategy was applied to a traversal.
+     */
+    public default void strategyApplied(final Traversal.Admin<?, ?> traversal, final TraversalStrategy<?> strategy, final long durationNanos) {
+    }
+
+    /**
+     * All strategies were applied to a traversal, not including its child traversals.
+     */
+    public default void strategiesApplied(final Traversal.Admin<?, ?> traversal, final long durationNanos) {
+    }
+
+    /**
+     * A barrier step collected or reduced the traversers of its upstream steps and is about to emit its result.
+     *
+     * @param size the number of objects held by the barrier as of {@code Barrier.getBarrierSize()}
+     */
+    public default void barrierFlushed(final Step<?, ?> step, final long size, final long durationNanos) {
+    }
+
+    /**
+     * A {@link GraphComputer} completed an iteration of a vertex program.
+     */
+    public default void superstepCompleted(final GraphComputer graphComputer, final int iteration, final long durationNanos) {
+    }
+
+    /**
+     * Gremlin Server completed a phase of a request.
+     */
+    public default void requestPhaseCompleted(final UUID requestId, final String op, final RequestPhase phase, final long durationNanos) {
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.util.tracing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Holds the {@link GremlinTracer} of the JVM. The first tracer that is registered as a service (i.e. in
+ * {@code META-INF/services/org.apache.tinkerpop.gremlin.util.tracing.GremlinTracer}) is installed when the class is
+ * loaded and it can be replaced or removed with {@link #setTracer(GremlinTracer)}. Without a tracer, the instrumented
+ * code only pays for a check of {@link #isEnabled()} and does not read the clock.
+ */
+public final class GremlinTracing {
+
+    private static final Logger logger = LoggerFactory.getLogger(GremlinTracing.class);
+
+    private static final GremlinTracer NO_OP_TRACER = new GremlinTracer() {
+    };
+
+    private static volatile GremlinTracer tracer = load();
+
+    private GremlinTracing() {
+    }
+
+    public static boolean isEnabled() {
+        return NO_OP_TRACER != tracer;
+    }
+
+    /**
+     * Gets the installed tracer which is a tracer that ignores every event if none is installed.
+     */
+    public static GremlinTracer getTracer() {
+        return tracer;
+    }
+
+    /**
+     * Installs a tracer, or removes the installed one if {@code null}.
+     */
+    public static void setTracer(final GremlinTracer gremlinTracer) {
+        tracer = null == gremlinTracer ? NO_OP_TRACER : gremlinTracer;
+    }
+
+    private static GremlinTracer load() {
+        try {
+            final Iterator<GremlinTracer> tracers = ServiceLoader.load(GremlinTracer.class).iterator();
+            if (tracers.hasNext()) {
+                final GremlinTracer gremlinTracer = tracers.next();
+                logger.info("Set GremlinTracer to {}", gremlinTracer.getClass().getCanonicalName());
+                return gremlinTracer;
+            }
+        } catch (final ServiceConfigurationError e) {
+            logger.warn("Unable to load a GremlinTracer - tracing is disabled", e);
+        }
+        return NO_OP_TRACER;
+    }
+}
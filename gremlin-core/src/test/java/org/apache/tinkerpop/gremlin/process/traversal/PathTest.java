@@ -380,6 +380,31 @@ public class PathTest {
         }
     }
 
+    @Test
+    public void shouldShareUnchangedSectionsOfImmutablePathOnRetract() {
+        final Path prefix = ImmutablePath.make()
+                .extend("marko", Collections.singleton("a"))
+                .extend("stephen", Collections.singleton("b"));
+        final Path path = prefix
+                .extend("matthias", new LinkedHashSet<>(Arrays.asList("c", "x")))
+                .extend("bob", Collections.singleton("d"));
+        assertTrue(path == path.retract(Collections.singleton("e")));
+
+        final Path retracted = path.retract(Collections.singleton("x"));
+        assertEquals(4, retracted.size());
+        assertFalse(retracted.hasLabel("x"));
+        assertEquals("matthias", retracted.get("c"));
+        assertTrue(path.hasLabel("x"));
+        assertTrue(path.labels().get(3) == retracted.labels().get(3));
+        assertTrue(path.labels().get(1) == retracted.labels().get(1));
+        assertEquals(prefix, retracted.subPath(null, "b"));
+
+        final Path shorter = path.retract(new HashSet<>(Arrays.asList("c", "x", "d")));
+        assertEquals(prefix, shorter);
+        assertEquals(prefix.hashCode(), shorter.hashCode());
+        assertNotEquals(path, shorter);
+    }
+
     @Test
     public void shouldHaveSubPathSupport() {
         PATH_SUPPLIERS.forEach(supplier -> {
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal;
+
+import org.apache.tinkerpop.gremlin.jsr223.JavaTranslator;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.PartitionStrategy;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+public class TraversalPlanCacheTest {
+
+    private final GraphTraversalSource g = EmptyGraph.instance().traversal();
+    private final JavaTranslator<GraphTraversalSource, Traversal.Admin<?, ?>> translator = JavaTranslator.of(g);
+
+    @Test
+    public void shouldReusePlanForTraversalsOfTheSameShape() {
+        final Bindings b = Bindings.instance();
+        final TraversalPlanCache cache = new TraversalPlanCache(10);
+        final Bytecode marko = g.V().has("name", b.of("x", "marko")).out().has("age", b.of("y", 29)).asAdmin().getBytecode();
+        final Bytecode josh = g.V().has("name", b.of("x", "josh")).out().has("age", b.of("y", 32)).asAdmin().getBytecode();
+
+        final Traversal.Admin<?, ?> compiled = cache.compile(marko, translator);
+        assertTrue(compiled.isLocked());
+        assertEquals(compile(marko), compiled);
+        assertEquals(1, cache.size());
+        assertEquals(0, cache.getHits());
+
+        final Traversal.Admin<?, ?> rebound = cache.get(josh).get();
+        assertTrue(rebound.isLocked());
+        assertEquals(compile(josh), rebound);
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getHits());
+
+        // the cached prototype must not be affected by rebinding
+        final Traversal.Admin<?, ?> again = cache.get(marko).get();
+        assertNotSame(compiled, again);
+        assertEquals(compile(marko), again);
+    }
+
+    @Test
+    public void shouldRebindVariablesOfChildTraversals() {
+        final Bindings b = Bindings.instance();
+        final TraversalPlanCache cache = new TraversalPlanCache(10);
+        final Bytecode lop = g.V().where(__.out().has("name", b.of("x", "lop"))).has("age", P.gt(30)).asAdmin().getBytecode();
+        final Bytecode ripple = g.V().where(__.out().has("name", b.of("x", "ripple"))).has("age", P.gt(30)).asAdmin().getBytecode();
+        cache.compile(lop, translator);
+        assertEquals(compile(ripple), cache.get(ripple).get());
+    }
+
+    @Test
+    public void shouldKeepValuesThatAreNotHeldByPredicatesInTheKey() {
+        final Bindings b = Bindings.instance();
+        final TraversalPlanCache cache = new TraversalPlanCache(10);
+        final Bytecode one = g.V().has("name", b.of("x", "marko")).limit(b.of("n", 1)).asAdmin().getBytecode();
+        final Bytecode two = g.V().has("name", b.of("x", "marko")).limit(b.of("n", 2)).asAdmin().getBytecode();
+        final Bytecode oneAgain = g.V().has("name", b.of("x", "josh")).limit(b.of("n", 1)).asAdmin().getBytecode();
+
+        cache.compile(one, translator);
+        assertFalse(cache.get(two).isPresent());
+        assertEquals(compile(oneAgain), cache.get(oneAgain).get());
+        cache.compile(two, translator);
+        assertEquals(2, cache.size());
+        assertEquals(compile(two), cache.get(two).get());
+    }
+
+    @Test
+    public void shouldNotReusePlanForDifferentConstants() {
+        final TraversalPlanCache cache = new TraversalPlanCache(10);
+        cache.compile(g.V().has("name", "marko").asAdmin().getBytecode(), translator);
+        assertFalse(cache.get(g.V().has("name", "josh").asAdmin().getBytecode()).isPresent());
+        assertTrue(cache.get(g.V().has("name", "marko").asAdmin().getBytecode()).isPresent());
+    }
+
+    @Test
+    public void shouldNotReusePlanForDifferentTypes() {
+        final Bindings b = Bindings.instance();
+        final TraversalPlanCache cache = new TraversalPlanCache(10);
+        cache.compile(g.V().has("age", b.of("x", 29)).asAdmin().getBytecode(), translator);
+        assertFalse(cache.get(g.V().has("age", b.of("x", 29L)).asAdmin().getBytecode()).isPresent());
+        assertFalse(cache.get(g.V().has("age", b.of("x", "29")).asAdmin().getBytecode()).isPresent());
+        assertTrue(cache.get(g.V().has("age", b.of("x", 30)).asAdmin().getBytecode()).isPresent());
+    }
+
+    @Test
+    public void shouldNotReusePlanForDifferentStrategyConfigurations() {
+        final TraversalPlanCache cache = new TraversalPlanCache(10);
+        cache.compile(g.withStrategies(PartitionStrategy.build().partitionKey("p").writePartition("a").readPartitions("a").create()).V().asAdmin().getBytecode(), translator);
+        assertFalse(cache.get(g.withStrategies(PartitionStrategy.build().partitionKey("p").writePartition("b").readPartitions("b").create()).V().asAdmin().getBytecode()).isPresent());
+        assertTrue(cache.get(g.withStrategies(PartitionStrategy.build().partitionKey("p").writePartition("a").readPartitions("a").create()).V().asAdmin().getBytecode()).isPresent());
+    }
+
+    @Test
+    public void shouldNotCacheTraversalsWithSideEffects() {
+        final TraversalPlanCache cache = new TraversalPlanCache(10);
+        final Bytecode bytecode = g.withSideEffect("a", new ArrayList<>()).V().aggregate("a").asAdmin().getBytecode();
+        cache.compile(bytecode, translator);
+        assertEquals(0, cache.size());
+        assertFalse(cache.get(bytecode).isPresent());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedPlans() {
+        final TraversalPlanCache cache = new TraversalPlanCache(2);
+        cache.compile(g.V().out().asAdmin().getBytecode(), translator);
+        cache.compile(g.V().in().asAdmin().getBytecode(), translator);
+        assertTrue(cache.get(g.V().out().asAdmin().getBytecode()).isPresent());
+        cache.compile(g.V().both().asAdmin().getBytecode(), translator);
+        assertEquals(2, cache.size());
+        assertTrue(cache.get(g.V().out().asAdmin().getBytecode()).isPresent());
+        assertFalse(cache.get(g.V().in().asAdmin().getBytecode()).isPresent());
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldOnlyCacheCompiledTraversals() {
+        final Bytecode bytecode = g.V().out().asAdmin().getBytecode();
+        new TraversalPlanCache(10).put(bytecode, translator.translate(bytecode));
+    }
+
+    private Traversal.Admin<?, ?> compile(final Bytecode bytecode) {
+        final Traversal.Admin<?, ?> traversal = translator.translate(bytecode);
+        traversal.applyStrategies();
+        return traversal;
+    }
+}
@@ -18,15 +18,22 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.step.branch;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.hasLabel;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
@@ -39,7 +46,29 @@ public class RepeatStepTest extends StepTest {
                 __.repeat(out()).times(3),
                 __.repeat(out().as("x")).times(3),
                 __.out().emit().repeat(out()).times(3),
-                __.repeat(out()).until(hasLabel("x"))
+                __.repeat(out()).until(hasLabel("x")),
+                __.repeat(out()).times(3).visited(Scope.local),
+                __.repeat(out()).times(3).visited(Scope.global)
         );
     }
+
+    @Test
+    public void shouldVisitEachObjectOnceRegardlessOfTheNumberOfStarts() {
+        final Map<String, List<String>> adjacency = new HashMap<>();
+        adjacency.put("s0", Collections.singletonList("A"));
+        adjacency.put("A", Collections.singletonList("X"));
+        adjacency.put("s2600", Collections.singletonList("X"));
+        adjacency.put("X", Collections.singletonList("Y"));
+        final List<String> starts = new ArrayList<>();
+        starts.add("s0");
+        for (int i = 1; i < 2600; i++) {
+            starts.add("f" + i);
+        }
+        starts.add("s2600");
+
+        final List<String> results = __.inject(starts.toArray(new String[starts.size()]))
+                .repeat(__.<String, String>flatMap(t -> adjacency.getOrDefault(t.get(), Collections.emptyList()).iterator()))
+                .times(2).emit().visited(Scope.global).dedup().toList();
+        assertEquals(Arrays.asList("A", "X", "Y"), results);
+    }
 }
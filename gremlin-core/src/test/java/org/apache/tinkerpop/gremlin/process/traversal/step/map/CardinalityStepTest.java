@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+
+public class CardinalityStepTest extends StepTest {
+
+    @Override
+    protected List<Traversal> getTraversals() {
+        return Collections.singletonList(__.cardinality());
+    }
+
+    @Test
+    public void shouldCountDistinctObjects() {
+        assertEquals(3L, __.__(1, 2, 2, 3, 3, 3).cardinality().next().longValue());
+        assertEquals(2L, __.__("a", "b", "a").cardinality().next().longValue());
+    }
+
+    @Test
+    public void shouldReturnZeroForEmptyStream() {
+        assertEquals(0L, __.__().cardinality().next().longValue());
+    }
+
+    @Test
+    public void shouldIgnoreBulk() {
+        assertEquals(1L, __.__(1, 1, 1).barrier().cardinality().next().longValue());
+    }
+
+    @Test
+    public void shouldApproximateLargeCardinalities() {
+        final Object[] objects = IntStream.range(0, 200000).mapToObj(i -> "x" + (i % 100000)).toArray();
+        assertEquals(100000L, __.__(objects).cardinality().next(), 1000d);
+    }
+}
@@ -19,13 +19,21 @@
 
 package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.T;
+import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -40,4 +48,52 @@ public class GroupStepTest extends StepTest {
                 __.group().by(T.label).by(__.values("name").count())
         );
     }
+
+    @Test
+    public void shouldAggregateBulkedTraversers() {
+        final Map<String, Long> expected = new HashMap<>();
+        expected.put("a", 2L);
+        expected.put("b", 1L);
+        final Traversal<?, ?> traversal = __.inject("a", "b", "a").barrier().group().by().by(__.count());
+        assertEquals(expected, traversal.next());
+    }
+
+    @Test
+    public void shouldMergeBarriers() {
+        final Traversal.Admin<?, ?> partial = __.inject("a", "b", "a").barrier().group().by().by(__.count()).asAdmin();
+        partial.applyStrategies();
+        final GroupStep<?, ?, ?> partialStep = TraversalHelper.getFirstStepOfAssignableClass(GroupStep.class, partial).get();
+        final Traversal.Admin<?, ?> traversal = __.inject("a", "b", "a").barrier().group().by().by(__.count()).asAdmin();
+        traversal.applyStrategies();
+        TraversalHelper.getFirstStepOfAssignableClass(GroupStep.class, traversal).get().addBarrier((Map) partialStep.nextBarrier());
+        final Map<String, Long> expected = new HashMap<>();
+        expected.put("a", 4L);
+        expected.put("b", 2L);
+        assertEquals(expected, traversal.next());
+    }
+
+    @Test
+    public void shouldNotCarryCountsIntoTheNextIteration() {
+        final Traversal.Admin<String, ?> traversal = __.<String>start().group().by().by(__.count()).asAdmin();
+        traversal.applyStrategies();
+        final GroupStep<?, ?, ?> step = TraversalHelper.getFirstStepOfAssignableClass(GroupStep.class, traversal).get();
+
+        // a barrier that is marked done() by the GraphComputer must drop the counts of that iteration
+        addStarts(traversal, "a", "b", "a");
+        step.processAllStarts();
+        step.done();
+        addStarts(traversal, "b");
+        assertEquals(Collections.singletonMap("b", 1L), traversal.next());
+
+        // as must a reset() of a partially processed barrier
+        addStarts(traversal, "a", "b", "a");
+        step.processAllStarts();
+        traversal.reset();
+        addStarts(traversal, "b");
+        assertEquals(Collections.singletonMap("b", 1L), traversal.next());
+    }
+
+    private static void addStarts(final Traversal.Admin<String, ?> traversal, final String... objects) {
+        traversal.addStarts(traversal.getTraverserGenerator().generateIterator(Arrays.asList(objects).iterator(), (Step) traversal.getStartStep(), 1L));
+    }
 }
@@ -31,7 +31,11 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTraversal
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_LP_O_P_S_SE_SL_TraverserGenerator;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.EmptyTraverser;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.util.CardinalityEstimator;
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -51,6 +55,10 @@ import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.where;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -397,6 +405,103 @@ public class MatchStepTest extends StepTest {
         traverser.addLabels(Collections.singleton("d"));
     }
 
+    @Test
+    public void testCostMatchAlgorithm() {
+        final Graph graph = mock(Graph.class, withSettings().extraInterfaces(CardinalityEstimator.class));
+        final CardinalityEstimator estimator = (CardinalityEstimator) graph;
+        when(estimator.estimateVertexCount(null)).thenReturn(6L);
+        when(estimator.estimateVertexCount("person")).thenReturn(4L);
+        when(estimator.estimateAverageDegree(Direction.OUT, "created")).thenReturn(4.0d / 6.0d);
+        when(estimator.estimateAverageDegree(Direction.OUT, "knows")).thenReturn(2.0d / 6.0d);
+        when(estimator.estimateSelectivity(any(), any())).thenReturn(Double.NaN);
+
+        final Traversal.Admin<?, ?> traversal = __.match(
+                as("a").out("created").as("b"),
+                as("a").out("knows").as("c"),
+                as("a").has(T.label, "person")).asAdmin();
+        final List<Traversal.Admin<Object, Object>> patterns = ((MatchStep<?, ?>) traversal.getStartStep()).getGlobalChildren();
+        patterns.forEach(pattern -> pattern.setGraph(graph));
+        assertEquals(4.0d / 6.0d, MatchStep.CostMatchAlgorithm.estimate(patterns.get(0), estimator), 0.0001d);
+        assertEquals(2.0d / 6.0d, MatchStep.CostMatchAlgorithm.estimate(patterns.get(1), estimator), 0.0001d);
+        assertEquals(4.0d / 6.0d, MatchStep.CostMatchAlgorithm.estimate(patterns.get(2), estimator), 0.0001d);
+
+        // THE JOIN ORDER IS CHOSEN UP FRONT FROM THE ESTIMATES
+        final MatchStep.CostMatchAlgorithm costMatchAlgorithm = new MatchStep.CostMatchAlgorithm();
+        costMatchAlgorithm.initialize(TraversalEngine.Type.STANDARD, patterns);
+        assertEquals(patterns.get(1), costMatchAlgorithm.bundles.get(0).traversal);
+        assertEquals(patterns.get(0), costMatchAlgorithm.bundles.get(1).traversal);
+        assertEquals(patterns.get(2), costMatchAlgorithm.bundles.get(2).traversal);
+
+        // OBSERVATIONS WITHIN THE SAMPLE SIZE DO NOT CHANGE THE ORDER
+        for (int i = 0; i < MatchStep.CostMatchAlgorithm.SAMPLE_SIZE - 1; i++) {
+            costMatchAlgorithm.recordStart(EmptyTraverser.instance(), patterns.get(1));
+            costMatchAlgorithm.recordEnd(EmptyTraverser.instance(), patterns.get(1));
+            costMatchAlgorithm.recordEnd(EmptyTraverser.instance(), patterns.get(1));
+        }
+        assertEquals(patterns.get(1), costMatchAlgorithm.bundles.get(0).traversal);
+
+        // OBSERVATIONS THAT DIVERGE FROM THE ESTIMATE REPLACE IT
+        costMatchAlgorithm.recordStart(EmptyTraverser.instance(), patterns.get(1));
+        costMatchAlgorithm.recordEnd(EmptyTraverser.instance(), patterns.get(1));
+        assertEquals(patterns.get(0), costMatchAlgorithm.bundles.get(0).traversal);
+        assertEquals(patterns.get(2), costMatchAlgorithm.bundles.get(1).traversal);
+        assertEquals(patterns.get(1), costMatchAlgorithm.bundles.get(2).traversal);
+    }
+
+    @Test
+    public void testHashJoinMatchAlgorithm() {
+        final Traversal.Admin<?, ?> traversal = __.match(
+                as("a").out("knows").as("b"),
+                as("b").out("created").has("name", "lop").as("c"),
+                as("c").in("created").as("x").out().as("d"),
+                as("d").where(__.out().as("a")),
+                as("a").out().sideEffect(t -> {}).as("e"),
+                as("a").where("a", P.neq("d"))).asAdmin();
+        final List<Traversal.Admin<Object, Object>> patterns = ((MatchStep<?, ?>) traversal.getStartStep()).getGlobalChildren();
+        assertTrue(MatchStep.HashJoinMatchAlgorithm.isHashable(patterns.get(0)));
+        assertTrue(MatchStep.HashJoinMatchAlgorithm.isHashable(patterns.get(1)));
+        assertFalse(MatchStep.HashJoinMatchAlgorithm.isHashable(patterns.get(2)));  // labels an inner step
+        assertFalse(MatchStep.HashJoinMatchAlgorithm.isHashable(patterns.get(3)));  // references another label
+        assertFalse(MatchStep.HashJoinMatchAlgorithm.isHashable(patterns.get(4)));  // lambda
+        assertFalse(MatchStep.HashJoinMatchAlgorithm.isHashable(patterns.get(5)));  // where()-predicate
+
+        final MatchStep.HashJoinMatchAlgorithm hashJoinMatchAlgorithm = new MatchStep.HashJoinMatchAlgorithm();
+        hashJoinMatchAlgorithm.initialize(TraversalEngine.Type.STANDARD, patterns);
+        assertEquals(6, hashJoinMatchAlgorithm.bundles.size());
+        assertEquals(2, hashJoinMatchAlgorithm.bundles.stream().filter(bundle -> null != ((MatchStep.HashJoinMatchAlgorithm.HashJoinBundle) bundle).build).count());
+        hashJoinMatchAlgorithm.initialize(TraversalEngine.Type.COMPUTER, patterns);
+        assertEquals(0, hashJoinMatchAlgorithm.bundles.stream().filter(bundle -> null != ((MatchStep.HashJoinMatchAlgorithm.HashJoinBundle) bundle).build).count());
+    }
+
+    @Test
+    public void shouldHashJoinBulkedTraversers() {
+        final Traversal.Admin<Integer, Long> traversal = __.inject(1, 1, 2).match(
+                as("a").union(__.identity(), __.identity()).as("b"),
+                as("b").union(__.identity(), __.identity()).as("a")).count().asAdmin();
+        traversal.applyStrategies();
+        final MatchStep<?, ?> matchStep = TraversalHelper.getFirstStepOfAssignableClass(MatchStep.class, traversal).get();
+        matchStep.setMatchAlgorithm(MatchStep.HashJoinMatchAlgorithm.class);
+        // 1 has a bulk of 2 and each pattern yields every result twice
+        assertEquals(2L * 2L * 2L + 2L * 2L, traversal.next().longValue());
+
+        final MatchStep.HashJoinMatchAlgorithm hashJoinMatchAlgorithm = (MatchStep.HashJoinMatchAlgorithm) matchStep.getMatchAlgorithm();
+        for (final MatchStep.CountMatchAlgorithm.Bundle bundle : hashJoinMatchAlgorithm.bundles) {
+            final MatchStep.HashJoinMatchAlgorithm.HashJoinBundle hashJoinBundle = (MatchStep.HashJoinMatchAlgorithm.HashJoinBundle) bundle;
+            // one probe and one merged result per distinct traverser, regardless of bulk
+            assertEquals(2L, bundle.startsCount);
+            assertEquals(2L, bundle.endsCount);
+            assertEquals(2, hashJoinBundle.table.size());
+            assertEquals(Collections.singletonMap(1, 2L), hashJoinBundle.table.get(1));
+            assertEquals(Collections.singletonMap(2, 2L), hashJoinBundle.table.get(2));
+        }
+
+        traversal.reset();
+        for (final MatchStep.CountMatchAlgorithm.Bundle bundle : hashJoinMatchAlgorithm.bundles) {
+            assertTrue(((MatchStep.HashJoinMatchAlgorithm.HashJoinBundle) bundle).table.isEmpty());
+            assertEquals(0L, ((MatchStep.HashJoinMatchAlgorithm.HashJoinBundle) bundle).tableSize);
+        }
+    }
+
     @Test
     public void shouldCalculateStartLabelCorrectly() {
         Traversal.Admin<?, ?> traversal = match(
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class QuantileGlobalStepTest extends StepTest {
+
+    @Override
+    protected List<Traversal> getTraversals() {
+        return Arrays.asList(__.quantile(0.5d), __.quantile(0.99d));
+    }
+
+    @Test
+    public void shouldEstimateQuantiles() {
+        assertEquals(3.0d, __.__(1, 2, 3, 4, 5).quantile(0.5d).next(), 0.0d);
+        assertEquals(1.0d, __.__(5L, 1L, 3L).quantile(0.0d).next(), 0.0d);
+        assertEquals(5.0d, __.__(5.0d, 1.0d, 3.0d).quantile(1.0d).next(), 0.0d);
+    }
+
+    @Test
+    public void shouldRespectBulk() {
+        assertEquals(1.0d, __.__(1, 1, 1, 1, 2).barrier().quantile(0.25d).next(), 0.0d);
+        assertEquals(1.5d, __.__(1, 2).barrier().quantile(0.5d).next(), 0.0d);
+    }
+
+    @Test
+    public void shouldReturnNaNForEmptyStream() {
+        assertTrue(Double.isNaN(__.<Integer>__().quantile(0.5d).next()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowInvalidQuantile() {
+        __.quantile(-0.1d);
+    }
+}
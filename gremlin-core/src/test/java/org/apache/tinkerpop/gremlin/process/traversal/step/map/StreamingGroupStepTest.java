@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.TokenTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.junit.Test;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class StreamingGroupStepTest extends StepTest {
+
+    @Override
+    protected List<Traversal> getTraversals() {
+        return Arrays.asList(
+                streamingGroup(null, __.fold().asAdmin()),
+                streamingGroup(new TokenTraversal<>(T.label), __.fold().asAdmin()),
+                streamingGroup(new TokenTraversal<>(T.label), __.values("name").count().asAdmin())
+        );
+    }
+
+    @Test
+    public void shouldEmitEachGroupWhenTheKeyChanges() {
+        final Traversal.Admin<String, String> inject = __.inject("a", "a", "b", "c", "c", "c").asAdmin();
+        final Traversal.Admin<?, Map.Entry<String, Long>> traversal = (Traversal.Admin) inject.addStep(new StreamingGroupStep<>(inject, null, __.count().asAdmin(), Order.incr));
+        assertEquals(new AbstractMap.SimpleEntry<>("a", 2L), traversal.next());
+        assertEquals(new AbstractMap.SimpleEntry<>("b", 1L), traversal.next());
+        assertEquals(new AbstractMap.SimpleEntry<>("c", 3L), traversal.next());
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    public void shouldNotEmitGroupsWithoutValues() {
+        final Traversal.Admin<Integer, Integer> inject = __.inject(1, 1, 2, 3, 3).asAdmin();
+        final Traversal.Admin<?, Map.Entry<Integer, Integer>> traversal = (Traversal.Admin) inject.addStep(new StreamingGroupStep<>(inject, null, __.is(3).asAdmin(), Order.incr));
+        assertEquals(Collections.singletonList(new AbstractMap.SimpleEntry<>(3, 3)), traversal.toList());
+    }
+
+    @Test
+    public void shouldEmitEachKeyOnceWhenTheComparatorConsidersDifferentKeysEqual() {
+        final Traversal.Admin<Number, Number> inject = __.<Number>inject(27, 29L, 29, 29L, 29, 32).asAdmin();
+        final Traversal.Admin<?, Map.Entry<Number, Long>> traversal = (Traversal.Admin) inject.addStep(new StreamingGroupStep<>(inject, null, __.count().asAdmin(), Order.incr));
+        assertEquals(new AbstractMap.SimpleEntry<>(27, 1L), traversal.next());
+        assertEquals(new AbstractMap.SimpleEntry<>(29L, 2L), traversal.next());
+        assertEquals(new AbstractMap.SimpleEntry<>(29, 2L), traversal.next());
+        assertEquals(new AbstractMap.SimpleEntry<>(32, 1L), traversal.next());
+        assertFalse(traversal.hasNext());
+    }
+
+    private static Traversal streamingGroup(final Traversal.Admin<?, ?> keyTraversal, final Traversal.Admin<?, ?> valueTraversal) {
+        final Traversal.Admin<?, ?> traversal = __.start().asAdmin();
+        return traversal.addStep(new StreamingGroupStep<>(traversal, (Traversal.Admin) keyTraversal, (Traversal.Admin) valueTraversal, Order.incr));
+    }
+}
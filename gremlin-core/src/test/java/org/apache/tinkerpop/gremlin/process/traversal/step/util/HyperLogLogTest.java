@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class HyperLogLogTest {
+
+    @Test
+    public void shouldEstimateZeroForEmptySketch() {
+        assertEquals(0L, new HyperLogLog().cardinality());
+    }
+
+    @Test
+    public void shouldBeExactForSmallCardinalities() {
+        final HyperLogLog hll = new HyperLogLog();
+        for (int i = 0; i < 10; i++) {
+            hll.add("marko").add("josh").add(i);
+        }
+        assertEquals(12L, hll.cardinality());
+    }
+
+    @Test
+    public void shouldEstimateWithinErrorBoundsAcrossRange() {
+        for (final int n : new int[]{100, 1000, 10000, 50000, 100000, 500000}) {
+            final HyperLogLog hll = new HyperLogLog();
+            for (long i = 0; i < n; i++) {
+                hll.add(i).add(i); // duplicates do not change the estimate
+            }
+            assertEquals(n, hll.cardinality(), n * 0.025d);
+        }
+    }
+
+    @Test
+    public void shouldMergeSketches() {
+        final HyperLogLog a = new HyperLogLog();
+        final HyperLogLog b = new HyperLogLog();
+        final HyperLogLog all = new HyperLogLog();
+        for (int i = 0; i < 20000; i++) {
+            a.add("a" + i);
+            all.add("a" + i);
+            b.add("b" + i);
+            all.add("b" + i);
+        }
+        for (int i = 0; i < 10000; i++) {
+            b.add("a" + i);
+        }
+        assertEquals(all, a.merge(b));
+        assertEquals(40000L, all.cardinality(), 1000L);
+    }
+
+    @Test
+    public void shouldHashNumbersAndStringsDifferently() {
+        assertNotEquals(HyperLogLog.hash(1L), HyperLogLog.hash("1"));
+        assertEquals(HyperLogLog.hash(1L), HyperLogLog.hash(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotMergeSketchesOfDifferentPrecision() {
+        new HyperLogLog(10).merge(new HyperLogLog(12));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowInvalidPrecision() {
+        new HyperLogLog(HyperLogLog.MAX_PRECISION + 1);
+    }
+}
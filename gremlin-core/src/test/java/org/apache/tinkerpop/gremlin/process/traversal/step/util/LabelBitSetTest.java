@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Pop;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LabelBitSetTest {
+
+    @Test
+    public void shouldCompileLabelsOfAllStepsAgainstOneIndex() {
+        final Traversal.Admin<?, ?> traversal = __.out().as("a").out().as("b", "c").where(__.as("a").out().as("b")).select("a", "b").asAdmin();
+        traversal.applyStrategies();
+        final List<Step> steps = TraversalHelper.getStepsOfAssignableClassRecursively(Step.class, traversal);
+        LabelBitSet.Index index = null;
+        for (final Step<?, ?> step : steps) {
+            if (step.getLabels().isEmpty())
+                continue;
+            assertTrue(step.getLabels() instanceof LabelBitSet);
+            if (null == index)
+                index = ((LabelBitSet) step.getLabels()).getIndex();
+            assertSame(index, ((LabelBitSet) step.getLabels()).getIndex());
+        }
+        assertEquals(3, index.size());
+        assertEquals(new ArrayList<>(Arrays.asList("b", "c")), new ArrayList<>(steps.get(1).getLabels()));
+    }
+
+    @Test
+    public void shouldRevertToPlainLabelsWhenRelabeled() {
+        final Traversal.Admin<?, ?> traversal = __.out().as("a").asAdmin();
+        traversal.applyStrategies();
+        final Step<?, ?> step = traversal.getStartStep();
+        assertTrue(step.getLabels() instanceof LabelBitSet);
+        step.addLabel("b");
+        assertFalse(step.getLabels() instanceof LabelBitSet);
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), step.getLabels());
+        final Step<?, ?> clone = traversal.clone().getStartStep();
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), clone.getLabels());
+    }
+
+    @Test
+    public void shouldNotCompileMoreLabelsThanBits() {
+        final Traversal.Admin<?, ?> traversal = __.identity().asAdmin();
+        for (int i = 0; i <= LabelBitSet.Index.MAX_LABELS; i++) {
+            traversal.addStep(new IdentityStepStub(traversal, "x" + i));
+        }
+        traversal.applyStrategies();
+        assertFalse(traversal.getEndStep().getLabels() instanceof LabelBitSet);
+        assertEquals(Collections.singleton("x" + LabelBitSet.Index.MAX_LABELS), traversal.getEndStep().getLabels());
+    }
+
+    @Test
+    public void shouldHonorSetContract() {
+        final Set<String> ab = labels("a", "b");
+        final Set<String> ba = labels("b", "a");
+        assertEquals(ab, ba);
+        assertEquals(ab, new HashSet<>(Arrays.asList("a", "b")));
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), ab);
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")).hashCode(), ab.hashCode());
+        assertTrue(ab.contains("a"));
+        assertFalse(ab.contains("c"));
+        assertTrue(ab.containsAll(labels("b")));
+        assertFalse(ab.containsAll(labels("b", "c")));
+        assertEquals(Arrays.asList("b", "a"), new ArrayList<>(ba));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldBeImmutable() {
+        labels("a", "b").add("c");
+    }
+
+    @Test
+    public void shouldUnionAndRemoveLabels() {
+        final Set<String> union = LabelBitSet.union(labels("c", "a"), labels("b", "a"));
+        assertTrue(union instanceof LabelBitSet);
+        assertEquals(Arrays.asList("c", "a", "b"), new ArrayList<>(union));
+        final Set<String> plainUnion = LabelBitSet.union(labels("c", "a"), Collections.singleton("d"));
+        assertFalse(plainUnion instanceof LabelBitSet);
+        assertEquals(Arrays.asList("c", "a", "d"), new ArrayList<>(plainUnion));
+
+        final LabelBitSet.Matcher matcher = new LabelBitSet.Matcher(Arrays.asList("a", "d"));
+        assertTrue(matcher.matches(union));
+        assertTrue(matcher.matches(plainUnion));
+        assertFalse(matcher.matches(labels("b")));
+        assertEquals(Arrays.asList("c", "b"), new ArrayList<>(matcher.removeFrom(union)));
+        assertEquals(Arrays.asList("c"), new ArrayList<>(matcher.removeFrom(plainUnion)));
+    }
+
+    @Test
+    public void shouldAnswerPathQueriesWithCompiledLabels() {
+        final Path path = ImmutablePath.make()
+                .extend(1, labels("a"))
+                .extend(2, labels("b", "c"))
+                .extend(3, new LinkedHashSet<>(Arrays.asList("a", "x")))
+                .extend(4, labels("a"));
+        assertTrue(path.hasLabel("c"));
+        assertTrue(path.hasLabel("x"));
+        assertFalse(path.hasLabel("d"));
+        assertEquals(Arrays.asList(1, 3, 4), path.get(Pop.all, "a"));
+        assertEquals(1, (int) path.get(Pop.first, "a"));
+        assertEquals(4, (int) path.get(Pop.last, "a"));
+
+        final Path retracted = path.retract(new HashSet<>(Arrays.asList("a", "c")));
+        assertEquals(Arrays.asList(2, 3), retracted.objects());
+        assertEquals(Arrays.asList(Collections.singleton("b"), Collections.singleton("x")), retracted.labels());
+        assertTrue(retracted.labels().get(0) instanceof LabelBitSet);
+
+        final Path other = ImmutablePath.make()
+                .extend(1, new HashSet<>(Collections.singleton("a")))
+                .extend(2, new HashSet<>(Arrays.asList("c", "b")))
+                .extend(3, new HashSet<>(Arrays.asList("x", "a")))
+                .extend(4, labels("a"));
+        assertEquals(path, other);
+        assertEquals(path.hashCode(), other.hashCode());
+        assertNotSame(path, other);
+    }
+
+    private static final LabelBitSet.Index INDEX = index("a", "b", "c", "d");
+
+    private static Set<String> labels(final String... labels) {
+        return INDEX.of(new LinkedHashSet<>(Arrays.asList(labels)));
+    }
+
+    private static LabelBitSet.Index index(final String... labels) {
+        final Traversal.Admin<?, ?> traversal = __.identity().asAdmin();
+        for (final String label : labels) {
+            traversal.getStartStep().addLabel(label);
+        }
+        LabelBitSet.compile(traversal);
+        return ((LabelBitSet) traversal.getStartStep().getLabels()).getIndex();
+    }
+
+    private static final class IdentityStepStub extends AbstractStep<Object, Object> {
+
+        private IdentityStepStub(final Traversal.Admin traversal, final String label) {
+            super(traversal);
+            this.addLabel(label);
+        }
+
+        @Override
+        protected Traverser.Admin<Object> processNextStart() {
+            return this.starts.next();
+        }
+    }
+}
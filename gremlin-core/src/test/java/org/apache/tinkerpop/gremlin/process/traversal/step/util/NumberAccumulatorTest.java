@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.util.NumberHelper;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NumberAccumulatorTest {
+
+    private static final List<Number> PRIMITIVE_NUMBERS = Arrays.asList(
+            (byte) 3, (short) -7, 42, Integer.MAX_VALUE, Integer.MIN_VALUE, 17L, Long.MAX_VALUE, -1.5d, Double.NaN, 0.25f);
+
+    private static final List<Number> NUMBERS = Arrays.asList(
+            (byte) 3, 42, Integer.MIN_VALUE, 17L, Long.MAX_VALUE, -1.5d, 0.25f, BigInteger.TEN, new BigDecimal("1.125"));
+
+    @Test
+    public void shouldFoldLikeSum() {
+        assertFoldsLike(Operator.sum, NumberAccumulator::sum, 0, PRIMITIVE_NUMBERS);
+        assertFoldsLike(Operator.sum, NumberAccumulator::sum, 0, NUMBERS);
+    }
+
+    @Test
+    public void shouldFoldLikeMin() {
+        assertFoldsLike(Operator.min, NumberAccumulator::min, Integer.MAX_VALUE, PRIMITIVE_NUMBERS);
+        assertFoldsLike(Operator.min, NumberAccumulator::min, Integer.MAX_VALUE, NUMBERS);
+    }
+
+    @Test
+    public void shouldFoldLikeMax() {
+        assertFoldsLike(Operator.max, NumberAccumulator::max, Integer.MIN_VALUE, PRIMITIVE_NUMBERS);
+        assertFoldsLike(Operator.max, NumberAccumulator::max, Integer.MIN_VALUE, NUMBERS);
+    }
+
+    @Test
+    public void shouldReturnSeedOfEmptyFold() {
+        final NumberAccumulator accumulator = NumberAccumulator.sum();
+        assertTrue(accumulator.isEmpty());
+        accumulator.start(0);
+        assertEquals(0, accumulator.complete());
+        assertTrue(accumulator.isEmpty());
+    }
+
+    private static void assertFoldsLike(final Operator operator, final Supplier<NumberAccumulator> supplier, final Number seed,
+                                        final List<Number> numbers) {
+        final Random random = new Random(1234567890L);
+        for (int i = 0; i < 1000; i++) {
+            final NumberAccumulator accumulator = supplier.get();
+            accumulator.start(seed);
+            Number expected = seed;
+            // runs of only integral or only floating point numbers stay primitive, any other number falls back
+            final int kinds = 1 + random.nextInt(numbers.size());
+            for (int j = 0; j < 1 + random.nextInt(20); j++) {
+                final Number number = numbers.get(random.nextInt(kinds));
+                final long bulk = 1 + random.nextInt(3);
+                expected = (Number) operator.apply(expected, Operator.sum == operator ? NumberHelper.mul(number, bulk) : number);
+                accumulator.add(number, bulk);
+            }
+            final Number actual = accumulator.complete();
+            assertEquals(expected.getClass(), actual.getClass());
+            assertEquals(expected, actual);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelStepTest {
+
+    @Test
+    public void shouldProcessChunksOnDaemonThreads() {
+        final Traversal.Admin<Integer, Thread> traversal = (Traversal.Admin) __.inject(1, 2, 3, 4, 5).asAdmin();
+        traversal.addStep(new ParallelStep<>(traversal, __.<Integer>start().map(t -> Thread.currentThread()).asAdmin(), 2, 1));
+        final List<Thread> threads = traversal.toList();
+        assertEquals(5, threads.size());
+        for (final Thread thread : threads) {
+            assertNotEquals(Thread.currentThread(), thread);
+            assertTrue(thread.isDaemon());
+            assertTrue(thread.getName().startsWith("gremlin-parallel-2-worker-"));
+        }
+    }
+
+    @Test
+    public void shouldEmitChunksInOrder() {
+        final Traversal.Admin<Integer, Integer> traversal = __.inject(1, 2, 3, 4, 5, 6, 7).asAdmin();
+        traversal.addStep(new ParallelStep<>(traversal, __.<Integer>start().map(t -> t.get() * 10).asAdmin(), 3, 2));
+        assertEquals(Arrays.asList(10, 20, 30, 40, 50, 60, 70), traversal.toList());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TDigestTest {
+
+    @Test
+    public void shouldEstimateNaNForEmptyDigest() {
+        assertTrue(Double.isNaN(new TDigest().quantile(0.5d)));
+    }
+
+    @Test
+    public void shouldBeExactForSmallInputs() {
+        final TDigest digest = new TDigest();
+        for (final int i : new int[]{5, 3, 1, 4, 2}) {
+            digest.add(i);
+        }
+        assertEquals(1.0d, digest.quantile(0.0d), 0.0d);
+        assertEquals(3.0d, digest.quantile(0.5d), 0.0d);
+        assertEquals(5.0d, digest.quantile(1.0d), 0.0d);
+        assertEquals(2.5d, new TDigest().add(1).add(2).add(3).add(4).quantile(0.5d), 0.0d);
+    }
+
+    @Test
+    public void shouldRespectWeights() {
+        final TDigest digest = new TDigest().add(1.0d, 1.0d).add(10.0d, 98.0d).add(100.0d, 1.0d);
+        assertEquals(10.0d, digest.quantile(0.5d), 0.0d);
+        assertEquals(100.0d, digest.getTotalWeight(), 0.0d);
+    }
+
+    @Test
+    public void shouldEstimateQuantilesOfLargeInputs() {
+        final Random random = new Random(123456789L);
+        final TDigest digest = new TDigest();
+        final int n = 1000000;
+        for (int i = 0; i < n; i++) {
+            digest.add(random.nextDouble() * n, 1.0d);
+        }
+        for (final double q : new double[]{0.001d, 0.01d, 0.25d, 0.5d, 0.75d, 0.99d, 0.999d}) {
+            assertEquals(q * n, digest.quantile(q), n * 0.005d);
+        }
+    }
+
+    @Test
+    public void shouldMergeDigests() {
+        final TDigest all = new TDigest();
+        final TDigest[] parts = new TDigest[]{new TDigest(), new TDigest(), new TDigest()};
+        for (int i = 0; i < 30000; i++) {
+            parts[i % 3].add(i);
+            all.add(i);
+        }
+        final TDigest merged = new TDigest().merge(parts[0]).merge(parts[1]).merge(parts[2]);
+        assertEquals(all.getTotalWeight(), merged.getTotalWeight(), 0.0d);
+        for (final double q : new double[]{0.0d, 0.01d, 0.5d, 0.99d, 1.0d}) {
+            assertEquals(all.quantile(q), merged.quantile(q), 30000 * 0.005d);
+        }
+        assertEquals(0.0d, merged.quantile(0.0d), 0.0d);
+        assertEquals(29999.0d, merged.quantile(1.0d), 0.0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowInvalidQuantile() {
+        new TDigest().quantile(1.5d);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.FlatMapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.TraverserBatch;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.LazyBarrierStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class BatchingStrategyTest {
+
+    @Test
+    public void shouldBatchStepsThatFollowABarrier() {
+        final Traversal.Admin<?, ?> traversal = applyStrategies(__.V().out().out().values("name").asAdmin(), BatchingStrategy.instance(), LazyBarrierStrategy.instance());
+        assertEquals(__.V().out().barrier(2500).out().barrier(2500).values("name"), traversal);
+        final List<VertexStep> vertexSteps = TraversalHelper.getStepsOfClass(VertexStep.class, traversal);
+        assertEquals(0, vertexSteps.get(0).getBatchSize());
+        assertEquals(2500, vertexSteps.get(1).getBatchSize());
+        assertEquals(2500, TraversalHelper.getStepsOfClass(PropertiesStep.class, traversal).get(0).getBatchSize());
+        assertEquals(0, TraversalHelper.getStepsOfClass(GraphStep.class, traversal).get(0).getBatchSize());
+    }
+
+    @Test
+    public void shouldBatchUpToTheBarrierSize() {
+        final Traversal.Admin<?, ?> traversal = applyStrategies(__.V().out().barrier(10).out().barrier().values("name").order().out().asAdmin(),
+                BatchingStrategy.build().batchSize(100).create());
+        final List<VertexStep> vertexSteps = TraversalHelper.getStepsOfClass(VertexStep.class, traversal);
+        assertEquals(0, vertexSteps.get(0).getBatchSize());
+        assertEquals(10, vertexSteps.get(1).getBatchSize());
+        assertEquals(100, vertexSteps.get(2).getBatchSize());
+        assertEquals(100, TraversalHelper.getStepsOfClass(PropertiesStep.class, traversal).get(0).getBatchSize());
+    }
+
+    @Test
+    public void shouldNotBatchStepsThatFollowALazyBarrier() {
+        final Traversal.Admin<?, ?> traversal = applyStrategies(__.V().dedup().out().limit(10).out().tail(5).values("name").asAdmin(),
+                BatchingStrategy.instance());
+        for (final VertexStep vertexStep : TraversalHelper.getStepsOfClass(VertexStep.class, traversal)) {
+            assertEquals(0, vertexStep.getBatchSize());
+        }
+        assertEquals(0, TraversalHelper.getStepsOfClass(PropertiesStep.class, traversal).get(0).getBatchSize());
+    }
+
+    @Test
+    public void shouldLookUpElementsOfMidTraversalGraphStepsLazily() {
+        final AtomicInteger lookups = new AtomicInteger(0);
+        final GraphStep<Integer, Vertex> graphStep = new GraphStep<>(__.inject(1).asAdmin(), Vertex.class, false);
+        graphStep.setIteratorSupplier(() -> {
+            lookups.incrementAndGet();
+            return Collections.emptyIterator();
+        });
+        final Traversal.Admin<Integer, Integer> traversal = __.inject(1, 2).asAdmin();
+        final Map<Integer, Iterable<Vertex>> results = graphStep.processBatch(Arrays.asList(
+                traversal.getTraverserGenerator().generate(1, (Step) traversal.getStartStep(), 1L),
+                traversal.getTraverserGenerator().generate(2, (Step) traversal.getStartStep(), 1L)));
+        assertEquals(0, lookups.get());
+        assertFalse(results.get(1).iterator().hasNext());
+        assertFalse(results.get(2).iterator().hasNext());
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void shouldBatchMidTraversalGraphSteps() {
+        final Traversal.Admin<?, ?> traversal = applyStrategies(__.V().barrier().V().asAdmin(), BatchingStrategy.instance());
+        final List<GraphStep> graphSteps = TraversalHelper.getStepsOfClass(GraphStep.class, traversal);
+        assertEquals(0, graphSteps.get(0).getBatchSize());
+        assertEquals(2500, graphSteps.get(1).getBatchSize());
+    }
+
+    @Test
+    public void shouldBatchChildTraversals() {
+        final Traversal.Admin<?, ?> traversal = applyStrategies(__.V().local(__.out().barrier(5).out()).asAdmin(), BatchingStrategy.instance());
+        assertEquals(5, TraversalHelper.getStepsOfAssignableClassRecursively(VertexStep.class, traversal).get(1).getBatchSize());
+    }
+
+    @Test
+    public void shouldProcessTraversersInBatches() {
+        final Traversal.Admin<Integer, Integer> traversal = __.inject(1, 2, 3, 4, 5, 5).barrier().asAdmin();
+        final DuplicateStep step = new DuplicateStep(traversal);
+        step.setBatchSize(2);
+        traversal.addStep(step);
+        assertEquals(Arrays.asList(1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 5, 5), traversal.toList());
+        // the two 5s are bulked into a single traverser
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Collections.singletonList(5)), step.batches);
+    }
+
+    @Test
+    public void shouldEmitTraversersInArrivalOrder() {
+        // unlike a barrier, flatMap() emits equal objects without bulking them
+        final Traversal.Admin<Integer, Integer> traversal = __.inject(0).<Integer>flatMap(t -> Arrays.asList(3, 1, 3, 2).iterator()).asAdmin();
+        final DuplicateStep step = new DuplicateStep(traversal);
+        step.setBatchSize(4);
+        traversal.addStep(step);
+        assertEquals(Arrays.asList(3, 3, 1, 1, 3, 3, 2, 2), traversal.toList());
+        assertEquals(Collections.singletonList(Arrays.asList(3, 1, 3, 2)), step.batches);
+    }
+
+    @Test
+    public void shouldOnlyPullTheBatchesThatAreNeeded() {
+        final Traversal.Admin<Integer, Integer> traversal = __.inject(1, 2, 3, 4, 5).asAdmin();
+        final DuplicateStep step = new DuplicateStep(traversal);
+        step.setBatchSize(2);
+        traversal.addStep(step);
+        assertEquals(1, traversal.next().intValue());
+        assertEquals(Collections.singletonList(Arrays.asList(1, 2)), step.batches);
+    }
+
+    private static Traversal.Admin<?, ?> applyStrategies(final Traversal.Admin<?, ?> traversal, final BatchingStrategy batchingStrategy, final LazyBarrierStrategy... otherStrategies) {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(batchingStrategy);
+        strategies.addStrategies(otherStrategies);
+        traversal.setStrategies(strategies);
+        traversal.applyStrategies();
+        return traversal;
+    }
+
+    private static class DuplicateStep extends FlatMapStep<Integer, Integer> implements Batching<Integer, Integer> {
+
+        private final List<List<Integer>> batches = new ArrayList<>();
+        private final TraverserBatch<Integer, Integer> batch = new TraverserBatch<>();
+        private int batchSize = 0;
+
+        private DuplicateStep(final Traversal.Admin traversal) {
+            super(traversal);
+        }
+
+        @Override
+        protected Traverser.Admin<Integer> nextStart() {
+            return this.batchSize > 1 ? this.batch.next(this.starts, this) : super.nextStart();
+        }
+
+        @Override
+        protected Iterator<Integer> flatMap(final Traverser.Admin<Integer> traverser) {
+            final Iterator<Integer> batchResults = this.batch.getResults(traverser.get());
+            return null != batchResults ? batchResults : Arrays.asList(traverser.get(), traverser.get()).iterator();
+        }
+
+        @Override
+        public void setBatchSize(final int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public int getBatchSize() {
+            return this.batchSize;
+        }
+
+        @Override
+        public Map<Integer, Iterable<Integer>> processBatch(final List<Traverser.Admin<Integer>> batch) {
+            final List<Integer> objects = new ArrayList<>();
+            final Map<Integer, Iterable<Integer>> results = new HashMap<>();
+            for (final Traverser.Admin<Integer> traverser : batch) {
+                objects.add(traverser.get());
+                results.put(traverser.get(), Arrays.asList(traverser.get(), traverser.get()));
+            }
+            this.batches.add(objects);
+            return results;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalResultCache;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(Enclosed.class)
+public class MemoizationStrategyTest {
+
+    @RunWith(Parameterized.class)
+    public static class ChildTraversalTest {
+
+        @Parameterized.Parameter(value = 0)
+        public Traversal original;
+
+        @Parameterized.Parameter(value = 1)
+        public boolean memoized;
+
+        @Test
+        public void doTest() {
+            final Traversal.Admin<?, ?> traversal = applyStrategies(this.original.asAdmin(), MemoizationStrategy.instance());
+            assertNull(TraversalResultCache.of(traversal));
+            assertEquals(this.memoized, null != TraversalResultCache.of(getChild(traversal)));
+        }
+
+        @Parameterized.Parameters(name = "{0}")
+        public static Iterable<Object[]> generateTestParameters() {
+            return Arrays.asList(new Object[][]{
+                    {__.out().order().by(__.out("knows").count()), true},
+                    {__.out().where(__.out("created")), true},
+                    {__.out().project("a").by(__.in().values("name").fold()), true},
+                    {__.out().choose(__.values("age").is(30)), true},
+                    {__.out().order().by(__.sack()), false},
+                    {__.out().order().by(__.out().as("a").count()), false},
+                    {__.out().where(__.out().path().count(Scope.local).is(2)), false},
+                    {__.out().as("a").where(__.out().as("a")), false},
+                    {__.out().where(__.out().select("a")), false},
+                    {__.out().repeat(__.out()).until(__.loops().is(2)), false},
+                    {__.out().where(__.out().property("x", 1)), false},
+                    {__.out().where(__.out().coin(0.5)), false},
+                    {__.out().where(__.map(t -> 1)), false},
+                    {__.out().where(__.out().order().by(Order.shuffle)), false},
+                    {__.out().where(__.out().aggregate("x")), false},
+                    {__.out().repeat(__.out()).times(2), false},
+                    {__.addV().out().where(__.out()), false},
+                    {__.out().where(__.out()).sideEffect(__.property("x", 1)).where(__.out()), false},
+            });
+        }
+    }
+
+    public static class EvaluationTest {
+
+        @Test
+        public void shouldEvaluateEachStartOnce() {
+            final Vertex marko = mockVertex(mock(Vertex.class));
+            final Vertex josh = mockVertex(mock(Vertex.class));
+            final Traversal.Admin<Vertex, Vertex> traversal = applyStrategies(__.<Vertex>inject(mockVertex(marko, josh, marko, marko, josh)).out().where(__.out()).asAdmin(), MemoizationStrategy.instance());
+            assertEquals(Arrays.asList(marko, josh, marko, marko, josh), traversal.toList());
+            verify(marko, times(1)).vertices(Direction.OUT);
+            verify(josh, times(1)).vertices(Direction.OUT);
+        }
+
+        @Test
+        public void shouldEvictTheLeastRecentlyUsedStarts() {
+            final Vertex marko = mockVertex(mock(Vertex.class));
+            final Vertex josh = mockVertex(mock(Vertex.class));
+            final Traversal.Admin<Vertex, Vertex> traversal = applyStrategies(__.<Vertex>inject(mockVertex(marko, marko, josh, marko, josh)).out().where(__.out()).asAdmin(), MemoizationStrategy.build().cacheSize(1).create());
+            assertEquals(Arrays.asList(marko, marko, josh, marko, josh), traversal.toList());
+            verify(marko, times(2)).vertices(Direction.OUT);
+            verify(josh, times(2)).vertices(Direction.OUT);
+        }
+
+        @Test
+        public void shouldNotShareTheCacheWithClones() {
+            final Traversal.Admin<Vertex, Vertex> traversal = applyStrategies(__.<Vertex>out().where(__.out()).asAdmin(), MemoizationStrategy.instance());
+            final TraversalResultCache original = TraversalResultCache.of(getChild(traversal));
+            final TraversalResultCache clone = TraversalResultCache.of(getChild(traversal.clone()));
+            assertNotNull(clone);
+            assertNotSame(original, clone);
+            assertEquals(original.getMaxSize(), clone.getMaxSize());
+        }
+
+        @Test
+        public void shouldClearTheCacheOnReset() {
+            final Vertex marko = mockVertex(mock(Vertex.class));
+            final Vertex start = mockVertex(marko, marko);
+            final Traversal.Admin<Vertex, Vertex> traversal = applyStrategies(__.<Vertex>out().where(__.out()).asAdmin(), MemoizationStrategy.instance());
+            traversal.addStart(traversal.getTraverserGenerator().generate(start, (Step) traversal.getStartStep(), 1l));
+            assertEquals(Arrays.asList(marko, marko), traversal.toList());
+            verify(marko, times(1)).vertices(Direction.OUT);
+            traversal.reset();
+            traversal.addStart(traversal.getTraverserGenerator().generate(start, (Step) traversal.getStartStep(), 1l));
+            assertEquals(Arrays.asList(marko, marko), traversal.toList());
+            verify(marko, times(2)).vertices(Direction.OUT);
+        }
+
+        @Test
+        public void shouldMemoizeChildrenThatDoNotReadTheSackOrSideEffects() {
+            final Traversal.Admin<Vertex, Vertex> traversal = __.<Vertex>out().where(__.out()).asAdmin();
+            traversal.getSideEffects().setSack(() -> 1.0d, null, null);
+            traversal.getSideEffects().register("x", () -> 0, null);
+            assertNotNull(TraversalResultCache.of(getChild(applyStrategies(traversal, MemoizationStrategy.instance()))));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void shouldRequirePositiveCacheSize() {
+            MemoizationStrategy.build().cacheSize(0);
+        }
+    }
+
+    private static Traversal.Admin<?, ?> getChild(final Traversal.Admin<?, ?> traversal) {
+        return ((TraversalParent) traversal.getEndStep()).getLocalChildren().get(0);
+    }
+
+    private static Vertex mockVertex(final Vertex... adjacents) {
+        final Vertex vertex = mock(Vertex.class);
+        when(vertex.vertices(Direction.OUT)).thenAnswer(invocation -> Arrays.asList(adjacents).iterator());
+        return vertex;
+    }
+
+    private static <S, E> Traversal.Admin<S, E> applyStrategies(final Traversal.Admin<S, E> traversal, final MemoizationStrategy memoizationStrategy) {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(memoizationStrategy);
+        traversal.setStrategies(strategies);
+        traversal.applyStrategies();
+        return traversal;
+    }
+}
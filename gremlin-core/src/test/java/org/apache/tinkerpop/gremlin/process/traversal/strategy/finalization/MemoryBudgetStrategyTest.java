@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MemoryBudgetExceededException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemoryBudget;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+@RunWith(Enclosed.class)
+public class MemoryBudgetStrategyTest {
+
+    @RunWith(Parameterized.class)
+    public static class AccountingTest {
+
+        @Parameterized.Parameter(value = 0)
+        public String name;
+
+        @Parameterized.Parameter(value = 1)
+        public Supplier<Traversal<?, ?>> traversal;
+
+        @Parameterized.Parameters(name = "{0}")
+        public static Iterable<Object[]> generateTestParameters() {
+            return Arrays.asList(new Object[][]{
+                    {"group()", (Supplier<Traversal<?, ?>>) () -> numbers().group()},
+                    {"groupCount()", (Supplier<Traversal<?, ?>>) () -> numbers().groupCount()},
+                    {"fold()", (Supplier<Traversal<?, ?>>) () -> numbers().fold()},
+                    {"order()", (Supplier<Traversal<?, ?>>) () -> numbers().order()},
+                    {"barrier()", (Supplier<Traversal<?, ?>>) () -> numbers().barrier()},
+                    {"dedup()", (Supplier<Traversal<?, ?>>) () -> numbers().dedup()},
+                    {"aggregate()", (Supplier<Traversal<?, ?>>) () -> numbers().aggregate("x")},
+                    {"store()", (Supplier<Traversal<?, ?>>) () -> numbers().store("x")}});
+        }
+
+        @Test
+        public void shouldFailWhenBudgetIsExceeded() {
+            try {
+                applyMemoryBudgetStrategy(this.traversal.get(), 5).toList();
+                fail("The traversal should have exceeded its memory budget");
+            } catch (final MemoryBudgetExceededException e) {
+                assertEquals(5L, e.getMaxSize());
+            }
+        }
+
+        @Test
+        public void shouldCompleteWithinBudget() {
+            applyMemoryBudgetStrategy(this.traversal.get(), 20).toList();
+        }
+
+        @Test
+        public void shouldNotAccountWithoutStrategy() {
+            final Traversal.Admin<?, ?> traversal = this.traversal.get().asAdmin();
+            traversal.setStrategies(new DefaultTraversalStrategies());
+            traversal.applyStrategies();
+            assertNull(TraversalMemoryBudget.of(traversal));
+            traversal.toList();
+        }
+    }
+
+    public static class BudgetTest {
+
+        @Test
+        public void shouldHoldBudgetInRootTraversal() {
+            final Traversal.Admin<?, ?> traversal = applyMemoryBudgetStrategy(__.inject(1).map(__.identity().fold()), 10).asAdmin();
+            final TraversalMemoryBudget memoryBudget = TraversalMemoryBudget.of(traversal);
+            assertNotNull(memoryBudget);
+            assertEquals(10L, memoryBudget.getMaxSize());
+            final Traversal.Admin<?, ?> child = ((TraversalParent) traversal.getSteps().get(1)).getLocalChildren().get(0);
+            assertEquals(memoryBudget, TraversalMemoryBudget.of(child));
+        }
+
+        @Test
+        public void shouldReleaseDrainedBarriers() {
+            // the ordered numbers are only released once the barrier pulled the last of them
+            final Traversal.Admin<?, ?> traversal = applyMemoryBudgetStrategy(numbers().order().barrier(), 19).asAdmin();
+            assertEquals(10, traversal.toList().size());
+            assertEquals(0L, TraversalMemoryBudget.of(traversal).getSize());
+        }
+
+        @Test
+        public void shouldStartCloneWithEmptyBudget() {
+            final Traversal.Admin<?, ?> traversal = applyMemoryBudgetStrategy(numbers().dedup(), 20).asAdmin();
+            final Traversal.Admin<?, ?> clone = traversal.clone();
+            traversal.toList();
+            assertEquals(10L, TraversalMemoryBudget.of(traversal).getSize());
+            assertEquals(0L, TraversalMemoryBudget.of(clone).getSize());
+            clone.toList();
+            assertEquals(10L, TraversalMemoryBudget.of(clone).getSize());
+        }
+
+        @Test
+        public void shouldAccountForTheValuesOfGroups() {
+            // two keys that hold ten values between them
+            final Supplier<Traversal<?, ?>> traversal = () -> numbers().group().by(__.choose(__.is(P.lte(5)), __.constant("low"), __.constant("high")));
+            try {
+                applyMemoryBudgetStrategy(traversal.get(), 10).toList();
+                fail("The traversal should have exceeded its memory budget");
+            } catch (final MemoryBudgetExceededException e) {
+                assertEquals(10L, e.getMaxSize());
+            }
+            final Traversal.Admin<?, ?> withinBudget = applyMemoryBudgetStrategy(traversal.get(), 12).asAdmin();
+            assertEquals(1, withinBudget.toList().size());
+            assertEquals(0L, TraversalMemoryBudget.of(withinBudget).getSize());
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void shouldRequirePositiveMaxSize() {
+            MemoryBudgetStrategy.build().maxSize(0);
+        }
+    }
+
+    private static GraphTraversal<Integer, Integer> numbers() {
+        return __.inject(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    private static Traversal<?, ?> applyMemoryBudgetStrategy(final Traversal<?, ?> traversal, final long maxSize) {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(MemoryBudgetStrategy.create(MemoryBudgetStrategy.build().maxSize(maxSize).create().getConfiguration()));
+        traversal.asAdmin().setStrategies(strategies);
+        traversal.asAdmin().applyStrategies();
+        return traversal;
+    }
+}
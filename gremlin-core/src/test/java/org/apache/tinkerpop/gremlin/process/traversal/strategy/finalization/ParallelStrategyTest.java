@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ParallelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.util.function.Lambda;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Parameterized.class)
+public class ParallelStrategyTest {
+
+    @Parameterized.Parameter(value = 0)
+    public Traversal original;
+
+    @Parameterized.Parameter(value = 1)
+    public Traversal optimized;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Iterable<Object[]> generateTestParameters() {
+
+        return Arrays.asList(new Traversal[][]{
+                {__.V().out().count(), parallel(__.V(), __.out().count(), __.start())},
+                {__.V().count(), parallel(__.V(), __.count(), __.start())},
+                {__.V().out().out().groupCount().by("name"), parallel(__.V(), __.out().out().groupCount().by("name"), __.start())},
+                {__.V().out().has("age").values("name").fold(), parallel(__.V(), __.out().has("age").values("name").fold(), __.start())},
+                {__.V().out().count().as("a"), parallel(__.V(), __.out().count(), __.start()).as("a")},
+                {__.V().out().count().is(0), parallel(__.V(), __.out().count(), __.is(0))},
+                {__.V().out().order().by("age").values("name"), parallel(__.V(), __.out(), __.order().by("age").values("name"))},
+                {__.V().out().limit(10).out(), parallel(__.V(), __.out(), __.limit(10).out())},
+                {__.V().out().dedup().count(), parallel(__.V(), __.out(), __.dedup().count())},
+                {__.V().out().aggregate("x").count(), parallel(__.V(), __.out(), __.aggregate("x").count())},
+                {__.V().out().groupCount("x").cap("x"), parallel(__.V(), __.out(), __.groupCount("x").cap("x"))},
+                {__.V().out().as("a").in().select("a"), __.V().out().as("a").in().select("a")},
+                {__.V().as("a").out().select("a"), parallel(__.V().as("a"), __.out(), __.select("a"))},
+                {__.V().out().addV(), parallel(__.V(), __.out(), __.addV())},
+                {__.V().local(__.out().limit(1)).count(), parallel(__.V(), __.local(__.out().limit(1)).count(), __.start())},
+                {__.V().where(__.out().count().is(2)).values("name"), parallel(__.V(), __.where(__.out().count().is(2)).values("name"), __.start())},
+                {__.V().union(__.out(), __.in()).count(), parallel(__.V(), __.union(__.out(), __.in()).count(), __.start())},
+                {__.V().repeat(__.out()).times(2).groupCount(), parallel(__.V(), __.repeat(__.out()).times(2).groupCount(), __.start())},
+                {__.V().repeat(__.out().dedup()).times(2).count(), __.V().repeat(__.out().dedup()).times(2).count()},
+                {__.V().local(__.out().aggregate("x")).count(), __.V().local(__.out().aggregate("x")).count()},
+                {__.V().map(Lambda.function("it.get()")).count(), __.V().map(Lambda.function("it.get()")).count()},
+                {__.V().timeLimit(10).out(), __.V().timeLimit(10).out()},
+                {__.V().limit(1).out(), __.V().limit(1).out()},
+                {__.V().group().by(__.out().count()), parallel(__.V(), __.group().by(__.out().count()), __.start())},
+                {__.V().groupCount().by(__.sideEffect(__.addV())), __.V().groupCount().by(__.sideEffect(__.addV()))},
+                {__.out().count(), __.out().count()},
+                {__.inject(1).count(), __.inject(1).count()},
+                {__.V().out().count().profile(), __.V().out().count().profile()}
+        });
+    }
+
+    @Test
+    public void doTest() {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(ParallelStrategy.instance());
+        this.original.asAdmin().setStrategies(strategies);
+        this.original.asAdmin().applyStrategies();
+        assertEquals(this.optimized, this.original);
+        for (final ParallelStep<?, ?> parallelStep : TraversalHelper.getStepsOfAssignableClassRecursively(ParallelStep.class, this.original.asAdmin())) {
+            assertTrue(parallelStep.getTraversal().getParent() instanceof EmptyStep);
+        }
+    }
+
+    private static GraphTraversal parallel(final GraphTraversal startTraversal, final Traversal parallelTraversal, final Traversal remainingTraversal) {
+        final Traversal.Admin<?, ?> traversal = startTraversal.asAdmin();
+        traversal.addStep(new ParallelStep<>(traversal, parallelTraversal.asAdmin(), 0, 256));
+        TraversalHelper.removeToTraversal(remainingTraversal.asAdmin().getStartStep(), EmptyStep.instance(), (Traversal.Admin) traversal);
+        return startTraversal;
+    }
+}
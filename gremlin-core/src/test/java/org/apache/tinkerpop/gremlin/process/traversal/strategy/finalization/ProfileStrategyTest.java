@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.Metrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.ProfileSampler;
+import org.apache.tinkerpop.gremlin.process.traversal.util.ThreadAllocation;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+public class ProfileStrategyTest {
+
+    @Test
+    public void shouldCountTraversersWithoutTiming() {
+        final TraversalMetrics metrics = profile(ProfileStrategy.build().mode(ProfileStrategy.Mode.COUNTING).create(),
+                __.inject(1, 2, 3, 3).is(3));
+        final Metrics isMetrics = metrics.getMetrics(1);
+        assertEquals(1L, isMetrics.getCount(TraversalMetrics.TRAVERSER_COUNT_ID).longValue());
+        assertEquals(2L, isMetrics.getCount(TraversalMetrics.ELEMENT_COUNT_ID).longValue());
+        assertEquals(0L, metrics.getDuration(TimeUnit.NANOSECONDS));
+        assertNull(isMetrics.getAnnotation(TraversalMetrics.PERCENT_DURATION_KEY));
+    }
+
+    @Test
+    public void shouldSampleStepDurations() {
+        final TraversalMetrics metrics = profile(ProfileStrategy.build().mode(ProfileStrategy.Mode.SAMPLING).sampleInterval(1).create(),
+                __.inject(1, 2, 3, 4, 5).map(t -> {
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException ie) {
+                        throw new RuntimeException(ie);
+                    }
+                    return t.get();
+                }));
+        final Metrics mapMetrics = metrics.getMetrics(1);
+        assertEquals(5L, mapMetrics.getCount(TraversalMetrics.TRAVERSER_COUNT_ID).longValue());
+        final Long samples = (Long) mapMetrics.getAnnotation(TraversalMetrics.SAMPLE_COUNT_KEY);
+        assertNotNull(samples);
+        assertTrue(samples > 0L);
+        assertEquals(samples.longValue(), mapMetrics.getDuration(TimeUnit.MILLISECONDS));
+        assertNotNull(mapMetrics.getAnnotation(TraversalMetrics.PERCENT_DURATION_KEY));
+    }
+
+    @Test
+    public void shouldInjectProfileStepsOfConfiguredMode() {
+        final Traversal.Admin<?, ?> traversal = __.inject(1).is(1).profile().asAdmin();
+        applyStrategies(ProfileStrategy.create(ProfileStrategy.build().mode(ProfileStrategy.Mode.COUNTING).create().getConfiguration()), traversal);
+        for (final ProfileStep<?> step : TraversalHelper.getStepsOfClass(ProfileStep.class, traversal)) {
+            assertEquals(ProfileStrategy.Mode.COUNTING, step.getMode());
+        }
+        assertEquals(2, TraversalHelper.getStepsOfClass(ProfileStep.class, traversal).size());
+    }
+
+    @Test
+    public void shouldAccountForAllocationsAndBarrierSizes() {
+        final TraversalMetrics metrics = profile(ProfileStrategy.build().memory(true).create(),
+                __.inject(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).map(t -> new byte[4096]).barrier().fold());
+        final Metrics mapMetrics = metrics.getMetrics(1);
+        final Metrics barrierMetrics = metrics.getMetrics(2);
+        final Metrics foldMetrics = metrics.getMetrics(3);
+        assertEquals(10L, barrierMetrics.getAnnotation(TraversalMetrics.BARRIER_SIZE_KEY));
+        assertEquals(10L, foldMetrics.getAnnotation(TraversalMetrics.BARRIER_SIZE_KEY));
+        assertNull(mapMetrics.getAnnotation(TraversalMetrics.BARRIER_SIZE_KEY));
+
+        assumeTrue(ThreadAllocation.isSupported());
+        assertTrue((Long) mapMetrics.getAnnotation(TraversalMetrics.ALLOCATED_BYTES_KEY) >= 10 * 4096L);
+        assertTrue((Long) barrierMetrics.getAnnotation(TraversalMetrics.ALLOCATED_BYTES_KEY) < 10 * 4096L);
+    }
+
+    @Test
+    public void shouldNotAccountForMemoryByDefault() {
+        final Metrics foldMetrics = profile(ProfileStrategy.instance(), __.inject(1, 2, 3).fold()).getMetrics(1);
+        assertNull(foldMetrics.getAnnotation(TraversalMetrics.ALLOCATED_BYTES_KEY));
+        assertNull(foldMetrics.getAnnotation(TraversalMetrics.BARRIER_SIZE_KEY));
+    }
+
+    @Test
+    public void shouldStopSamplingOnCloseAndReset() throws Exception {
+        final Traversal.Admin<?, ?> traversal = __.inject(1, 2, 3).profile("m").asAdmin();
+        applyStrategies(ProfileStrategy.build().mode(ProfileStrategy.Mode.SAMPLING).create(), traversal);
+        final ProfileSampler sampler = getSampler(traversal);
+        traversal.next();
+        assertTrue(sampler.isSampling());
+        traversal.close();
+        assertFalse(sampler.isSampling());
+        traversal.next();
+        assertTrue(sampler.isSampling());
+        traversal.reset();
+        assertFalse(sampler.isSampling());
+    }
+
+    @Test
+    public void shouldStopSamplingOnError() {
+        final Traversal.Admin<?, ?> traversal = __.inject(1, 2, 3).map(t -> {
+            throw new IllegalStateException("failed");
+        }).profile("m").asAdmin();
+        applyStrategies(ProfileStrategy.build().mode(ProfileStrategy.Mode.SAMPLING).create(), traversal);
+        final ProfileSampler sampler = getSampler(traversal);
+        try {
+            traversal.hasNext();
+            fail("The traversal should have failed");
+        } catch (final IllegalStateException e) {
+            assertEquals("failed", e.getMessage());
+        }
+        assertFalse(sampler.isSampling());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequirePositiveSampleInterval() {
+        ProfileStrategy.build().sampleInterval(0);
+    }
+
+    private static TraversalMetrics profile(final ProfileStrategy profileStrategy, final Traversal<?, ?> traversal) {
+        final Traversal.Admin<?, ?> profiled = traversal.profile().asAdmin();
+        applyStrategies(profileStrategy, profiled);
+        return (TraversalMetrics) profiled.next();
+    }
+
+    private static ProfileSampler getSampler(final Traversal.Admin<?, ?> traversal) {
+        return TraversalHelper.getLastStepOfAssignableClass(ProfileSideEffectStep.class, traversal).get().getSampler(1L);
+    }
+
+    private static void applyStrategies(final ProfileStrategy profileStrategy, final Traversal.Admin<?, ?> traversal) {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(profileStrategy);
+        traversal.setStrategies(strategies);
+        traversal.applyStrategies();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.FusedStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.CloseableIterator;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StepFusionStrategyTest {
+
+    @Test
+    public void shouldFuseMapFilterAndFlatMapSteps() {
+        final Traversal.Admin<?, ?> traversal = applyStrategies(__.V(1).out("knows").has("age", P.gt(30)).values("name").asAdmin());
+        assertEquals(2, traversal.getSteps().size());
+        final FusedStep<?, ?> fusedStep = (FusedStep<?, ?>) traversal.getEndStep();
+        assertEquals(__.out("knows").has("age", P.gt(30)).values("name").asAdmin().getSteps(), fusedStep.getFusedSteps());
+    }
+
+    @Test
+    public void shouldNotFuseAcrossBarriersAndLabels() {
+        final Traversal.Admin<?, ?> traversal = applyStrategies(__.V().out().in().as("a").id().order().out().as("b").in().out().asAdmin());
+        assertEquals(6, traversal.getSteps().size());
+        final FusedStep<?, ?> fusedStep = (FusedStep<?, ?>) traversal.getSteps().get(1);
+        assertEquals(Collections.singleton("a"), fusedStep.getLabels());
+        assertEquals(2, fusedStep.getFusedSteps().size());
+        assertTrue(fusedStep.getFusedSteps().get(1).getLabels().isEmpty());
+        assertEquals(Collections.singleton("b"), traversal.getSteps().get(4).getLabels());
+        assertEquals(2, ((FusedStep<?, ?>) traversal.getSteps().get(5)).getFusedSteps().size());
+    }
+
+    @Test
+    public void shouldNotFuseSingleStepsOrProcessors() {
+        final Traversal.Admin<?, ?> traversal = applyStrategies(__.V().out().select("a").out().where(__.in()).out().path().asAdmin());
+        assertTrue(TraversalHelper.getStepsOfAssignableClassRecursively(FusedStep.class, traversal).isEmpty());
+    }
+
+    @Test
+    public void shouldFuseChildTraversals() {
+        final Traversal.Admin<?, ?> traversal = applyStrategies(__.V().local(__.out().out().has("name")).asAdmin());
+        assertEquals(1, TraversalHelper.getStepsOfAssignableClassRecursively(FusedStep.class, traversal).size());
+        assertEquals(0, TraversalHelper.getStepsOfClass(VertexStep.class, traversal).size());
+    }
+
+    @Test
+    public void shouldNotFuseProfiledTraversals() {
+        final Traversal.Admin<?, ?> traversal = __.V().out().out().profile().asAdmin();
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(StepFusionStrategy.instance(), ProfileStrategy.instance());
+        traversal.setStrategies(strategies);
+        traversal.applyStrategies();
+        assertTrue(TraversalHelper.getStepsOfAssignableClassRecursively(FusedStep.class, traversal).isEmpty());
+    }
+
+    @Test
+    public void shouldReturnSameResultsAsUnfusedExecution() {
+        assertSameResults(() -> __.inject(1, 2, 3, 4, 5, 5).map(t -> t.get() * 10).filter(t -> t.get() > 10).flatMap(t -> Arrays.asList(t.get(), t.get() + 1).iterator()).map(t -> t.get() * 2));
+        assertSameResults(() -> __.inject(1, 2, 3).flatMap(t -> Collections.<Integer>emptyIterator()).map(t -> t.get() + 1));
+        assertSameResults(() -> __.inject(1, 2, 3).flatMap(t -> Arrays.asList(t.get(), t.get()).iterator()).flatMap(t -> t.get() == 2 ? Collections.<Integer>emptyIterator() : Arrays.asList(t.get(), -t.get()).iterator()).is(P.gt(0)));
+        assertSameResults(() -> __.inject(1, 2, 3).map(t -> t.get() == 2 ? null : t.get()).map(t -> t.get() + 1));
+        assertSameResults(() -> __.inject(1, 2, 3).as("a").map(t -> t.get() + 1).filter(t -> t.get() != 3).as("b").path());
+        assertSameResults(() -> __.inject(1, 2, 3).map(t -> t.get() + 1).flatMap(t -> Arrays.asList(t.get(), t.get()).iterator()).as("b").select("b"));
+        assertSameResults(() -> __.inject(1, 2, 3).map(t -> t.get() + 1).flatMap(t -> Arrays.asList(t.get(), t.get()).iterator()).limit(3));
+    }
+
+    @Test
+    public void shouldCloseOpenIteratorsWhenTraversalIsClosed() throws Exception {
+        final AtomicInteger closed = new AtomicInteger(0);
+        final Traversal.Admin<?, ?> traversal = applyStrategies(__.inject(1, 2, 3).<Integer>flatMap(t -> new CloseableIterator<Integer>() {
+            private final Iterator<Integer> iterator = Arrays.asList(t.get(), t.get()).iterator();
+
+            @Override
+            public boolean hasNext() {
+                return this.iterator.hasNext();
+            }
+
+            @Override
+            public Integer next() {
+                return this.iterator.next();
+            }
+
+            @Override
+            public void close() {
+                closed.incrementAndGet();
+            }
+        }).map(t -> t.get() + 1).asAdmin());
+        assertTrue(traversal.getEndStep() instanceof FusedStep);
+        assertEquals(2, traversal.next());
+        assertEquals(0, closed.get());
+        traversal.close();
+        assertEquals(1, closed.get());
+    }
+
+    private static void assertSameResults(final Supplier<Traversal<?, ?>> traversalSupplier) {
+        final List<?> expected = traversalSupplier.get().toList();
+        final Traversal.Admin<?, ?> fused = applyStrategies(traversalSupplier.get().asAdmin());
+        assertTrue(TraversalHelper.hasStepOfAssignableClassRecursively(FusedStep.class, fused));
+        assertEquals(expected, fused.toList());
+        final Traversal.Admin<?, ?> clone = applyStrategies(traversalSupplier.get().asAdmin()).clone();
+        assertEquals(expected, clone.toList());
+    }
+
+    private static Traversal.Admin<?, ?> applyStrategies(final Traversal.Admin<?, ?> traversal) {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(StepFusionStrategy.instance());
+        traversal.setStrategies(strategies);
+        traversal.applyStrategies();
+        return traversal;
+    }
+}
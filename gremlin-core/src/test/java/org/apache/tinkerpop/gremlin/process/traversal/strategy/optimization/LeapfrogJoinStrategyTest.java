@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.LeapfrogJoinStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.SortedAdjacency;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.as;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+@RunWith(Parameterized.class)
+public class LeapfrogJoinStrategyTest {
+
+    @Parameterized.Parameter(value = 0)
+    public Traversal original;
+
+    @Parameterized.Parameter(value = 1)
+    public boolean replaced;
+
+    @Test
+    public void doTest() {
+        final Traversal.Admin<?, ?> unsorted = this.original.asAdmin().clone();
+        applyLeapfrogJoinStrategy(unsorted, EmptyGraph.instance());
+        assertFalse(TraversalHelper.hasStepOfClass(LeapfrogJoinStep.class, unsorted));
+
+        applyLeapfrogJoinStrategy(this.original, mock(Graph.class, withSettings().extraInterfaces(SortedAdjacency.class)));
+        assertEquals(this.replaced, TraversalHelper.hasStepOfClass(LeapfrogJoinStep.class, this.original.asAdmin()));
+        assertEquals(!this.replaced, TraversalHelper.hasStepOfClass(MatchStep.class, this.original.asAdmin()));
+    }
+
+    private static void applyLeapfrogJoinStrategy(final Traversal traversal, final Graph graph) {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(LeapfrogJoinStrategy.instance(), IncidentToAdjacentStrategy.instance(), MatchPredicateStrategy.instance());
+        traversal.asAdmin().setStrategies(strategies);
+        traversal.asAdmin().setGraph(graph);
+        traversal.asAdmin().applyStrategies();
+    }
+
+    @Test
+    public void shouldExtractAtoms() {
+        final Traversal.Admin<?, ?> traversal = __.match(as("a").out("knows").as("b"), as("b").inE("created").outV().as("c"), as("c").both().as("a")).asAdmin();
+        applyLeapfrogJoinStrategy(traversal, mock(Graph.class, withSettings().extraInterfaces(SortedAdjacency.class)));
+        final LeapfrogJoinStep<?, ?> step = TraversalHelper.getFirstStepOfAssignableClass(LeapfrogJoinStep.class, traversal).get();
+        assertEquals(3, step.getAtoms().size());
+        assertEquals(new LeapfrogJoinStep.Atom("a", Direction.OUT, new String[]{"knows"}, "b"), step.getAtoms().get(0));
+        assertEquals(new LeapfrogJoinStep.Atom("b", Direction.IN, new String[]{"created"}, "c"), step.getAtoms().get(1));
+        assertEquals(new LeapfrogJoinStep.Atom("c", Direction.BOTH, new String[0], "a"), step.getAtoms().get(2));
+        assertArrayEquals(new String[]{"created"}, step.getAtoms().get(1).getEdgeLabels());
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Iterable<Object[]> generateTestParameters() {
+        return Arrays.asList(new Object[][]{
+                {__.match(as("a").out().as("b"), as("b").out().as("c"), as("c").out().as("a")), true},
+                {__.out().as("x").match(as("a").out().as("b"), as("b").in("knows").as("a")), true},
+                {__.match(as("a").out().as("b"), as("b").out().as("c"), as("c").out().as("d"), as("d").out().as("a")), true},
+                {__.match(as("a").out().as("b"), as("b").out().as("c")), false},
+                {__.match(as("a").out().as("b"), as("b").out().as("c"), as("c").out().as("a")).path(), false},
+                {__.match(as("a").out().has("age", 29).as("b"), as("b").out().as("a")), false},
+                {__.match(as("a").out().out().as("b"), as("b").out().as("a")), false},
+                {__.match(as("a").outE().as("b"), as("b").inV().as("a")), false},
+                {__.match(as("a").outE("knows").inV().as("b"), as("b").bothE().otherV().as("a")), true},
+                {__.match(as("a").bothE().bothV().as("b"), as("b").out().as("a")), false},
+                {__.match(as("a").out().as("b"), as("b").out().as("a"), as("c").out().as("d"), as("d").out().as("c")), false},
+                {__.match(as("a").out().as("b"), __.or(as("b").out().as("a"), as("a").in().as("b"))), false},
+        });
+    }
+}
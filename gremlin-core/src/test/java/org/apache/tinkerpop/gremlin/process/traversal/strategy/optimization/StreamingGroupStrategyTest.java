@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.StreamingGroupStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Parameterized.class)
+public class StreamingGroupStrategyTest {
+
+    @Parameterized.Parameter(value = 0)
+    public Traversal original;
+
+    @Parameterized.Parameter(value = 1)
+    public boolean replaced;
+
+    @Test
+    public void doTest() {
+        applyStreamingGroupStrategy(this.original);
+        assertEquals(this.replaced, TraversalHelper.hasStepOfClass(StreamingGroupStep.class, this.original.asAdmin()));
+        assertEquals(!this.replaced, TraversalHelper.hasStepOfClass(GroupStep.class, this.original.asAdmin()));
+    }
+
+    @Test
+    public void shouldGroupSortedTraversersLikeGroup() {
+        final Traversal.Admin<?, ?> traversal = __.inject("b", "a", "c", "a", "b", "b").order().group().by().by(__.count()).unfold().asAdmin();
+        applyStreamingGroupStrategy(traversal);
+        final List<?> expected = Arrays.asList(
+                new AbstractMap.SimpleEntry<>("a", 2L),
+                new AbstractMap.SimpleEntry<>("b", 3L),
+                new AbstractMap.SimpleEntry<>("c", 1L));
+        assertEquals(expected, traversal.toList());
+    }
+
+    @Test
+    public void shouldGroupKeysThatCompareEqualButAreNotEqualLikeGroup() {
+        final Traversal.Admin<?, ?> traversal = __.<Number>inject(29, 29L, 29).order().by().group().by().by(__.count()).unfold().asAdmin();
+        applyStreamingGroupStrategy(traversal);
+        assertTrue(TraversalHelper.hasStepOfClass(StreamingGroupStep.class, traversal));
+        final Set<?> expected = new HashSet<>(Arrays.asList(
+                new AbstractMap.SimpleEntry<>(29, 2L),
+                new AbstractMap.SimpleEntry<>(29L, 1L)));
+        final List<?> results = traversal.toList();
+        assertEquals(2, results.size());
+        assertEquals(expected, new HashSet<>(results));
+    }
+
+    @Test
+    public void shouldKeepLabelsOfUnfold() {
+        final Traversal.Admin<?, ?> traversal = __.order().by("name").group().by("name").unfold().as("a").asAdmin();
+        applyStreamingGroupStrategy(traversal);
+        assertEquals(Collections.singleton("a"), traversal.getEndStep().getLabels());
+    }
+
+    private static void applyStreamingGroupStrategy(final Traversal traversal) {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(StreamingGroupStrategy.instance());
+        traversal.asAdmin().setStrategies(strategies);
+        traversal.asAdmin().applyStrategies();
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Iterable<Object[]> generateTestParameters() {
+        return Arrays.asList(new Object[][]{
+                {__.order().group().unfold(), true},
+                {__.order().by().group().unfold(), true},
+                {__.order().by("name").group().by("name").unfold(), true},
+                {__.order().by("name", Order.decr).group().by("name").by(__.count()).unfold(), true},
+                {__.order().by(T.label).by("name").has("age").group().by(T.label).unfold(), true},
+                {__.order().by(__.out().count()).identity().group().by(__.out().count()).by("name").unfold(), true},
+                {__.order().by("name").group().by("name"), false},
+                {__.order().by("name").group().by("age").unfold(), false},
+                {__.order().by("age").by("name").group().by("name").unfold(), false},
+                {__.order().by("name", Order.shuffle).group().by("name").unfold(), false},
+                {__.order().by("name").out().group().by("name").unfold(), false},
+                {__.order().by("name").group().by("name").as("a").unfold(), false},
+                {__.group().by("name").unfold(), false},
+        });
+    }
+}
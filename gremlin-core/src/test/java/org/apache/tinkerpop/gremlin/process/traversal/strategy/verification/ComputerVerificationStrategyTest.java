@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.strategy.verification;
 
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.TraversalVertexProgramStep;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
@@ -52,6 +53,7 @@ public class ComputerVerificationStrategyTest {
                 // illegal
                 {"__.where(__.out().values(\"name\"))", __.where(__.out().values("name")), false},
                 {"__.local(out().out())", __.local(out().out()), false},
+                {"__.repeat(out()).times(2).visited(global)", __.repeat(out()).times(2).visited(Scope.global), false},
                 // legal
                 {"__.values(\"age\").union(max(), min(), sum())", __.values("age").union(max(), min(), sum()), true},
                 {"__.count().sum()", __.count().sum(), true},
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.remote.EmbeddedRemoteConnection;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.InjectStep;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DefaultTraversalSubscriptionTest {
+
+    @Test
+    public void shouldSendResultsOnDemand() {
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        __.inject(1, 2, 3, 4, 5).subscribe(subscriber);
+        assertTrue(subscriber.results.isEmpty());
+
+        subscriber.subscription.request(2);
+        assertEquals(Arrays.asList(1, 2), subscriber.results);
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(2);
+        assertEquals(Arrays.asList(1, 2, 3, 4), subscriber.results);
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(1);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), subscriber.results);
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void shouldUnrollBulkedResults() {
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        __.inject(1, 1, 1, 2).barrier().subscribe(subscriber);
+        subscriber.subscription.request(2);
+        assertEquals(Arrays.asList(1, 1), subscriber.results);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(Arrays.asList(1, 1, 1, 2), subscriber.results);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldCompleteEmptyTraversal() {
+        final RecordingSubscriber<Object> subscriber = new RecordingSubscriber<>();
+        __.inject().subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertTrue(subscriber.results.isEmpty());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldStopSendingResultsWhenCancelled() {
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>() {
+            @Override
+            public void onNext(final Integer result) {
+                super.onNext(result);
+                if (2 == result) this.subscription.cancel();
+            }
+        };
+        __.inject(1, 2, 3).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(Arrays.asList(1, 2), subscriber.results);
+        assertFalse(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void shouldRequestFromWithinOnNext() {
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>() {
+            @Override
+            public void onNext(final Integer result) {
+                super.onNext(result);
+                this.subscription.request(1);
+            }
+        };
+        __.inject(1, 2, 3).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertEquals(Arrays.asList(1, 2, 3), subscriber.results);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldFailOnIllegalRequest() {
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        __.inject(1, 2, 3).subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void shouldFailWithErrorOfTraversal() {
+        final RecordingSubscriber<Object> subscriber = new RecordingSubscriber<>();
+        __.inject(1, 0).map(t -> 1 / t.get()).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(Collections.singletonList(1), subscriber.results);
+        assertTrue(subscriber.error instanceof ArithmeticException);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void shouldSendResultsOfRemoteTraversal() {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal().withRemote(new EmbeddedRemoteConnection(EmptyGraph.instance().traversal()));
+        final GraphTraversal<Integer, Integer> traversal = g.inject(1, 2, 3, 3);
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        traversal.subscribe(subscriber);
+        subscriber.subscription.request(3);
+        assertEquals(Arrays.asList(1, 2, 3), subscriber.results);
+        assertFalse(subscriber.completed);
+        subscriber.subscription.request(5);
+        assertEquals(Arrays.asList(1, 2, 3, 3), subscriber.results);
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void shouldCloseTraversalOnCompletion() {
+        final AtomicInteger closed = new AtomicInteger(0);
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        closeable(closed, 1, 2).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertEquals(0, closed.get());
+        subscriber.subscription.request(1);
+        assertTrue(subscriber.completed);
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    public void shouldCloseTraversalOnCancel() {
+        final AtomicInteger closed = new AtomicInteger(0);
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        closeable(closed, 1, 2, 3).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(2);
+        assertEquals(Collections.singletonList(1), subscriber.results);
+        assertFalse(subscriber.completed);
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    public void shouldCloseTraversalOnError() {
+        final AtomicInteger closed = new AtomicInteger(0);
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        closeable(closed, 1, 2, 3).subscribe(subscriber);
+        subscriber.subscription.request(-1);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    public void shouldCancelAndReportExceptionOfOnNext() {
+        final AtomicInteger closed = new AtomicInteger(0);
+        final IllegalStateException failure = new IllegalStateException("onNext failed");
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>() {
+            @Override
+            public void onNext(final Integer result) {
+                super.onNext(result);
+                if (2 == result) throw failure;
+            }
+        };
+        closeable(closed, 1, 2, 3).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(Arrays.asList(1, 2), subscriber.results);
+        assertEquals(failure, subscriber.error);
+        assertFalse(subscriber.completed);
+        assertEquals(1, closed.get());
+        subscriber.subscription.request(1);
+        assertEquals(Arrays.asList(1, 2), subscriber.results);
+    }
+
+    private static DefaultTraversal<Integer, Integer> closeable(final AtomicInteger closed, final Integer... injections) {
+        final DefaultTraversal<Integer, Integer> traversal = new DefaultTraversal<Integer, Integer>() {
+            @Override
+            public void close() {
+                closed.incrementAndGet();
+            }
+        };
+        traversal.addStep(new InjectStep<>(traversal, injections));
+        return traversal;
+    }
+
+    private static class RecordingSubscriber<E> implements TraversalSubscriber<E> {
+        TraversalSubscription subscription;
+        final List<E> results = new ArrayList<>();
+        Throwable error = null;
+        boolean completed = false;
+
+        @Override
+        public void onSubscribe(final TraversalSubscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final E result) {
+            this.results.add(result);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
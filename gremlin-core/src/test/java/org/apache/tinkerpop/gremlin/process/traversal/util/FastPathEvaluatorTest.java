@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.TraversalMapStep;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FastPathEvaluatorTest {
+
+    @Test
+    public void shouldCompileSimpleTraversals() {
+        assertNotNull(FastPathEvaluator.compile(__.id().asAdmin()));
+        assertNotNull(FastPathEvaluator.compile(__.label().asAdmin()));
+        assertNotNull(FastPathEvaluator.compile(__.values("name", "age").asAdmin()));
+        assertNotNull(FastPathEvaluator.compile(__.out("knows").asAdmin()));
+        assertNotNull(FastPathEvaluator.compile(__.bothE().count().asAdmin()));
+    }
+
+    @Test
+    public void shouldNotCompileOtherTraversals() {
+        assertNull(FastPathEvaluator.compile(__.start().asAdmin()));
+        assertNull(FastPathEvaluator.compile(__.properties("name").asAdmin()));
+        assertNull(FastPathEvaluator.compile(__.id().as("a").asAdmin()));
+        assertNull(FastPathEvaluator.compile(__.out().out().asAdmin()));
+        assertNull(FastPathEvaluator.compile(__.out().values("name").asAdmin()));
+        assertNull(FastPathEvaluator.compile(__.values("name").count().asAdmin()));
+        assertNull(FastPathEvaluator.compile(__.out().count().as("a").asAdmin()));
+    }
+
+    @Test
+    public void shouldOnlyCompileChildTraversals() {
+        final Traversal.Admin<?, ?> traversal = __.id().map(__.out().count()).asAdmin();
+        traversal.applyStrategies();
+        assertNull(((DefaultTraversal) traversal).fastPathEvaluator);
+        final Traversal.Admin<?, ?> child = ((TraversalMapStep<?, ?>) traversal.getSteps().get(1)).getLocalChildren().get(0);
+        assertNotNull(((DefaultTraversal) child).fastPathEvaluator);
+        assertNotNull(((DefaultTraversal) child.clone()).fastPathEvaluator);
+    }
+
+    @Test
+    public void shouldEvaluateLikeTheSteps() {
+        final Vertex marko = mock(Vertex.class);
+        final Vertex josh = mock(Vertex.class);
+        final Edge knows = mock(Edge.class);
+        when(marko.id()).thenReturn(1);
+        when(marko.label()).thenReturn("person");
+        when(marko.values("name")).thenAnswer(invocation -> IteratorUtils.of("marko"));
+        when(marko.values("nicknames")).thenAnswer(invocation -> Arrays.asList("m", "mar").iterator());
+        when(marko.values("age")).thenAnswer(invocation -> Collections.emptyIterator());
+        when(marko.vertices(Direction.OUT, "knows")).thenAnswer(invocation -> IteratorUtils.of(josh, josh));
+        when(marko.edges(Direction.OUT, "knows")).thenAnswer(invocation -> IteratorUtils.of(knows));
+        when(marko.vertices(Direction.IN, "knows")).thenAnswer(invocation -> Collections.emptyIterator());
+
+        assertEquals(1, TraversalUtil.apply(marko, child(__.id())));
+        assertEquals("person", TraversalUtil.apply(marko, child(__.label())));
+        assertEquals("marko", TraversalUtil.apply(marko, child(__.values("name"))));
+        assertEquals(Arrays.asList("m", "mar"), IteratorUtils.list(TraversalUtil.applyAll(marko, child(__.values("nicknames")))));
+        assertEquals(josh, TraversalUtil.apply(marko, child(__.out("knows"))));
+        assertEquals(knows, TraversalUtil.apply(marko, child(__.outE("knows"))));
+        assertEquals(2L, (long) TraversalUtil.apply(marko, child(__.out("knows").count())));
+        assertEquals(0L, (long) TraversalUtil.apply(marko, child(__.in("knows").count())));
+
+        assertTrue(TraversalUtil.test(marko, child(__.values("name"))));
+        assertFalse(TraversalUtil.test(marko, child(__.values("age"))));
+        assertFalse(TraversalUtil.test(marko, child(__.in("knows"))));
+        assertTrue(TraversalUtil.test(marko, child(__.values("nicknames")), "mar"));
+        assertFalse(TraversalUtil.test(marko, child(__.values("nicknames")), "marko"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIfTheTraversalHasNoValue() {
+        final Vertex marko = mock(Vertex.class);
+        when(marko.values("age")).thenAnswer(invocation -> Collections.emptyIterator());
+        TraversalUtil.apply(marko, child(__.values("age")));
+    }
+
+    /**
+     * Gets the child traversal of a {@code map()} with the strategies applied.
+     */
+    private static <S, E> Traversal.Admin<S, E> child(final Traversal<S, E> traversal) {
+        final Traversal.Admin<?, ?> parent = __.map(traversal).asAdmin();
+        parent.applyStrategies();
+        final Traversal.Admin<S, E> child = ((TraversalMapStep<S, E>) parent.getStartStep()).getLocalChildren().get(0);
+        assertNotNull(((DefaultTraversal) child).fastPathEvaluator);
+        return child;
+    }
+}
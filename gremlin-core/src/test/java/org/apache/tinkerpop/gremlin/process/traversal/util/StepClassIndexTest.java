@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.IdentityStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.IdentityRemovalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.IncidentToAdjacentStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.MatchPredicateStrategy;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.as;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class StepClassIndexTest {
+
+    @Test
+    public void shouldIndexSuperClassesAndInterfaces() {
+        final StepClassIndex index = StepClassIndex.of(__.out().has("name", "marko").order().asAdmin());
+        assertTrue(index.contains(VertexStep.class));
+        assertTrue(index.contains(HasStep.class));
+        assertTrue(index.contains(FilterStep.class));
+        assertTrue(index.contains(Barrier.class));
+        assertFalse(index.contains(Mutating.class));
+        assertFalse(index.contains(IdentityStep.class));
+        assertTrue(index.containsAny(new HashSet<>(Arrays.asList(Mutating.class, OrderGlobalStep.class))));
+        assertFalse(index.containsAny(new HashSet<>(Arrays.asList(Mutating.class, MatchStep.class))));
+    }
+
+    @Test
+    public void shouldNotIndexChildTraversals() {
+        final StepClassIndex index = StepClassIndex.of(__.out().where(__.identity()).asAdmin());
+        assertFalse(index.contains(IdentityStep.class));
+    }
+
+    @Test
+    public void shouldDropIndexWhenStepsChange() {
+        final Traversal.Admin<?, ?> traversal = __.out().asAdmin();
+        final StepClassIndex index = StepClassIndex.of(traversal);
+        assertSame(index, StepClassIndex.of(traversal));
+        assertFalse(index.contains(IdentityStep.class));
+
+        traversal.addStep(new IdentityStep<>(traversal));
+        assertNotSame(index, StepClassIndex.of(traversal));
+        assertTrue(StepClassIndex.of(traversal).contains(IdentityStep.class));
+
+        traversal.removeStep(1);
+        assertFalse(StepClassIndex.of(traversal).contains(IdentityStep.class));
+    }
+
+    @Test
+    public void shouldDetermineApplicableStrategies() {
+        final Traversal.Admin<?, ?> traversal = __.out().identity().asAdmin();
+        assertTrue(StepClassIndex.isApplicable(IdentityRemovalStrategy.instance(), traversal));
+        assertTrue(StepClassIndex.isApplicable(IncidentToAdjacentStrategy.instance(), traversal));
+        assertFalse(StepClassIndex.isApplicable(MatchPredicateStrategy.instance(), traversal));
+        assertTrue(StepClassIndex.isApplicable(MatchPredicateStrategy.instance(), __.match(as("a").out().as("b")).asAdmin()));
+    }
+
+    @Test
+    public void shouldApplyStrategiesAddedByEarlierStrategies() {
+        final DefaultTraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(IdentityRemovalStrategy.instance());
+        final Traversal.Admin<?, ?> traversal = __.out().identity().out().asAdmin();
+        traversal.setStrategies(strategies);
+        StepClassIndex.of(traversal);
+        traversal.applyStrategies();
+        assertEquals(2, traversal.getSteps().size());
+        assertFalse(StepClassIndex.of(traversal).contains(IdentityStep.class));
+    }
+}
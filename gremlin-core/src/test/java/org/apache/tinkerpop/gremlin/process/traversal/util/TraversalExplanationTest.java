@@ -22,11 +22,16 @@ package org.apache.tinkerpop.gremlin.process.traversal.util;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.CountStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.IncidentToAdjacentStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.MatchPredicateStrategy;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.junit.Test;
 
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
@@ -135,4 +140,21 @@ public class TraversalExplanationTest {
         }
         assertEquals(4, found);
     }
+
+    @Test
+    public void shouldTimeStrategies() {
+        final Traversal.Admin<?, ?> traversal = __.out().count().is(0).asAdmin();
+        traversal.setStrategies(TraversalStrategies.GlobalCache.getStrategies(Graph.class));
+        final TraversalExplanation explanation = traversal.explain();
+        final Map<TraversalStrategy, Long> strategyTimes = explanation.getStrategyTimes();
+        assertTrue(strategyTimes.containsKey(CountStrategy.instance()));
+        assertTrue(strategyTimes.containsKey(IncidentToAdjacentStrategy.instance()));
+        assertFalse(strategyTimes.containsKey(MatchPredicateStrategy.instance()));
+        strategyTimes.values().forEach(time -> assertTrue(time >= 0L));
+
+        final String toString = explanation.toString();
+        assertTrue(toString.contains("Strategy Times (ms)"));
+        assertTrue(Stream.of(toString.split("\n")).anyMatch(line -> line.startsWith("MatchPredicateStrategy") && line.endsWith("skipped")));
+        assertTrue(Stream.of(toString.split("\n")).anyMatch(line -> line.startsWith("Total")));
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class NumberHelperTest {
+
+    private static final List<List<? extends Number>> SAME_CLASS_OPERANDS = Arrays.asList(
+            Arrays.asList(7, -3, 0, Integer.MAX_VALUE, Integer.MIN_VALUE),
+            Arrays.asList(7L, -3L, 0L, Long.MAX_VALUE, Long.MIN_VALUE),
+            Arrays.asList(7.5d, -3.25d, 0.0d, -0.0d, Double.NaN, Double.POSITIVE_INFINITY));
+
+    @Test
+    public void shouldComputeSameResultsOnFastPath() {
+        for (final List<? extends Number> operands : SAME_CLASS_OPERANDS) {
+            final NumberHelper helper = getHelper(operands.get(0));
+            for (final Number a : operands) {
+                for (final Number b : operands) {
+                    assertSameResult(helper.add.apply(a, b), NumberHelper.add(a, b));
+                    assertSameResult(helper.sub.apply(a, b), NumberHelper.sub(a, b));
+                    assertSameResult(helper.mul.apply(a, b), NumberHelper.mul(a, b));
+                    assertSameResult(helper.min.apply(a, b), NumberHelper.min(a, b));
+                    assertSameResult(helper.max.apply(a, b), NumberHelper.max(a, b));
+                    assertSameResult(helper.cmp.apply(a, b), NumberHelper.compare(a, b));
+                    if (0 != b.doubleValue()) {
+                        assertSameResult(helper.div.apply(a, b), NumberHelper.div(a, b));
+                        assertSameResult(floatingPointDiv(a, b), NumberHelper.div(a, b, true));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldPromoteMixedOperands() {
+        assertSameResult(5L, NumberHelper.add(2, 3L));
+        assertSameResult(5.5d, NumberHelper.add(2L, 3.5d));
+        assertSameResult(2.5f, NumberHelper.div(5, 2, true));
+        assertSameResult(2, NumberHelper.div(5, 2));
+        assertSameResult(3L, NumberHelper.max(3L, 2));
+        assertSameResult(-1, NumberHelper.compare(2, 3L));
+    }
+
+    @Test
+    public void shouldReturnOperandOfMinAndMax() {
+        final Long a = 1000L;
+        final Long b = 2000L;
+        assertSame(a, NumberHelper.min(a, b));
+        assertSame(b, NumberHelper.max(a, b));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void shouldThrowOnIntegralDivisionByZero() {
+        NumberHelper.div(1L, 0L);
+    }
+
+    private static Number floatingPointDiv(final Number a, final Number b) {
+        return (a instanceof Integer ? NumberHelper.FLOAT_NUMBER_HELPER : NumberHelper.DOUBLE_NUMBER_HELPER).div.apply(a, b);
+    }
+
+    private static NumberHelper getHelper(final Number number) {
+        if (number instanceof Integer) return NumberHelper.INTEGER_NUMBER_HELPER;
+        if (number instanceof Long) return NumberHelper.LONG_NUMBER_HELPER;
+        return NumberHelper.DOUBLE_NUMBER_HELPER;
+    }
+
+    private static void assertSameResult(final Number expected, final Number actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(expected, actual);
+    }
+}
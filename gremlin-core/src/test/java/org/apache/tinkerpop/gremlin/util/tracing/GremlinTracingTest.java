@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.util.tracing;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.FoldStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GremlinTracingTest {
+
+    @After
+    public void shouldRemoveTracer() {
+        GremlinTracing.setTracer(null);
+        assertFalse(GremlinTracing.isEnabled());
+    }
+
+    @Test
+    public void shouldNotBeEnabledWithoutTracer() {
+        assertFalse(GremlinTracing.isEnabled());
+        final RecordingTracer tracer = new RecordingTracer();
+        GremlinTracing.setTracer(tracer);
+        assertTrue(GremlinTracing.isEnabled());
+        GremlinTracing.setTracer(null);
+        __.inject(1, 2, 3).fold().toList();
+        assertTrue(tracer.strategies.isEmpty());
+        assertTrue(tracer.barriers.isEmpty());
+    }
+
+    @Test
+    public void shouldTraceStrategies() {
+        final RecordingTracer tracer = new RecordingTracer();
+        GremlinTracing.setTracer(tracer);
+        final Traversal.Admin<?, ?> traversal = __.inject(1, 2, 3).asAdmin();
+        traversal.applyStrategies();
+        // strategies that require a step that the traversal does not have are skipped
+        assertEquals(traversal.getStrategies().toList().stream()
+                .filter(strategy -> strategy.requiredStepClasses().isEmpty())
+                .collect(Collectors.toList()), tracer.strategies);
+        assertEquals(1, tracer.strategiesApplied);
+    }
+
+    @Test
+    public void shouldTraceBarrierFlushes() {
+        final RecordingTracer tracer = new RecordingTracer();
+        GremlinTracing.setTracer(tracer);
+
+        assertEquals(Arrays.asList(1, 2, 3), __.inject(3, 1, 2).order().toList());
+        assertEquals(1, tracer.barriers.size());
+        assertTrue(tracer.barriers.get(0) instanceof OrderGlobalStep);
+        assertEquals(Long.valueOf(3L), tracer.sizes.get(0));
+
+        assertEquals(Arrays.asList(3, 1, 2), __.inject(3, 1, 2).fold().next());
+        assertEquals(2, tracer.barriers.size());
+        assertTrue(tracer.barriers.get(1) instanceof FoldStep);
+
+        assertEquals(Arrays.asList(3, 1, 2), __.inject(3, 1, 2).barrier().toList());
+        assertEquals(3, tracer.barriers.size());
+        assertTrue(tracer.barriers.get(2) instanceof NoOpBarrierStep);
+        assertEquals(Long.valueOf(3L), tracer.sizes.get(2));
+    }
+
+    private static class RecordingTracer implements GremlinTracer {
+        private final List<TraversalStrategy<?>> strategies = new ArrayList<>();
+        private final List<Step<?, ?>> barriers = new ArrayList<>();
+        private final List<Long> sizes = new ArrayList<>();
+        private int strategiesApplied = 0;
+
+        @Override
+        public void strategyApplied(final Traversal.Admin<?, ?> traversal, final TraversalStrategy<?> strategy, final long durationNanos) {
+            this.strategies.add(strategy);
+        }
+
+        @Override
+        public void strategiesApplied(final Traversal.Admin<?, ?> traversal, final long durationNanos) {
+            this.strategiesApplied++;
+        }
+
+        @Override
+        public void barrierFlushed(final Step<?, ?> step, final long size, final long durationNanos) {
+            this.barriers.add(step);
+            this.sizes.add(size);
+        }
+    }
+}
@@ -317,6 +317,15 @@ namespace Gremlin.Net.Process.Traversal
             return Wrap< S , E2 >(this);
         }
 
+        /// <summary>
+        ///     Adds the cardinality step to this <see cref="GraphTraversal{SType, EType}" />.
+        /// </summary>
+        public GraphTraversal< S , long > Cardinality ()
+        {
+            Bytecode.AddStep("cardinality");
+            return Wrap< S , long >(this);
+        }
+
         /// <summary>
         ///     Adds the choose step to this <see cref="GraphTraversal{SType, EType}" />.
         /// </summary>
@@ -1219,6 +1228,24 @@ namespace Gremlin.Net.Process.Traversal
             return Wrap< S , IDictionary<string, E2> >(this);
         }
 
+        /// <summary>
+        ///     Adds the quantile step to this <see cref="GraphTraversal{SType, EType}" />.
+        /// </summary>
+        public GraphTraversal< S , double > Quantile (Scope scope, double quantile)
+        {
+            Bytecode.AddStep("quantile", scope, quantile);
+            return Wrap< S , double >(this);
+        }
+
+        /// <summary>
+        ///     Adds the quantile step to this <see cref="GraphTraversal{SType, EType}" />.
+        /// </summary>
+        public GraphTraversal< S , double > Quantile (double quantile)
+        {
+            Bytecode.AddStep("quantile", quantile);
+            return Wrap< S , double >(this);
+        }
+
         /// <summary>
         ///     Adds the range step to this <see cref="GraphTraversal{SType, EType}" />.
         /// </summary>
@@ -1331,6 +1358,24 @@ namespace Gremlin.Net.Process.Traversal
             return Wrap< S , IDictionary<string, E2> >(this);
         }
 
+        /// <summary>
+        ///     Adds the shortestPath step to this <see cref="GraphTraversal{SType, EType}" />.
+        /// </summary>
+        public GraphTraversal< S , Path > ShortestPath ()
+        {
+            Bytecode.AddStep("shortestPath");
+            return Wrap< S , Path >(this);
+        }
+
+        /// <summary>
+        ///     Adds the shortestPath step to this <see cref="GraphTraversal{SType, EType}" />.
+        /// </summary>
+        public GraphTraversal< S , Path > ShortestPath (ITraversal targetTraversal)
+        {
+            Bytecode.AddStep("shortestPath", targetTraversal);
+            return Wrap< S , Path >(this);
+        }
+
         /// <summary>
         ///     Adds the sideEffect step to this <see cref="GraphTraversal{SType, EType}" />.
         /// </summary>
@@ -1622,6 +1667,15 @@ namespace Gremlin.Net.Process.Traversal
             return Wrap< S , E2 >(this);
         }
 
+        /// <summary>
+        ///     Adds the visited step to this <see cref="GraphTraversal{SType, EType}" />.
+        /// </summary>
+        public GraphTraversal< S , E > Visited (Scope visitedScope)
+        {
+            Bytecode.AddStep("visited", visitedScope);
+            return Wrap< S , E >(this);
+        }
+
         /// <summary>
         ///     Adds the where step to this <see cref="GraphTraversal{SType, EType}" />.
         /// </summary>
@@ -196,6 +196,14 @@ namespace Gremlin.Net.Process.Traversal
                 : new GraphTraversal<object, E2>().Cap<E2>(sideEffectKey, sideEffectKeys);            
         }
 
+        /// <summary>
+        ///     Spawns a <see cref="GraphTraversal{SType, EType}" /> and adds the cardinality step to that traversal.
+        /// </summary>
+        public static GraphTraversal<object, long> Cardinality()
+        {
+            return new GraphTraversal<object, long>().Cardinality();            
+        }
+
         /// <summary>
         ///     Spawns a <see cref="GraphTraversal{SType, EType}" /> and adds the choose step to that traversal.
         /// </summary>
@@ -914,6 +922,22 @@ namespace Gremlin.Net.Process.Traversal
                 : new GraphTraversal<object, IDictionary<string, E2>>().PropertyMap<E2>(propertyKeys);            
         }
 
+        /// <summary>
+        ///     Spawns a <see cref="GraphTraversal{SType, EType}" /> and adds the quantile step to that traversal.
+        /// </summary>
+        public static GraphTraversal<object, double> Quantile(Scope scope, double quantile)
+        {
+            return new GraphTraversal<object, double>().Quantile(scope, quantile);            
+        }
+
+        /// <summary>
+        ///     Spawns a <see cref="GraphTraversal{SType, EType}" /> and adds the quantile step to that traversal.
+        /// </summary>
+        public static GraphTraversal<object, double> Quantile(double quantile)
+        {
+            return new GraphTraversal<object, double>().Quantile(quantile);            
+        }
+
         /// <summary>
         ///     Spawns a <see cref="GraphTraversal{SType, EType}" /> and adds the range step to that traversal.
         /// </summary>
@@ -1014,6 +1038,22 @@ namespace Gremlin.Net.Process.Traversal
                 : new GraphTraversal<object, IDictionary<string, E2>>().Select<E2>(selectKey1, selectKey2, otherSelectKeys);            
         }
 
+        /// <summary>
+        ///     Spawns a <see cref="GraphTraversal{SType, EType}" /> and adds the shortestPath step to that traversal.
+        /// </summary>
+        public static GraphTraversal<object, Path> ShortestPath()
+        {
+            return new GraphTraversal<object, Path>().ShortestPath();            
+        }
+
+        /// <summary>
+        ///     Spawns a <see cref="GraphTraversal{SType, EType}" /> and adds the shortestPath step to that traversal.
+        /// </summary>
+        public static GraphTraversal<object, Path> ShortestPath(ITraversal targetTraversal)
+        {
+            return new GraphTraversal<object, Path>().ShortestPath(targetTraversal);            
+        }
+
         /// <summary>
         ///     Spawns a <see cref="GraphTraversal{SType, EType}" /> and adds the sideEffect step to that traversal.
         /// </summary>
@@ -1250,6 +1290,14 @@ namespace Gremlin.Net.Process.Traversal
                 : new GraphTraversal<object, E2>().Values<E2>(propertyKeys);            
         }
 
+        /// <summary>
+        ///     Spawns a <see cref="GraphTraversal{SType, EType}" /> and adds the visited step to that traversal.
+        /// </summary>
+        public static GraphTraversal<object, object> Visited(Scope visitedScope)
+        {
+            return new GraphTraversal<object, object>().Visited(visitedScope);            
+        }
+
         /// <summary>
         ///     Spawns a <see cref="GraphTraversal{SType, EType}" /> and adds the where step to that traversal.
         /// </summary>
@@ -120,6 +120,15 @@ public final class ResultSet implements Iterable<Result> {
         return resultQueue.await(items);
     }
 
+    /**
+     * The returned {@link CompletableFuture} completes like the one returned from {@link #some(int)}, but on the
+     * executor of the driver rather than on the thread that read the response, so that the actions that depend on it
+     * do not hold up the reading of responses.
+     */
+    public CompletableFuture<List<Result>> someAsync(final int items) {
+        return resultQueue.await(items).thenApplyAsync(results -> results, executor);
+    }
+
     /**
      * The returned {@link CompletableFuture} completes when all reads are complete for this request and the
      * entire result has been accounted for on the client. While this method is named "all" it really refers to
@@ -34,8 +34,12 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.util.Attachable;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 /**
@@ -52,6 +56,7 @@ public class DriverRemoteTraversal<S, E> extends AbstractRemoteTraversal<S, E> {
     private Traverser.Admin<E> lastTraverser = EmptyTraverser.instance();
     private final RemoteTraversalSideEffects sideEffects;
     private final ResultSet rs;
+    private final Graph graph;
 
     public DriverRemoteTraversal(final ResultSet rs, final Client client, final boolean attach, final Optional<Configuration> conf) {
         // attaching is really just for testing purposes. it doesn't make sense in any real-world scenario as it would
@@ -59,9 +64,10 @@ public class DriverRemoteTraversal<S, E> extends AbstractRemoteTraversal<S, E> {
         // attachment process to properly execute in full hence this little hack.
         if (attach) {
             if (!conf.isPresent()) throw new IllegalStateException("Traverser can't be reattached for testing");
-            final Graph graph = ((Supplier<Graph>) conf.get().getProperty("hidden.for.testing.only")).get();
-            this.traversers = new AttachingTraverserIterator<>(rs.iterator(), graph);
+            this.graph = ((Supplier<Graph>) conf.get().getProperty("hidden.for.testing.only")).get();
+            this.traversers = new AttachingTraverserIterator<>(rs.iterator(), this.graph);
         } else {
+            this.graph = null;
             this.traversers = new TraverserIterator<>(rs.iterator());
         }
 
@@ -113,6 +119,26 @@ public class DriverRemoteTraversal<S, E> extends AbstractRemoteTraversal<S, E> {
         }
     }
 
+    /**
+     * Gets up to the specified number of traversers as they arrive from the server. The returned future completes on
+     * the executor of the driver.
+     */
+    @Override
+    public CompletableFuture<List<Traverser.Admin<E>>> nextTraversersAsync(final int count) {
+        // a traverser that was partially iterated with next() comes first
+        if (this.lastTraverser.bulk() > 0L)
+            return CompletableFuture.completedFuture(Collections.singletonList(this.nextTraverser()));
+
+        return this.rs.someAsync(count).thenApply(results -> {
+            final Iterator<Traverser.Admin<E>> itty = null == this.graph ?
+                    new TraverserIterator<E>(results.iterator()) :
+                    new AttachingTraverserIterator<E>(results.iterator(), this.graph);
+            final List<Traverser.Admin<E>> traversers = new ArrayList<>(results.size());
+            itty.forEachRemaining(traversers::add);
+            return traversers;
+        });
+    }
+
     /**
      * Releases server-side resources related to this traversal (i.e. clearing the side-effect cache of data related to
      * this traversal.
@@ -29,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -120,6 +121,24 @@ public class ResultSetTest extends AbstractResultQueueTest {
         assertEquals(0, resultSet.getAvailableItemCount());
     }
 
+    @Test
+    public void shouldCompleteSomeAsyncOnTheExecutor() throws Exception {
+        final Thread testThread = Thread.currentThread();
+        final AtomicReference<Thread> completingThread = new AtomicReference<>();
+        final CompletableFuture<List<Result>> future = resultSet.someAsync(2).thenApply(results -> {
+            completingThread.set(Thread.currentThread());
+            return results;
+        });
+        resultQueue.add(new Result("test1"));
+        resultQueue.add(new Result("test2"));
+
+        final List<Result> results = future.get(30000, TimeUnit.MILLISECONDS);
+        assertEquals("test1", results.get(0).getString());
+        assertEquals("test2", results.get(1).getString());
+        assertEquals(2, results.size());
+        assertThat(completingThread.get() == testThread, is(false));
+    }
+
     @Test
     public void shouldGetAllOnlyOnComplete() throws Exception {
         final CompletableFuture<List<Result>> future = resultSet.all();
@@ -177,6 +177,10 @@ class GraphTraversal(Traversal):
         self.bytecode.add_step("cap", *args)
         return self
 
+    def cardinality(self, *args):
+        self.bytecode.add_step("cardinality", *args)
+        return self
+
     def choose(self, *args):
         self.bytecode.add_step("choose", *args)
         return self
@@ -405,6 +409,10 @@ class GraphTraversal(Traversal):
         self.bytecode.add_step("propertyMap", *args)
         return self
 
+    def quantile(self, *args):
+        self.bytecode.add_step("quantile", *args)
+        return self
+
     def range(self, *args):
         self.bytecode.add_step("range", *args)
         return self
@@ -425,6 +433,10 @@ class GraphTraversal(Traversal):
         self.bytecode.add_step("select", *args)
         return self
 
+    def shortestPath(self, *args):
+        self.bytecode.add_step("shortestPath", *args)
+        return self
+
     def sideEffect(self, *args):
         self.bytecode.add_step("sideEffect", *args)
         return self
@@ -501,6 +513,10 @@ class GraphTraversal(Traversal):
         self.bytecode.add_step("values", *args)
         return self
 
+    def visited(self, *args):
+        self.bytecode.add_step("visited", *args)
+        return self
+
     def where(self, *args):
         self.bytecode.add_step("where", *args)
         return self
@@ -564,6 +580,10 @@ class __(object):
     def cap(cls, *args):
         return cls.graph_traversal(None, None, Bytecode()).cap(*args)
 
+    @classmethod
+    def cardinality(cls, *args):
+        return cls.graph_traversal(None, None, Bytecode()).cardinality(*args)
+
     @classmethod
     def choose(cls, *args):
         return cls.graph_traversal(None, None, Bytecode()).choose(*args)
@@ -768,6 +788,10 @@ class __(object):
     def propertyMap(cls, *args):
         return cls.graph_traversal(None, None, Bytecode()).propertyMap(*args)
 
+    @classmethod
+    def quantile(cls, *args):
+        return cls.graph_traversal(None, None, Bytecode()).quantile(*args)
+
     @classmethod
     def range(cls, *args):
         return cls.graph_traversal(None, None, Bytecode()).range(*args)
@@ -788,6 +812,10 @@ class __(object):
     def select(cls, *args):
         return cls.graph_traversal(None, None, Bytecode()).select(*args)
 
+    @classmethod
+    def shortestPath(cls, *args):
+        return cls.graph_traversal(None, None, Bytecode()).shortestPath(*args)
+
     @classmethod
     def sideEffect(cls, *args):
         return cls.graph_traversal(None, None, Bytecode()).sideEffect(*args)
@@ -864,6 +892,10 @@ class __(object):
     def values(cls, *args):
         return cls.graph_traversal(None, None, Bytecode()).values(*args)
 
+    @classmethod
+    def visited(cls, *args):
+        return cls.graph_traversal(None, None, Bytecode()).visited(*args)
+
     @classmethod
     def where(cls, *args):
         return cls.graph_traversal(None, None, Bytecode()).where(*args)
@@ -918,6 +950,10 @@ def cap(*args):
     return __.cap(*args)
 statics.add_static('cap', cap)
 
+def cardinality(*args):
+    return __.cardinality(*args)
+statics.add_static('cardinality', cardinality)
+
 def choose(*args):
     return __.choose(*args)
 statics.add_static('choose', choose)
@@ -1122,6 +1158,10 @@ def propertyMap(*args):
     return __.propertyMap(*args)
 statics.add_static('propertyMap', propertyMap)
 
+def quantile(*args):
+    return __.quantile(*args)
+statics.add_static('quantile', quantile)
+
 def range(*args):
     return __.range(*args)
 statics.add_static('range', range)
@@ -1142,6 +1182,10 @@ def select(*args):
     return __.select(*args)
 statics.add_static('select', select)
 
+def shortestPath(*args):
+    return __.shortestPath(*args)
+statics.add_static('shortestPath', shortestPath)
+
 def sideEffect(*args):
     return __.sideEffect(*args)
 statics.add_static('sideEffect', sideEffect)
@@ -1218,6 +1262,10 @@ def values(*args):
     return __.values(*args)
 statics.add_static('values', values)
 
+def visited(*args):
+    return __.visited(*args)
+statics.add_static('visited', visited)
+
 def where(*args):
     return __.where(*args)
 statics.add_static('where', where)
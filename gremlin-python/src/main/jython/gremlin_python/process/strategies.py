@@ -93,6 +93,13 @@ class VertexProgramStrategy(TraversalStrategy):
 # FINALIZATION STRATEGIES #
 ###########################
 
+class BatchingStrategy(TraversalStrategy):
+    def __init__(self, batch_size=None):
+        TraversalStrategy.__init__(self)
+        if batch_size is not None:
+            self.configuration["batchSize"] = batch_size
+
+
 class MatchAlgorithmStrategy(TraversalStrategy):
     def __init__(self, match_algorithm=None):
         TraversalStrategy.__init__(self)
@@ -100,6 +107,45 @@ class MatchAlgorithmStrategy(TraversalStrategy):
             self.configuration["matchAlgorithm"] = match_algorithm
 
 
+class MemoizationStrategy(TraversalStrategy):
+    def __init__(self, cache_size=None):
+        TraversalStrategy.__init__(self)
+        if cache_size is not None:
+            self.configuration["cacheSize"] = cache_size
+
+
+class MemoryBudgetStrategy(TraversalStrategy):
+    def __init__(self, max_size=None):
+        TraversalStrategy.__init__(self)
+        if max_size is not None:
+            self.configuration["maxSize"] = max_size
+
+
+class ParallelStrategy(TraversalStrategy):
+    def __init__(self, parallelism=None, chunk_size=None):
+        TraversalStrategy.__init__(self)
+        if parallelism is not None:
+            self.configuration["parallelism"] = parallelism
+        if chunk_size is not None:
+            self.configuration["chunkSize"] = chunk_size
+
+
+class ProfileStrategy(TraversalStrategy):
+    def __init__(self, mode=None, sample_interval=None, memory=None):
+        TraversalStrategy.__init__(self)
+        if mode is not None:
+            self.configuration["mode"] = mode
+        if sample_interval is not None:
+            self.configuration["sampleInterval"] = sample_interval
+        if memory is not None:
+            self.configuration["memory"] = memory
+
+
+class StepFusionStrategy(TraversalStrategy):
+    def __init__(self):
+        TraversalStrategy.__init__(self)
+
+
 ###########################
 # OPTIMIZATION STRATEGIES #
 ###########################
@@ -124,6 +170,11 @@ class IncidentToAdjacentStrategy(TraversalStrategy):
         TraversalStrategy.__init__(self)
 
 
+class LeapfrogJoinStrategy(TraversalStrategy):
+    def __init__(self):
+        TraversalStrategy.__init__(self)
+
+
 class InlineFilterStrategy(TraversalStrategy):
     def __init__(self):
         TraversalStrategy.__init__(self)
@@ -144,6 +195,11 @@ class OrderLimitStrategy(TraversalStrategy):
         TraversalStrategy.__init__(self)
 
 
+class StreamingGroupStrategy(TraversalStrategy):
+    def __init__(self):
+        TraversalStrategy.__init__(self)
+
+
 class PathProcessorStrategy(TraversalStrategy):
     def __init__(self):
         TraversalStrategy.__init__(self)
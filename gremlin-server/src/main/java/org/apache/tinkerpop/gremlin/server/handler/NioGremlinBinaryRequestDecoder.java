@@ -24,6 +24,8 @@ import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.ser.SerializationException;
 import org.apache.tinkerpop.gremlin.driver.ser.Serializers;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracer;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracing;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import org.slf4j.Logger;
@@ -71,7 +73,12 @@ public class NioGremlinBinaryRequestDecoder extends ReplayingDecoder<NioGremlinB
                     // subtract the contentTypeLength and the byte that held it from the full message length to
                     // figure out how long the rest of the message is
                     final int payloadLength = messageLength - 1 - contentTypeLength;
-                    objects.add(serializer.deserializeRequest(messageFrame.readBytes(payloadLength)));
+                    final long start = GremlinTracing.isEnabled() ? System.nanoTime() : 0L;
+                    final RequestMessage msg = serializer.deserializeRequest(messageFrame.readBytes(payloadLength));
+                    if (GremlinTracing.isEnabled())
+                        GremlinTracing.getTracer().requestPhaseCompleted(msg.getRequestId(), msg.getOp(),
+                                GremlinTracer.RequestPhase.DECODE, System.nanoTime() - start);
+                    objects.add(msg);
                 } catch (SerializationException se) {
                     objects.add(RequestMessage.INVALID);
                 }
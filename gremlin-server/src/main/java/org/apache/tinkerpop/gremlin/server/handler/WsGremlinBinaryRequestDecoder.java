@@ -22,6 +22,8 @@ import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.ser.SerializationException;
 import org.apache.tinkerpop.gremlin.driver.ser.Serializers;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracer;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracing;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
@@ -75,7 +77,12 @@ public class WsGremlinBinaryRequestDecoder extends MessageToMessageDecoder<Binar
             channelHandlerContext.channel().attr(StateKey.USE_BINARY).set(true);
 
             try {
-                objects.add(serializer.deserializeRequest(messageBytes.discardReadBytes()));
+                final long start = GremlinTracing.isEnabled() ? System.nanoTime() : 0L;
+                final RequestMessage msg = serializer.deserializeRequest(messageBytes.discardReadBytes());
+                if (GremlinTracing.isEnabled())
+                    GremlinTracing.getTracer().requestPhaseCompleted(msg.getRequestId(), msg.getOp(),
+                            GremlinTracer.RequestPhase.DECODE, System.nanoTime() - start);
+                objects.add(msg);
             } catch (SerializationException se) {
                 objects.add(RequestMessage.INVALID);
             }
@@ -23,6 +23,8 @@ import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.ser.MessageTextSerializer;
 import org.apache.tinkerpop.gremlin.driver.ser.SerializationException;
 import org.apache.tinkerpop.gremlin.driver.ser.Serializers;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracer;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracing;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageDecoder;
@@ -62,7 +64,12 @@ public class WsGremlinTextRequestDecoder extends MessageToMessageDecoder<TextWeb
             channelHandlerContext.channel().attr(StateKey.SERIALIZER).set(serializer);
             channelHandlerContext.channel().attr(StateKey.USE_BINARY).set(false);
 
-            objects.add(serializer.deserializeRequest(frame.text()));
+            final long start = GremlinTracing.isEnabled() ? System.nanoTime() : 0L;
+            final RequestMessage msg = serializer.deserializeRequest(frame.text());
+            if (GremlinTracing.isEnabled())
+                GremlinTracing.getTracer().requestPhaseCompleted(msg.getRequestId(), msg.getOp(),
+                        GremlinTracer.RequestPhase.DECODE, System.nanoTime() - start);
+            objects.add(msg);
         } catch (SerializationException se) {
             objects.add(RequestMessage.INVALID);
         }
@@ -38,6 +38,8 @@ import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 import org.apache.tinkerpop.gremlin.util.function.ThrowingConsumer;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracer;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracing;
 import io.netty.channel.ChannelHandlerContext;
 import org.codehaus.groovy.control.MultipleCompilationErrorsException;
 import org.slf4j.Logger;
@@ -224,12 +226,16 @@ public abstract class AbstractEvalOpProcessor extends AbstractOpProcessor {
         final long seto = args.containsKey(Tokens.ARGS_SCRIPT_EVAL_TIMEOUT) ?
                 Long.parseLong(args.get(Tokens.ARGS_SCRIPT_EVAL_TIMEOUT).toString()) : settings.scriptEvaluationTimeout;
 
+        // the start of script evaluation as recorded in beforeEval() for the EVAL phase of a traced request
+        final long[] evalStart = new long[1];
+
         final GremlinExecutor.LifeCycle lifeCycle = GremlinExecutor.LifeCycle.build()
                 .scriptEvaluationTimeoutOverride(seto)
                 .afterFailure((b,t) -> {
                     if (managedTransactionsForRequest) attemptRollback(msg, context.getGraphManager(), settings.strictTransactionManagement);
                 })
                 .beforeEval(b -> {
+                    if (GremlinTracing.isEnabled()) evalStart[0] = System.nanoTime();
                     try {
                         b.putAll(bindingsSupplier.get());
                     } catch (OpProcessorException ope) {
@@ -239,6 +245,9 @@ public abstract class AbstractEvalOpProcessor extends AbstractOpProcessor {
                     }
                 })
                 .withResult(o -> {
+                    if (GremlinTracing.isEnabled() && evalStart[0] > 0L)
+                        GremlinTracing.getTracer().requestPhaseCompleted(msg.getRequestId(), msg.getOp(),
+                                GremlinTracer.RequestPhase.EVAL, System.nanoTime() - evalStart[0]);
                     final Iterator itty = IteratorUtils.asIterator(o);
 
                     logger.debug("Preparing to iterate results from - {} - in thread [{}]", msg, Thread.currentThread().getName());
@@ -249,7 +258,11 @@ public abstract class AbstractEvalOpProcessor extends AbstractOpProcessor {
                     }
 
                     try {
+                        final long iterateStart = GremlinTracing.isEnabled() ? System.nanoTime() : 0L;
                         handleIterator(context, itty);
+                        if (GremlinTracing.isEnabled())
+                            GremlinTracing.getTracer().requestPhaseCompleted(msg.getRequestId(), msg.getOp(),
+                                    GremlinTracer.RequestPhase.ITERATE, System.nanoTime() - iterateStart);
                     } catch (Exception ex) {
                         if (managedTransactionsForRequest) attemptRollback(msg, context.getGraphManager(), settings.strictTransactionManagement);
 
@@ -33,6 +33,8 @@ import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.handler.Frame;
 import org.apache.tinkerpop.gremlin.server.handler.StateKey;
 import org.apache.tinkerpop.gremlin.server.util.ExceptionHelper;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracer;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracing;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -191,7 +193,13 @@ public abstract class AbstractOpProcessor implements OpProcessor {
                     // required then it will be 100% complete before the client receives it. the "frame" at this point
                     // should have completely detached objects from the transaction (i.e. serialization has occurred)
                     // so a new one should not be opened on the flush down the netty pipeline
-                    ctx.writeAndFlush(frame);
+                    if (GremlinTracing.isEnabled()) {
+                        final long start = System.nanoTime();
+                        ctx.writeAndFlush(frame);
+                        GremlinTracing.getTracer().requestPhaseCompleted(msg.getRequestId(), msg.getOp(),
+                                GremlinTracer.RequestPhase.WRITE, System.nanoTime() - start);
+                    } else
+                        ctx.writeAndFlush(frame);
                 }
             } else {
                 // don't keep triggering this warning over and over again for the same request
@@ -261,9 +269,12 @@ public abstract class AbstractOpProcessor implements OpProcessor {
     protected static Frame makeFrame(final ChannelHandlerContext ctx, final RequestMessage msg,
                                    final MessageSerializer serializer, final boolean useBinary, final List<Object> aggregate,
                                    final ResponseStatusCode code, final Map<String,Object> responseMetaData) throws Exception {
+        final boolean traced = GremlinTracing.isEnabled();
+        final long start = traced ? System.nanoTime() : 0L;
         try {
+            final Frame frame;
             if (useBinary) {
-                return new Frame(serializer.serializeResponseAsBinary(ResponseMessage.build(msg)
+                frame = new Frame(serializer.serializeResponseAsBinary(ResponseMessage.build(msg)
                         .code(code)
                         .responseMetaData(responseMetaData)
                         .result(aggregate).create(), ctx.alloc()));
@@ -271,11 +282,16 @@ public abstract class AbstractOpProcessor implements OpProcessor {
                 // the expectation is that the GremlinTextRequestDecoder will have placed a MessageTextSerializer
                 // instance on the channel.
                 final MessageTextSerializer textSerializer = (MessageTextSerializer) serializer;
-                return new Frame(textSerializer.serializeResponseAsString(ResponseMessage.build(msg)
+                frame = new Frame(textSerializer.serializeResponseAsString(ResponseMessage.build(msg)
                         .code(code)
                         .responseMetaData(responseMetaData)
                         .result(aggregate).create()));
             }
+
+            if (traced)
+                GremlinTracing.getTracer().requestPhaseCompleted(msg.getRequestId(), msg.getOp(),
+                        GremlinTracer.RequestPhase.SERIALIZE, System.nanoTime() - start);
+            return frame;
         } catch (Exception ex) {
             logger.warn("The result [{}] in the request {} could not be serialized and returned.", aggregate, msg.getRequestId(), ex);
             final String errorMessage = String.format("Error during serialization: %s", ExceptionHelper.getMessageFromExceptionOrCause(ex));
@@ -31,6 +31,7 @@ import org.apache.tinkerpop.gremlin.jsr223.JavaTranslator;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSideEffects;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalPlanCache;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.util.BytecodeHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
@@ -50,7 +51,10 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONMapper;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONVersion;
 import org.apache.tinkerpop.gremlin.util.function.ThrowingConsumer;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracer;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracing;
 import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
+import org.javatuples.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,6 +69,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
@@ -105,16 +110,35 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
      */
     public static final long DEFAULT_CACHE_MAX_SIZE = 1000;
 
+    /**
+     * Configuration setting for the maximum number of compiled traversal plans that are cached per traversal source.
+     */
+    public static final String CONFIG_PLAN_CACHE_MAX_SIZE = "planCacheMaxSize";
+
+    /**
+     * Default size of the plan cache. A size of zero disables it.
+     */
+    public static final int DEFAULT_PLAN_CACHE_MAX_SIZE = 1000;
+
     static {
         DEFAULT_SETTINGS.className = TraversalOpProcessor.class.getCanonicalName();
         DEFAULT_SETTINGS.config = new HashMap<String, Object>() {{
             put(CONFIG_CACHE_EXPIRATION_TIME, DEFAULT_CACHE_EXPIRATION_TIME);
             put(CONFIG_CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_SIZE);
+            put(CONFIG_PLAN_CACHE_MAX_SIZE, DEFAULT_PLAN_CACHE_MAX_SIZE);
         }};
     }
 
     protected static Cache<UUID, TraversalSideEffects> cache = null;
 
+    /**
+     * The plan caches by the name of the traversal source. A plan cache is only valid for the traversal source that
+     * its plans were compiled with, so it is replaced if a different traversal source is bound to the name.
+     */
+    protected static final Map<String, Pair<TraversalSource, TraversalPlanCache>> planCaches = new ConcurrentHashMap<>();
+
+    private static int planCacheMaxSize = DEFAULT_PLAN_CACHE_MAX_SIZE;
+
     private static final Bindings EMPTY_BINDINGS = new SimpleBindings();
 
     public TraversalOpProcessor() {
@@ -146,6 +170,25 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
 
         logger.info("Initialized cache for {} with size {} and expiration time of {} ms",
                 TraversalOpProcessor.class.getSimpleName(), maxSize, expirationTime);
+
+        planCacheMaxSize = Integer.parseInt(processorSettings.config.getOrDefault(
+                TraversalOpProcessor.CONFIG_PLAN_CACHE_MAX_SIZE, DEFAULT_PLAN_CACHE_MAX_SIZE).toString());
+        planCaches.clear();
+        if (planCacheMaxSize > 0)
+            logger.info("Initialized traversal plan cache for {} with size {}", TraversalOpProcessor.class.getSimpleName(), planCacheMaxSize);
+    }
+
+    /**
+     * Gets the plan cache of a traversal source if one has been created for it.
+     */
+    public static Optional<TraversalPlanCache> getPlanCache(final String traversalSourceName) {
+        final Pair<TraversalSource, TraversalPlanCache> planCache = planCaches.get(traversalSourceName);
+        return null == planCache ? Optional.empty() : Optional.of(planCache.getValue1());
+    }
+
+    private static TraversalPlanCache getPlanCache(final String traversalSourceName, final TraversalSource g) {
+        return planCaches.compute(traversalSourceName, (k, planCache) -> null != planCache && planCache.getValue0() == g ?
+                planCache : Pair.with(g, new TraversalPlanCache(planCacheMaxSize))).getValue1();
     }
 
     @Override
@@ -361,9 +404,15 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
         final TraversalSource g = graphManager.getTraversalSource(traversalSourceName);
 
         final Traversal.Admin<?, ?> traversal;
+        final TraversalPlanCache planCache;
+        final long evalStart = GremlinTracing.isEnabled() ? System.nanoTime() : 0L;
         try {
             final Optional<String> lambdaLanguage = BytecodeHelper.getLambdaLanguage(bytecode);
-            if (!lambdaLanguage.isPresent())
+            planCache = planCacheMaxSize > 0 && !lambdaLanguage.isPresent() ? getPlanCache(traversalSourceName, g) : null;
+            final Optional<Traversal.Admin<Object, Object>> compiled = null == planCache ? Optional.empty() : planCache.get(bytecode);
+            if (compiled.isPresent())
+                traversal = compiled.get();
+            else if (!lambdaLanguage.isPresent())
                 traversal = JavaTranslator.of(g).translate(bytecode);
             else
                 traversal = context.getGremlinExecutor().eval(bytecode, EMPTY_BINDINGS, lambdaLanguage.get(), traversalSourceName);
@@ -375,6 +424,10 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                             .statusAttributeException(ex).create());
         }
 
+        if (GremlinTracing.isEnabled())
+            GremlinTracing.getTracer().requestPhaseCompleted(msg.getRequestId(), msg.getOp(),
+                    GremlinTracer.RequestPhase.EVAL, System.nanoTime() - evalStart);
+
         final Timer.Context timerContext = traversalOpTimer.time();
         final FutureTask<Void> evalFuture = new FutureTask<>(() -> {
             final ChannelHandlerContext ctx = context.getChannelHandlerContext();
@@ -384,9 +437,17 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                 beforeProcessing(graph, context);
 
                 try {
-                    // compile the traversal - without it getEndStep() has nothing in it
-                    traversal.applyStrategies();
+                    // compile the traversal - without it getEndStep() has nothing in it. a traversal that came from
+                    // the plan cache is already compiled
+                    if (!traversal.isLocked()) {
+                        traversal.applyStrategies();
+                        if (null != planCache) planCache.put(bytecode, traversal);
+                    }
+                    final long iterateStart = GremlinTracing.isEnabled() ? System.nanoTime() : 0L;
                     handleIterator(context, new TraverserIterator(traversal), graph);
+                    if (GremlinTracing.isEnabled())
+                        GremlinTracing.getTracer().requestPhaseCompleted(msg.getRequestId(), msg.getOp(),
+                                GremlinTracer.RequestPhase.ITERATE, System.nanoTime() - iterateStart);
                 } catch (Exception ex) {
                     Throwable t = ex;
                     if (ex instanceof UndeclaredThrowableException)
@@ -577,7 +638,13 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                     // required then it will be 100% complete before the client receives it. the "frame" at this point
                     // should have completely detached objects from the transaction (i.e. serialization has occurred)
                     // so a new one should not be opened on the flush down the netty pipeline
-                    ctx.writeAndFlush(frame);
+                    if (GremlinTracing.isEnabled()) {
+                        final long start = System.nanoTime();
+                        ctx.writeAndFlush(frame);
+                        GremlinTracing.getTracer().requestPhaseCompleted(msg.getRequestId(), msg.getOp(),
+                                GremlinTracer.RequestPhase.WRITE, System.nanoTime() - start);
+                    } else
+                        ctx.writeAndFlush(frame);
                 }
             } else {
                 // don't keep triggering this warning over and over again for the same request
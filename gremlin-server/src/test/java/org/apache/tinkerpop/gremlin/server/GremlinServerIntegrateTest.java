@@ -47,13 +47,18 @@ import org.apache.tinkerpop.gremlin.groovy.jsr223.GroovyCompilerGremlinPlugin;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.SimpleSandboxExtension;
 import org.apache.tinkerpop.gremlin.jsr223.ScriptFileGremlinPlugin;
 import org.apache.tinkerpop.gremlin.process.remote.RemoteGraph;
+import org.apache.tinkerpop.gremlin.process.traversal.Bindings;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalPlanCache;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalSubscriber;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalSubscription;
 import org.apache.tinkerpop.gremlin.server.op.AbstractEvalOpProcessor;
 import org.apache.tinkerpop.gremlin.server.op.standard.StandardOpProcessor;
+import org.apache.tinkerpop.gremlin.server.op.traversal.TraversalOpProcessor;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -69,6 +74,7 @@ import org.junit.Test;
 import java.lang.reflect.Field;
 import java.nio.channels.ClosedChannelException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -955,6 +961,60 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
         assertEquals(50L, g.V().hasLabel("person").map(Lambda.function("it.get().value('age') + 10")).sum().next());
     }
 
+    @Test
+    public void shouldReuseCachedTraversalPlanUsingWithRemote() throws Exception {
+        final Graph graph = EmptyGraph.instance();
+        final GraphTraversalSource g = graph.traversal().withRemote(conf);
+        g.addV("person").property("name", "marko").iterate();
+        g.addV("person").property("name", "josh").iterate();
+
+        final Bindings b = Bindings.instance();
+        assertEquals("marko", g.V().has("person", "name", b.of("x", "marko")).values("name").next());
+        final TraversalPlanCache planCache = TraversalOpProcessor.getPlanCache("g").get();
+        final long hits = planCache.getHits();
+
+        // same shape with a different binding is answered from the cached plan
+        assertEquals("josh", g.V().has("person", "name", b.of("x", "josh")).values("name").next());
+        assertEquals(hits + 1, planCache.getHits());
+        assertEquals("marko", g.V().has("person", "name", b.of("x", "marko")).values("name").next());
+        assertEquals(hits + 2, planCache.getHits());
+    }
+
+    @Test
+    public void shouldSubscribeToRemoteTraversalUsingWithRemote() throws Exception {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal().withRemote(conf);
+        final List<Object> results = new ArrayList<>();
+        final CompletableFuture<List<Object>> future = new CompletableFuture<>();
+        g.inject(1, 2, 3, 4, 5).subscribe(new TraversalSubscriber<Object>() {
+            private TraversalSubscription subscription;
+
+            @Override
+            public void onSubscribe(final TraversalSubscription subscription) {
+                this.subscription = subscription;
+                subscription.request(2);
+            }
+
+            @Override
+            public void onNext(final Object result) {
+                results.add(result);
+                if (results.size() % 2 == 0)
+                    subscription.request(2);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(results);
+            }
+        });
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), future.get(30000, TimeUnit.MILLISECONDS));
+    }
+
     @Test
     public void shouldGetSideEffectKeysUsingWithRemote() throws Exception {
         final Graph graph = EmptyGraph.instance();
@@ -23,6 +23,8 @@ import org.apache.tinkerpop.gremlin.GraphManager;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSideEffects;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.MapHelper;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.junit.Before;
@@ -34,6 +36,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -142,6 +145,18 @@ public abstract class AbstractGremlinProcessTest extends AbstractGremlinTest {
         assertThat(traversal.hasNext(), is(false));
     }
 
+    /**
+     * Checks that a traversal returns the same results, in any order, when the specified strategies are added to
+     * {@code g} as it does without them.
+     */
+    public <T> void checkResultsWithStrategies(final Function<GraphTraversalSource, Traversal<?, T>> traversalFunction,
+                                               final TraversalStrategy... strategies) {
+        final List<T> expectedResults = traversalFunction.apply(g).toList();
+        final Traversal<?, T> traversal = traversalFunction.apply(g.withStrategies(strategies));
+        printTraversalForm(traversal);
+        checkResults(expectedResults, traversal);
+    }
+
     public static <T> void checkResults(final Map<T, Long> expectedResults, final Traversal<?, T> traversal) {
         final List<T> list = new ArrayList<>();
         expectedResults.forEach((k, v) -> {
@@ -21,8 +21,12 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.branch;
 import org.apache.tinkerpop.gremlin.LoadGraphWith;
 import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
 import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
+import org.apache.tinkerpop.gremlin.process.IgnoreEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.MapHelper;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -34,9 +38,11 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.both;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.bothE;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.groupCount;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.has;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.in;
@@ -92,6 +98,18 @@ public abstract class RepeatTest extends AbstractGremlinProcessTest {
 
     public abstract Traversal<Vertex, Path> get_g_V_hasXname_markoX_repeatXoutE_inV_simplePathX_untilXhasXname_rippleXX_path_byXnameX_byXlabelX();
 
+    public abstract Traversal<Vertex, Map<String, Long>> get_g_VX1X_repeatXbothX_timesX3X_visitedXlocalX_groupCount_byXnameX(final Object v1Id);
+
+    public abstract Traversal<Vertex, String> get_g_VX1X_repeatXbothX_timesX2X_visitedXlocalX_name(final Object v1Id);
+
+    public abstract Traversal<Vertex, String> get_g_VX1X_repeatXbothX_emit_visitedXglobalX_name(final Object v1Id);
+
+    public abstract Traversal<Vertex, Path> get_g_VX1X_emit_repeatXoutX_visitedXglobalX_timesX2X_path(final Object v1Id);
+
+    public abstract Traversal<Vertex, Path> get_g_VX1X_repeatXbothX_timesX2X_visitedXlocalX_path_byXnameX(final Object v1Id);
+
+    public abstract Traversal<Vertex, Double> get_g_withSackX1X_VX1X_repeatXbothE_sackXmultX_byXweightX_otherVX_timesX2X_visitedXlocalX_sack(final Object v1Id);
+
     @Test
     @LoadGraphWith(MODERN)
     public void g_V_repeatXoutX_timesX2X_emit_path() {
@@ -294,6 +312,83 @@ public abstract class RepeatTest extends AbstractGremlinProcessTest {
         assertEquals("ripple", path.get(4));
     }
 
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void g_VX1X_repeatXbothX_timesX3X_visitedXlocalX_groupCount_byXnameX() {
+        final Traversal<Vertex, Map<String, Long>> traversal = get_g_VX1X_repeatXbothX_timesX3X_visitedXlocalX_groupCount_byXnameX(convertToVertexId("marko"));
+        printTraversalForm(traversal);
+        final Map<String, Long> map = traversal.next();
+        assertFalse(traversal.hasNext());
+        assertEquals(6, map.size());
+        assertEquals(2L, map.get("marko").longValue());
+        assertEquals(3L, map.get("vadas").longValue());
+        assertEquals(5L, map.get("lop").longValue());
+        assertEquals(5L, map.get("josh").longValue());
+        assertEquals(1L, map.get("ripple").longValue());
+        assertEquals(1L, map.get("peter").longValue());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void g_VX1X_repeatXbothX_timesX2X_visitedXlocalX_name() {
+        final Traversal<Vertex, String> traversal = get_g_VX1X_repeatXbothX_timesX2X_visitedXlocalX_name(convertToVertexId("marko"));
+        printTraversalForm(traversal);
+        checkResults(Arrays.asList("marko", "marko", "marko", "josh", "lop", "peter", "ripple"), traversal);
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void g_VX1X_repeatXbothX_emit_visitedXglobalX_name() {
+        final Traversal<Vertex, String> traversal = get_g_VX1X_repeatXbothX_emit_visitedXglobalX_name(convertToVertexId("marko"));
+        printTraversalForm(traversal);
+        checkResults(Arrays.asList("vadas", "josh", "lop", "peter", "ripple"), traversal);
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void g_VX1X_emit_repeatXoutX_visitedXglobalX_timesX2X_path() {
+        final Traversal<Vertex, Path> traversal = get_g_VX1X_emit_repeatXoutX_visitedXglobalX_timesX2X_path(convertToVertexId("marko"));
+        printTraversalForm(traversal);
+        final List<Path> paths = traversal.toList();
+        assertEquals(5, paths.size());
+        assertEquals(1, paths.stream().filter(path -> path.size() == 1).count());
+        assertEquals(3, paths.stream().filter(path -> path.size() == 2).count());
+        assertEquals(1, paths.stream().filter(path -> path.size() == 3).count());
+        assertEquals(5, paths.stream().map(path -> path.<Vertex>get(path.size() - 1)).distinct().count());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void g_VX1X_repeatXbothX_timesX2X_visitedXlocalX_path_byXnameX() {
+        final Traversal<Vertex, Path> traversal = get_g_VX1X_repeatXbothX_timesX2X_visitedXlocalX_path_byXnameX(convertToVertexId("marko"));
+        printTraversalForm(traversal);
+        final List<List<Object>> paths = traversal.toList().stream().map(Path::objects).collect(Collectors.toList());
+        assertEquals(7, paths.size());
+        assertTrue(paths.containsAll(Arrays.asList(
+                Arrays.asList("marko", "lop", "marko"),
+                Arrays.asList("marko", "lop", "josh"),
+                Arrays.asList("marko", "lop", "peter"),
+                Arrays.asList("marko", "vadas", "marko"),
+                Arrays.asList("marko", "josh", "ripple"),
+                Arrays.asList("marko", "josh", "lop"),
+                Arrays.asList("marko", "josh", "marko"))));
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void g_withSackX1X_VX1X_repeatXbothE_sackXmultX_byXweightX_otherVX_timesX2X_visitedXlocalX_sack() {
+        final Traversal<Vertex, Double> traversal = get_g_withSackX1X_VX1X_repeatXbothE_sackXmultX_byXweightX_otherVX_timesX2X_visitedXlocalX_sack(convertToVertexId("marko"));
+        printTraversalForm(traversal);
+        checkResults(Arrays.asList(1.0d * 0.4d * 0.4d, 1.0d * 0.4d * 0.4d, 1.0d * 0.4d * 0.2d, 1.0d * 0.5d * 0.5d,
+                1.0d * 1.0d * 1.0d, 1.0d * 1.0d * 0.4d, 1.0d * 1.0d * 1.0d), traversal);
+    }
+
     public static class Traversals extends RepeatTest {
 
         @Override
@@ -365,5 +460,35 @@ public abstract class RepeatTest extends AbstractGremlinProcessTest {
         public Traversal<Vertex, Path> get_g_V_hasXname_markoX_repeatXoutE_inV_simplePathX_untilXhasXname_rippleXX_path_byXnameX_byXlabelX() {
             return g.V().has("name", "marko").repeat(outE().inV().simplePath()).until(has("name", "ripple")).path().by("name").by(T.label);
         }
+
+        @Override
+        public Traversal<Vertex, Map<String, Long>> get_g_VX1X_repeatXbothX_timesX3X_visitedXlocalX_groupCount_byXnameX(final Object v1Id) {
+            return g.V(v1Id).repeat(both()).times(3).visited(Scope.local).<String>groupCount().by("name");
+        }
+
+        @Override
+        public Traversal<Vertex, String> get_g_VX1X_repeatXbothX_timesX2X_visitedXlocalX_name(final Object v1Id) {
+            return g.V(v1Id).repeat(both()).times(2).visited(Scope.local).values("name");
+        }
+
+        @Override
+        public Traversal<Vertex, String> get_g_VX1X_repeatXbothX_emit_visitedXglobalX_name(final Object v1Id) {
+            return g.V(v1Id).repeat(both()).emit().visited(Scope.global).values("name");
+        }
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX1X_emit_repeatXoutX_visitedXglobalX_timesX2X_path(final Object v1Id) {
+            return g.V(v1Id).emit().repeat(out()).visited(Scope.global).times(2).path();
+        }
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX1X_repeatXbothX_timesX2X_visitedXlocalX_path_byXnameX(final Object v1Id) {
+            return g.V(v1Id).repeat(both()).times(2).visited(Scope.local).path().by("name");
+        }
+
+        @Override
+        public Traversal<Vertex, Double> get_g_withSackX1X_VX1X_repeatXbothE_sackXmultX_byXweightX_otherVX_timesX2X_visitedXlocalX_sack(final Object v1Id) {
+            return g.withSack(1.0d).V(v1Id).repeat(bothE().sack(Operator.mult).by("weight").otherV()).times(2).visited(Scope.local).sack();
+        }
    }
 }
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.GRATEFUL;
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(GremlinProcessRunner.class)
+public abstract class CardinalityTest extends AbstractGremlinProcessTest {
+
+    public abstract Traversal<Vertex, Long> get_g_V_cardinality();
+
+    public abstract Traversal<Vertex, Long> get_g_V_out_cardinality();
+
+    public abstract Traversal<Vertex, Long> get_g_V_out_valuesXlangX_cardinality();
+
+    public abstract Traversal<Vertex, Long> get_g_V_hasXnoX_cardinality();
+
+    public abstract Traversal<Vertex, Long> get_g_V_repeatXoutX_timesX3X_cardinality();
+
+    public abstract Traversal<Vertex, Long> get_g_V_repeatXoutX_timesX3X_dedup_count();
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_cardinality() {
+        final Traversal<Vertex, Long> traversal = get_g_V_cardinality();
+        printTraversalForm(traversal);
+        assertEquals(Long.valueOf(6), traversal.next());
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_out_cardinality() {
+        final Traversal<Vertex, Long> traversal = get_g_V_out_cardinality();
+        printTraversalForm(traversal);
+        assertEquals(Long.valueOf(4), traversal.next());
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_out_valuesXlangX_cardinality() {
+        final Traversal<Vertex, Long> traversal = get_g_V_out_valuesXlangX_cardinality();
+        printTraversalForm(traversal);
+        assertEquals(Long.valueOf(1), traversal.next());
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_hasXnoX_cardinality() {
+        final Traversal<Vertex, Long> traversal = get_g_V_hasXnoX_cardinality();
+        printTraversalForm(traversal);
+        assertEquals(Long.valueOf(0), traversal.next());
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(GRATEFUL)
+    public void g_V_repeatXoutX_timesX3X_cardinality() {
+        final Traversal<Vertex, Long> traversal = get_g_V_repeatXoutX_timesX3X_cardinality();
+        printTraversalForm(traversal);
+        final long exact = get_g_V_repeatXoutX_timesX3X_dedup_count().next();
+        assertEquals(exact, traversal.next(), exact * 0.01d);
+        assertFalse(traversal.hasNext());
+    }
+
+    public static class Traversals extends CardinalityTest {
+
+        @Override
+        public Traversal<Vertex, Long> get_g_V_cardinality() {
+            return g.V().cardinality();
+        }
+
+        @Override
+        public Traversal<Vertex, Long> get_g_V_out_cardinality() {
+            return g.V().out().cardinality();
+        }
+
+        @Override
+        public Traversal<Vertex, Long> get_g_V_out_valuesXlangX_cardinality() {
+            return g.V().out().values("lang").cardinality();
+        }
+
+        @Override
+        public Traversal<Vertex, Long> get_g_V_hasXnoX_cardinality() {
+            return g.V().has("no").cardinality();
+        }
+
+        @Override
+        public Traversal<Vertex, Long> get_g_V_repeatXoutX_timesX3X_cardinality() {
+            return g.V().repeat(out()).times(3).cardinality();
+        }
+
+        @Override
+        public Traversal<Vertex, Long> get_g_V_repeatXoutX_timesX3X_dedup_count() {
+            return g.V().repeat(out()).times(3).dedup().count();
+        }
+    }
+}
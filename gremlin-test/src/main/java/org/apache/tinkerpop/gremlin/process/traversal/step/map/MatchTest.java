@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.MapHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MatchAlgorithmStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.LeapfrogJoinStrategy;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.junit.Before;
@@ -604,6 +605,30 @@ public abstract class MatchTest extends AbstractGremlinProcessTest {
         }
     }
 
+    public static class CostMatchTraversals extends Traversals {
+        @Before
+        public void setupTest() {
+            super.setupTest();
+            g = g.withStrategies(MatchAlgorithmStrategy.build().algorithm(MatchStep.CostMatchAlgorithm.class).create());
+        }
+    }
+
+    public static class HashJoinMatchTraversals extends Traversals {
+        @Before
+        public void setupTest() {
+            super.setupTest();
+            g = g.withStrategies(MatchAlgorithmStrategy.build().algorithm(MatchStep.HashJoinMatchAlgorithm.class).create());
+        }
+    }
+
+    public static class LeapfrogJoinTraversals extends Traversals {
+        @Before
+        public void setupTest() {
+            super.setupTest();
+            g = g.withStrategies(LeapfrogJoinStrategy.instance());
+        }
+    }
+
     public static class CountMatchTraversals extends Traversals {
 
     }
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.bothE;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(GremlinProcessRunner.class)
+public abstract class QuantileTest extends AbstractGremlinProcessTest {
+
+    public abstract Traversal<Vertex, Double> get_g_V_age_quantileX0_5X();
+
+    public abstract Traversal<Vertex, Double> get_g_V_age_quantileX1_0X();
+
+    public abstract Traversal<Vertex, Double> get_g_V_hasLabelXsoftwareX_age_quantileX0_5X();
+
+    public abstract Traversal<Vertex, Double> get_g_V_whereXoutEX_mapXoutE_weight_foldX_quantileXlocal_0_5X();
+
+    public abstract Traversal<Vertex, Map<String, Double>> get_g_V_hasLabelXsoftwareX_group_byXnameX_byXbothE_weight_quantileX0_5XX();
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_age_quantileX0_5X() {
+        final Traversal<Vertex, Double> traversal = get_g_V_age_quantileX0_5X();
+        printTraversalForm(traversal);
+        assertEquals(30.5d, traversal.next(), 0.0001d);
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_age_quantileX1_0X() {
+        final Traversal<Vertex, Double> traversal = get_g_V_age_quantileX1_0X();
+        printTraversalForm(traversal);
+        assertEquals(35.0d, traversal.next(), 0.0d);
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_hasLabelXsoftwareX_age_quantileX0_5X() {
+        final Traversal<Vertex, Double> traversal = get_g_V_hasLabelXsoftwareX_age_quantileX0_5X();
+        printTraversalForm(traversal);
+        assertTrue(Double.isNaN(traversal.next()));
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_whereXoutEX_mapXoutE_weight_foldX_quantileXlocal_0_5X() {
+        final Traversal<Vertex, Double> traversal = get_g_V_whereXoutEX_mapXoutE_weight_foldX_quantileXlocal_0_5X();
+        printTraversalForm(traversal);
+        final List<Double> medians = traversal.toList();
+        Collections.sort(medians);
+        assertEquals(3, medians.size());
+        assertEquals(0.2d, medians.get(0), 0.0001d);
+        assertEquals(0.5d, medians.get(1), 0.0001d);
+        assertEquals(0.7d, medians.get(2), 0.0001d);
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_hasLabelXsoftwareX_group_byXnameX_byXbothE_weight_quantileX0_5XX() {
+        final Traversal<Vertex, Map<String, Double>> traversal = get_g_V_hasLabelXsoftwareX_group_byXnameX_byXbothE_weight_quantileX0_5XX();
+        printTraversalForm(traversal);
+        final Map<String, Double> map = traversal.next();
+        assertFalse(traversal.hasNext());
+        assertEquals(2, map.size());
+        assertEquals(1.0d, map.get("ripple"), 0.0001d);
+        assertEquals(0.4d, map.get("lop"), 0.0001d);
+    }
+
+    public static class Traversals extends QuantileTest {
+
+        @Override
+        public Traversal<Vertex, Double> get_g_V_age_quantileX0_5X() {
+            return g.V().values("age").quantile(0.5d);
+        }
+
+        @Override
+        public Traversal<Vertex, Double> get_g_V_age_quantileX1_0X() {
+            return g.V().values("age").quantile(1.0d);
+        }
+
+        @Override
+        public Traversal<Vertex, Double> get_g_V_hasLabelXsoftwareX_age_quantileX0_5X() {
+            return g.V().hasLabel("software").values("age").quantile(0.5d);
+        }
+
+        @Override
+        public Traversal<Vertex, Double> get_g_V_whereXoutEX_mapXoutE_weight_foldX_quantileXlocal_0_5X() {
+            return g.V().where(outE()).map(outE().values("weight").fold()).quantile(Scope.local, 0.5d);
+        }
+
+        @Override
+        public Traversal<Vertex, Map<String, Double>> get_g_V_hasLabelXsoftwareX_group_byXnameX_byXbothE_weight_quantileX0_5XX() {
+            return g.V().hasLabel("software").<String, Double>group().by("name").by(bothE().values("weight").quantile(0.5d));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.has;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.hasId;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.hasLabel;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(GremlinProcessRunner.class)
+public abstract class ShortestPathTest extends AbstractGremlinProcessTest {
+
+    public abstract Traversal<Vertex, Path> get_g_VX1X_shortestPathXhasXname_rippleXX(final Object v1Id);
+
+    public abstract Traversal<Vertex, Path> get_g_VX1X_shortestPathXhasXname_rippleXX_byXweightX(final Object v1Id);
+
+    public abstract Traversal<Vertex, Path> get_g_VX2X_shortestPathXhasXname_peterXX(final Object v2Id);
+
+    public abstract Traversal<Vertex, Path> get_g_VX6X_shortestPathXhasXname_vadasXX_byXoutEX(final Object v6Id);
+
+    public abstract Traversal<Vertex, Path> get_g_VX1X_shortestPath_byXoutEXknowsXX(final Object v1Id);
+
+    public abstract Traversal<Vertex, Path> get_g_VX1X_shortestPathXhasLabelXsoftwareXX(final Object v1Id);
+
+    public abstract Traversal<Vertex, Path> get_g_VX1X_shortestPathXhasIdX5XX_byXdistanceX(final Object v1Id, final Object v5Id);
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_VX1X_shortestPathXhasXname_rippleXX() {
+        final Traversal<Vertex, Path> traversal = get_g_VX1X_shortestPathXhasXname_rippleXX(convertToVertexId("marko"));
+        printTraversalForm(traversal);
+        assertPath(traversal.next(), "marko", "josh", "ripple");
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_VX1X_shortestPathXhasXname_rippleXX_byXweightX() {
+        final Traversal<Vertex, Path> traversal = get_g_VX1X_shortestPathXhasXname_rippleXX_byXweightX(convertToVertexId("marko"));
+        printTraversalForm(traversal);
+        assertPath(traversal.next(), "marko", "lop", "josh", "ripple");
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_VX2X_shortestPathXhasXname_peterXX() {
+        final Traversal<Vertex, Path> traversal = get_g_VX2X_shortestPathXhasXname_peterXX(convertToVertexId("vadas"));
+        printTraversalForm(traversal);
+        assertPath(traversal.next(), "vadas", "marko", "lop", "peter");
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_VX6X_shortestPathXhasXname_vadasXX_byXoutEX() {
+        final Traversal<Vertex, Path> traversal = get_g_VX6X_shortestPathXhasXname_vadasXX_byXoutEX(convertToVertexId("peter"));
+        printTraversalForm(traversal);
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_VX1X_shortestPath_byXoutEXknowsXX() {
+        final Traversal<Vertex, Path> traversal = get_g_VX1X_shortestPath_byXoutEXknowsXX(convertToVertexId("marko"));
+        printTraversalForm(traversal);
+        final List<Path> paths = traversal.toList();
+        assertEquals(3, paths.size());
+        assertPaths(paths, Arrays.asList("marko"), Arrays.asList("marko", "vadas"), Arrays.asList("marko", "josh"));
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_VX1X_shortestPathXhasLabelXsoftwareXX() {
+        final Traversal<Vertex, Path> traversal = get_g_VX1X_shortestPathXhasLabelXsoftwareXX(convertToVertexId("marko"));
+        printTraversalForm(traversal);
+        final List<Path> paths = traversal.toList();
+        assertEquals(2, paths.size());
+        assertPaths(paths, Arrays.asList("marko", "lop"), Arrays.asList("marko", "josh", "ripple"));
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_VX1X_shortestPathXhasIdX5XX_byXdistanceX() {
+        final Traversal<Vertex, Path> traversal = get_g_VX1X_shortestPathXhasIdX5XX_byXdistanceX(convertToVertexId("marko"), convertToVertexId("ripple"));
+        printTraversalForm(traversal);
+        // no edge has a distance so every edge counts as 1
+        assertPath(traversal.next(), "marko", "josh", "ripple");
+        assertFalse(traversal.hasNext());
+    }
+
+    private void assertPath(final Path path, final String... names) {
+        assertEquals(Arrays.stream(names).map(this::convertToVertexId).collect(Collectors.toList()), ids(path));
+    }
+
+    private void assertPaths(final List<Path> paths, final List<String>... names) {
+        assertEquals(Arrays.stream(names).map(n -> n.stream().map(this::convertToVertexId).collect(Collectors.toList())).collect(Collectors.toSet()),
+                paths.stream().map(ShortestPathTest::ids).collect(Collectors.toSet()));
+    }
+
+    private static List<Object> ids(final Path path) {
+        return path.objects().stream().map(vertex -> ((Vertex) vertex).id()).collect(Collectors.toList());
+    }
+
+    public static class Traversals extends ShortestPathTest {
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX1X_shortestPathXhasXname_rippleXX(final Object v1Id) {
+            return g.V(v1Id).shortestPath(has("name", "ripple"));
+        }
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX1X_shortestPathXhasXname_rippleXX_byXweightX(final Object v1Id) {
+            return g.V(v1Id).shortestPath(has("name", "ripple")).by("weight");
+        }
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX2X_shortestPathXhasXname_peterXX(final Object v2Id) {
+            return g.V(v2Id).shortestPath(has("name", "peter"));
+        }
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX6X_shortestPathXhasXname_vadasXX_byXoutEX(final Object v6Id) {
+            return g.V(v6Id).shortestPath(has("name", "vadas")).by(outE());
+        }
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX1X_shortestPath_byXoutEXknowsXX(final Object v1Id) {
+            return g.V(v1Id).shortestPath().by(outE("knows"));
+        }
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX1X_shortestPathXhasLabelXsoftwareXX(final Object v1Id) {
+            return g.V(v1Id).shortestPath(hasLabel("software"));
+        }
+
+        @Override
+        public Traversal<Vertex, Path> get_g_VX1X_shortestPathXhasIdX5XX_byXdistanceX(final Object v1Id, final Object v5Id) {
+            return g.V(v1Id).shortestPath(hasId(v5Id)).by("distance");
+        }
+    }
+}
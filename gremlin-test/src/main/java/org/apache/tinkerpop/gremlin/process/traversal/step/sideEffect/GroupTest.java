@@ -48,6 +48,7 @@ import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outE;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.values;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -99,6 +100,12 @@ public abstract class GroupTest extends AbstractGremlinProcessTest {
 
     public abstract Traversal<Vertex, Map<String, List<Object>>> get_g_withSideEffectXa__marko_666_noone_blahX_V_groupXaX_byXnameX_byXoutE_label_foldX_capXaX(final Map<String, List<Object>> m);
 
+    public abstract Traversal<Vertex, Map.Entry<Integer, List<String>>> get_g_V_hasLabelXpersonX_order_byXageX_group_byXageX_byXnameX_unfold();
+
+    public abstract Traversal<Vertex, Map.Entry<String, Long>> get_g_V_order_byXnameX_hasXageX_group_byXnameX_byXout_countX_unfold();
+
+    public abstract Traversal<Vertex, Map.Entry<Number, Long>> get_g_V_hasLabelXpersonX_unionXconstantX29LX__ageX_order_by_group_by_byXcountX_unfold();
+
     @Test
     @LoadGraphWith(MODERN)
     public void g_V_group_byXnameX() {
@@ -488,6 +495,49 @@ public abstract class GroupTest extends AbstractGremlinProcessTest {
         checkSideEffects(traversal.asAdmin().getSideEffects(), "a", HashMap.class);
     }
 
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_hasLabelXpersonX_order_byXageX_group_byXageX_byXnameX_unfold() {
+        final Traversal<Vertex, Map.Entry<Integer, List<String>>> traversal = get_g_V_hasLabelXpersonX_order_byXageX_group_byXageX_byXnameX_unfold();
+        printTraversalForm(traversal);
+        final Map<Integer, List<String>> map = new HashMap<>();
+        traversal.forEachRemaining(entry -> assertNull(map.put(entry.getKey(), entry.getValue())));
+        assertEquals(4, map.size());
+        assertEquals(Collections.singletonList("vadas"), map.get(27));
+        assertEquals(Collections.singletonList("marko"), map.get(29));
+        assertEquals(Collections.singletonList("josh"), map.get(32));
+        assertEquals(Collections.singletonList("peter"), map.get(35));
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_order_byXnameX_hasXageX_group_byXnameX_byXout_countX_unfold() {
+        final Traversal<Vertex, Map.Entry<String, Long>> traversal = get_g_V_order_byXnameX_hasXageX_group_byXnameX_byXout_countX_unfold();
+        printTraversalForm(traversal);
+        final Map<String, Long> map = new HashMap<>();
+        traversal.forEachRemaining(entry -> assertNull(map.put(entry.getKey(), entry.getValue())));
+        assertEquals(4, map.size());
+        assertEquals(3L, map.get("marko").longValue());
+        assertEquals(0L, map.get("vadas").longValue());
+        assertEquals(2L, map.get("josh").longValue());
+        assertEquals(1L, map.get("peter").longValue());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_hasLabelXpersonX_unionXconstantX29LX__ageX_order_by_group_by_byXcountX_unfold() {
+        final Traversal<Vertex, Map.Entry<Number, Long>> traversal = get_g_V_hasLabelXpersonX_unionXconstantX29LX__ageX_order_by_group_by_byXcountX_unfold();
+        printTraversalForm(traversal);
+        final Map<Number, Long> map = new HashMap<>();
+        traversal.forEachRemaining(entry -> assertNull(map.put(entry.getKey(), entry.getValue())));
+        assertEquals(5, map.size());
+        assertEquals(1L, map.get(27).longValue());
+        assertEquals(1L, map.get(29).longValue());
+        assertEquals(4L, map.get(29L).longValue());
+        assertEquals(1L, map.get(32).longValue());
+        assertEquals(1L, map.get(35).longValue());
+    }
+
     public static class Traversals extends GroupTest {
 
         @Override
@@ -594,5 +644,20 @@ public abstract class GroupTest extends AbstractGremlinProcessTest {
         public Traversal<Vertex, Map<String, List<Object>>> get_g_withSideEffectXa__marko_666_noone_blahX_V_groupXaX_byXnameX_byXoutE_label_foldX_capXaX(final Map<String, List<Object>> m) {
             return g.withSideEffect("a", m).V().group("a").by("name").by(outE().label().fold()).cap("a");
         }
+
+        @Override
+        public Traversal<Vertex, Map.Entry<Integer, List<String>>> get_g_V_hasLabelXpersonX_order_byXageX_group_byXageX_byXnameX_unfold() {
+            return g.V().hasLabel("person").order().by("age").<Integer, List<String>>group().by("age").by("name").unfold();
+        }
+
+        @Override
+        public Traversal<Vertex, Map.Entry<String, Long>> get_g_V_order_byXnameX_hasXageX_group_byXnameX_byXout_countX_unfold() {
+            return g.V().order().by("name").has("age").<String, Long>group().by("name").by(out().count()).unfold();
+        }
+
+        @Override
+        public Traversal<Vertex, Map.Entry<Number, Long>> get_g_V_hasLabelXpersonX_unionXconstantX29LX__ageX_order_by_group_by_byXcountX_unfold() {
+            return g.V().hasLabel("person").<Number>union(constant(29L), values("age")).order().by().<Number, Long>group().by().by(count()).unfold();
+        }
     }
 }
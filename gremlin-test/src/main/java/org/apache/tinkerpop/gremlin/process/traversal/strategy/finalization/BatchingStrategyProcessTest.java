@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.GRATEFUL;
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outE;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(GremlinProcessRunner.class)
+public class BatchingStrategyProcessTest extends AbstractGremlinProcessTest {
+
+    private static final BatchingStrategy BATCHING = BatchingStrategy.build().batchSize(3).create();
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldReturnSameResultsAsUnbatchedExecutionOnModern() {
+        checkBatchedResults(g -> g.V().out().out().values("name"));
+        checkBatchedResults(g -> g.V().out().barrier(2).in().barrier(2).values("name"));
+        checkBatchedResults(g -> g.V().both().barrier(3).bothE().barrier(3).otherV().path());
+        checkBatchedResults(g -> g.V().barrier(2).V().barrier(4).V().values("name"));
+        checkBatchedResults(g -> g.V().local(out().barrier(1).out()).values("name"));
+        checkBatchedResults(g -> g.V().outE().barrier(2).values("weight"));
+        checkBatchedResults(g -> g.V().repeat(out()).times(2).values("name"));
+        checkBatchedResults(g -> g.V().out().as("a").out().barrier(2).select("a").by("name"));
+        checkBatchedResults(g -> g.V().out().barrier(2).where(outE()).values("name").limit(1).count());
+    }
+
+    @Test
+    @LoadGraphWith(GRATEFUL)
+    public void shouldReturnSameResultsAsUnbatchedExecutionOnGrateful() {
+        checkBatchedResults(g -> g.V().out().out().groupCount().by("name"));
+        checkBatchedResults(g -> g.V().out().barrier(7).out().barrier(7).out().count());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldPreserveOrderOfBatchedTraversers() {
+        final List<String> expected = g.V().hasLabel("person").order().by("age", Order.decr).out().<String>values("name").toList();
+        final Traversal<Vertex, String> traversal = g.withStrategies(BATCHING).V().hasLabel("person").order().by("age", Order.decr).out().<String>values("name");
+        printTraversalForm(traversal);
+        checkOrderedResults(expected, traversal);
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldBatchStepsAfterBarriers() {
+        final Traversal.Admin<?, ?> traversal = g.withStrategies(BATCHING).V().out().barrier(2).out().values("name").asAdmin();
+        traversal.applyStrategies();
+        final List<VertexStep> vertexSteps = TraversalHelper.getStepsOfClass(VertexStep.class, traversal);
+        assertEquals(0, vertexSteps.get(0).getBatchSize());
+        assertEquals(2, vertexSteps.get(1).getBatchSize());
+        checkBatchedResults(g -> g.V().out().barrier(2).out().values("name"));
+    }
+
+    private <E> void checkBatchedResults(final Function<GraphTraversalSource, Traversal<?, E>> traversalFunction) {
+        checkResultsWithStrategies(traversalFunction, BATCHING);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
+import org.apache.tinkerpop.gremlin.process.IgnoreEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TraversalFilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalResultCache;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.GRATEFUL;
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.constant;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.in;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.values;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+@RunWith(GremlinProcessRunner.class)
+public class MemoizationStrategyProcessTest extends AbstractGremlinProcessTest {
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldReturnSameResultsAsUnmemoizedExecutionOnModern() {
+        checkResultsWithStrategies(g -> g.V().both().both().order().by(out().count(), Order.decr).by("name").values("name"), MemoizationStrategy.instance());
+        checkResultsWithStrategies(g -> g.V().both().where(out("created")).values("name"), MemoizationStrategy.instance());
+        checkResultsWithStrategies(g -> g.V().both().choose(out().count().is(P.gt(1L)), constant("x"), constant("y")), MemoizationStrategy.instance());
+        checkResultsWithStrategies(g -> g.V().both().both().group().by("name").by(out().count()), MemoizationStrategy.instance());
+        checkResultsWithStrategies(g -> g.V().both().project("a", "b").by("name").by(in().values("name").fold()), MemoizationStrategy.instance());
+        checkResultsWithStrategies(g -> g.withSack(1).V().both().both().order().by(out().count()).by("name").sack(), MemoizationStrategy.instance());
+        checkResultsWithStrategies(g -> g.V().both().as("a").both().where(out().as("a")).values("name"), MemoizationStrategy.instance());
+    }
+
+    @Test
+    @LoadGraphWith(GRATEFUL)
+    public void shouldReturnSameResultsAsUnmemoizedExecutionOnGrateful() {
+        checkResultsWithStrategies(g -> g.V().out().out().where(values("performances").is(P.gt(100))).count(), MemoizationStrategy.instance());
+        checkResultsWithStrategies(g -> g.V().out().out().groupCount().by(out().count()), MemoizationStrategy.instance());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldReturnSameResultsAsUnmemoizedExecutionInParallel() {
+        checkResultsWithStrategies(g -> g.V().both().both().where(out("created")).values("name"), ParallelStrategy.build().chunkSize(2).create(), MemoizationStrategy.instance());
+        checkResultsWithStrategies(g -> g.V().both().both().order().by(out().count()).by("name").values("name"), ParallelStrategy.build().chunkSize(2).create(), MemoizationStrategy.instance());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void shouldMemoizeChildTraversals() {
+        final Traversal.Admin<?, String> traversal = g.withStrategies(MemoizationStrategy.instance()).V().both().where(out("created")).<String>values("name").asAdmin();
+        traversal.applyStrategies();
+        assertNotNull(TraversalResultCache.of(getWhereTraversal(traversal)));
+        checkResults(Arrays.asList("marko", "marko", "marko", "josh", "josh", "josh", "peter"), traversal);
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void shouldMemoizeChildTraversalsThatDoNotReadTheSackOrSideEffects() {
+        final Traversal.Admin<?, String> traversal = g.withStrategies(MemoizationStrategy.instance()).withSack(1.0d).withSideEffect("x", 0)
+                .V().both().where(out("created")).<String>values("name").asAdmin();
+        traversal.applyStrategies();
+        assertNotNull(TraversalResultCache.of(getWhereTraversal(traversal)));
+        checkResultsWithStrategies(g -> g.withSack(1.0d).V().both().where(out("created")).sack(), MemoizationStrategy.instance());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void shouldNotMemoizeChildTraversalsOfMutatingTraversals() {
+        final Traversal.Admin<?, ?> traversal = g.withStrategies(MemoizationStrategy.instance()).V().both().where(out("created")).property("x", 1).asAdmin();
+        traversal.applyStrategies();
+        assertNull(TraversalResultCache.of(getWhereTraversal(traversal)));
+    }
+
+    private static Traversal.Admin<?, ?> getWhereTraversal(final Traversal.Admin<?, ?> traversal) {
+        final TraversalFilterStep<?> step = TraversalHelper.getFirstStepOfAssignableClass(TraversalFilterStep.class, traversal).get();
+        return step.getLocalChildren().get(0);
+    }
+}
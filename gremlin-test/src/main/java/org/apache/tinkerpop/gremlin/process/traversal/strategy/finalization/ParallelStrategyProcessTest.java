@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.SelectOneStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.AggregateStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ParallelStep;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.function.Function;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.GRATEFUL;
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(GremlinProcessRunner.class)
+public class ParallelStrategyProcessTest extends AbstractGremlinProcessTest {
+
+    private static final ParallelStrategy PARALLEL = ParallelStrategy.build().parallelism(4).chunkSize(7).create();
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldReturnSameResultsAsSequentialExecutionOnModern() {
+        checkParallelResults(g -> g.V().out().values("name"));
+        checkParallelResults(g -> g.V().both().both().count());
+        checkParallelResults(g -> g.V().both().values("age").sum());
+        checkParallelResults(g -> g.V().both().groupCount().by("name"));
+        checkParallelResults(g -> g.V().both().group().by("name").by(out().count()));
+        checkParallelResults(g -> g.V().has("age").values("age").fold());
+        checkParallelResults(g -> g.V().out().count().is(4));
+    }
+
+    @Test
+    @LoadGraphWith(GRATEFUL)
+    public void shouldReturnSameResultsAsSequentialExecutionOnGrateful() {
+        checkParallelResults(g -> g.V().out().values("name"));
+        checkParallelResults(g -> g.V().out().out().out().count());
+        checkParallelResults(g -> g.V().both().groupCount().by("name"));
+        checkParallelResults(g -> g.V().out("followedBy").out("sungBy").order().by("name", Order.decr).values("name"));
+        checkParallelResults(g -> g.V().out().dedup().count());
+        checkParallelResults(g -> g.V().repeat(out()).times(2).hasLabel("song").count());
+        checkParallelResults(g -> g.V().has("performances").values("performances").mean());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldReduceEmptyStreams() {
+        checkParallelResults(g -> g.V().hasLabel("person").out("knows").out("knows").count());
+        checkParallelResults(g -> g.V().hasLabel("software").out().fold());
+        checkParallelResults(g -> g.V().hasLabel("software").out().groupCount());
+    }
+
+    @Test
+    @LoadGraphWith(GRATEFUL)
+    public void shouldPreserveOrder() {
+        final Traversal<?, ?> sequential = g.V().order().by("name").values("name");
+        final Traversal<?, ?> parallel = g.withStrategies(PARALLEL).V().order().by("name").values("name");
+        printTraversalForm(parallel);
+        assertEquals(sequential.toList(), parallel.toList());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldMoveStepsAfterGraphStepIntoParallelStep() {
+        final Traversal.Admin<?, ?> traversal = g.withStrategies(PARALLEL).V().out().values("name").asAdmin();
+        traversal.applyStrategies();
+        assertEquals(2, traversal.getSteps().size());
+        assertThat(traversal.getEndStep(), instanceOf(ParallelStep.class));
+        final ParallelStep<?, ?> parallelStep = (ParallelStep<?, ?>) traversal.getEndStep();
+        assertEquals(4, parallelStep.getParallelism());
+        assertEquals(7, parallelStep.getChunkSize());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldKeepSideEffectsOnCallingThread() {
+        final Traversal.Admin<?, ?> traversal = g.withStrategies(PARALLEL).V().out().aggregate("x").values("name").asAdmin();
+        traversal.applyStrategies();
+        assertThat(traversal.getSteps().get(1), instanceOf(ParallelStep.class));
+        assertThat(traversal.getSteps().get(2), instanceOf(AggregateStep.class));
+        checkParallelResults(g -> g.V().out().aggregate("x").cap("x"));
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldStopParallelSegmentAtLabeledSteps() {
+        final Traversal.Admin<?, ?> traversal = g.withStrategies(PARALLEL).V().out().as("a").out().select("a").asAdmin();
+        traversal.applyStrategies();
+        assertThat(traversal.getSteps().get(1), instanceOf(ParallelStep.class));
+        assertEquals(1, ((ParallelStep<?, ?>) traversal.getSteps().get(1)).getLocalChildren().get(0).getSteps().size());
+        assertThat(traversal.getEndStep(), instanceOf(SelectOneStep.class));
+        checkParallelResults(g -> g.V().out().as("a").out().select("a"));
+    }
+
+    /**
+     * Only the order of an unordered stream may differ as barriers bulk traversers per chunk.
+     */
+    private <E> void checkParallelResults(final Function<GraphTraversalSource, Traversal<?, E>> traversalFunction) {
+        checkResultsWithStrategies(traversalFunction, PARALLEL);
+    }
+}
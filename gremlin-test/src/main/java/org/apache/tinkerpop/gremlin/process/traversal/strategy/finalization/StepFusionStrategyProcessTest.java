@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
+import org.apache.tinkerpop.gremlin.process.IgnoreEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.FusedStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.GRATEFUL;
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(GremlinProcessRunner.class)
+public class StepFusionStrategyProcessTest extends AbstractGremlinProcessTest {
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldReturnSameResultsAsUnfusedExecutionOnModern() {
+        checkResultsWithStrategies(g -> g.V(convertToVertexId("marko")).out("knows").has("age", P.gt(30)).values("name"), StepFusionStrategy.instance());
+        checkResultsWithStrategies(g -> g.V().out().out().values("name"), StepFusionStrategy.instance());
+        checkResultsWithStrategies(g -> g.V().both().bothE().otherV().path(), StepFusionStrategy.instance());
+        checkResultsWithStrategies(g -> g.V().outE().inV().as("a").in().values("name").as("b").select("a", "b").by("name").by(), StepFusionStrategy.instance());
+        checkResultsWithStrategies(g -> g.V().local(out().out().hasLabel("software")).values("name"), StepFusionStrategy.instance());
+        checkResultsWithStrategies(g -> g.V().repeat(out().hasLabel("person", "software")).times(2).values("name"), StepFusionStrategy.instance());
+        checkResultsWithStrategies(g -> g.V().outE().has("weight", P.gt(0.4d)).inV().where(outE()).values("name"), StepFusionStrategy.instance());
+        checkResultsWithStrategies(g -> g.withSack(1.0d).V().outE().sack(Operator.mult).by("weight").inV().in().sack(), StepFusionStrategy.instance());
+        checkResultsWithStrategies(g -> g.V().out().in().out().values("name").limit(3), StepFusionStrategy.instance());
+    }
+
+    @Test
+    @LoadGraphWith(GRATEFUL)
+    public void shouldReturnSameResultsAsUnfusedExecutionOnGrateful() {
+        checkResultsWithStrategies(g -> g.V().out().out().values("name").groupCount(), StepFusionStrategy.instance());
+        checkResultsWithStrategies(g -> g.V().out().in().out().count(), StepFusionStrategy.instance());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void shouldFuseAdjacentMapAndFilterSteps() {
+        final Traversal.Admin<?, String> traversal = g.withStrategies(StepFusionStrategy.instance())
+                .V(convertToVertexId("marko")).out("knows").has("age", P.gt(30)).<String>values("name").asAdmin();
+        traversal.applyStrategies();
+        final List<FusedStep> fusedSteps = TraversalHelper.getStepsOfClass(FusedStep.class, traversal);
+        assertEquals(1, fusedSteps.size());
+        assertTrue(fusedSteps.get(0).getFusedSteps().stream().anyMatch(step -> step instanceof VertexStep));
+        assertTrue(fusedSteps.get(0).getFusedSteps().stream().anyMatch(step -> step instanceof PropertiesStep));
+        checkResults(Collections.singletonList("josh"), traversal);
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void shouldNotFuseAcrossBarriers() {
+        final Traversal.Admin<?, String> traversal = g.withStrategies(StepFusionStrategy.instance())
+                .V().out().order().by("name").label().is("software").asAdmin();
+        traversal.applyStrategies();
+        assertEquals(1, TraversalHelper.getStepsOfClass(OrderGlobalStep.class, traversal).size());
+        final List<FusedStep> fusedSteps = TraversalHelper.getStepsOfClass(FusedStep.class, traversal);
+        assertEquals(1, fusedSteps.size());
+        assertEquals(OrderGlobalStep.class, fusedSteps.get(0).getPreviousStep().getClass());
+        fusedSteps.forEach(fusedStep -> assertFalse(fusedStep.getFusedSteps().stream().anyMatch(step -> step instanceof Barrier)));
+        checkResultsWithStrategies(g -> g.V().out().order().by("name").label().is("software"), StepFusionStrategy.instance());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void shouldNotFuseBatchedSteps() {
+        final Traversal.Admin<?, String> traversal = g.withStrategies(BatchingStrategy.instance(), StepFusionStrategy.instance())
+                .V().out().out().<String>values("name").asAdmin();
+        traversal.applyStrategies();
+        for (final FusedStep<?, ?> fusedStep : TraversalHelper.getStepsOfClass(FusedStep.class, traversal)) {
+            assertFalse(fusedStep.getFusedSteps().stream().anyMatch(step -> step instanceof Batching && ((Batching) step).getBatchSize() > 1));
+        }
+        assertEquals(2, TraversalHelper.getStepsOfClass(VertexStep.class, traversal).size());
+        checkResultsWithStrategies(g -> g.V().out().out().values("name"), BatchingStrategy.instance(), StepFusionStrategy.instance());
+    }
+}
@@ -98,4 +98,24 @@ public class GraphTraversalBenchmark extends AbstractGraphBenchmark {
     public List<Edge> g_E_hasLabelXwrittenByX_whereXinV_inEXsungByX_count_isX0XX_subgraphXsgX() throws Exception {
         return g.E().hasLabel("writtenBy").where(__.inV().inE("sungBy").count().is(0)).subgraph("sg").toList();
     }
+
+    @Benchmark
+    public Number g_V_valuesXperformancesX_sum() throws Exception {
+        return g.V().<Number>values("performances").sum().next();
+    }
+
+    @Benchmark
+    public Number g_V_valuesXperformancesX_mean() throws Exception {
+        return g.V().<Number>values("performances").mean().next();
+    }
+
+    @Benchmark
+    public Number g_V_valuesXperformancesX_max() throws Exception {
+        return g.V().<Number>values("performances").max().next();
+    }
+
+    @Benchmark
+    public List<Object> g_V_hasXperformancesX_order_byXperformancesX_valuesXnameX() throws Exception {
+        return g.V().has("performances").order().by("performances").values("name").toList();
+    }
 }
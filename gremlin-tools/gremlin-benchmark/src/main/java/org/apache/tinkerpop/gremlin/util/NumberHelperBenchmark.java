@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.util;
+
+import org.apache.tinkerpop.benchmark.util.AbstractBenchmarkBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the same-class fast paths of {@link NumberHelper} with the resolution of the highest common number class
+ * and the dispatch through the helper of that class, which every operation went through before.
+ */
+@State(Scope.Thread)
+public class NumberHelperBenchmark extends AbstractBenchmarkBase {
+
+    private Number longA;
+    private Number longB;
+    private Number intA;
+    private Number intB;
+    private Number doubleA;
+    private Number doubleB;
+
+    @Setup
+    public void prepare() {
+        longA = 29L;
+        longB = 1024L;
+        intA = 29;
+        intB = 1024;
+        doubleA = 0.4d;
+        doubleB = 1.0d;
+    }
+
+    @Benchmark
+    public Number add_Long_Long() {
+        return NumberHelper.add(longA, longB);
+    }
+
+    @Benchmark
+    public Number add_Long_Long_commonClass() {
+        NumberHelper.getHighestCommonNumberClass(longA, longB);
+        return NumberHelper.LONG_NUMBER_HELPER.add.apply(longA, longB);
+    }
+
+    @Benchmark
+    public Number add_Double_Double() {
+        return NumberHelper.add(doubleA, doubleB);
+    }
+
+    @Benchmark
+    public Number add_Double_Double_commonClass() {
+        NumberHelper.getHighestCommonNumberClass(doubleA, doubleB);
+        return NumberHelper.DOUBLE_NUMBER_HELPER.add.apply(doubleA, doubleB);
+    }
+
+    @Benchmark
+    public Integer compare_Integer_Integer() {
+        return NumberHelper.compare(intA, intB);
+    }
+
+    @Benchmark
+    public Integer compare_Integer_Integer_commonClass() {
+        NumberHelper.getHighestCommonNumberClass(intA, intB);
+        return NumberHelper.INTEGER_NUMBER_HELPER.cmp.apply(intA, intB);
+    }
+
+    @Benchmark
+    public Number max_Long_Long() {
+        return NumberHelper.max(longA, longB);
+    }
+
+    @Benchmark
+    public Number max_Long_Long_commonClass() {
+        NumberHelper.getHighestCommonNumberClass(longA, longB);
+        return NumberHelper.LONG_NUMBER_HELPER.max.apply(longA, longB);
+    }
+
+    @Benchmark
+    public Number add_Integer_Long() {
+        return NumberHelper.add(intA, longB);
+    }
+}
@@ -35,6 +35,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -43,25 +44,36 @@ import java.util.List;
  */
 public final class Neo4jGraphStep<S, E extends Element> extends GraphStep<S, E> implements HasContainerHolder {
 
-    private final List<HasContainer> hasContainers = new ArrayList<>();
+    private List<HasContainer> hasContainers = new ArrayList<>();
+    private transient Supplier<Iterator<E>> elementsSupplier;
 
     public Neo4jGraphStep(final GraphStep<S, E> originalGraphStep) {
         super(originalGraphStep.getTraversal(), originalGraphStep.getReturnClass(), originalGraphStep.isStartStep(), originalGraphStep.getIds());
         originalGraphStep.getLabels().forEach(this::addLabel);
-        this.setIteratorSupplier(() -> (Iterator<E>) (Vertex.class.isAssignableFrom(this.returnClass) ? this.vertices() : this.edges()));
+        this.elementsSupplier = this::elements;
+        this.setIteratorSupplier(this.elementsSupplier);
+    }
+
+    private Iterator<E> elements() {
+        return (Iterator<E>) (Vertex.class.isAssignableFrom(this.returnClass) ? this.vertices() : this.edges());
     }
 
     private Iterator<? extends Edge> edges() {
         if (null == this.ids)
             return Collections.emptyIterator();
-        return IteratorUtils.filter(this.getTraversal().getGraph().get().edges(this.ids), edge -> HasContainer.testAll(edge, this.hasContainers));
+        return this.limitIterator(IteratorUtils.filter(this.getTraversal().getGraph().get().edges(this.ids), edge -> HasContainer.testAll(edge, this.hasContainers)));
     }
 
     private Iterator<? extends Vertex> vertices() {
         if (null == this.ids)
             return Collections.emptyIterator();
         final Neo4jGraph graph = (Neo4jGraph) this.getTraversal().getGraph().get();
-        return graph.getTrait().lookupVertices(graph, this.hasContainers, this.ids);
+        return this.limitIterator(graph.getTrait().lookupVertices(graph, this.hasContainers, this.ids));
+    }
+
+    private <A extends Element> Iterator<A> limitIterator(final Iterator<A> iterator) {
+        // the lookups are lazy so limiting the iterator stops the index scans early
+        return Long.MAX_VALUE == this.limit ? iterator : IteratorUtils.limit(iterator, (int) Math.min(this.limit, Integer.MAX_VALUE));
     }
 
     @Override
@@ -89,6 +101,21 @@ public final class Neo4jGraphStep<S, E extends Element> extends GraphStep<S, E>
             this.hasContainers.add(hasContainer);
     }
 
+    @Override
+    public Neo4jGraphStep<S, E> clone() {
+        final Neo4jGraphStep<S, E> clone = (Neo4jGraphStep<S, E>) super.clone();
+        clone.hasContainers = new ArrayList<>();
+        for (final HasContainer hasContainer : this.hasContainers) {
+            clone.hasContainers.add(hasContainer.clone());
+        }
+        // the supplier of this step reads the containers of this step, so the clone needs a supplier of its own
+        if (this.iteratorSupplier == this.elementsSupplier) {
+            clone.elementsSupplier = clone::elements;
+            clone.setIteratorSupplier(clone.elementsSupplier);
+        }
+        return clone;
+    }
+
     @Override
     public int hashCode() {
         return super.hashCode() ^ this.hasContainers.hashCode();
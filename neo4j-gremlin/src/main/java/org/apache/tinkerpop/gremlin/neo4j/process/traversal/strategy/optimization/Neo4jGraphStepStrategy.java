@@ -58,6 +58,7 @@ public final class Neo4jGraphStepStrategy extends AbstractTraversalStrategy<Trav
                 }
                 currentStep = currentStep.getNextStep();
             }
+            GraphStep.processLimit(neo4jGraphStep);
         }
     }
 
@@ -75,6 +75,7 @@ import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.io.IoRegistry;
 import org.apache.tinkerpop.gremlin.structure.io.Storage;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.kryoshim.KryoShimServiceLoader;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracing;
 
 import java.io.File;
 import java.io.IOException;
@@ -315,9 +316,13 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
                                 sparkContext.cancelAllJobs();
                                 throw new TraversalInterruptedException();
                             }
+                            final boolean traced = GremlinTracing.isEnabled();
+                            final long start = traced ? System.nanoTime() : 0L;
                             memory.setInExecute(true);
                             viewIncomingRDD = SparkExecutor.executeVertexProgramIteration(loadedGraphRDD, viewIncomingRDD, memory, graphComputerConfiguration, vertexProgramConfiguration);
                             memory.setInExecute(false);
+                            if (traced)
+                                GremlinTracing.getTracer().superstepCompleted(this, memory.getIteration(), System.nanoTime() - start);
                             if (this.vertexProgram.terminate(memory))
                                 break;
                             else {
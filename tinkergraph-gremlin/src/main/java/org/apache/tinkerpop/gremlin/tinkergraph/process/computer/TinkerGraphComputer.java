@@ -37,6 +37,7 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
+import org.apache.tinkerpop.gremlin.util.tracing.GremlinTracing;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -164,6 +165,8 @@ public final class TinkerGraphComputer implements GraphComputer {
                     this.vertexProgram.setup(this.memory);
                     while (true) {
                         if (Thread.interrupted()) throw new TraversalInterruptedException();
+                        final boolean traced = GremlinTracing.isEnabled();
+                        final long start = traced ? System.nanoTime() : 0L;
                         this.memory.completeSubRound();
                         workers.setVertexProgram(this.vertexProgram);
                         workers.executeVertexProgram((vertices, vertexProgram, workerMemory) -> {
@@ -181,6 +184,8 @@ public final class TinkerGraphComputer implements GraphComputer {
                         });
                         this.messageBoard.completeIteration();
                         this.memory.completeSubRound();
+                        if (traced)
+                            GremlinTracing.getTracer().superstepCompleted(this, this.memory.getIteration(), System.nanoTime() - start);
                         if (this.vertexProgram.terminate(this.memory)) {
                             this.memory.incrIteration();
                             break;
@@ -38,7 +38,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -46,7 +46,8 @@ import java.util.stream.Collectors;
  */
 public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E> implements HasContainerHolder {
 
-    private final List<HasContainer> hasContainers = new ArrayList<>();
+    private List<HasContainer> hasContainers = new ArrayList<>();
+    private transient Supplier<Iterator<E>> elementsSupplier;
 
     public TinkerGraphStep(final GraphStep<S, E> originalGraphStep) {
         super(originalGraphStep.getTraversal(), originalGraphStep.getReturnClass(), originalGraphStep.isStartStep(), originalGraphStep.getIds());
@@ -56,7 +57,12 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
         // but that allowed the filter in g.V(v).has('k','v') to be ignored.  this created problems for
         // PartitionStrategy which wants to prevent someone from passing "v" from one TraversalSource to
         // another TraversalSource using a different partition
-        this.setIteratorSupplier(() -> (Iterator<E>) (Vertex.class.isAssignableFrom(this.returnClass) ? this.vertices() : this.edges()));
+        this.elementsSupplier = this::elements;
+        this.setIteratorSupplier(this.elementsSupplier);
+    }
+
+    private Iterator<E> elements() {
+        return (Iterator<E>) (Vertex.class.isAssignableFrom(this.returnClass) ? this.vertices() : this.edges());
     }
 
     private Iterator<? extends Edge> edges() {
@@ -70,9 +76,8 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
         else
             return null == indexedContainer ?
                     this.iteratorList(graph.edges()) :
-                    TinkerHelper.queryEdgeIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue()).stream()
-                            .filter(edge -> HasContainer.testAll(edge, this.hasContainers))
-                            .collect(Collectors.<Edge>toList()).iterator();
+                    TinkerHelper.queryEdgeIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue(),
+                            edge -> HasContainer.testAll(edge, this.hasContainers), this.limit).iterator();
     }
 
     private Iterator<? extends Vertex> vertices() {
@@ -86,8 +91,8 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
         else
             return null == indexedContainer ?
                     this.iteratorList(graph.vertices()) :
-                    IteratorUtils.filter(TinkerHelper.queryVertexIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue()).iterator(),
-                            vertex -> HasContainer.testAll(vertex, this.hasContainers));
+                    TinkerHelper.queryVertexIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue(),
+                            vertex -> HasContainer.testAll(vertex, this.hasContainers), this.limit).iterator();
     }
 
     private HasContainer getIndexKey(final Class<? extends Element> indexedClass) {
@@ -111,7 +116,7 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
 
     private <E extends Element> Iterator<E> iteratorList(final Iterator<E> iterator) {
         final List<E> list = new ArrayList<>();
-        while (iterator.hasNext()) {
+        while (iterator.hasNext() && list.size() < this.limit) {
             final E e = iterator.next();
             if (HasContainer.testAll(e, this.hasContainers))
                 list.add(e);
@@ -134,6 +139,21 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
             this.hasContainers.add(hasContainer);
     }
 
+    @Override
+    public TinkerGraphStep<S, E> clone() {
+        final TinkerGraphStep<S, E> clone = (TinkerGraphStep<S, E>) super.clone();
+        clone.hasContainers = new ArrayList<>();
+        for (final HasContainer hasContainer : this.hasContainers) {
+            clone.hasContainers.add(hasContainer.clone());
+        }
+        // the supplier of this step reads the containers of this step, so the clone needs a supplier of its own
+        if (this.iteratorSupplier == this.elementsSupplier) {
+            clone.elementsSupplier = clone::elements;
+            clone.setIteratorSupplier(clone.elementsSupplier);
+        }
+        return clone;
+    }
+
     @Override
     public int hashCode() {
         return super.hashCode() ^ this.hasContainers.hashCode();
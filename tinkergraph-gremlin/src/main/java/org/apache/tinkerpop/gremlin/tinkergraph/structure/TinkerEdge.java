@@ -83,15 +83,21 @@ public final class TinkerEdge extends TinkerElement implements Edge {
             final Set<Edge> edges = outVertex.outEdges.get(this.label());
             if (null != edges)
                 edges.remove(this);
+            if (null != outVertex.sortedOutVertices)
+                outVertex.sortedOutVertices.remove(this.label());
         }
         if (null != inVertex && null != inVertex.inEdges) {
             final Set<Edge> edges = inVertex.inEdges.get(this.label());
             if (null != edges)
                 edges.remove(this);
+            if (null != inVertex.sortedInVertices)
+                inVertex.sortedInVertices.remove(this.label());
         }
 
         TinkerHelper.removeElementIndex(this);
-        ((TinkerGraph) this.graph()).edges.remove(this.id());
+        final TinkerGraph graph = (TinkerGraph) this.graph();
+        if (null != graph.edges.remove(this.id()))
+            TinkerHelper.updateLabelCount(graph.edgeLabelCounts, this.label, -1L);
         this.properties = null;
         this.removed = true;
     }
@@ -21,7 +21,10 @@ package org.apache.tinkerpop.gremlin.tinkergraph.structure;
 import org.apache.commons.configuration.BaseConfiguration;
 import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -32,8 +35,10 @@ import org.apache.tinkerpop.gremlin.structure.io.Io;
 import org.apache.tinkerpop.gremlin.structure.io.IoCore;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONVersion;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoVersion;
+import org.apache.tinkerpop.gremlin.structure.util.CardinalityEstimator;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.structure.util.GraphFactory;
+import org.apache.tinkerpop.gremlin.structure.util.SortedAdjacency;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputer;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputerView;
@@ -44,12 +49,14 @@ import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import java.io.File;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
@@ -65,7 +72,7 @@ import java.util.stream.Stream;
 @Graph.OptIn(Graph.OptIn.SUITE_STRUCTURE_INTEGRATE)
 @Graph.OptIn(Graph.OptIn.SUITE_PROCESS_STANDARD)
 @Graph.OptIn(Graph.OptIn.SUITE_PROCESS_COMPUTER)
-public final class TinkerGraph implements Graph {
+public final class TinkerGraph implements Graph, CardinalityEstimator, SortedAdjacency {
 
     static {
         TraversalStrategies.GlobalCache.registerStrategies(TinkerGraph.class, TraversalStrategies.GlobalCache.getStrategies(Graph.class).clone().addStrategies(
@@ -73,6 +80,40 @@ public final class TinkerGraph implements Graph {
                 TinkerGraphCountStrategy.instance()));
     }
 
+    /**
+     * Sequence numbers for the ids that {@link #ADJACENCY_ORDER} can not tell apart otherwise. The ids are held weakly
+     * so that they are dropped with their vertices.
+     */
+    private static final Map<Object, Long> ADJACENCY_SEQUENCE = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final AtomicLong ADJACENCY_SEQUENCE_COUNTER = new AtomicLong();
+
+    /**
+     * Orders vertices by their ids. Ids of the same {@link Comparable} class are compared naturally and all other
+     * ids by their class name, hash code and string representation. Non-equal ids that tie on all of those are
+     * ordered by their identity hash code and, failing that, by the sequence in which they were first compared, so
+     * that only equal ids compare as {@code 0}.
+     */
+    static final Comparator<Vertex> ADJACENCY_ORDER = (a, b) -> {
+        final Object x = a.id();
+        final Object y = b.id();
+        if (x.getClass().equals(y.getClass()) && x instanceof Comparable)
+            return ((Comparable) x).compareTo(y);
+        if (x.equals(y))
+            return 0;
+        int compare = x.getClass().getName().compareTo(y.getClass().getName());
+        if (0 == compare)
+            compare = Integer.compare(x.hashCode(), y.hashCode());
+        if (0 == compare)
+            compare = x.toString().compareTo(y.toString());
+        if (0 == compare)
+            compare = Integer.compare(System.identityHashCode(x), System.identityHashCode(y));
+        return 0 == compare ? Long.compare(adjacencySequence(x), adjacencySequence(y)) : compare;
+    };
+
+    private static long adjacencySequence(final Object id) {
+        return ADJACENCY_SEQUENCE.computeIfAbsent(id, k -> ADJACENCY_SEQUENCE_COUNTER.getAndIncrement());
+    }
+
     private static final Configuration EMPTY_CONFIGURATION = new BaseConfiguration() {{
         this.setProperty(Graph.GRAPH, TinkerGraph.class.getName());
     }};
@@ -94,6 +135,8 @@ public final class TinkerGraph implements Graph {
     protected TinkerGraphComputerView graphComputerView = null;
     protected TinkerIndex<TinkerVertex> vertexIndex = null;
     protected TinkerIndex<TinkerEdge> edgeIndex = null;
+    protected final Map<String, Long> vertexLabelCounts = new ConcurrentHashMap<>();
+    protected final Map<String, Long> edgeLabelCounts = new ConcurrentHashMap<>();
 
     protected final IdManager<?> vertexIdManager;
     protected final IdManager<?> edgeIdManager;
@@ -171,6 +214,7 @@ public final class TinkerGraph implements Graph {
 
         final Vertex vertex = new TinkerVertex(idValue, label, this);
         this.vertices.put(vertex.id(), vertex);
+        TinkerHelper.updateLabelCount(this.vertexLabelCounts, label, 1L);
 
         ElementHelper.attachProperties(vertex, VertexProperty.Cardinality.list, keyValues);
         return vertex;
@@ -217,6 +261,8 @@ public final class TinkerGraph implements Graph {
         this.currentId.set(-1L);
         this.vertexIndex = null;
         this.edgeIndex = null;
+        this.vertexLabelCounts.clear();
+        this.edgeLabelCounts.clear();
         this.graphComputerView = null;
     }
 
@@ -517,6 +563,44 @@ public final class TinkerGraph implements Graph {
         }
     }
 
+    ///////////// SORTED ADJACENCY ///////////////
+
+    @Override
+    public Comparator<Vertex> getAdjacencyOrder() {
+        return ADJACENCY_ORDER;
+    }
+
+    @Override
+    public List<Vertex> getSortedAdjacentVertices(final Vertex vertex, final Direction direction, final String... edgeLabels) {
+        return TinkerHelper.getSortedVertices((TinkerVertex) vertex, direction, edgeLabels);
+    }
+
+    ///////////// CARDINALITY ESTIMATES ///////////////
+
+    @Override
+    public long estimateVertexCount(final String label) {
+        return null == label ? this.vertices.size() : this.vertexLabelCounts.getOrDefault(label, 0L);
+    }
+
+    @Override
+    public long estimateEdgeCount(final String label) {
+        return null == label ? this.edges.size() : this.edgeLabelCounts.getOrDefault(label, 0L);
+    }
+
+    /**
+     * Estimates the selectivity of equality on an indexed key from the size of the index entry.
+     */
+    @Override
+    public double estimateSelectivity(final Class<? extends Element> elementClass, final HasContainer hasContainer) {
+        if (Compare.eq != hasContainer.getBiPredicate())
+            return Double.NaN;
+        final TinkerIndex<?> index = Vertex.class.isAssignableFrom(elementClass) ? this.vertexIndex : this.edgeIndex;
+        if (null == index || !index.getIndexedKeys().contains(hasContainer.getKey()))
+            return Double.NaN;
+        final long total = Vertex.class.isAssignableFrom(elementClass) ? this.vertices.size() : this.edges.size();
+        return 0 == total ? 0.0d : (double) index.count(hasContainer.getKey(), hasContainer.getValue()) / (double) total;
+    }
+
     /**
      * Construct an {@link TinkerGraph.IdManager} from the TinkerGraph {@code Configuration}.
      */
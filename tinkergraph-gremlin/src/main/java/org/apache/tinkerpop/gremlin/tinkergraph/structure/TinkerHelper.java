@@ -27,8 +27,10 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputerView;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -37,6 +39,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -64,6 +68,7 @@ public final class TinkerHelper {
         edge = new TinkerEdge(idValue, outVertex, label, inVertex);
         ElementHelper.attachProperties(edge, keyValues);
         graph.edges.put(edge.id(), edge);
+        updateLabelCount(graph.edgeLabelCounts, label, 1L);
         TinkerHelper.addOutEdge(outVertex, label, edge);
         TinkerHelper.addInEdge(inVertex, label, edge);
         return edge;
@@ -78,6 +83,7 @@ public final class TinkerHelper {
             vertex.outEdges.put(label, edges);
         }
         edges.add(edge);
+        if (null != vertex.sortedOutVertices) vertex.sortedOutVertices.remove(label);
     }
 
     protected static void addInEdge(final TinkerVertex vertex, final String label, final Edge edge) {
@@ -88,6 +94,14 @@ public final class TinkerHelper {
             vertex.inEdges.put(label, edges);
         }
         edges.add(edge);
+        if (null != vertex.sortedInVertices) vertex.sortedInVertices.remove(label);
+    }
+
+    /**
+     * Adds the delta to the count of elements with the label, dropping the label once its count reaches zero.
+     */
+    protected static void updateLabelCount(final Map<String, Long> labelCounts, final String label, final long delta) {
+        labelCounts.merge(label, delta, (count, d) -> 0L == count + d ? null : count + d);
     }
 
     public static List<TinkerVertex> queryVertexIndex(final TinkerGraph graph, final String key, final Object value) {
@@ -98,6 +112,14 @@ public final class TinkerHelper {
         return null == graph.edgeIndex ? Collections.emptyList() : graph.edgeIndex.get(key, value);
     }
 
+    public static List<TinkerVertex> queryVertexIndex(final TinkerGraph graph, final String key, final Object value, final Predicate<TinkerVertex> filter, final long limit) {
+        return null == graph.vertexIndex ? Collections.emptyList() : graph.vertexIndex.get(key, value, filter, limit);
+    }
+
+    public static List<TinkerEdge> queryEdgeIndex(final TinkerGraph graph, final String key, final Object value, final Predicate<TinkerEdge> filter, final long limit) {
+        return null == graph.edgeIndex ? Collections.emptyList() : graph.edgeIndex.get(key, value, filter, limit);
+    }
+
     public static boolean inComputerMode(final TinkerGraph graph) {
         return null != graph.graphComputerView;
     }
@@ -204,6 +226,70 @@ public final class TinkerHelper {
         return (Iterator) vertices.iterator();
     }
 
+    /**
+     * Gets the adjacent vertices sorted by {@link TinkerGraph#getAdjacencyOrder()}. The sorted vertices of each edge
+     * label are cached on the vertex until an edge with that label is added or removed and the vertices of more than
+     * one label are merged.
+     */
+    public static List<Vertex> getSortedVertices(final TinkerVertex vertex, final Direction direction, final String... edgeLabels) {
+        if (inComputerMode((TinkerGraph) vertex.graph())) {
+            final List<Vertex> vertices = IteratorUtils.list(vertex.vertices(direction, edgeLabels));
+            vertices.sort(TinkerGraph.ADJACENCY_ORDER);
+            return vertices;
+        }
+        final List<Vertex[]> sorted = new ArrayList<>();
+        if (direction.equals(Direction.OUT) || direction.equals(Direction.BOTH)) {
+            if (vertex.outEdges != null) {
+                if (null == vertex.sortedOutVertices) vertex.sortedOutVertices = new ConcurrentHashMap<>();
+                for (final String label : edgeLabels.length == 0 ? vertex.outEdges.keySet() : Arrays.asList(edgeLabels)) {
+                    final Set<Edge> edges = vertex.outEdges.get(label);
+                    if (null != edges)
+                        sorted.add(vertex.sortedOutVertices.computeIfAbsent(label, k -> sort(edges, Direction.IN)));
+                }
+            }
+        }
+        if (direction.equals(Direction.IN) || direction.equals(Direction.BOTH)) {
+            if (vertex.inEdges != null) {
+                if (null == vertex.sortedInVertices) vertex.sortedInVertices = new ConcurrentHashMap<>();
+                for (final String label : edgeLabels.length == 0 ? vertex.inEdges.keySet() : Arrays.asList(edgeLabels)) {
+                    final Set<Edge> edges = vertex.inEdges.get(label);
+                    if (null != edges)
+                        sorted.add(vertex.sortedInVertices.computeIfAbsent(label, k -> sort(edges, Direction.OUT)));
+                }
+            }
+        }
+        if (sorted.isEmpty())
+            return Collections.emptyList();
+        else if (sorted.size() == 1)
+            return Collections.unmodifiableList(Arrays.asList(sorted.get(0)));
+        Vertex[] merged = sorted.get(0);
+        for (int i = 1; i < sorted.size(); i++) {
+            merged = merge(merged, sorted.get(i));
+        }
+        return Collections.unmodifiableList(Arrays.asList(merged));
+    }
+
+    private static Vertex[] sort(final Set<Edge> edges, final Direction direction) {
+        final Vertex[] vertices = new Vertex[edges.size()];
+        int i = 0;
+        for (final Edge edge : edges) {
+            vertices[i++] = Direction.IN == direction ? ((TinkerEdge) edge).inVertex : ((TinkerEdge) edge).outVertex;
+        }
+        Arrays.sort(vertices, TinkerGraph.ADJACENCY_ORDER);
+        return vertices;
+    }
+
+    private static Vertex[] merge(final Vertex[] a, final Vertex[] b) {
+        final Vertex[] merged = new Vertex[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            merged[k++] = TinkerGraph.ADJACENCY_ORDER.compare(a[i], b[j]) <= 0 ? a[i++] : b[j++];
+        }
+        while (i < a.length) merged[k++] = a[i++];
+        while (j < b.length) merged[k++] = b[j++];
+        return merged;
+    }
+
     public static Map<Object, Vertex> getVertices(final TinkerGraph graph) {
         return graph.vertices;
     }
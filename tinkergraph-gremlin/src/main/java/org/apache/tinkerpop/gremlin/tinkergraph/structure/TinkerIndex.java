@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -74,6 +75,31 @@ final class TinkerIndex<T extends Element> {
         }
     }
 
+    /**
+     * Gets at most {@code limit} of the indexed elements that also match the filter without copying the full set of
+     * indexed elements.
+     */
+    public List<T> get(final String key, final Object value, final Predicate<T> filter, final long limit) {
+        final Map<Object, Set<T>> keyMap = this.index.get(key);
+        if (null == keyMap) {
+            return Collections.emptyList();
+        } else {
+            Set<T> set = keyMap.get(value);
+            if (null == set)
+                return Collections.emptyList();
+            else {
+                final List<T> list = new ArrayList<>();
+                for (final T element : set) {
+                    if (list.size() >= limit)
+                        break;
+                    if (filter.test(element))
+                        list.add(element);
+                }
+                return list;
+            }
+        }
+    }
+
     public long count(final String key, final Object value) {
         final Map<Object, Set<T>> keyMap = this.index.get(key);
         if (null == keyMap) {
@@ -45,6 +45,8 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
     protected Map<String, List<VertexProperty>> properties;
     protected Map<String, Set<Edge>> outEdges;
     protected Map<String, Set<Edge>> inEdges;
+    protected Map<String, Vertex[]> sortedOutVertices;
+    protected Map<String, Vertex[]> sortedInVertices;
     private final TinkerGraph graph;
 
     protected TinkerVertex(final Object id, final String label, final TinkerGraph graph) {
@@ -132,7 +134,8 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
         edges.stream().filter(edge -> !((TinkerEdge) edge).removed).forEach(Edge::remove);
         this.properties = null;
         TinkerHelper.removeElementIndex(this);
-        this.graph.vertices.remove(this.id);
+        if (null != this.graph.vertices.remove(this.id))
+            TinkerHelper.updateLabelCount(this.graph.vertexLabelCounts, this.label, -1L);
         this.removed = true;
     }
 
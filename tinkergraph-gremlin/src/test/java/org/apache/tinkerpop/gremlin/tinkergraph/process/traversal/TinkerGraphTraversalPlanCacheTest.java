@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal;
+
+import org.apache.tinkerpop.gremlin.jsr223.JavaTranslator;
+import org.apache.tinkerpop.gremlin.process.traversal.Bindings;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalPlanCache;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.sideEffect.TinkerGraphStep;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link TraversalPlanCache} against the {@link TinkerGraphStep} that the TinkerGraph strategies fold the
+ * {@code has()} predicates into.
+ */
+public class TinkerGraphTraversalPlanCacheTest {
+
+    private static final List<String> NAMES = Arrays.asList("marko", "vadas", "lop", "josh", "ripple", "peter");
+
+    private final GraphTraversalSource g = TinkerFactory.createModern().traversal();
+    private final JavaTranslator<GraphTraversalSource, Traversal.Admin<?, ?>> translator = JavaTranslator.of(g);
+
+    @Test
+    public void shouldNotShareBindingsBetweenInstantiatedPlans() {
+        final TraversalPlanCache cache = new TraversalPlanCache(10);
+        assertEquals(Collections.singletonList("marko"), cache.compile(bytecode("marko"), translator).toList());
+
+        final Traversal.Admin<?, ?> josh = cache.get(bytecode("josh")).get();
+        final Traversal.Admin<?, ?> peter = cache.get(bytecode("peter")).get();
+        assertEquals(2, cache.getHits());
+        assertTrue(josh.getStartStep() instanceof TinkerGraphStep);
+        assertEquals("josh", josh.getBytecode().getBindings().get("x"));
+        assertEquals("peter", peter.getBytecode().getBindings().get("x"));
+        assertEquals(Collections.singletonList("josh"), josh.toList());
+        assertEquals(Collections.singletonList("peter"), peter.toList());
+        assertEquals(Collections.singletonList("marko"), cache.get(bytecode("marko")).get().toList());
+    }
+
+    @Test
+    public void shouldNotShareBindingsBetweenConcurrentlyInstantiatedPlans() throws Exception {
+        final TraversalPlanCache cache = new TraversalPlanCache(10);
+        cache.compile(bytecode("marko"), translator);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                final String name = NAMES.get(i % NAMES.size());
+                futures.add(executor.submit(() -> {
+                    final Traversal.Admin<?, ?> traversal = cache.get(bytecode(name)).get();
+                    assertEquals(Collections.singletonList(name), traversal.toList());
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1000, cache.getHits());
+    }
+
+    private Bytecode bytecode(final String name) {
+        return g.V().has("name", Bindings.instance().of("x", name)).values("name").asAdmin().getBytecode();
+    }
+}
@@ -90,6 +90,11 @@ public class TinkerGraphStepStrategyTest {
         return traversal.addStep(graphStep);
     }
 
+    private static GraphTraversal.Admin<?, ?> limit(final GraphTraversal.Admin<?, ?> traversal, final long limit) {
+        ((GraphStep) traversal.getStartStep()).setLimit(limit);
+        return traversal;
+    }
+
     private static GraphStep<?, ?> V(final Object... hasKeyValues) {
         final TinkerGraphStep<Vertex, Vertex> graphStep = new TinkerGraphStep<>(new GraphStep<>(EmptyTraversal.instance(), Vertex.class, true));
         for (int i = 0; i < hasKeyValues.length; i = i + 2) {
@@ -130,6 +135,10 @@ public class TinkerGraphStepStrategyTest {
                         g_V("name", eq("marko"), "name", eq("bob"), "name", eq("stephen")).out("knows"), Collections.emptyList()},
                 {__.V().has("name", P.eq("marko").and(P.eq("bob").or(P.eq("stephen")))).out("knows"),
                         g_V("name", eq("marko"), "name", P.eq("bob").or(eq("stephen"))).out("knows"), Collections.emptyList()},
+                {__.V().has("name", "marko").limit(1), limit(g_V("name", eq("marko")), 1).limit(1), Collections.emptyList()},
+                {__.V().hasLabel("person").has("age", gt(30)).range(2, 5), limit(g_V("~label", eq("person"), "age", gt(30)), 5).range(2, 5), Collections.emptyList()},
+                {__.V().has("name", "marko").out().limit(1), g_V("name", eq("marko")).out().limit(1), Collections.emptyList()},
+                {__.V().has("name", "marko").range(2, -1), g_V("name", eq("marko")).range(2, -1), Collections.emptyList()},
                 ///////
                 {__.V().out().out().V().has("name", "marko").out(), g_V().out().barrier(LAZY_SIZE).out().barrier(LAZY_SIZE).asAdmin().addStep(V("name", eq("marko"))).barrier(LAZY_SIZE).out(), Arrays.asList(InlineFilterStrategy.instance(), FilterRankingStrategy.instance(), LazyBarrierStrategy.instance())},
                 {__.V().out().out().V().has("name", "marko").as("a").out(), g_V().out().barrier(LAZY_SIZE).out().barrier(LAZY_SIZE).asAdmin().addStep(V("name", eq("marko"))).barrier(LAZY_SIZE).as("a").out(), Arrays.asList(InlineFilterStrategy.instance(), FilterRankingStrategy.instance(), LazyBarrierStrategy.instance())},
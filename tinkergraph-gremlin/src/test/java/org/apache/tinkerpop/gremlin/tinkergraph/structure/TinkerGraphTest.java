@@ -23,7 +23,11 @@ import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.GraphHelper;
 import org.apache.tinkerpop.gremlin.TestHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
@@ -61,13 +65,17 @@ import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
@@ -174,6 +182,150 @@ public class TinkerGraphTest {
         }, 35)).has("name", "stephen").count().next());
     }
 
+    @Test
+    public void shouldPushLimitIntoVertexLookups() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("name", Vertex.class);
+        for (int i = 0; i < 100; i++) {
+            g.addVertex("name", "marko", "age", i);
+        }
+
+        // count the vertices that are tested by the fake BiPredicate to verify that the lookups stop at the limit
+        final AtomicInteger tested = new AtomicInteger(0);
+        assertEquals(2, g.traversal().V().has("age", P.test((t, u) -> tested.incrementAndGet() > 0, 0)).has("name", "marko").limit(2).toList().size());
+        assertEquals(2, tested.get());
+
+        tested.set(0);
+        assertEquals(3, g.traversal().V().has("age", P.test((t, u) -> tested.incrementAndGet() > 0, 0)).range(1, 4).toList().size());
+        assertEquals(4, tested.get());
+
+        tested.set(0);
+        assertEquals(100, g.traversal().V().has("age", P.test((t, u) -> tested.incrementAndGet() > 0, 0)).has("name", "marko").toList().size());
+        assertEquals(100, tested.get());
+    }
+
+    @Test
+    public void shouldEstimateCardinalities() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        assertEquals(6L, graph.estimateVertexCount(null));
+        assertEquals(4L, graph.estimateVertexCount("person"));
+        assertEquals(2L, graph.estimateVertexCount("software"));
+        assertEquals(0L, graph.estimateVertexCount("blah"));
+        assertEquals(6L, graph.estimateEdgeCount(null));
+        assertEquals(4L, graph.estimateEdgeCount("created"));
+        assertEquals(2.0d / 6.0d, graph.estimateAverageDegree(Direction.OUT, "knows"), 0.0001d);
+        assertEquals(2.0d, graph.estimateAverageDegree(Direction.BOTH, null), 0.0001d);
+
+        // counts follow mutations
+        graph.addVertex(T.label, "person");
+        assertEquals(5L, graph.estimateVertexCount("person"));
+
+        final HasContainer hasContainer = new HasContainer("name", P.eq("marko"));
+        assertTrue(Double.isNaN(graph.estimateSelectivity(Vertex.class, hasContainer)));
+        graph.createIndex("name", Vertex.class);
+        assertEquals(1.0d / 7.0d, graph.estimateSelectivity(Vertex.class, hasContainer), 0.0001d);
+        assertTrue(Double.isNaN(graph.estimateSelectivity(Vertex.class, new HasContainer("name", P.neq("marko")))));
+    }
+
+    @Test
+    public void shouldGetSortedAdjacentVertices() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final Vertex marko = graph.vertices(1).next();
+        assertEquals(Arrays.asList(2, 3, 4), graph.getSortedAdjacentVertices(marko, Direction.OUT).stream().map(Vertex::id).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(2, 4), graph.getSortedAdjacentVertices(marko, Direction.OUT, "knows").stream().map(Vertex::id).collect(Collectors.toList()));
+        assertEquals(Collections.emptyList(), graph.getSortedAdjacentVertices(marko, Direction.IN));
+
+        // the cached order follows mutations
+        final Vertex vadas = graph.vertices(2).next();
+        final Edge edge = vadas.addEdge("knows", marko);
+        marko.addEdge("knows", marko);
+        assertEquals(Arrays.asList(1, 2, 4), graph.getSortedAdjacentVertices(marko, Direction.OUT, "knows").stream().map(Vertex::id).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(1, 1, 2, 2, 3, 4), graph.getSortedAdjacentVertices(marko, Direction.BOTH).stream().map(Vertex::id).collect(Collectors.toList()));
+        edge.remove();
+        assertEquals(Arrays.asList(1, 1, 2, 3, 4), graph.getSortedAdjacentVertices(marko, Direction.BOTH).stream().map(Vertex::id).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void shouldOnlyOrderVerticesWithEqualIdsAsEqual() {
+        final class CollidingId {
+            @Override
+            public int hashCode() {
+                return 0;
+            }
+
+            @Override
+            public String toString() {
+                return "id";
+            }
+        }
+
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex hub = graph.addVertex();
+        final List<Vertex> vertices = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final Vertex vertex = graph.addVertex(T.id, new CollidingId());
+            hub.addEdge("link", vertex);
+            vertices.add(vertex);
+        }
+        for (final Vertex a : vertices) {
+            for (final Vertex b : vertices) {
+                final int compare = TinkerGraph.ADJACENCY_ORDER.compare(a, b);
+                assertEquals(a == b, 0 == compare);
+                assertEquals(-Integer.signum(compare), Integer.signum(TinkerGraph.ADJACENCY_ORDER.compare(b, a)));
+            }
+        }
+        assertEquals(100, new HashSet<>(graph.getSortedAdjacentVertices(hub, Direction.OUT)).size());
+    }
+
+    @Test
+    public void shouldFindShortestPathsWithoutGraph() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final Vertex marko = graph.vertices(1).next();
+        // without the weight of marko-created->lop, the path over lop to ripple is 1 + 0.4 + 1.0 instead of 1.8
+        graph.edges(9).next().property("weight").remove();
+
+        // an anonymous traversal has no graph to look the targets up in, so they are tested during the search
+        assertEquals(Arrays.asList(1, 4, 5), ids(__.inject(marko).shortestPath(__.has("name", "ripple")).by("weight").next()));
+        assertEquals(Arrays.asList(1, 4, 5), ids(__.inject(marko).shortestPath(__.hasId(5)).by("weight").next()));
+        assertEquals(Arrays.asList(1, 4, 5), ids(graph.traversal().V(1).shortestPath(__.hasId(5)).by("weight").next()));
+    }
+
+    private static List<Object> ids(final Path path) {
+        return path.objects().stream().map(v -> ((Vertex) v).id()).collect(Collectors.toList());
+    }
+
+    @Test
+    public void shouldMaintainLabelCountsOnMutation() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final Vertex josh = graph.traversal().V().has("name", "josh").next();
+
+        // josh has one in "knows" edge and two out "created" edges
+        josh.remove();
+        assertEquals(3L, graph.estimateVertexCount("person"));
+        assertEquals(1L, graph.estimateEdgeCount("knows"));
+        assertEquals(2L, graph.estimateEdgeCount("created"));
+
+        // a removal offset by an addition of another label must still be counted
+        final Vertex robot = graph.addVertex(T.label, "robot");
+        final Edge built = robot.addEdge("built", robot);
+        graph.traversal().V().has("name", "lop").drop().iterate();
+        assertEquals(5L, graph.estimateVertexCount(null));
+        assertEquals(1L, graph.estimateVertexCount("software"));
+        assertEquals(1L, graph.estimateVertexCount("robot"));
+        assertEquals(1L, graph.estimateEdgeCount("built"));
+        assertEquals(0L, graph.estimateEdgeCount("created"));
+
+        // removing an element twice does not count it twice
+        built.remove();
+        built.remove();
+        assertEquals(0L, graph.estimateEdgeCount("built"));
+        assertEquals(1L, graph.estimateEdgeCount("knows"));
+
+        graph.clear();
+        assertEquals(0L, graph.estimateVertexCount("person"));
+        assertEquals(0L, graph.estimateEdgeCount("knows"));
+    }
+
     @Test
     public void shouldRemoveAVertexFromAnIndex() {
         final TinkerGraph g = TinkerGraph.open();